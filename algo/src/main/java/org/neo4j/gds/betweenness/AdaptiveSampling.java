@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipIterator;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayQueue;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Approximates betweenness centrality by sampling shortest paths between random node pairs
+ * until the normalized scores are within {@code errorBound} of the exact scores
+ * with probability at least {@code 1 - failureProbability}.
+ * <p>
+ * The number of samples is capped by the vertex diameter bound of Riondato and Kornaropoulos,
+ * "Fast approximation of betweenness centrality through sampling" (WSDM 2014).
+ * Sampling stops earlier as soon as the adaptive bounds of Borassi and Natale,
+ * "KADABRA is an ADaptive Algorithm for Betweenness via Random Approximation" (ESA 2016),
+ * hold for every node. Half of the failure probability is spent on the cap and the
+ * other half is split uniformly across the lower and upper bound of every node.
+ */
+public final class AdaptiveSampling {
+
+    // universal constant of the VC-dimension based sample bound, as suggested by Riondato and Kornaropoulos
+    private static final double SAMPLE_BOUND_CONSTANT = 0.5;
+    // the stopping condition is evaluated at most this many times
+    private static final int CHECKPOINTS = 100;
+
+    private final double errorBound;
+    private final double failureProbability;
+    private final Optional<Long> seed;
+
+    public AdaptiveSampling(double errorBound, double failureProbability, Optional<Long> seed) {
+        if (errorBound <= 0 || errorBound >= 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The error bound must be in the range (0, 1), got %f.",
+                errorBound
+            ));
+        }
+        if (failureProbability <= 0 || failureProbability >= 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The failure probability must be in the range (0, 1), got %f.",
+                failureProbability
+            ));
+        }
+        this.errorBound = errorBound;
+        this.failureProbability = failureProbability;
+        this.seed = seed;
+    }
+
+    void compute(
+        Graph graph,
+        HugeAtomicDoubleArray centrality,
+        double divisor,
+        ExecutorService executorService,
+        int concurrency,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        long nodeCount = graph.nodeCount();
+        if (nodeCount < 2) {
+            return;
+        }
+
+        long maxSamples = sampleBound(errorBound, failureProbability / 2, vertexDiameterBound(graph));
+        double nodeFailureProbability = failureProbability / (4.0 * nodeCount);
+
+        var random = seed.map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        List<PathSamplingTask> tasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new PathSamplingTask(graph, centrality, random.split(), terminationFlag));
+        }
+
+        long checkpointSize = Math.max(concurrency, (maxSamples + CHECKPOINTS - 1) / CHECKPOINTS);
+        long samples = 0;
+        while (samples < maxSamples && terminationFlag.running()) {
+            long roundSamples = Math.min(checkpointSize, maxSamples - samples);
+            for (int i = 0; i < concurrency; i++) {
+                tasks.get(i).samples = roundSamples / concurrency + (i < roundSamples % concurrency ? 1 : 0);
+            }
+            ParallelUtil.run(tasks, executorService);
+            samples += roundSamples;
+            progressTracker.logProgress(roundSamples);
+
+            if (hasConverged(maxCount(centrality), samples, maxSamples, errorBound, nodeFailureProbability)) {
+                break;
+            }
+        }
+
+        // scale the path counts to the unnormalized score over all n * (n - 1) ordered pairs
+        double scale = (double) nodeCount * (nodeCount - 1) / (samples * divisor);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            nodeId -> centrality.set(nodeId, centrality.get(nodeId) * scale)
+        );
+    }
+
+    /**
+     * Number of samples after which all normalized scores are within {@code errorBound}
+     * with probability at least {@code 1 - failureProbability}.
+     */
+    static long sampleBound(double errorBound, double failureProbability, long vertexDiameter) {
+        long innerVertices = Math.max(vertexDiameter - 2, 1);
+        double vcDimension = Math.floor(Math.log(innerVertices) / Math.log(2)) + 1;
+        return (long) Math.ceil(
+            SAMPLE_BOUND_CONSTANT / (errorBound * errorBound) * (vcDimension + Math.log(1 / failureProbability))
+        );
+    }
+
+    /**
+     * KADABRA stopping condition. Both bounds increase with the estimated score,
+     * so it is sufficient to check the node with the highest sample count.
+     */
+    static boolean hasConverged(
+        double maxCount,
+        long samples,
+        long maxSamples,
+        double errorBound,
+        double nodeFailureProbability
+    ) {
+        double estimate = maxCount / samples;
+        double logFailure = Math.log(1 / nodeFailureProbability);
+        double ratio = (double) maxSamples / samples;
+
+        double lower = logFailure / samples * (
+            1.0 / 3 - ratio + Math.sqrt(Math.pow(1.0 / 3 - ratio, 2) + 2 * estimate * maxSamples / logFailure)
+        );
+        double upper = logFailure / samples * (
+            1.0 / 3 + ratio + Math.sqrt(Math.pow(1.0 / 3 + ratio, 2) + 2 * estimate * maxSamples / logFailure)
+        );
+        return lower <= errorBound && upper <= errorBound;
+    }
+
+    /**
+     * Upper bound on the number of nodes on any shortest path.
+     * For undirected graphs, twice the eccentricity of any node bounds the diameter of its component.
+     * Directed graphs fall back to the node count.
+     */
+    static long vertexDiameterBound(Graph graph) {
+        long nodeCount = graph.nodeCount();
+        if (!graph.isUndirected()) {
+            return nodeCount;
+        }
+
+        var distance = HugeIntArray.newArray(nodeCount);
+        distance.fill(-1);
+        var queue = HugeLongArrayQueue.newQueue(nodeCount);
+
+        long bound = 0;
+        for (long root = 0; root < nodeCount; root++) {
+            if (distance.get(root) >= 0) {
+                continue;
+            }
+            queue.add(root);
+            distance.set(root, 0);
+            int eccentricity = 0;
+            while (!queue.isEmpty()) {
+                long node = queue.remove();
+                // nodes leave the queue in order of their distance, the last one is the farthest
+                eccentricity = distance.get(node);
+                graph.forEachRelationship(node, (source, target) -> {
+                    if (distance.get(target) < 0) {
+                        distance.set(target, distance.get(source) + 1);
+                        queue.add(target);
+                    }
+                    return true;
+                });
+            }
+            bound = Math.max(bound, 2L * eccentricity + 1);
+        }
+        return Math.min(bound, nodeCount);
+    }
+
+    private static double maxCount(HugeAtomicDoubleArray counts) {
+        double max = 0;
+        for (long nodeId = 0; nodeId < counts.size(); nodeId++) {
+            max = Math.max(max, counts.get(nodeId));
+        }
+        return max;
+    }
+
+    /**
+     * Samples a shortest path between a uniformly random pair of distinct nodes
+     * and counts the inner nodes of that path.
+     * <p>
+     * A BFS from the source counts shortest paths and picks, for every reached node,
+     * one predecessor with probability proportional to its path count by reservoir sampling.
+     * Following these predecessors back from the target yields a uniformly random
+     * shortest path without storing predecessor lists.
+     */
+    static final class PathSamplingTask implements Runnable {
+
+        private final RelationshipIterator relationships;
+        private final HugeAtomicDoubleArray counts;
+        private final SplittableRandom random;
+        private final TerminationFlag terminationFlag;
+        private final long nodeCount;
+
+        private final HugeIntArray distance;
+        private final HugeDoubleArray sigma;
+        private final HugeLongArray predecessor;
+        private final HugeLongArray queue;
+        private long tail;
+
+        long samples;
+
+        PathSamplingTask(
+            Graph graph,
+            HugeAtomicDoubleArray counts,
+            SplittableRandom random,
+            TerminationFlag terminationFlag
+        ) {
+            this.relationships = graph.concurrentCopy();
+            this.counts = counts;
+            this.random = random;
+            this.terminationFlag = terminationFlag;
+            this.nodeCount = graph.nodeCount();
+
+            this.distance = HugeIntArray.newArray(nodeCount);
+            this.distance.fill(-1);
+            this.sigma = HugeDoubleArray.newArray(nodeCount);
+            this.predecessor = HugeLongArray.newArray(nodeCount);
+            this.queue = HugeLongArray.newArray(nodeCount);
+        }
+
+        @Override
+        public void run() {
+            for (long i = 0; i < samples && terminationFlag.running(); i++) {
+                long source = random.nextLong(nodeCount);
+                long target = random.nextLong(nodeCount - 1);
+                if (target >= source) {
+                    target++;
+                }
+                samplePath(source, target);
+            }
+        }
+
+        private void samplePath(long source, long target) {
+            long head = 0;
+            tail = 0;
+            queue.set(tail++, source);
+            distance.set(source, 0);
+            sigma.set(source, 1);
+
+            while (head < tail) {
+                long node = queue.get(head++);
+                // all predecessors of the target have been expanded
+                if (node == target) {
+                    break;
+                }
+                int nextDistance = distance.get(node) + 1;
+                double sigmaNode = sigma.get(node);
+                relationships.forEachRelationship(node, (s, t) -> {
+                    if (distance.get(t) < 0) {
+                        distance.set(t, nextDistance);
+                        queue.set(tail++, t);
+                    }
+                    if (distance.get(t) == nextDistance) {
+                        double sigmaTarget = sigma.get(t) + sigmaNode;
+                        sigma.set(t, sigmaTarget);
+                        if (random.nextDouble() * sigmaTarget < sigmaNode) {
+                            predecessor.set(t, s);
+                        }
+                    }
+                    return true;
+                });
+            }
+
+            if (distance.get(target) >= 0) {
+                for (long node = predecessor.get(target); node != source; node = predecessor.get(node)) {
+                    counts.getAndAdd(node, 1);
+                }
+            }
+
+            for (long i = 0; i < tail; i++) {
+                long node = queue.get(i);
+                distance.set(node, -1);
+                sigma.set(node, 0);
+            }
+        }
+    }
+}
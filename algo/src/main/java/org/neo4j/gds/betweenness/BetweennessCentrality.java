@@ -35,12 +35,17 @@ import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
 
+    static final int MAX_SOURCE_BATCH_SIZE = Long.SIZE;
+
     private final Graph graph;
     private final AtomicLong nodeQueue = new AtomicLong();
     private final long nodeCount;
@@ -51,15 +56,67 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
 
     private final ExecutorService executorService;
     private final int concurrency;
+    private final int sourceBatchSize;
+    private final Optional<AdaptiveSampling> adaptiveSampling;
+
+    public BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, selectionStrategy, executorService, concurrency, 1, progressTracker);
+    }
+
+    /**
+     * @param sourceBatchSize number of source nodes traversed simultaneously by a single thread;
+     *                        values greater than one select the bit-parallel {@link BatchedBCTask}
+     */
+    public BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        ExecutorService executorService,
+        int concurrency,
+        int sourceBatchSize,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, selectionStrategy, executorService, concurrency, sourceBatchSize, Optional.empty(), progressTracker);
+    }
 
+    /**
+     * Approximates the centrality scores by sampling shortest paths until the bounds of
+     * the given {@link AdaptiveSampling} are met, instead of traversing from source nodes.
+     */
     public BetweennessCentrality(
+        Graph graph,
+        AdaptiveSampling adaptiveSampling,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, SelectionStrategy.ALL, executorService, concurrency, 1, Optional.of(adaptiveSampling), progressTracker);
+    }
+
+    private BetweennessCentrality(
         Graph graph,
         SelectionStrategy selectionStrategy,
         ExecutorService executorService,
         int concurrency,
+        int sourceBatchSize,
+        Optional<AdaptiveSampling> adaptiveSampling,
         ProgressTracker progressTracker
     ) {
         super(progressTracker);
+        if (sourceBatchSize < 1 || sourceBatchSize > MAX_SOURCE_BATCH_SIZE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The source batch size must be between 1 and %d, got %d.",
+                MAX_SOURCE_BATCH_SIZE,
+                sourceBatchSize
+            ));
+        }
+        this.sourceBatchSize = sourceBatchSize;
+        this.adaptiveSampling = adaptiveSampling;
         this.graph = graph;
         this.executorService = executorService;
         this.concurrency = concurrency;
@@ -74,7 +131,21 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
     public HugeAtomicDoubleArray compute() {
         progressTracker.beginSubTask();
         nodeQueue.set(0);
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> new BCTask()), executorService);
+        if (adaptiveSampling.isPresent()) {
+            adaptiveSampling.get().compute(
+                graph,
+                centrality,
+                divisor,
+                executorService,
+                concurrency,
+                terminationFlag,
+                progressTracker
+            );
+        } else if (sourceBatchSize > 1) {
+            ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> new BatchedBCTask()), executorService);
+        } else {
+            ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> new BCTask()), executorService);
+        }
         progressTracker.endSubTask();
         return centrality;
     }
@@ -208,4 +279,277 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
             }
         }
     }
+
+    /**
+     * Brandes' algorithm for up to {@link #MAX_SOURCE_BATCH_SIZE} source nodes at once.
+     * <p>
+     * The forward traversal uses the bit-parallel scheme of {@link org.neo4j.gds.msbfs.MultiSourceBFS}:
+     * each node carries a bit mask of the batch sources that reach it at the current depth,
+     * so a relationship is traversed once per depth for the whole batch instead of once per source.
+     * <p>
+     * Instead of predecessor lists, the traversal records one {@code (node, sources)} entry per depth
+     * at which a node is reached. The backward pass walks these levels in reverse and derives the
+     * predecessor relation from them: {@code v} precedes {@code w} for source {@code s} iff
+     * {@code (v, w)} is a relationship and {@code s} reaches {@code v} at depth {@code d}
+     * and {@code w} at depth {@code d + 1}.
+     * <p>
+     * Path counts and dependencies are only stored for the sources of an entry, in consecutive slots
+     * that are ordered by the source index. The memory therefore grows with the number of node and source
+     * pairs that are actually reached, instead of with the node count times the batch size.
+     * While a depth is traversed, its new entries reserve a slot for every source that has not yet
+     * reached the node. The slots are compacted to the sources that did reach it once the depth is complete.
+     */
+    final class BatchedBCTask implements Runnable {
+
+        private final RelationshipIterator localRelationshipIterator;
+        private final int batchSize;
+        private final long[] sources;
+
+        // sources that have reached a node at any depth so far
+        private final HugeLongArray seen;
+        // sources reaching a node at the next depth, re-used for the depth above during the backward pass
+        private final HugeLongArray next;
+        // entry of a node at the next depth, re-used for the depth above during the backward pass
+        private final HugeLongArray nextEntry;
+
+        // (node, sources, first slot) entries of all depths, ordered by depth
+        private HugeLongArray levelNodes;
+        private HugeLongArray levelSources;
+        private HugeLongArray levelSlots;
+        private long levelEntries;
+        // start offset of each depth into the entries, followed by the total entry count
+        private final LongArrayList levelOffsets;
+
+        // path counts and dependencies, one slot per source of an entry
+        private HugeLongArray sigma;
+        private HugeDoubleArray delta;
+        private long slots;
+
+        private BatchedBCTask() {
+            this.localRelationshipIterator = graph.concurrentCopy();
+            this.batchSize = sourceBatchSize;
+            this.sources = new long[batchSize];
+
+            this.seen = HugeLongArray.newArray(nodeCount);
+            this.next = HugeLongArray.newArray(nodeCount);
+            this.nextEntry = HugeLongArray.newArray(nodeCount);
+
+            this.levelNodes = HugeLongArray.newArray(nodeCount);
+            this.levelSources = HugeLongArray.newArray(nodeCount);
+            this.levelSlots = HugeLongArray.newArray(nodeCount);
+            this.levelOffsets = new LongArrayList();
+
+            this.sigma = HugeLongArray.newArray(nodeCount);
+            this.delta = HugeDoubleArray.newArray(nodeCount);
+        }
+
+        @Override
+        public void run() {
+            int sourceCount;
+            while ((sourceCount = nextBatch()) > 0) {
+                forward(sourceCount);
+                backward();
+                getProgressTracker().logProgress(sourceCount);
+                clear();
+            }
+        }
+
+        private int nextBatch() {
+            int sourceCount = 0;
+            while (sourceCount < batchSize && running()) {
+                // take start node from the queue
+                long startNodeId = nodeQueue.getAndIncrement();
+                if (startNodeId >= nodeCount) {
+                    break;
+                }
+                // check whether the node is part of the subset
+                if (selectionStrategy.select(startNodeId)) {
+                    sources[sourceCount++] = startNodeId;
+                }
+            }
+            return sourceCount;
+        }
+
+        private void forward(int sourceCount) {
+            long batchSources = sourceCount == Long.SIZE ? -1L : (1L << sourceCount) - 1;
+
+            levelOffsets.add(0);
+            for (int i = 0; i < sourceCount; i++) {
+                long sourceBit = 1L << i;
+                seen.set(sources[i], sourceBit);
+                append(sources[i], sourceBit);
+                sigma.set(levelSlots.get(levelEntries - 1), 1);
+            }
+
+            long levelStart = 0;
+            while (levelStart < levelEntries) {
+                long levelEnd = levelEntries;
+                levelOffsets.add(levelEnd);
+
+                for (long entry = levelStart; entry < levelEnd; entry++) {
+                    long nodeSources = levelSources.get(entry);
+                    long nodeSlots = levelSlots.get(entry);
+                    localRelationshipIterator.forEachRelationship(levelNodes.get(entry), (source, target) -> {
+                        // sources for which target is at the next depth
+                        long reached = nodeSources & ~seen.get(target);
+                        if (reached != 0) {
+                            long targetNext = next.get(target);
+                            if (targetNext == 0) {
+                                // reserve a slot for every source that might still reach target at this depth
+                                nextEntry.set(target, levelEntries);
+                                append(target, batchSources & ~seen.get(target));
+                            }
+                            next.set(target, targetNext | reached);
+
+                            long targetEntry = nextEntry.get(target);
+                            long targetSlots = levelSlots.get(targetEntry);
+                            long targetCandidates = levelSources.get(targetEntry);
+                            do {
+                                int i = Long.numberOfTrailingZeros(reached);
+                                sigma.addTo(
+                                    slot(targetSlots, targetCandidates, i),
+                                    sigma.get(slot(nodeSlots, nodeSources, i))
+                                );
+                                reached &= reached - 1;
+                            } while (reached != 0);
+                        }
+                        return true;
+                    });
+                }
+
+                compact(levelEnd);
+                levelStart = levelEnd;
+            }
+        }
+
+        /**
+         * Shrinks the reserved slots of the entries starting at {@code levelEnd} to the sources that reached them.
+         * Slots only move towards the start, so they can be moved in place in slot order.
+         */
+        private void compact(long levelEnd) {
+            long writeSlot = levelEnd < levelEntries ? levelSlots.get(levelEnd) : slots;
+            for (long entry = levelEnd; entry < levelEntries; entry++) {
+                long node = levelNodes.get(entry);
+                long candidates = levelSources.get(entry);
+                long readSlots = levelSlots.get(entry);
+                long reached = next.get(node);
+
+                levelSources.set(entry, reached);
+                levelSlots.set(entry, writeSlot);
+                while (reached != 0) {
+                    int i = Long.numberOfTrailingZeros(reached);
+                    sigma.set(writeSlot++, sigma.get(slot(readSlots, candidates, i)));
+                    reached &= reached - 1;
+                }
+
+                seen.set(node, seen.get(node) | next.get(node));
+                next.set(node, 0);
+            }
+            slots = writeSlot;
+        }
+
+        private void backward() {
+            // the deepest level has no successors, all its dependencies are zero
+            for (int level = levelOffsets.size() - 3; level >= 0; level--) {
+                long levelStart = levelOffsets.get(level);
+                long levelEnd = levelOffsets.get(level + 1);
+                long upperLevelEnd = levelOffsets.get(level + 2);
+
+                for (long entry = levelEnd; entry < upperLevelEnd; entry++) {
+                    long node = levelNodes.get(entry);
+                    next.set(node, levelSources.get(entry));
+                    nextEntry.set(node, entry);
+                }
+
+                for (long entry = levelStart; entry < levelEnd; entry++) {
+                    long node = levelNodes.get(entry);
+                    long nodeSources = levelSources.get(entry);
+                    long nodeSlots = levelSlots.get(entry);
+
+                    localRelationshipIterator.forEachRelationship(node, (source, target) -> {
+                        // sources for which source is a predecessor of target
+                        long successorSources = nodeSources & next.get(target);
+                        if (successorSources != 0) {
+                            long targetEntry = nextEntry.get(target);
+                            long targetSlots = levelSlots.get(targetEntry);
+                            long targetSources = levelSources.get(targetEntry);
+                            do {
+                                int i = Long.numberOfTrailingZeros(successorSources);
+                                long sourceSlot = slot(nodeSlots, nodeSources, i);
+                                long targetSlot = slot(targetSlots, targetSources, i);
+                                double sigmaSource = sigma.get(sourceSlot);
+                                double sigmaTarget = sigma.get(targetSlot);
+                                double dependency = sigmaSource / sigmaTarget * (delta.get(targetSlot) + 1.0);
+                                delta.addTo(sourceSlot, dependency);
+                                successorSources &= successorSources - 1;
+                            } while (successorSources != 0);
+                        }
+                        return true;
+                    });
+
+                    // the only sources at depth zero are the nodes themselves
+                    if (level > 0) {
+                        double dependencyNode = 0;
+                        long nodeSlotsEnd = nodeSlots + Long.bitCount(nodeSources);
+                        for (long slot = nodeSlots; slot < nodeSlotsEnd; slot++) {
+                            dependencyNode += delta.get(slot);
+                        }
+                        double current;
+                        do {
+                            current = centrality.get(node);
+                        } while (!centrality.compareAndSet(node, current, current + dependencyNode / divisor));
+                    }
+                }
+
+                for (long entry = levelEnd; entry < upperLevelEnd; entry++) {
+                    next.set(levelNodes.get(entry), 0);
+                }
+            }
+        }
+
+        /**
+         * @return the slot of the source with the given index in an entry with the given first slot and sources
+         */
+        private long slot(long firstSlot, long entrySources, int sourceIndex) {
+            return firstSlot + Long.bitCount(entrySources & ((1L << sourceIndex) - 1));
+        }
+
+        private void append(long node, long nodeSources) {
+            if (levelEntries == levelNodes.size()) {
+                long newSize = grow(levelEntries);
+                levelNodes = levelNodes.copyOf(newSize);
+                levelSources = levelSources.copyOf(newSize);
+                levelSlots = levelSlots.copyOf(newSize);
+            }
+            levelNodes.set(levelEntries, node);
+            levelSources.set(levelEntries, nodeSources);
+            levelSlots.set(levelEntries, slots);
+            levelEntries++;
+
+            long slotsEnd = slots + Long.bitCount(nodeSources);
+            if (slotsEnd > sigma.size()) {
+                long newSize = Math.max(slotsEnd, grow(sigma.size()));
+                sigma = sigma.copyOf(newSize);
+                delta = delta.copyOf(newSize);
+            }
+            for (long slot = slots; slot < slotsEnd; slot++) {
+                sigma.set(slot, 0);
+                delta.set(slot, 0);
+            }
+            slots = slotsEnd;
+        }
+
+        private long grow(long size) {
+            return size + Math.max(size >> 1, 1);
+        }
+
+        private void clear() {
+            for (long entry = 0; entry < levelEntries; entry++) {
+                seen.set(levelNodes.get(entry), 0);
+            }
+            levelEntries = 0;
+            levelOffsets.clear();
+            slots = 0;
+        }
+    }
 }
@@ -20,6 +20,7 @@
 package org.neo4j.gds.betweenness;
 
 import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 
 import java.util.Locale;
@@ -31,6 +32,29 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig {
 
     Optional<Long> samplingSeed();
 
+    /**
+     * Enables adaptive sampling: shortest paths are sampled until the normalized
+     * scores are within this bound of the exact scores.
+     */
+    Optional<Double> errorBound();
+
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double failureProbability() {
+        return 0.1;
+    }
+
+    /**
+     * Number of source nodes traversed together by a single thread.
+     * Batches need fewer relationship traversals per source. Their per-thread memory grows with
+     * the number of nodes each source of the batch reaches, up to {@code 16 * sourceBatchSize} bytes per node.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1, max = BetweennessCentrality.MAX_SOURCE_BATCH_SIZE)
+    default int sourceBatchSize() {
+        return 1;
+    }
+
     @Value.Check
     default void validate() {
         samplingSize().ifPresent(samplingSize -> {
@@ -42,5 +66,19 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig {
                 ));
             }
         });
+        errorBound().ifPresent(errorBound -> {
+            if (errorBound <= 0 || errorBound >= 1) {
+                throw new IllegalArgumentException(String.format(
+                    Locale.ENGLISH,
+                    "Configuration parameter 'errorBound' must be in the range (0, 1), got %f.",
+                    errorBound
+                ));
+            }
+            if (samplingSize().isPresent()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameters 'errorBound' and 'samplingSize' are mutually exclusive."
+                );
+            }
+        });
     }
 }
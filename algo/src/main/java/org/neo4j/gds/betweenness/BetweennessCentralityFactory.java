@@ -24,6 +24,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
@@ -51,6 +52,16 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
         var samplingSize = configuration.samplingSize();
         var samplingSeed = configuration.samplingSeed();
 
+        if (configuration.errorBound().isPresent()) {
+            return new BetweennessCentrality(
+                graph,
+                new AdaptiveSampling(configuration.errorBound().get(), configuration.failureProbability(), samplingSeed),
+                Pools.DEFAULT,
+                configuration.concurrency(),
+                progressTracker
+            );
+        }
+
         var strategy = samplingSize.isPresent() && samplingSize.get() < graph.nodeCount()
             ? new SelectionStrategy.RandomDegree(samplingSize.get(), samplingSeed)
             : SelectionStrategy.ALL;
@@ -60,14 +71,53 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
             strategy,
             Pools.DEFAULT,
             configuration.concurrency(),
+            configuration.sourceBatchSize(),
             progressTracker
         );
     }
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
-        return MemoryEstimations.builder(BetweennessCentrality.class)
-            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
+        var builder = MemoryEstimations.builder(BetweennessCentrality.class)
+            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation);
+
+        if (configuration.errorBound().isPresent()) {
+            return builder
+                .perThread("sampling task", MemoryEstimations.builder(AdaptiveSampling.PathSamplingTask.class)
+                    .perNode("distances", HugeIntArray::memoryEstimation)
+                    .perNode("sigmas", HugeDoubleArray::memoryEstimation)
+                    .perNode("predecessors", HugeLongArray::memoryEstimation)
+                    .perNode("queue", HugeLongArray::memoryEstimation)
+                    .build())
+                .build();
+        }
+
+        int sourceBatchSize = configuration.sourceBatchSize();
+        if (sourceBatchSize > 1) {
+            return builder
+                .perThread("compute task", MemoryEstimations.builder(BetweennessCentrality.BatchedBCTask.class)
+                    .perNode("seen", HugeLongArray::memoryEstimation)
+                    .perNode("next", HugeLongArray::memoryEstimation)
+                    .perNode("next entries", HugeLongArray::memoryEstimation)
+                    // a node is recorded once per distinct depth at which sources of the batch reach it
+                    .rangePerNode("levels", nodeCount -> MemoryRange.of(
+                        3 * HugeLongArray.memoryEstimation(nodeCount),
+                        3 * HugeLongArray.memoryEstimation(nodeCount * sourceBatchSize)
+                    ))
+                    // one slot per pair of node and batch source that is reached
+                    .rangePerNode("sigmas", nodeCount -> MemoryRange.of(
+                        HugeLongArray.memoryEstimation(nodeCount),
+                        HugeLongArray.memoryEstimation(nodeCount * sourceBatchSize)
+                    ))
+                    .rangePerNode("deltas", nodeCount -> MemoryRange.of(
+                        HugeDoubleArray.memoryEstimation(nodeCount),
+                        HugeDoubleArray.memoryEstimation(nodeCount * sourceBatchSize)
+                    ))
+                    .build())
+                .build();
+        }
+
+        return builder
             .perThread("compute task", MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
                 .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
                     // Predecessors are represented by LongArrayList which wrap a long[]
@@ -87,6 +137,10 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        // the number of sampled paths is only known once the bounds are met
+        if (config.errorBound().isPresent()) {
+            return Tasks.leaf(taskName());
+        }
         return Tasks.leaf(taskName(), graph.nodeCount());
     }
 }
@@ -22,18 +22,17 @@ package org.neo4j.gds.labelpropagation;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.NodeProperties;
 import org.neo4j.gds.api.RelationshipIterator;
-import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterable;
-import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterator;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
-final class ComputeStep implements Step {
+final class ComputeStep implements Runnable {
 
     private static final double DEFAULT_WEIGHT = 1.0;
 
     private final RelationshipIterator localRelationshipIterator;
     private final HugeLongArray existingLabels;
-    private final PrimitiveLongIterable nodes;
+    private final Partition partition;
     private final ProgressTracker progressTracker;
     private final ComputeStepConsumer consumer;
     private final Graph graph;
@@ -45,34 +44,30 @@ final class ComputeStep implements Step {
             NodeProperties nodeWeights,
             ProgressTracker progressTracker,
             HugeLongArray existingLabels,
-            PrimitiveLongIterable nodes) {
+            Partition partition) {
         this.existingLabels = existingLabels;
         this.progressTracker = progressTracker;
         this.graph = graph;
         this.localRelationshipIterator = graph.concurrentCopy();
-        this.nodes = nodes;
+        this.partition = partition;
         this.consumer = new ComputeStepConsumer(nodeWeights, existingLabels);
     }
 
-    @Override
-    public Step next() {
-        return this;
-    }
-
     @Override
     public void run() {
-        this.didChange = iterateAll(nodes.iterator());
+        this.didChange = iterateAll();
+        // the step is kept until all partitions are done, the votes are not needed anymore
+        consumer.release();
     }
 
-    @Override
-    public boolean didConverge() {
+    boolean didConverge() {
         return !this.didChange;
     }
 
-    private boolean iterateAll(PrimitiveLongIterator nodeIds) {
+    private boolean iterateAll() {
         boolean didChange = false;
-        while (nodeIds.hasNext()) {
-            long nodeId = nodeIds.next();
+        long endNode = partition.startNode() + partition.nodeCount();
+        for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
             didChange = compute(nodeId, didChange);
             progressTracker.logProgress(graph.degree(nodeId));
         }
@@ -90,9 +85,4 @@ final class ComputeStep implements Step {
         }
         return didChange;
     }
-
-    @Override
-    public void release() {
-        consumer.release();
-    }
 }
@@ -27,20 +27,18 @@ import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterator;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
-final class InitStep implements Step {
+final class InitStep implements Runnable {
 
     private final NodeProperties nodeProperties;
     private final HugeLongArray existingLabels;
     private final PrimitiveLongIterable nodes;
     private final Graph graph;
-    private final NodeProperties nodeWeights;
     private final ProgressTracker progressTracker;
     private final long maxLabelId;
 
     InitStep(
             Graph graph,
             NodeProperties nodeProperties,
-            NodeProperties nodeWeights,
             PrimitiveLongIterable nodes,
             HugeLongArray existingLabels,
             ProgressTracker progressTracker,
@@ -49,7 +47,6 @@ final class InitStep implements Step {
         this.existingLabels = existingLabels;
         this.nodes = nodes;
         this.graph = graph;
-        this.nodeWeights = nodeWeights;
         this.progressTracker = progressTracker;
         this.maxLabelId = maxLabelId;
     }
@@ -77,20 +74,4 @@ final class InitStep implements Step {
             progressTracker.logProgress(graph.degree(nodeId));
         }
     }
-
-    @Override
-    public boolean didConverge() {
-        return false;
-    }
-
-    @Override
-    public Step next() {
-        return new ComputeStep(
-                graph,
-                nodeWeights,
-                progressTracker,
-                existingLabels,
-                nodes
-        );
-    }
 }
@@ -121,28 +121,33 @@ public class LabelPropagation extends Algorithm<LabelPropagation> {
         ranIterations = 0L;
         didConverge = false;
 
-        List<StepRunner> stepRunners = stepRunners();
+        initLabels();
 
         progressTracker.beginSubTask();
         while (ranIterations < config.maxIterations()) {
             progressTracker.beginSubTask();
-            ParallelUtil.runWithConcurrency(config.concurrency(), stepRunners, 1L, MICROSECONDS, terminationFlag, executor);
+            // the number of relationships per node is skewed, so the partitions are balanced by work stealing
+            var computeSteps = ParallelUtil.runWithWorkStealing(
+                config.concurrency(),
+                graph,
+                partition -> new ComputeStep(graph, nodeWeights, progressTracker, labels, partition),
+                terminationFlag,
+                executor
+            ).tasks();
             ++ranIterations;
-            didConverge = stepRunners.stream().allMatch(StepRunner::didConverge);
+            didConverge = computeSteps.stream().allMatch(ComputeStep::didConverge);
             progressTracker.endSubTask();
             if (didConverge) {
                 break;
             }
         }
         progressTracker.endSubTask();
-
-        stepRunners.forEach(StepRunner::release);
         progressTracker.endSubTask();
 
         return this;
     }
 
-    private List<StepRunner> stepRunners() {
+    private void initLabels() {
         long nodeCount = graph.nodeCount();
         long batchSize = ParallelUtil.adjustedBatchSize(nodeCount, this.batchSize);
 
@@ -153,24 +158,20 @@ public class LabelPropagation extends Algorithm<LabelPropagation> {
         );
 
         int threads = nodeBatches.size();
-        List<StepRunner> tasks = new ArrayList<>(threads);
+        List<InitStep> tasks = new ArrayList<>(threads);
         for (PrimitiveLongIterable iter : nodeBatches) {
-            InitStep initStep = new InitStep(
+            tasks.add(new InitStep(
                 graph,
                 nodeProperties,
-                nodeWeights,
                 iter,
                 labels,
                 progressTracker,
                 maxLabelId
-            );
-            StepRunner task = new StepRunner(initStep);
-            tasks.add(task);
+            ));
         }
         progressTracker.beginSubTask();
         ParallelUtil.runWithConcurrency(config.concurrency(), tasks, 1, MICROSECONDS, terminationFlag, executor);
         progressTracker.endSubTask();
-        return tasks;
     }
 
     void withBatchSize(int batchSize) {
@@ -65,7 +65,6 @@ public class LabelPropagationFactory<CONFIG extends LabelPropagationBaseConfig>
             .perThread("votes", MemoryEstimations.builder()
                 .field("init step", InitStep.class)
                 .field("compute step", ComputeStep.class)
-                .field("step runner", StepRunner.class)
                 .field("compute step consumer", ComputeStepConsumer.class)
                 .field("votes container", LongDoubleScatterMap.class)
                 .rangePerNode("votes", nodeCount -> {
@@ -59,24 +59,12 @@ public class ANPStrategy implements MultiSourceBFS.ExecutionStrategy {
         HugeLongArray seenSet,
         HugeLongArray seenNextSet
     ) {
-        HugeCursor<long[]> visitCursor = visitSet.newCursor();
         HugeCursor<long[]> nextCursor = visitNextSet.newCursor();
 
         var depth = 0;
 
         while (true) {
-            visitSet.initCursor(visitCursor);
-            while (visitCursor.next()) {
-                long[] array = visitCursor.array;
-                int offset = visitCursor.offset;
-                int limit = visitCursor.limit;
-                long base = visitCursor.base;
-                for (int i = offset; i < limit; ++i) {
-                    if (array[i] != 0L) {
-                        prepareNextVisit(relationships, array[i], base + i, visitNextSet, depth);
-                    }
-                }
-            }
+            expand(relationships, totalNodeCount, sourceNodes, visitSet, visitNextSet, seenSet, depth);
 
             ++depth;
 
@@ -110,6 +98,34 @@ public class ANPStrategy implements MultiSourceBFS.ExecutionStrategy {
         }
     }
 
+    /**
+     * Computes the next visit set from the current one. Bits of sources that
+     * have already seen a node may be set, they are removed afterwards.
+     */
+    protected void expand(
+        RelationshipIterator relationships,
+        long totalNodeCount,
+        MultiSourceBFS.SourceNodes sourceNodes,
+        HugeLongArray visitSet,
+        HugeLongArray visitNextSet,
+        HugeLongArray seenSet,
+        int depth
+    ) {
+        HugeCursor<long[]> visitCursor = visitSet.newCursor();
+        visitSet.initCursor(visitCursor);
+        while (visitCursor.next()) {
+            long[] array = visitCursor.array;
+            int offset = visitCursor.offset;
+            int limit = visitCursor.limit;
+            long base = visitCursor.base;
+            for (int i = offset; i < limit; ++i) {
+                if (array[i] != 0L) {
+                    prepareNextVisit(relationships, array[i], base + i, visitNextSet, depth);
+                }
+            }
+        }
+    }
+
     protected boolean stopTraversal(boolean hasNext, int depth) {
         return !hasNext;
     }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.msbfs;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.RelationshipIterator;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+/**
+ * {@link ANPStrategy} that switches between top-down and bottom-up expansion as described in
+ * Direction-Optimizing Breadth-First Search
+ * https://scottbeamer.net/pubs/beamer-sc2012.pdf
+ * <p>
+ * Top-down, the relationships of every node in the frontier are followed.
+ * Bottom-up, every node that has not been seen by all sources gathers the
+ * frontier bits of its incoming neighbours and stops as soon as no further
+ * source can be added. In the middle levels of a small-world graph, most
+ * relationships of the frontier lead to nodes that have already been seen,
+ * while the few remaining nodes find a parent after a couple of relationships.
+ * <p>
+ * Bottom-up expansion requires the incoming relationships of the graph,
+ * see {@link Graph#hasInverseIndex()}. Both directions produce the same
+ * visit sets, so the invariants of {@link ANPStrategy} are preserved.
+ */
+final class DirectionOptimizingStrategy extends ANPStrategy {
+
+    // thresholds proposed by Beamer et al.
+    private static final long ALPHA = 14;
+    private static final long BETA = 24;
+
+    DirectionOptimizingStrategy(BfsConsumer perNodeAction) {
+        super(perNodeAction);
+    }
+
+    @Override
+    protected void expand(
+        RelationshipIterator relationships,
+        long totalNodeCount,
+        MultiSourceBFS.SourceNodes sourceNodes,
+        HugeLongArray visitSet,
+        HugeLongArray visitNextSet,
+        HugeLongArray seenSet,
+        int depth
+    ) {
+        // MultiSourceBFS passes concurrent copies of the graph it has been created with
+        var graph = (Graph) relationships;
+        var allSources = sourceNodes.allSources();
+
+        long frontierNodes = 0L;
+        long frontierRelationships = 0L;
+        long unexploredRelationships = 0L;
+        for (long nodeId = 0; nodeId < totalNodeCount; nodeId++) {
+            if (visitSet.get(nodeId) != 0L) {
+                frontierNodes++;
+                frontierRelationships += graph.degree(nodeId);
+            }
+            if ((seenSet.get(nodeId) & allSources) != allSources) {
+                unexploredRelationships += graph.inverseDegree(nodeId);
+            }
+        }
+
+        if (frontierRelationships > unexploredRelationships / ALPHA && frontierNodes > totalNodeCount / BETA) {
+            expandBottomUp(graph, totalNodeCount, allSources, visitSet, visitNextSet, seenSet);
+        } else {
+            super.expand(relationships, totalNodeCount, sourceNodes, visitSet, visitNextSet, seenSet, depth);
+        }
+    }
+
+    private static void expandBottomUp(
+        Graph graph,
+        long totalNodeCount,
+        long allSources,
+        HugeLongArray visitSet,
+        HugeLongArray visitNextSet,
+        HugeLongArray seenSet
+    ) {
+        var parents = new FrontierParents(visitSet);
+        for (long nodeId = 0; nodeId < totalNodeCount; nodeId++) {
+            var unseen = allSources & ~seenSet.get(nodeId);
+            if (unseen != 0L) {
+                parents.init(unseen);
+                graph.forEachInverseRelationship(nodeId, parents);
+                if (parents.next != 0L) {
+                    visitNextSet.set(nodeId, parents.next);
+                }
+            }
+        }
+    }
+
+    private static final class FrontierParents implements RelationshipConsumer {
+
+        private final HugeLongArray visitSet;
+
+        private long unseen;
+        private long next;
+
+        FrontierParents(HugeLongArray visitSet) {
+            this.visitSet = visitSet;
+        }
+
+        void init(long unseen) {
+            this.unseen = unseen;
+            this.next = 0L;
+        }
+
+        @Override
+        public boolean accept(long nodeId, long parentNodeId) {
+            next |= visitSet.get(parentNodeId) & unseen;
+            return next != unseen;
+        }
+    }
+}
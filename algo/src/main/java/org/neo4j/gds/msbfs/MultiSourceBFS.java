@@ -110,6 +110,29 @@ public final class MultiSourceBFS implements Runnable {
         );
     }
 
+    /**
+     * Same as {@link #aggregatedNeighborProcessing(long, RelationshipIterator, BfsConsumer, long...)},
+     * but expands large levels bottom-up if the incoming relationships of the graph are available.
+     *
+     * @see DirectionOptimizingStrategy
+     */
+    public static MultiSourceBFS aggregatedNeighborProcessing(
+        Graph graph,
+        BfsConsumer perNodeAction,
+        long... sourceNodes
+    ) {
+        return new MultiSourceBFS(
+            graph.nodeCount(),
+            graph,
+            graph.hasInverseIndex()
+                ? new DirectionOptimizingStrategy(perNodeAction)
+                : new ANPStrategy(perNodeAction),
+            false,
+            false,
+            sourceNodes
+        );
+    }
+
     public static MultiSourceBFS predecessorProcessing(
         Graph graph,
         BfsConsumer perNodeAction,
@@ -366,6 +389,13 @@ public final class MultiSourceBFS implements Runnable {
             this.startPos = -1;
         }
 
+        /**
+         * @return a mask with one bit set for every source of this traversal
+         */
+        long allSources() {
+            return maxPos == OMEGA ? -1L : (1L << maxPos) - 1;
+        }
+
         public void reset() {
             this.pos = startPos;
             fetchNext();
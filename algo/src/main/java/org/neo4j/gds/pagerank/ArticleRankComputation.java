@@ -22,6 +22,7 @@ package org.neo4j.gds.pagerank;
 import com.carrotsearch.hppc.LongSet;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Messages;
+import org.neo4j.gds.beta.pregel.NodeValue;
 import org.neo4j.gds.beta.pregel.PregelComputation;
 import org.neo4j.gds.beta.pregel.PregelSchema;
 import org.neo4j.gds.beta.pregel.Reducer;
@@ -44,6 +45,9 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
     private final double alpha;
     private final double averageDegree;
 
+    // resolved once per run before the first superstep
+    private NodeValue.DoubleHandle pageRank;
+
     ArticleRankComputation(
         PageRankConfig config,
         LongSet sourceNodes,
@@ -64,9 +68,14 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
         return new PregelSchema.Builder().add(PAGE_RANK, ValueType.DOUBLE).build();
     }
 
+    @Override
+    public void resolveHandles(NodeValue nodeValue) {
+        pageRank = nodeValue.doubleHandle(PAGE_RANK);
+    }
+
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(PAGE_RANK, initialValue(context));
+        context.setNodeValue(pageRank, initialValue(context));
     }
 
     private double initialValue(InitContext<PageRankConfig> context) {
@@ -78,7 +87,7 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
 
     @Override
     public void compute(ComputeContext<PageRankConfig> context, Messages messages) {
-        double rank = context.doubleNodeValue(PAGE_RANK);
+        double rank = context.doubleNodeValue(pageRank);
         double delta = rank;
 
         if (!context.isInitialSuperstep()) {
@@ -87,7 +96,7 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
                 sum += message;
             }
             delta = dampingFactor * sum;
-            context.setNodeValue(PAGE_RANK, rank + delta);
+            context.setNodeValue(pageRank, rank + delta);
         }
 
         if (delta > tolerance || context.isInitialSuperstep()) {
@@ -22,6 +22,7 @@ package org.neo4j.gds.pagerank;
 import com.carrotsearch.hppc.LongSet;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Messages;
+import org.neo4j.gds.beta.pregel.NodeValue;
 import org.neo4j.gds.beta.pregel.PregelComputation;
 import org.neo4j.gds.beta.pregel.PregelSchema;
 import org.neo4j.gds.beta.pregel.Reducer;
@@ -43,6 +44,9 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
     private final double tolerance;
     private final double alpha;
 
+    // resolved once per run before the first superstep
+    private NodeValue.DoubleHandle pageRank;
+
     PageRankComputation(
         PageRankConfig config,
         LongSet sourceNodes,
@@ -61,9 +65,14 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
         return new PregelSchema.Builder().add(PAGE_RANK, ValueType.DOUBLE).build();
     }
 
+    @Override
+    public void resolveHandles(NodeValue nodeValue) {
+        pageRank = nodeValue.doubleHandle(PAGE_RANK);
+    }
+
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(PAGE_RANK, initialValue(context));
+        context.setNodeValue(pageRank, initialValue(context));
     }
 
     private double initialValue(InitContext<PageRankConfig> context) {
@@ -75,7 +84,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
 
     @Override
     public void compute(ComputeContext<PageRankConfig> context, Messages messages) {
-        double rank = context.doubleNodeValue(PAGE_RANK);
+        double rank = context.doubleNodeValue(pageRank);
         double delta = rank;
 
         if (!context.isInitialSuperstep()) {
@@ -84,7 +93,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
                 sum += message;
             }
             delta = dampingFactor * sum;
-            context.setNodeValue(PAGE_RANK, rank + delta);
+            context.setNodeValue(pageRank, rank + delta);
         }
 
         if (delta > tolerance || context.isInitialSuperstep()) {
@@ -21,7 +21,9 @@ package org.neo4j.gds.paths.astar;
 
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeLongDoubleMap;
@@ -44,14 +46,33 @@ public final class AStar extends Algorithm<DijkstraResult> {
         this.terminationFlag = dijkstra.getTerminationFlag();
     }
 
+    /**
+     * @param graphStore holds the metadata of the landmark property, if the landmark heuristic is used
+     * @param graph      the projection of the graph store to find the path on
+     */
     public static AStar sourceTarget(
+        GraphStore graphStore,
         Graph graph,
         ShortestPathAStarBaseConfig config,
         ProgressTracker progressTracker
     ) {
-        var latitudeProperty = config.latitudeProperty();
-        var longitudeProperty = config.longitudeProperty();
+        var targetNode = graph.toMappedNodeId(config.targetNode());
+
+        Dijkstra.HeuristicFunction heuristic = config.landmarkProperty().isPresent()
+            ? landmarkHeuristic(graphStore, graph, config, targetNode)
+            : haversineHeuristic(graph, config.latitudeProperty().get(), config.longitudeProperty().get(), targetNode);
+
+        // Init dijkstra algorithm for computing shortest paths
+        var dijkstra = Dijkstra.sourceTarget(graph, config, Optional.of(heuristic), progressTracker);
+        return new AStar(dijkstra);
+    }
 
+    private static HaversineHeuristic haversineHeuristic(
+        Graph graph,
+        String latitudeProperty,
+        String longitudeProperty,
+        long targetNode
+    ) {
         if (!graph.availableNodeProperties().contains(latitudeProperty)) {
             throw new IllegalArgumentException(formatWithLocale(
                 "The property `%s` has not been loaded",
@@ -67,13 +88,55 @@ public final class AStar extends Algorithm<DijkstraResult> {
 
         var latitudeProperties = graph.nodeProperties(latitudeProperty);
         var longitudeProperties = graph.nodeProperties(longitudeProperty);
-        var targetNode = graph.toMappedNodeId(config.targetNode());
 
-        var heuristic = new HaversineHeuristic(latitudeProperties, longitudeProperties, targetNode);
+        return new HaversineHeuristic(latitudeProperties, longitudeProperties, targetNode);
+    }
 
-        // Init dijkstra algorithm for computing shortest paths
-        var dijkstra = Dijkstra.sourceTarget(graph, config, Optional.of(heuristic), progressTracker);
-        return new AStar(dijkstra);
+    private static LandmarkHeuristic landmarkHeuristic(
+        GraphStore graphStore,
+        Graph graph,
+        ShortestPathAStarBaseConfig config,
+        long targetNode
+    ) {
+        var landmarkProperty = config.landmarkProperty().get();
+        if (!graph.availableNodeProperties().contains(landmarkProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been loaded",
+                landmarkProperty
+            ));
+        }
+        var landmarkProperties = graph.nodeProperties(landmarkProperty);
+        if (landmarkProperties.valueType() != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The landmark property `%s` must be of type %s, but was %s",
+                landmarkProperty,
+                ValueType.DOUBLE_ARRAY,
+                landmarkProperties.valueType()
+            ));
+        }
+
+        var metadata = LandmarkMetadata.of(graphStore.nodePropertyMetadata(landmarkProperty))
+            .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                "The property `%s` was not computed by `gds.alpha.shortestPath.landmarks.mutate`",
+                landmarkProperty
+            )));
+
+        // distances on other relationships or weights are no lower bounds and would yield wrong paths
+        metadata.validate(
+            landmarkProperty,
+            config.nodeLabelIdentifiers(graphStore),
+            config.internalRelationshipTypes(graphStore),
+            Optional.ofNullable(config.relationshipWeightProperty()),
+            graph.isUndirected()
+        );
+
+        return new LandmarkHeuristic(
+            landmarkProperties,
+            targetNode,
+            metadata.landmarks().size(),
+            graph.isUndirected(),
+            metadata.distancesToLandmarks()
+        );
     }
 
     public static MemoryEstimation memoryEstimation() {
@@ -155,4 +218,74 @@ public final class AStar extends Algorithm<DijkstraResult> {
             return EARTH_RADIUS_IN_NM * c;
         }
     }
+
+    /**
+     * Lower bounds the distance to the target node via the triangle inequality
+     * on the landmark distances computed by {@link Landmarks}.
+     * <p>
+     * For a landmark {@code L}, {@code d(L, t) - d(L, v)} and {@code d(v, L) - d(t, L)}
+     * both bound {@code d(v, t)} from below. The heuristic is the maximum over all
+     * landmarks and bounds, ignoring bounds that involve unreachable pairs.
+     * Nodes without distances, such as nodes added after the landmarks were computed, are bounded by zero.
+     */
+    public static class LandmarkHeuristic implements Dijkstra.HeuristicFunction {
+
+        static final double DEFAULT_DISTANCE = Double.NaN;
+
+        private final NodeProperties landmarkProperties;
+        private final double[] targetDistances;
+        private final int landmarkCount;
+        private final boolean undirected;
+        private final boolean distancesToLandmarks;
+
+        private final HugeLongDoubleMap distanceCache;
+
+        LandmarkHeuristic(
+            NodeProperties landmarkProperties,
+            long targetNode,
+            int landmarkCount,
+            boolean undirected,
+            boolean distancesToLandmarks
+        ) {
+            this.landmarkProperties = landmarkProperties;
+            this.targetDistances = landmarkProperties.doubleArrayValue(targetNode);
+            this.landmarkCount = landmarkCount;
+            this.undirected = undirected;
+            this.distancesToLandmarks = distancesToLandmarks;
+            this.distanceCache = new HugeLongDoubleMap();
+        }
+
+        @Override
+        public double applyAsDouble(long source) {
+            var distance = distanceCache.getOrDefault(source, DEFAULT_DISTANCE);
+
+            if (Double.isNaN(distance)) {
+                distance = lowerBound(landmarkProperties.doubleArrayValue(source));
+                distanceCache.addTo(source, distance);
+            }
+
+            return distance;
+        }
+
+        private double lowerBound(double[] sourceDistances) {
+            double bound = 0.0D;
+            if (sourceDistances == null || targetDistances == null) {
+                return bound;
+            }
+            for (int i = 0; i < landmarkCount; i++) {
+                // distances from the landmark; on undirected graphs also the distances to it
+                double fromLandmark = targetDistances[i] - sourceDistances[i];
+                if (Double.isFinite(fromLandmark)) {
+                    bound = Math.max(bound, undirected ? Math.abs(fromLandmark) : fromLandmark);
+                }
+                if (distancesToLandmarks) {
+                    double toLandmark = sourceDistances[landmarkCount + i] - targetDistances[landmarkCount + i];
+                    if (Double.isFinite(toLandmark)) {
+                        bound = Math.max(bound, toLandmark);
+                    }
+                }
+            }
+            return bound;
+        }
+    }
 }
@@ -19,15 +19,18 @@
  */
 package org.neo4j.gds.paths.astar;
 
-import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.paths.astar.config.ShortestPathAStarBaseConfig;
 import org.neo4j.gds.paths.dijkstra.DijkstraFactory;
 
-public class AStarFactory<CONFIG extends ShortestPathAStarBaseConfig> extends GraphAlgorithmFactory<AStar, CONFIG> {
+import java.util.Optional;
+
+public class AStarFactory<CONFIG extends ShortestPathAStarBaseConfig> extends GraphStoreAlgorithmFactory<AStar, CONFIG> {
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
@@ -35,8 +38,8 @@ public class AStarFactory<CONFIG extends ShortestPathAStarBaseConfig> extends Gr
     }
 
     @Override
-    public Task progressTask(Graph graph, CONFIG config) {
-        return DijkstraFactory.dijkstraProgressTask(taskName(), graph);
+    public Task progressTask(GraphStore graphStore, CONFIG config) {
+        return DijkstraFactory.dijkstraProgressTask(taskName(), graph(graphStore, config));
     }
 
     @Override
@@ -46,10 +49,18 @@ public class AStarFactory<CONFIG extends ShortestPathAStarBaseConfig> extends Gr
 
     @Override
     public AStar build(
-        Graph graph,
+        GraphStore graphStore,
         CONFIG configuration,
         ProgressTracker progressTracker
     ) {
-        return AStar.sourceTarget(graph, configuration, progressTracker);
+        return AStar.sourceTarget(graphStore, graph(graphStore, configuration), configuration, progressTracker);
+    }
+
+    private static Graph graph(GraphStore graphStore, ShortestPathAStarBaseConfig config) {
+        return graphStore.getGraph(
+            config.nodeLabelIdentifiers(graphStore),
+            config.internalRelationshipTypes(graphStore),
+            Optional.ofNullable(config.relationshipWeightProperty())
+        );
     }
 }
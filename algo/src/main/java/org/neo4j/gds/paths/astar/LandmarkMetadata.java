@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.astar;
+
+import org.neo4j.gds.ElementIdentifier;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Describes the projection the {@link Landmarks} distances were computed on.
+ * Distances on other relationship types, weights or orientations are no lower bounds,
+ * so the metadata is recorded next to the landmark property in the graph store
+ * and validated before the distances are used by {@link AStar}.
+ */
+public final class LandmarkMetadata {
+
+    static final String NODE_LABELS = "nodeLabels";
+    static final String RELATIONSHIP_TYPES = "relationshipTypes";
+    static final String RELATIONSHIP_WEIGHT_PROPERTY = "relationshipWeightProperty";
+    static final String ORIENTATION = "orientation";
+    static final String LANDMARKS = "landmarks";
+    static final String DISTANCES_TO_LANDMARKS = "distancesToLandmarks";
+
+    private final List<String> nodeLabels;
+    private final List<String> relationshipTypes;
+    private final Optional<String> relationshipWeightProperty;
+    private final Orientation orientation;
+    private final List<Long> landmarks;
+    private final boolean distancesToLandmarks;
+
+    private LandmarkMetadata(
+        List<String> nodeLabels,
+        List<String> relationshipTypes,
+        Optional<String> relationshipWeightProperty,
+        Orientation orientation,
+        List<Long> landmarks,
+        boolean distancesToLandmarks
+    ) {
+        this.nodeLabels = nodeLabels;
+        this.relationshipTypes = relationshipTypes;
+        this.relationshipWeightProperty = relationshipWeightProperty;
+        this.orientation = orientation;
+        this.landmarks = landmarks;
+        this.distancesToLandmarks = distancesToLandmarks;
+    }
+
+    public static LandmarkMetadata of(
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> relationshipWeightProperty,
+        Graph graph,
+        Landmarks.LandmarkDistances distances
+    ) {
+        return new LandmarkMetadata(
+            names(nodeLabels),
+            names(relationshipTypes),
+            relationshipWeightProperty,
+            graph.isUndirected() ? Orientation.UNDIRECTED : Orientation.NATURAL,
+            Arrays.stream(distances.landmarks()).mapToObj(graph::toOriginalNodeId).collect(Collectors.toList()),
+            distances.distancesToLandmarks()
+        );
+    }
+
+    /**
+     * @return the metadata recorded in the graph store, or empty if the property was not computed by {@link Landmarks}
+     */
+    @SuppressWarnings("unchecked")
+    public static Optional<LandmarkMetadata> of(Map<String, Object> metadata) {
+        if (!metadata.containsKey(LANDMARKS)) {
+            return Optional.empty();
+        }
+        return Optional.of(new LandmarkMetadata(
+            (List<String>) metadata.get(NODE_LABELS),
+            (List<String>) metadata.get(RELATIONSHIP_TYPES),
+            Optional.ofNullable((String) metadata.get(RELATIONSHIP_WEIGHT_PROPERTY)),
+            Orientation.valueOf((String) metadata.get(ORIENTATION)),
+            (List<Long>) metadata.get(LANDMARKS),
+            (Boolean) metadata.get(DISTANCES_TO_LANDMARKS)
+        ));
+    }
+
+    public Map<String, Object> toMap() {
+        var metadata = new HashMap<String, Object>();
+        metadata.put(NODE_LABELS, nodeLabels);
+        metadata.put(RELATIONSHIP_TYPES, relationshipTypes);
+        relationshipWeightProperty.ifPresent(property -> metadata.put(RELATIONSHIP_WEIGHT_PROPERTY, property));
+        metadata.put(ORIENTATION, orientation.name());
+        metadata.put(LANDMARKS, landmarks);
+        metadata.put(DISTANCES_TO_LANDMARKS, distancesToLandmarks);
+        return metadata;
+    }
+
+    /**
+     * @return the original ids of the landmarks
+     */
+    public List<Long> landmarks() {
+        return landmarks;
+    }
+
+    /**
+     * @return whether the distances of directed graphs include the distances to the landmarks
+     */
+    public boolean distancesToLandmarks() {
+        return distancesToLandmarks;
+    }
+
+    /**
+     * Distances on a subgraph of the landmark projection are still lower bounds,
+     * so the node labels only need to be covered by the landmark projection.
+     */
+    void validate(
+        String landmarkProperty,
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> relationshipWeightProperty,
+        boolean undirected
+    ) {
+        if (!this.relationshipTypes.equals(names(relationshipTypes)) || !this.relationshipWeightProperty.equals(relationshipWeightProperty)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The landmark property `%s` was computed for the relationship types %s and the relationship weight property %s. " +
+                "Compute the landmarks with the same `relationshipTypes` and `relationshipWeightProperty` as the shortest path.",
+                landmarkProperty,
+                this.relationshipTypes,
+                this.relationshipWeightProperty.map(property -> "`" + property + "`").orElse("<none>")
+            ));
+        }
+        var missingLabels = names(nodeLabels);
+        missingLabels.removeAll(this.nodeLabels);
+        if (!missingLabels.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The landmark property `%s` was computed for the node labels %s, which do not cover the node labels %s.",
+                landmarkProperty,
+                this.nodeLabels,
+                missingLabels
+            ));
+        }
+        if ((orientation == Orientation.UNDIRECTED) != undirected) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The landmark property `%s` was computed on %s relationships, but the shortest path runs on %s relationships.",
+                landmarkProperty,
+                orientation,
+                undirected ? Orientation.UNDIRECTED : Orientation.NATURAL
+            ));
+        }
+    }
+
+    private static List<String> names(Collection<? extends ElementIdentifier> identifiers) {
+        return identifiers.stream().map(ElementIdentifier::name).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.astar;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.nodeproperties.DoubleArrayNodeProperties;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Preprocessing step of the ALT (A*, landmarks, triangle inequality) heuristic.
+ * <p>
+ * Picks landmarks by farthest-point selection and stores the shortest path
+ * distances between every node and every landmark in one double array per node.
+ * For undirected graphs the array holds the distances to the {@code k} landmarks.
+ * For directed graphs it holds the {@code k} distances from the landmarks,
+ * followed by the {@code k} distances to the landmarks if the graph has an inverse index.
+ * Unreachable pairs are stored as {@link Double#POSITIVE_INFINITY}.
+ * The projection the distances were computed on is described by {@link LandmarkMetadata}.
+ *
+ * @see AStar.LandmarkHeuristic
+ */
+public final class Landmarks extends Algorithm<Landmarks.LandmarkDistances> {
+
+    private final Graph graph;
+    private final int landmarkCount;
+    private final ExecutorService executorService;
+    private final int concurrency;
+
+    public Landmarks(
+        Graph graph,
+        int landmarkCount,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.landmarkCount = (int) Math.min(landmarkCount, graph.nodeCount());
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+    }
+
+    public static MemoryEstimation memoryEstimation(int landmarkCount) {
+        // directed graphs store distances in both directions
+        return MemoryEstimations.builder(Landmarks.class)
+            .add("distances", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfDoubleArray(2L * landmarkCount)))
+            .perNode("closestLandmark", HugeDoubleArray::memoryEstimation)
+            .add("forward queue", HugeLongPriorityQueue.memoryEstimation())
+            .add("backward queue", HugeLongPriorityQueue.memoryEstimation())
+            .perNode("settled", nodeCount -> 2 * MemoryUsage.sizeOfBitset(nodeCount))
+            .build();
+    }
+
+    @Override
+    public LandmarkDistances compute() {
+        progressTracker.beginSubTask();
+
+        long nodeCount = graph.nodeCount();
+        boolean undirected = graph.isUndirected();
+        boolean backward = !undirected && graph.hasInverseIndex();
+        int dimension = backward ? 2 * landmarkCount : landmarkCount;
+
+        var distances = HugeObjectArray.newArray(double[].class, nodeCount);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
+            var nodeDistances = new double[dimension];
+            Arrays.fill(nodeDistances, Double.POSITIVE_INFINITY);
+            distances.set(nodeId, nodeDistances);
+        });
+
+        // distance of every node to its closest landmark, drives the farthest-point selection
+        var closestLandmark = HugeDoubleArray.newArray(nodeCount);
+        closestLandmark.fill(Double.POSITIVE_INFINITY);
+
+        var landmarks = new long[landmarkCount];
+        long landmark = maxDegreeNode();
+        for (int i = 0; i < landmarkCount && running(); i++) {
+            landmarks[i] = landmark;
+
+            long source = landmark;
+            int column = i;
+            var tasks = new ArrayList<Runnable>(2);
+            tasks.add(() -> shortestPaths(graph.concurrentCopy(), source, distances, column, false));
+            if (backward) {
+                tasks.add(() -> shortestPaths(graph.concurrentCopy(), source, distances, landmarkCount + column, true));
+            }
+            ParallelUtil.run(tasks, executorService);
+
+            if (i + 1 < landmarkCount) {
+                landmark = nextLandmark(distances, closestLandmark, column);
+            }
+            progressTracker.logProgress(1);
+        }
+
+        progressTracker.endSubTask();
+        return new LandmarkDistances(landmarks, distances, backward);
+    }
+
+    @Override
+    public void release() {}
+
+    private long maxDegreeNode() {
+        long maxNode = 0;
+        int maxDegree = -1;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            int degree = graph.degree(nodeId);
+            if (degree > maxDegree) {
+                maxDegree = degree;
+                maxNode = nodeId;
+            }
+        }
+        return maxNode;
+    }
+
+    /**
+     * Folds the distances of the latest landmark into the closest landmark distances
+     * and returns the node farthest away from all landmarks. Unreached nodes are
+     * preferred, which places landmarks into every component.
+     */
+    private long nextLandmark(HugeObjectArray<double[]> distances, HugeDoubleArray closestLandmark, int column) {
+        long farthestNode = -1;
+        double farthestDistance = -1;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            double distance = Math.min(closestLandmark.get(nodeId), distances.get(nodeId)[column]);
+            closestLandmark.set(nodeId, distance);
+            if (distance > farthestDistance) {
+                farthestDistance = distance;
+                farthestNode = nodeId;
+            }
+        }
+        return farthestNode;
+    }
+
+    private static void shortestPaths(
+        Graph graph,
+        long landmark,
+        HugeObjectArray<double[]> distances,
+        int column,
+        boolean inverse
+    ) {
+        var queue = HugeLongPriorityQueue.min(graph.nodeCount());
+        var settled = new BitSet(graph.nodeCount());
+        queue.add(landmark, 0.0D);
+
+        while (!queue.isEmpty()) {
+            long node = queue.top();
+            double cost = queue.cost(node);
+            queue.pop();
+            settled.set(node);
+            distances.get(node)[column] = cost;
+
+            if (inverse) {
+                graph.forEachInverseRelationship(node, 1.0D, (source, target, weight) -> {
+                    relax(queue, settled, target, cost + weight);
+                    return true;
+                });
+            } else {
+                graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                    relax(queue, settled, target, cost + weight);
+                    return true;
+                });
+            }
+        }
+        queue.release();
+    }
+
+    private static void relax(HugeLongPriorityQueue queue, BitSet settled, long node, double cost) {
+        if (settled.get(node)) {
+            return;
+        }
+        if (!queue.containsElement(node) || cost < queue.cost(node)) {
+            queue.set(node, cost);
+        }
+    }
+
+    public static final class LandmarkDistances {
+        private final long[] landmarks;
+        private final HugeObjectArray<double[]> distances;
+        private final boolean distancesToLandmarks;
+
+        LandmarkDistances(long[] landmarks, HugeObjectArray<double[]> distances, boolean distancesToLandmarks) {
+            this.landmarks = landmarks;
+            this.distances = distances;
+            this.distancesToLandmarks = distancesToLandmarks;
+        }
+
+        /**
+         * @return the mapped ids of the selected landmarks
+         */
+        public long[] landmarks() {
+            return landmarks;
+        }
+
+        /**
+         * @return whether the distances of a directed graph are followed by the distances to the landmarks
+         */
+        public boolean distancesToLandmarks() {
+            return distancesToLandmarks;
+        }
+
+        public NodeProperties asNodeProperties() {
+            long size = distances.size();
+            return new DoubleArrayNodeProperties() {
+                @Override
+                public double[] doubleArrayValue(long nodeId) {
+                    return distances.get(nodeId);
+                }
+
+                @Override
+                public long size() {
+                    return size;
+                }
+            };
+        }
+    }
+}
@@ -17,27 +17,18 @@
  * You should have received a copy of the GNU General Public License
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-package org.neo4j.gds.labelpropagation;
+package org.neo4j.gds.paths.astar.config;
 
-final class StepRunner implements Runnable {
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RelationshipWeightConfig;
 
-    Step current;
+public interface LandmarksBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig {
 
-    StepRunner(final Step current) {
-        this.current = current;
-    }
-
-    public boolean didConverge() {
-        return this.current.didConverge();
-    }
-
-    @Override
-    public void run() {
-        current.run();
-        current = current.next();
-    }
-
-    public void release() {
-        current.release();
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int landmarkCount() {
+        return 16;
     }
 }
@@ -19,14 +19,40 @@
  */
 package org.neo4j.gds.paths.astar.config;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.paths.ShortestPathBaseConfig;
 
+import java.util.Optional;
+
 public interface ShortestPathAStarBaseConfig extends ShortestPathBaseConfig {
 
     String LONGITUDE_PROPERTY_KEY = "longitudeProperty";
     String LATITUDE_PROPERTY_KEY = "latitudeProperty";
+    String LANDMARK_PROPERTY_KEY = "landmarkProperty";
+
+    Optional<String> longitudeProperty();
+
+    Optional<String> latitudeProperty();
 
-    String longitudeProperty();
+    /**
+     * Node property holding the landmark distances computed by
+     * {@code gds.alpha.shortestPath.landmarks.mutate}. Replaces the
+     * Haversine heuristic with the landmark heuristic.
+     */
+    Optional<String> landmarkProperty();
 
-    String latitudeProperty();
+    @Value.Check
+    default void validateHeuristic() {
+        if (landmarkProperty().isPresent()) {
+            if (latitudeProperty().isPresent() || longitudeProperty().isPresent()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameter 'landmarkProperty' cannot be combined with 'latitudeProperty' and 'longitudeProperty'."
+                );
+            }
+        } else if (latitudeProperty().isEmpty() || longitudeProperty().isEmpty()) {
+            throw new IllegalArgumentException(
+                "Either 'landmarkProperty' or both 'latitudeProperty' and 'longitudeProperty' must be specified."
+            );
+        }
+    }
 }
@@ -24,6 +24,7 @@ import com.carrotsearch.hppc.LongArrayDeque;
 import com.carrotsearch.hppc.LongArrayList;
 import com.carrotsearch.hppc.cursors.LongCursor;
 import com.carrotsearch.hppc.procedures.LongProcedure;
+import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
@@ -51,6 +52,7 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.paths.delta.TentativeDistances.NO_PREDECESSOR;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class DeltaStepping extends Algorithm<DijkstraResult> {
     public static final String DESCRIPTION = "The Delta Stepping shortest path algorithm computes the shortest (weighted) path between one node and any other node in the graph. " +
@@ -59,6 +61,14 @@ public final class DeltaStepping extends Algorithm<DijkstraResult> {
     private static final int NO_BIN = Integer.MAX_VALUE;
     private static final int BIN_SIZE_THRESHOLD = 1000;
 
+    // Number of nodes inspected to derive delta from the graph.
+    private static final int DELTA_SAMPLE_SIZE = 10_000;
+    // A bucket is supposed to span roughly this many relationships
+    // from a node, so sparse, high-diameter graphs get wider buckets
+    // than dense graphs, where a single hop already exposes enough work.
+    private static final double DELTA_TARGET_DEGREE = 32.0;
+    private static final double FALLBACK_DELTA = 1.0;
+
     private final Graph graph;
     private final long startNode;
     private final double delta;
@@ -78,7 +88,7 @@ public final class DeltaStepping extends Algorithm<DijkstraResult> {
         return new DeltaStepping(
             graph,
             graph.toMappedNodeId(config.sourceNode()),
-            config.delta(),
+            config.delta().orElseGet(() -> autoDelta(graph)),
             config.concurrency(),
             true,
             executorService,
@@ -86,6 +96,39 @@ public final class DeltaStepping extends Algorithm<DijkstraResult> {
         );
     }
 
+    /**
+     * Derives the bucket width from a sample of the node degrees and relationship weights.
+     * Following Meyer and Sanders, delta shrinks with the average degree to limit
+     * re-relaxations, but it never drops below the average weight, since narrower
+     * buckets only add synchronization rounds without exposing more parallel work.
+     */
+    static double autoDelta(Graph graph) {
+        long nodeCount = graph.nodeCount();
+        long step = Math.max(1, nodeCount / DELTA_SAMPLE_SIZE);
+
+        var sampledRelationships = new MutableLong();
+        var weightSum = new MutableDouble();
+        long sampledNodes = 0;
+
+        for (long nodeId = 0; nodeId < nodeCount; nodeId += step) {
+            sampledNodes++;
+            graph.forEachRelationship(nodeId, 1.0, (sourceNodeId, targetNodeId, weight) -> {
+                sampledRelationships.increment();
+                weightSum.add(weight);
+                return true;
+            });
+        }
+
+        if (sampledRelationships.longValue() == 0 || weightSum.doubleValue() <= 0) {
+            return FALLBACK_DELTA;
+        }
+
+        double averageWeight = weightSum.doubleValue() / sampledRelationships.longValue();
+        double averageDegree = sampledRelationships.doubleValue() / sampledNodes;
+
+        return averageWeight * Math.max(1.0, DELTA_TARGET_DEGREE / averageDegree);
+    }
+
     public static MemoryEstimation memoryEstimation(boolean storePredecessors) {
         var builder = MemoryEstimations.builder(DeltaStepping.class)
             .perNode("distance array", HugeAtomicDoubleArray::memoryEstimation)
@@ -155,8 +198,13 @@ public final class DeltaStepping extends Algorithm<DijkstraResult> {
     @Override
     public DijkstraResult compute() {
         progressTracker.beginSubTask();
+        progressTracker.logDebug(formatWithLocale("Delta: %f", delta));
         int iteration = 0;
         int currentBin = 0;
+        long totalRelaxedNodes = 0;
+        long totalRelaxedRelationships = 0;
+        long totalDistanceUpdates = 0;
+        long totalFusedPasses = 0;
 
         var frontierIndex = new AtomicLong(0);
         var frontierSize = new AtomicLong(1);
@@ -180,6 +228,14 @@ public final class DeltaStepping extends Algorithm<DijkstraResult> {
             ParallelUtil.run(relaxTasks, executorService);
             progressTracker.endSubTask();
 
+            // aggregated per bin and logged once at the end
+            for (var task : relaxTasks) {
+                totalRelaxedNodes += task.relaxedNodes;
+                totalRelaxedRelationships += task.relaxedRelationships;
+                totalDistanceUpdates += task.distanceUpdates;
+                totalFusedPasses += task.fusedPasses;
+            }
+
             // Sync barrier
             // Find smallest non-empty bin across all tasks
             currentBin = relaxTasks.stream().mapToInt(DeltaSteppingTask::minNonEmptyBin).min().orElseThrow();
@@ -201,6 +257,15 @@ public final class DeltaStepping extends Algorithm<DijkstraResult> {
             frontierIndex.set(0);
         }
 
+        progressTracker.logDebug(formatWithLocale(
+            "Processed %d bins, relaxed %d nodes and %d relationships, %d distance updates, %d fused local passes",
+            iteration,
+            totalRelaxedNodes,
+            totalRelaxedRelationships,
+            totalDistanceUpdates,
+            totalFusedPasses
+        ));
+
         return new DijkstraResult(pathResults(distances, startNode, concurrency), progressTracker::endSubTask);
     }
 
@@ -229,8 +294,16 @@ public final class DeltaStepping extends Algorithm<DijkstraResult> {
         // Overflowing can only happen in the global phase, as the
         // local phase is bounded by the BIN_SIZE_THRESHOLD.
         private LongArrayList[] localBins;
+        // Replaces the current local bin while its nodes are relaxed.
+        private LongArrayList fusionBuffer;
         private Phase phase = Phase.RELAX;
 
+        // Statistics of the last relax phase.
+        private long relaxedNodes;
+        private long relaxedRelationships;
+        private long distanceUpdates;
+        private long fusedPasses;
+
         DeltaSteppingTask(
             Graph graph,
             HugeLongArray frontier,
@@ -246,11 +319,16 @@ public final class DeltaStepping extends Algorithm<DijkstraResult> {
             this.frontierIndex = frontierIndex;
 
             this.localBins = new LongArrayList[0];
+            this.fusionBuffer = new LongArrayList();
         }
 
         @Override
         public void run() {
             if (phase == Phase.RELAX) {
+                relaxedNodes = 0;
+                relaxedRelationships = 0;
+                distanceUpdates = 0;
+                fusedPasses = 0;
                 relaxGlobalBin();
                 relaxLocalBin();
             } else if (phase == Phase.SYNC) {
@@ -293,19 +371,29 @@ public final class DeltaStepping extends Algorithm<DijkstraResult> {
             }
         }
 
+        // Bucket fusion: as long as the current bin stays small, it is processed
+        // by this thread without waiting for the global synchronization barrier.
         private void relaxLocalBin() {
             while (binIndex < localBins.length
                    && localBins[binIndex] != null
                    && !localBins[binIndex].isEmpty()
                    && localBins[binIndex].size() < BIN_SIZE_THRESHOLD) {
-                var binCopy = localBins[binIndex].clone();
-                localBins[binIndex].elementsCount = 0;
-                binCopy.forEach((LongProcedure) this::relaxNode);
+                // Swap in the empty buffer instead of copying the bin,
+                // nodes re-inserted into the current bin end up in the buffer.
+                var bin = localBins[binIndex];
+                localBins[binIndex] = fusionBuffer;
+                fusionBuffer = bin;
+
+                fusedPasses++;
+                bin.forEach((LongProcedure) this::relaxNode);
+                bin.elementsCount = 0;
             }
         }
 
         private void relaxNode(long nodeId) {
+            relaxedNodes++;
             graph.forEachRelationship(nodeId, 1.0, (sourceNodeId, targetNodeId, weight) -> {
+                relaxedRelationships++;
                 var oldDist = distances.distance(targetNodeId);
                 var newDist = distances.distance(sourceNodeId) + weight;
 
@@ -313,6 +401,7 @@ public final class DeltaStepping extends Algorithm<DijkstraResult> {
                     var witness = distances.compareAndExchange(targetNodeId, oldDist, newDist, sourceNodeId);
 
                     if (Double.compare(witness, oldDist) == 0) {
+                        distanceUpdates++;
                         int destBin = (int) (newDist / delta);
 
                         if (destBin >= localBins.length) {
@@ -19,18 +19,20 @@
  */
 package org.neo4j.gds.paths.delta.config;
 
-import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.paths.AllShortestPathsBaseConfig;
 
+import java.util.Optional;
+
 @ValueClass
 @SuppressWarnings("immutables:subtype")
 public interface AllShortestPathsDeltaBaseConfig extends AllShortestPathsBaseConfig {
 
+    /**
+     * The bucket width. If not set, it is derived from the degrees
+     * and relationship weights of the graph.
+     */
     @Configuration.DoubleRange(min = 0, minInclusive = false)
-    @Value.Default
-    default double delta() {
-        return 2.0;
-    }
+    Optional<Double> delta();
 }
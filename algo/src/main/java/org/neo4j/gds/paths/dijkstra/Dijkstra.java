@@ -23,6 +23,7 @@ import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.DoubleArrayDeque;
 import com.carrotsearch.hppc.LongArrayDeque;
 import org.apache.commons.lang3.mutable.MutableInt;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -56,6 +57,9 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
     private TraversalState traversalState;
 
     private long sourceNode;
+    // answers a single source-target query instead of the traversal below (null for traversals)
+    private final @Nullable ShortestPathQueryEngine queryEngine;
+    private final long targetNode;
     // priority queue
     private final HugeLongPriorityQueue queue;
     // predecessor map
@@ -72,6 +76,8 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
     private long pathIndex;
     // returns true if the given relationship should be traversed
     private RelationshipFilter relationshipFilter = (sourceId, targetId, relationshipId) -> true;
+    // the traversal stops once all queued paths are more expensive
+    private double costBound = Double.MAX_VALUE;
 
     /**
      * Configure Dijkstra to compute at most one source-target shortest path.
@@ -95,6 +101,42 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
         );
     }
 
+    /**
+     * Configure Dijkstra to answer a single source-target query with a {@link ShortestPathQueryEngine}.
+     * Its search state only grows with the nodes the query touches, instead of the node count.
+     * Relationship ids, filters, cost bounds and source node changes are not supported.
+     */
+    public static Dijkstra sourceTargetQuery(
+        Graph graph,
+        ShortestPathBaseConfig config,
+        ProgressTracker progressTracker
+    ) {
+        return sourceTargetQuery(new ShortestPathQueryEngine(graph), graph, config, progressTracker);
+    }
+
+    /**
+     * Like {@link #sourceTargetQuery(Graph, ShortestPathBaseConfig, ProgressTracker)},
+     * but answers the query with an existing engine and its pooled search state.
+     * The engine must have been created for a graph with the same node id mapping as the given graph.
+     */
+    public static Dijkstra sourceTargetQuery(
+        ShortestPathQueryEngine queryEngine,
+        Graph graph,
+        ShortestPathBaseConfig config,
+        ProgressTracker progressTracker
+    ) {
+        if (config.trackRelationships()) {
+            throw new IllegalArgumentException("Source-target queries do not track relationship ids.");
+        }
+        return new Dijkstra(
+            graph,
+            queryEngine,
+            graph.toMappedNodeId(config.sourceNode()),
+            graph.toMappedNodeId(config.targetNode()),
+            progressTracker
+        );
+    }
+
     /**
      * Configure Dijkstra to compute all single-source shortest path.
      */
@@ -136,6 +178,8 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
         super(progressTracker);
         this.graph = graph;
         this.sourceNode = sourceNode;
+        this.queryEngine = null;
+        this.targetNode = -1L;
         this.traversalPredicate = traversalPredicate;
         this.traversalState = CONTINUE;
         this.trackRelationships = trackRelationships;
@@ -148,21 +192,56 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
         this.pathIndex = 0L;
     }
 
+    private Dijkstra(
+        Graph graph,
+        ShortestPathQueryEngine queryEngine,
+        long sourceNode,
+        long targetNode,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.queryEngine = queryEngine;
+        this.targetNode = targetNode;
+        this.traversalPredicate = node -> node == targetNode ? EMIT_AND_STOP : CONTINUE;
+        this.traversalState = CONTINUE;
+        this.trackRelationships = false;
+        this.queue = null;
+        this.predecessors = null;
+        this.relationships = null;
+        this.visited = null;
+        this.pathIndex = 0L;
+    }
+
     public Dijkstra withSourceNode(long sourceNode) {
+        assertTraversal();
         this.sourceNode = sourceNode;
         return this;
     }
 
     public Dijkstra withRelationshipFilter(RelationshipFilter relationshipFilter) {
+        assertTraversal();
         this.relationshipFilter = this.relationshipFilter.and(relationshipFilter);
         return this;
     }
 
+    /**
+     * Stops the traversal once every queued path costs more than the given bound.
+     * Paths to the target that cost at most the bound are found as before.
+     */
+    public Dijkstra withCostBound(double costBound) {
+        assertTraversal();
+        this.costBound = costBound;
+        return this;
+    }
+
     // Resets the traversal state of the algorithm.
     // The predecessor array is not cleared to allow
     // Yen's algorithm to backtrack to the original
     // source node.
     public void resetTraversalState() {
+        assertTraversal();
         traversalState = CONTINUE;
         queue.clear();
         visited.clear();
@@ -174,6 +253,12 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
     public DijkstraResult compute() {
         progressTracker.beginSubTask();
 
+        if (queryEngine != null) {
+            var path = queryEngine.query(sourceNode, targetNode, terminationFlag);
+            var paths = path == PathResult.EMPTY ? Stream.<PathResult>empty() : Stream.of(path);
+            return new DijkstraResult(paths, progressTracker::endSubTask);
+        }
+
         queue.add(sourceNode, 0.0);
 
         var pathResultBuilder = ImmutablePathResult.builder()
@@ -186,10 +271,22 @@ public final class Dijkstra extends Algorithm<DijkstraResult> {
         return new DijkstraResult(paths, progressTracker::endSubTask);
     }
 
+    private void assertTraversal() {
+        if (queryEngine != null) {
+            throw new UnsupportedOperationException("Source-target queries cannot be reconfigured.");
+        }
+    }
+
     private PathResult next(TraversalPredicate traversalPredicate, ImmutablePathResult.Builder pathResultBuilder) {
         var relationshipId = new MutableInt();
 
         while (!queue.isEmpty() && running() && traversalState != EMIT_AND_STOP) {
+            // with an admissible heuristic every queued node has a total cost
+            // of at least the top node's distance, so no cheaper path remains
+            if (queue.cost(queue.top()) > costBound) {
+                break;
+            }
+
             var node = queue.pop();
             var cost = queue.cost(node);
             visited.set(node);
@@ -21,7 +21,9 @@ package org.neo4j.gds.paths.dijkstra;
 
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -59,18 +61,57 @@ public abstract class DijkstraFactory<T extends AlgoBaseConfig & RelationshipWei
         return Tasks.leaf(taskName, graph.relationshipCount());
     }
 
-    public static class SourceTargetDijkstraFactory<T extends ShortestPathBaseConfig> extends DijkstraFactory<T> {
+    /**
+     * Builds source-target Dijkstra runs from the graph store, so that queries which do not
+     * track relationships share one {@link ShortestPathQueryEngine} per graph store and projection.
+     */
+    public static class SourceTargetDijkstraFactory<T extends ShortestPathBaseConfig> extends GraphStoreAlgorithmFactory<Dijkstra, T> {
+        @Override
+        public MemoryEstimation memoryEstimation(T configuration) {
+            return configuration.trackRelationships()
+                ? Dijkstra.memoryEstimation(true)
+                : ShortestPathQueryEngine.memoryEstimation();
+        }
+
+        @Override
+        public String taskName() {
+            return "Dijkstra";
+        }
+
+        @Override
+        public Task progressTask(GraphStore graphStore, T config) {
+            return dijkstraProgressTask(taskName(), graph(graphStore, config));
+        }
+
         @Override
         public Dijkstra build(
-            Graph graph,
+            GraphStore graphStore,
             T configuration,
             ProgressTracker progressTracker
         ) {
-            return Dijkstra.sourceTarget(
-                graph,
-                configuration,
-                Optional.empty(),
-                progressTracker
+            var graph = graph(graphStore, configuration);
+            if (configuration.trackRelationships()) {
+                return Dijkstra.sourceTarget(
+                    graph,
+                    configuration,
+                    Optional.empty(),
+                    progressTracker
+                );
+            }
+            var queryEngine = ShortestPathQueryEngines.get(
+                graphStore,
+                configuration.nodeLabelIdentifiers(graphStore),
+                configuration.internalRelationshipTypes(graphStore),
+                Optional.ofNullable(configuration.relationshipWeightProperty())
+            );
+            return Dijkstra.sourceTargetQuery(queryEngine, graph, configuration, progressTracker);
+        }
+
+        private static Graph graph(GraphStore graphStore, ShortestPathBaseConfig config) {
+            return graphStore.getGraph(
+                config.nodeLabelIdentifiers(graphStore),
+                config.internalRelationshipTypes(graphStore),
+                Optional.ofNullable(config.relationshipWeightProperty())
             );
         }
     }
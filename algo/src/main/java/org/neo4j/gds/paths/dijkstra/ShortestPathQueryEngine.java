@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.DoubleArrayDeque;
+import com.carrotsearch.hppc.LongArrayDeque;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Answers point-to-point shortest path queries on a single graph without
+ * allocating node count sized structures per query.
+ * <p>
+ * The search state only holds the nodes a query touched and is pooled across
+ * queries. A state that grew beyond {@link #MAX_RETAINED_STATE_SIZE} entries
+ * is dropped after its query, so a single far-reaching query does not pin its
+ * memory for the lifetime of the engine.
+ * <p>
+ * If relationships can be traversed backwards, i.e. the graph is undirected or
+ * has an inverse index, queries run a bidirectional Dijkstra which expands the
+ * cheaper of both frontiers and stops as soon as both frontiers together
+ * cannot improve the best path found so far. Otherwise, a unidirectional
+ * Dijkstra is used which stops once the target is settled.
+ * <p>
+ * Relationship ids are not tracked. The engine is thread-safe.
+ * Source-target {@link Dijkstra} runs that do not track relationships are answered by this engine.
+ */
+public final class ShortestPathQueryEngine {
+
+    static final int MAX_RETAINED_STATE_SIZE = 1 << 20;
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final Graph graph;
+    private final boolean bidirectional;
+    private final ConcurrentLinkedQueue<QueryState> pool;
+
+    public ShortestPathQueryEngine(Graph graph) {
+        this.graph = graph;
+        this.bidirectional = graph.hasInverseIndex();
+        this.pool = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Estimates the search state of a single query.
+     */
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ShortestPathQueryEngine.class)
+            .rangePerGraphDimension("search state", (dimensions, concurrency) -> {
+                // the best case only touches the source node, the worst case touches every node
+                // from both directions and queues a heap entry per relationship
+                var lowerBound = SparseSearchState.memoryEstimation(1, 1);
+                var upperBound = 2 * SparseSearchState.memoryEstimation(
+                    dimensions.nodeCount(),
+                    dimensions.relCountUpperBound()
+                );
+                return MemoryRange.of(lowerBound, Math.max(lowerBound, upperBound));
+            })
+            .build();
+    }
+
+    public boolean isBidirectional() {
+        return bidirectional;
+    }
+
+    /**
+     * @param sourceNode mapped id of the source node
+     * @param targetNode mapped id of the target node
+     * @return the cheapest path between both nodes or {@link PathResult#EMPTY} if the target is not reachable
+     */
+    public PathResult query(long sourceNode, long targetNode) {
+        return query(sourceNode, targetNode, TerminationFlag.RUNNING_TRUE);
+    }
+
+    /**
+     * Like {@link #query(long, long)}, but returns {@link PathResult#EMPTY} once the termination flag is raised.
+     */
+    public PathResult query(long sourceNode, long targetNode, TerminationFlag terminationFlag) {
+        var state = pool.poll();
+        if (state == null) {
+            state = new QueryState(graph.concurrentCopy());
+        }
+        try {
+            return bidirectional
+                ? state.bidirectional(sourceNode, targetNode, terminationFlag)
+                : state.unidirectional(sourceNode, targetNode, terminationFlag);
+        } finally {
+            if (state.footprint() <= MAX_RETAINED_STATE_SIZE) {
+                state.clear();
+                pool.offer(state);
+            }
+        }
+    }
+
+    private static final class QueryState {
+        private final Graph graph;
+        private final SparseSearchState forward;
+        private final SparseSearchState backward;
+
+        private double bestCost;
+        private long meetingNode;
+
+        QueryState(Graph graph) {
+            this.graph = graph;
+            this.forward = new SparseSearchState();
+            this.backward = new SparseSearchState();
+        }
+
+        PathResult unidirectional(long sourceNode, long targetNode, TerminationFlag terminationFlag) {
+            forward.start(sourceNode);
+
+            long node;
+            while (terminationFlag.running() && (node = forward.settle()) != -1L) {
+                if (node == targetNode) {
+                    return pathResult(sourceNode, targetNode, targetNode);
+                }
+                double cost = forward.cost(node);
+                graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                    forward.relax(target, source, cost + weight);
+                    return true;
+                });
+            }
+
+            return PathResult.EMPTY;
+        }
+
+        PathResult bidirectional(long sourceNode, long targetNode, TerminationFlag terminationFlag) {
+            if (sourceNode == targetNode) {
+                forward.start(sourceNode);
+                return pathResult(sourceNode, targetNode, sourceNode);
+            }
+
+            forward.start(sourceNode);
+            backward.start(targetNode);
+            bestCost = Double.MAX_VALUE;
+            meetingNode = -1L;
+
+            while (terminationFlag.running()) {
+                double forwardMin = forward.minCost();
+                double backwardMin = backward.minCost();
+                // every path not seen yet passes both frontiers
+                if (forwardMin == Double.MAX_VALUE || backwardMin == Double.MAX_VALUE || forwardMin + backwardMin >= bestCost) {
+                    break;
+                }
+                if (forwardMin <= backwardMin) {
+                    long node = forward.settle();
+                    double cost = forward.cost(node);
+                    graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                        relax(forward, backward, target, source, cost + weight);
+                        return true;
+                    });
+                } else {
+                    long node = backward.settle();
+                    double cost = backward.cost(node);
+                    graph.forEachInverseRelationship(node, 1.0D, (source, target, weight) -> {
+                        relax(backward, forward, target, source, cost + weight);
+                        return true;
+                    });
+                }
+            }
+
+            return meetingNode == -1L || !terminationFlag.running()
+                ? PathResult.EMPTY
+                : pathResult(sourceNode, targetNode, meetingNode);
+        }
+
+        private void relax(SparseSearchState self, SparseSearchState other, long node, long predecessor, double cost) {
+            if (self.relax(node, predecessor, cost)) {
+                double pathCost = cost + other.cost(node);
+                if (pathCost < bestCost) {
+                    bestCost = pathCost;
+                    meetingNode = node;
+                }
+            }
+        }
+
+        private PathResult pathResult(long sourceNode, long targetNode, long meetingNode) {
+            var nodeIds = new LongArrayDeque();
+            var costs = new DoubleArrayDeque();
+
+            long node = meetingNode;
+            while (node != -1L) {
+                nodeIds.addFirst(node);
+                costs.addFirst(forward.cost(node));
+                node = node == sourceNode ? -1L : forward.predecessor(node);
+            }
+
+            // the backward predecessors point towards the target
+            double totalCost = forward.cost(meetingNode) + (meetingNode == targetNode ? 0.0D : backward.cost(meetingNode));
+            node = meetingNode;
+            while (node != targetNode) {
+                node = backward.predecessor(node);
+                nodeIds.addLast(node);
+                costs.addLast(totalCost - backward.cost(node));
+            }
+
+            return ImmutablePathResult.builder()
+                .index(0)
+                .sourceNode(sourceNode)
+                .targetNode(targetNode)
+                .nodeIds(nodeIds.toArray())
+                .relationshipIds(EMPTY_ARRAY)
+                .costs(costs.toArray())
+                .build();
+        }
+
+        int footprint() {
+            return Math.max(forward.footprint(), backward.footprint());
+        }
+
+        void clear() {
+            forward.clear();
+            backward.clear();
+        }
+    }
+}
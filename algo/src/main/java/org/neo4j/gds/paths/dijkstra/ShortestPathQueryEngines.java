@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps one {@link ShortestPathQueryEngine} per graph store and projection,
+ * so that repeated source-target queries on a catalogued graph share the pooled search state.
+ * <p>
+ * Graph stores are referenced weakly, the engines are therefore released together with their graph store.
+ * An engine is replaced once its graph store was modified after the engine has been created.
+ */
+public final class ShortestPathQueryEngines {
+
+    private static final Map<GraphStore, Map<Projection, CachedEngine>> ENGINES = new WeakHashMap<>();
+
+    private ShortestPathQueryEngines() {}
+
+    public static ShortestPathQueryEngine get(
+        GraphStore graphStore,
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> relationshipWeightProperty
+    ) {
+        var projection = new Projection(nodeLabels, relationshipTypes, relationshipWeightProperty);
+        var modificationTime = graphStore.modificationTime();
+
+        synchronized (ENGINES) {
+            var engines = ENGINES.computeIfAbsent(graphStore, ignore -> new HashMap<>());
+            var cached = engines.get(projection);
+            if (cached == null || !cached.modificationTime.equals(modificationTime)) {
+                var graph = graphStore.getGraph(nodeLabels, relationshipTypes, relationshipWeightProperty);
+                cached = new CachedEngine(new ShortestPathQueryEngine(graph), modificationTime);
+                engines.put(projection, cached);
+            }
+            return cached.engine;
+        }
+    }
+
+    static int cachedEngineCount(GraphStore graphStore) {
+        synchronized (ENGINES) {
+            return ENGINES.getOrDefault(graphStore, Map.of()).size();
+        }
+    }
+
+    private static final class CachedEngine {
+        private final ShortestPathQueryEngine engine;
+        private final ZonedDateTime modificationTime;
+
+        private CachedEngine(ShortestPathQueryEngine engine, ZonedDateTime modificationTime) {
+            this.engine = engine;
+            this.modificationTime = modificationTime;
+        }
+    }
+
+    private static final class Projection {
+        private final Set<NodeLabel> nodeLabels;
+        private final Set<RelationshipType> relationshipTypes;
+        private final Optional<String> relationshipWeightProperty;
+
+        private Projection(
+            Collection<NodeLabel> nodeLabels,
+            Collection<RelationshipType> relationshipTypes,
+            Optional<String> relationshipWeightProperty
+        ) {
+            this.nodeLabels = Set.copyOf(nodeLabels);
+            this.relationshipTypes = Set.copyOf(relationshipTypes);
+            this.relationshipWeightProperty = relationshipWeightProperty;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            var that = (Projection) o;
+            return nodeLabels.equals(that.nodeLabels)
+                   && relationshipTypes.equals(that.relationshipTypes)
+                   && relationshipWeightProperty.equals(that.relationshipWeightProperty);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(nodeLabels, relationshipTypes, relationshipWeightProperty);
+        }
+    }
+}
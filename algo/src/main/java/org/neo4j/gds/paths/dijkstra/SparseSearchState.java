@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+/**
+ * Search state of a single Dijkstra direction that only holds the nodes
+ * a query actually touched. The priority queue is a binary heap with lazy
+ * deletion: improving the cost of a queued node adds a second entry and
+ * outdated entries are dropped once they reach the top of the heap.
+ */
+final class SparseSearchState {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final LongDoubleHashMap costs;
+    private final LongLongHashMap predecessors;
+    private final LongHashSet settled;
+
+    private long[] heapNodes;
+    private double[] heapCosts;
+    private int heapSize;
+
+    SparseSearchState() {
+        this.costs = new LongDoubleHashMap();
+        this.predecessors = new LongLongHashMap();
+        this.settled = new LongHashSet();
+        this.heapNodes = new long[INITIAL_CAPACITY];
+        this.heapCosts = new double[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @param nodes       number of nodes touched by a query
+     * @param heapEntries number of heap entries, at most one per relaxed relationship
+     */
+    static long memoryEstimation(long nodes, long heapEntries) {
+        return MemoryUsage.sizeOfInstance(SparseSearchState.class)
+               // costs and predecessors have the same layout
+               + 2 * MemoryUsage.sizeOfLongDoubleHashMap(nodes)
+               + MemoryUsage.sizeOfInstance(LongHashSet.class)
+               + MemoryUsage.sizeOfLongArray(MemoryUsage.sizeOfOpenHashContainer(nodes))
+               + MemoryUsage.sizeOfLongArray(Math.max(heapEntries, INITIAL_CAPACITY))
+               + MemoryUsage.sizeOfDoubleArray(Math.max(heapEntries, INITIAL_CAPACITY));
+    }
+
+    void start(long node) {
+        costs.put(node, 0.0D);
+        push(node, 0.0D);
+    }
+
+    double cost(long node) {
+        return costs.getOrDefault(node, Double.MAX_VALUE);
+    }
+
+    boolean isSettled(long node) {
+        return settled.contains(node);
+    }
+
+    long predecessor(long node) {
+        return predecessors.getOrDefault(node, -1L);
+    }
+
+    /**
+     * Records {@code cost} as the new cost of {@code node} if it is cheaper than the known one.
+     *
+     * @return true, iff the cost of {@code node} has been improved
+     */
+    boolean relax(long node, long predecessor, double cost) {
+        if (settled.contains(node) || cost >= cost(node)) {
+            return false;
+        }
+        costs.put(node, cost);
+        predecessors.put(node, predecessor);
+        push(node, cost);
+        return true;
+    }
+
+    /**
+     * @return the cost of the cheapest unsettled node or {@link Double#MAX_VALUE} if there is none
+     */
+    double minCost() {
+        dropSettled();
+        return heapSize == 0 ? Double.MAX_VALUE : heapCosts[0];
+    }
+
+    /**
+     * Removes the cheapest unsettled node from the queue and marks it as settled.
+     *
+     * @return the settled node or -1 if there is no unsettled node left
+     */
+    long settle() {
+        dropSettled();
+        if (heapSize == 0) {
+            return -1L;
+        }
+        long node = heapNodes[0];
+        pop();
+        settled.add(node);
+        return node;
+    }
+
+    /**
+     * @return the number of entries the largest structure of this state has grown to
+     */
+    int footprint() {
+        return Math.max(costs.size(), heapNodes.length);
+    }
+
+    void clear() {
+        costs.clear();
+        predecessors.clear();
+        settled.clear();
+        heapSize = 0;
+    }
+
+    private void dropSettled() {
+        // the cheapest entry of an unsettled node always carries its current cost,
+        // so only entries of already settled nodes need to be skipped
+        while (heapSize > 0 && settled.contains(heapNodes[0])) {
+            pop();
+        }
+    }
+
+    private void push(long node, double cost) {
+        if (heapSize == heapNodes.length) {
+            heapNodes = Arrays.copyOf(heapNodes, heapSize << 1);
+            heapCosts = Arrays.copyOf(heapCosts, heapSize << 1);
+        }
+        int index = heapSize++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heapCosts[parent] <= cost) {
+                break;
+            }
+            heapNodes[index] = heapNodes[parent];
+            heapCosts[index] = heapCosts[parent];
+            index = parent;
+        }
+        heapNodes[index] = node;
+        heapCosts[index] = cost;
+    }
+
+    private void pop() {
+        int size = --heapSize;
+        if (size == 0) {
+            return;
+        }
+        long node = heapNodes[size];
+        double cost = heapCosts[size];
+        int index = 0;
+        int child;
+        while ((child = (index << 1) + 1) < size) {
+            if (child + 1 < size && heapCosts[child + 1] < heapCosts[child]) {
+                child++;
+            }
+            if (cost <= heapCosts[child]) {
+                break;
+            }
+            heapNodes[index] = heapNodes[child];
+            heapCosts[index] = heapCosts[child];
+            index = child;
+        }
+        heapNodes[index] = node;
+        heapCosts[index] = cost;
+    }
+}
@@ -56,6 +56,12 @@ import java.util.concurrent.atomic.AtomicLong;
  * to create the next bucket, such that a correct BFS ordering is returned where all
  * descendants from the nodes of a chunk, appear together before those from a later
  * chunk.
+ *
+ * If the incoming relationships of the graph are available, levels whose
+ * frontier has more outgoing relationships than the unvisited nodes have
+ * incoming relationships are expanded bottom-up instead, see {@link BFSBottomUpStep}.
+ * This is typically the case for the few large levels in the middle of a
+ * traversal of a small-world graph.
  */
 public final class BFS extends Algorithm<HugeLongArray> {
 
@@ -194,11 +200,56 @@ public final class BFS extends Algorithm<HugeLongArray> {
             delta
         );
         int bfsTaskListSize = bfsTaskList.size();
+
+        var directionOptimizing = graph.hasInverseIndex();
+        var bottomUpStep = new BFSBottomUpStep(
+            graph,
+            traversedNodes,
+            traversedNodesLength,
+            visited,
+            weights,
+            targetFoundIndex,
+            minimumChunk,
+            exitPredicate,
+            aggregatorFunction,
+            sourceNodeId,
+            concurrency,
+            terminationFlag,
+            progressTracker
+        );
+        // The number of incoming relationships of all unvisited nodes,
+        // which is the amount of work for expanding a level bottom-up.
+        long unexploredRelationships = graph.relationshipCount();
+
         long currentDepth = 0;
         while (running()) {
             if (currentDepth == maximumDepth) {
                 break;
             }
+
+            var previousTraversedNodesLength = traversedNodesLength.get();
+
+            if (directionOptimizing) {
+                long frontierRelationships = 0;
+                for (long idx = traversedNodesIndex.get(); idx < previousTraversedNodesLength; idx++) {
+                    var nodeId = traversedNodes.get(idx);
+                    frontierRelationships += graph.degree(nodeId);
+                    unexploredRelationships -= graph.inverseDegree(nodeId);
+                }
+
+                if (frontierRelationships > unexploredRelationships) {
+                    bottomUpStep.run(traversedNodesIndex.get(), previousTraversedNodesLength);
+
+                    if (targetFoundIndex.get() != Long.MAX_VALUE || traversedNodesLength.get() == previousTraversedNodesLength) {
+                        break;
+                    }
+
+                    traversedNodesIndex.set(previousTraversedNodesLength);
+                    currentDepth++;
+                    continue;
+                }
+            }
+
             ParallelUtil.run(bfsTaskList, Pools.DEFAULT);
 
             if (targetFoundIndex.get() != Long.MAX_VALUE) {
@@ -206,7 +257,6 @@ public final class BFS extends Algorithm<HugeLongArray> {
             }
 
             // Synchronize the results sequentially
-            var previousTraversedNodesLength = traversedNodesLength.get();
             int numberOfFinishedTasks = 0;
             int numberOfTasksWithChunks = countTasksWithChunks(bfsTaskList);
             while (numberOfFinishedTasks != numberOfTasksWithChunks && running()) {
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.traverse;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Expands a single BFS level bottom-up: instead of following the relationships
+ * of the frontier, every unvisited node checks its incoming relationships for
+ * a parent in the frontier.
+ *
+ * The step produces the same next level as {@link BFSTask}, with one exception:
+ * nodes that share the same parent are ordered by their node id instead of the
+ * order of the parent's relationships. Both orders are equal if the adjacency
+ * lists are sorted, which is the case for a single relationship type.
+ *
+ * The step reuses `minimumChunk` of {@link BFS} to find parents. Before the
+ * unvisited nodes are scanned, every frontier node that is followed stores its
+ * own position. Since positions only grow, a visited node is part of the
+ * frontier iff its stored position lies within the current level.
+ */
+final class BFSBottomUpStep {
+
+    // shared variables; see comments in `BFS`.
+    private final Graph graph;
+    private final HugeLongArray traversedNodes;
+    private final AtomicLong traversedNodesLength;
+    private final HugeAtomicBitSet visited;
+    private final HugeDoubleArray weights;
+    private final AtomicLong targetFoundIndex;
+    private final HugeAtomicLongArray minimumChunk;
+    private final ExitPredicate exitPredicate;
+    private final Aggregator aggregatorFunction;
+    private final long sourceNodeId;
+    private final int concurrency;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+
+    BFSBottomUpStep(
+        Graph graph,
+        HugeLongArray traversedNodes,
+        AtomicLong traversedNodesLength,
+        HugeAtomicBitSet visited,
+        HugeDoubleArray weights,
+        AtomicLong targetFoundIndex,
+        HugeAtomicLongArray minimumChunk,
+        ExitPredicate exitPredicate,
+        Aggregator aggregatorFunction,
+        long sourceNodeId,
+        int concurrency,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.traversedNodes = traversedNodes;
+        this.traversedNodesLength = traversedNodesLength;
+        this.visited = visited;
+        this.weights = weights;
+        this.targetFoundIndex = targetFoundIndex;
+        this.minimumChunk = minimumChunk;
+        this.exitPredicate = exitPredicate;
+        this.aggregatorFunction = aggregatorFunction;
+        this.sourceNodeId = sourceNodeId;
+        this.concurrency = concurrency;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+    }
+
+    /**
+     * Processes the level `[levelStart, levelEnd)` of `traversedNodes` and appends the next level.
+     */
+    void run(long levelStart, long levelEnd) {
+        var frontierTasks = PartitionUtils.rangePartition(
+            concurrency,
+            levelEnd - levelStart,
+            partition -> (Runnable) () -> relaxFrontier(levelStart + partition.startNode(), partition.nodeCount()),
+            Optional.empty()
+        );
+        ParallelUtil.run(frontierTasks, Pools.DEFAULT);
+
+        if (targetFoundIndex.get() != Long.MAX_VALUE || !terminationFlag.running()) {
+            return;
+        }
+
+        var discoverTasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> new DiscoverTask(partition, levelStart, levelEnd),
+            Optional.empty()
+        );
+        ParallelUtil.run(discoverTasks, Pools.DEFAULT);
+
+        appendNextLevel(discoverTasks, levelStart, levelEnd);
+    }
+
+    private void relaxFrontier(long offset, long length) {
+        for (long idx = offset; idx < offset + length; idx++) {
+            var nodeId = traversedNodes.get(idx);
+            long sourceId = sourceNodeId;
+            double weight = 0;
+            if (nodeId != sourceNodeId) {
+                long minimumChunkIndex = minimumChunk.get(nodeId);
+                sourceId = traversedNodes.get(minimumChunkIndex);
+                weight = aggregatorFunction.apply(sourceId, nodeId, weights.get(minimumChunkIndex));
+                weights.set(idx, weight);
+            }
+
+            var exitPredicateResult = exitPredicate.test(sourceId, nodeId, weight);
+            if (exitPredicateResult == ExitPredicate.Result.BREAK) {
+                targetFoundIndex.getAndAccumulate(idx, Math::min);
+            } else if (exitPredicateResult == ExitPredicate.Result.FOLLOW) {
+                // the parent of this node is no longer needed, mark it as part of the frontier
+                minimumChunk.set(nodeId, idx);
+            }
+        }
+        progressTracker.logProgress(length);
+    }
+
+    // Orders the discovered nodes by the position of their parent with a counting sort.
+    // The tasks discovered their nodes in ascending order, which makes the sort stable.
+    private void appendNextLevel(List<DiscoverTask> discoverTasks, long levelStart, long levelEnd) {
+        var offsets = HugeLongArray.newArray(levelEnd - levelStart + 1);
+        long discoveredNodes = 0;
+        for (var task : discoverTasks) {
+            for (int i = 0; i < task.discovered.size(); i++) {
+                offsets.addTo(minimumChunk.get(task.discovered.get(i)) - levelStart + 1, 1);
+            }
+            discoveredNodes += task.discovered.size();
+        }
+        for (long i = 1; i < offsets.size(); i++) {
+            offsets.addTo(i, offsets.get(i - 1));
+        }
+
+        for (var task : discoverTasks) {
+            for (int i = 0; i < task.discovered.size(); i++) {
+                var nodeId = task.discovered.get(i);
+                var bucket = minimumChunk.get(nodeId) - levelStart;
+                var position = offsets.get(bucket);
+                offsets.set(bucket, position + 1);
+                traversedNodes.set(levelEnd + position, nodeId);
+                visited.set(nodeId);
+            }
+        }
+
+        traversedNodesLength.set(levelEnd + discoveredNodes);
+    }
+
+    private final class DiscoverTask implements Runnable, RelationshipConsumer {
+
+        private final Partition partition;
+        private final long levelStart;
+        private final long levelEnd;
+        private final Graph localGraph;
+        private final LongArrayList discovered;
+
+        private long parentIndex;
+
+        DiscoverTask(Partition partition, long levelStart, long levelEnd) {
+            this.partition = partition;
+            this.levelStart = levelStart;
+            this.levelEnd = levelEnd;
+            this.localGraph = graph.concurrentCopy();
+            this.discovered = new LongArrayList();
+        }
+
+        @Override
+        public void run() {
+            var endNode = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < endNode && terminationFlag.running(); nodeId++) {
+                if (visited.get(nodeId)) {
+                    continue;
+                }
+                parentIndex = Long.MAX_VALUE;
+                localGraph.forEachInverseRelationship(nodeId, this);
+                if (parentIndex != Long.MAX_VALUE) {
+                    minimumChunk.set(nodeId, parentIndex);
+                    discovered.add(nodeId);
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long nodeId, long parentNodeId) {
+            // unvisited nodes may already store a position of the current level, those are not parents
+            if (visited.get(parentNodeId)) {
+                var position = minimumChunk.get(parentNodeId);
+                if (position >= levelStart && position < levelEnd && position < parentIndex) {
+                    parentIndex = position;
+                }
+            }
+            return true;
+        }
+    }
+}
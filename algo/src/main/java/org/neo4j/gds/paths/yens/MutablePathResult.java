@@ -94,6 +94,14 @@ final class MutablePathResult {
         return relationshipIds[index];
     }
 
+    long[] nodeIds() {
+        return nodeIds;
+    }
+
+    long[] relationshipIds() {
+        return relationshipIds;
+    }
+
     double totalCost() {
         return costs[costs.length - 1];
     }
@@ -20,11 +20,11 @@
 package org.neo4j.gds.paths.yens;
 
 import com.carrotsearch.hppc.LongHashSet;
-import com.carrotsearch.hppc.LongObjectScatterMap;
 import com.carrotsearch.hppc.LongScatterSet;
-import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -36,30 +36,54 @@ import org.neo4j.gds.paths.yens.config.ImmutableShortestPathYensBaseConfig;
 import org.neo4j.gds.paths.yens.config.ShortestPathYensBaseConfig;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
-import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class Yens extends Algorithm<DijkstraResult> {
 
-    private static final LongHashSet EMPTY_SET = new LongHashSet(0);
+    // Orders candidates by cost and length. Remaining ties are broken
+    // by node and relationship ids to make the result deterministic.
+    private static final Comparator<MutablePathResult> CANDIDATE_ORDER = Comparator
+        .comparingDouble(MutablePathResult::totalCost)
+        .thenComparingInt(MutablePathResult::nodeCount)
+        .thenComparing((a, b) -> Arrays.compare(a.nodeIds(), b.nodeIds()))
+        .thenComparing((a, b) -> Arrays.compare(a.relationshipIds(), b.relationshipIds()));
 
     private final Graph graph;
     private final ShortestPathYensBaseConfig config;
-    private final Dijkstra dijkstra;
+    private final ExecutorService executorService;
+    // One search per thread, the first one also computes the initial shortest path.
+    private final List<SpurSearch> spurSearches;
 
-    private final LongScatterSet nodeBlackList;
-    private final LongObjectScatterMap<LongHashSet> relationshipBlackList;
+    /**
+     * Configure Yens to compute at most one source-target shortest path.
+     */
+    public static Yens sourceTarget(
+        Graph graph,
+        ShortestPathYensBaseConfig config,
+        ProgressTracker progressTracker
+    ) {
+        return sourceTarget(graph, config, Pools.DEFAULT, progressTracker);
+    }
 
     /**
      * Configure Yens to compute at most one source-target shortest path.
+     * The spur paths of each iteration are computed by up to {@code concurrency} threads.
      */
     public static Yens sourceTarget(
         Graph graph,
         ShortestPathYensBaseConfig config,
+        ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
         // If the input graph is a multi-graph, we need to track
@@ -70,9 +94,23 @@ public final class Yens extends Algorithm<DijkstraResult> {
             .from(config)
             .trackRelationships(graph.isMultiGraph())
             .build();
-        // Init dijkstra algorithm for computing shortest paths
-        var dijkstra = Dijkstra.sourceTarget(graph, newConfig, Optional.empty(), progressTracker);
-        return new Yens(graph, dijkstra, newConfig, progressTracker);
+
+        // Parallel spur searches cannot share the task progress,
+        // hence only a sequential search reports Dijkstra progress.
+        int concurrency = Math.max(1, newConfig.concurrency());
+        var dijkstraProgressTracker = concurrency == 1 ? progressTracker : ProgressTracker.NULL_TRACKER;
+        var spurSearches = new ArrayList<SpurSearch>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            // Init dijkstra algorithm for computing shortest paths
+            var dijkstra = Dijkstra.sourceTarget(
+                i == 0 ? graph : graph.concurrentCopy(),
+                newConfig,
+                Optional.empty(),
+                dijkstraProgressTracker
+            );
+            spurSearches.add(new SpurSearch(dijkstra));
+        }
+        return new Yens(graph, newConfig, executorService, spurSearches, progressTracker);
     }
 
     // The blacklists contain nodes and relationships that are
@@ -83,26 +121,24 @@ public final class Yens extends Algorithm<DijkstraResult> {
 
     public static MemoryEstimation memoryEstimation() {
         return MemoryEstimations.builder(Yens.class)
-            .add("Dijkstra", Dijkstra.memoryEstimation(false))
-            .fixed("nodeBlackList", MemoryUsage.sizeOfLongArray(AVERAGE_BLACKLIST_SIZE))
-            .fixed("relationshipBlackList", MemoryUsage.sizeOfLongArray(AVERAGE_BLACKLIST_SIZE * 2))
+            .perThread("Dijkstra", Dijkstra.memoryEstimation(false))
+            .perThread("nodeBlackList", MemoryUsage.sizeOfLongArray(AVERAGE_BLACKLIST_SIZE))
+            .perThread("relationshipBlackList", MemoryUsage.sizeOfLongArray(AVERAGE_BLACKLIST_SIZE * 2))
             .build();
     }
 
-    private Yens(Graph graph, Dijkstra dijkstra, ShortestPathYensBaseConfig config, ProgressTracker progressTracker) {
+    private Yens(
+        Graph graph,
+        ShortestPathYensBaseConfig config,
+        ExecutorService executorService,
+        List<SpurSearch> spurSearches,
+        ProgressTracker progressTracker
+    ) {
         super(progressTracker);
         this.graph = graph;
         this.config = config;
-        // Track nodes and relationships that are skipped in a single iteration.
-        // The content of these data structures is reset after each of k iterations.
-        this.nodeBlackList = new LongScatterSet();
-        this.relationshipBlackList = new LongObjectScatterMap<>();
-        // set filter in Dijkstra to respect our blacklists
-        this.dijkstra = dijkstra;
-        dijkstra.withRelationshipFilter((source, target, relationshipId) ->
-            !nodeBlackList.contains(target) &&
-            !(relationshipBlackList.getOrDefault(source, EMPTY_SET).contains(relationshipId))
-        );
+        this.executorService = executorService;
+        this.spurSearches = spurSearches;
     }
 
     @Override
@@ -112,7 +148,7 @@ public final class Yens extends Algorithm<DijkstraResult> {
         // compute top 1 shortest path
         progressTracker.beginSubTask();
         progressTracker.beginSubTask();
-        var shortestPath = computeDijkstra(config.sourceNode());
+        var shortestPath = computeDijkstra(spurSearches.get(0).dijkstra, config.sourceNode());
 
         // no shortest path has been found
         if (shortestPath.isEmpty()) {
@@ -125,66 +161,48 @@ public final class Yens extends Algorithm<DijkstraResult> {
 
         kShortestPaths.add(MutablePathResult.of(shortestPath.get()));
 
-        PriorityQueue<MutablePathResult> candidates = initCandidatesQueue();
+        var candidates = new Candidates(config.k() - 1);
 
         for (int i = 1; i < config.k(); i++) {
             progressTracker.beginSubTask();
             var prevPath = kShortestPaths.get(i - 1);
 
-            for (int n = 0; n < prevPath.nodeCount() - 1; n++) {
-                var spurNode = prevPath.node(n);
-                var rootPath = prevPath.subPath(n + 1);
-
-                for (var path : kShortestPaths) {
-                    // Filter relationships that are part of the previous
-                    // shortest paths which share the same root path.
-                    if (rootPath.matches(path, n + 1)) {
-                        var relationshipId = path.relationship(n);
-
-                        var neighbors = relationshipBlackList.get(spurNode);
-
-                        if (neighbors == null) {
-                            neighbors = new LongHashSet();
-                            relationshipBlackList.put(spurNode, neighbors);
+            var nextSpurIndex = new AtomicInteger();
+            int taskCount = Math.min(spurSearches.size(), prevPath.nodeCount() - 1);
+            var tasks = new ArrayList<Runnable>(taskCount);
+            for (int t = 0; t < taskCount; t++) {
+                var spurSearch = spurSearches.get(t);
+                tasks.add(() -> {
+                    int n;
+                    while ((n = nextSpurIndex.getAndIncrement()) < prevPath.nodeCount() - 1 && running()) {
+                        var rootPath = prevPath.subPath(n + 1);
+                        double costBound = candidates.costBound();
+                        // Spur paths have non-negative costs, so no candidate
+                        // with this root path can improve the bound.
+                        if (rootPath.totalCost() > costBound) {
+                            continue;
                         }
-                        neighbors.add(relationshipId);
+                        spurSearch
+                            .spurPath(kShortestPaths, rootPath, n, costBound - rootPath.totalCost())
+                            .ifPresent(spurPath -> {
+                                // Entire path is made up of the root path and spur path.
+                                rootPath.append(spurPath);
+                                // Add the potential k-shortest path to the heap.
+                                candidates.offer(rootPath);
+                            });
                     }
-                }
-
-                // Filter nodes from root path to avoid cyclic path searches.
-                for (int j = 0; j < n; j++) {
-                    nodeBlackList.add(rootPath.node(j));
-                }
-
-                // Calculate the spur path from the spur node to the sink.
-                dijkstra.resetTraversalState();
-                dijkstra.withSourceNode(spurNode);
-                var spurPath = computeDijkstra(graph.toOriginalNodeId(spurNode));
-
-                // Clear filters for next spur node
-                nodeBlackList.clear();
-                relationshipBlackList.clear();
-
-                // No new candidate from this spur node, continue with next node.
-                if (spurPath.isEmpty()) {
-                    continue;
-                }
-
-                // Entire path is made up of the root path and spur path.
-                rootPath.append(MutablePathResult.of(spurPath.get()));
-                // Add the potential k-shortest path to the heap.
-                if (!candidates.contains(rootPath)) {
-                    candidates.add(rootPath);
-                }
+                });
             }
+            ParallelUtil.run(tasks, executorService);
 
             progressTracker.endSubTask();
 
-            if (candidates.isEmpty()) {
+            var nextPath = candidates.poll();
+            if (nextPath == null) {
                 break;
             }
 
-            kShortestPaths.add(candidates.poll().withIndex(i));
+            kShortestPaths.add(nextPath.withIndex(i));
         }
         progressTracker.endSubTask();
 
@@ -193,23 +211,120 @@ public final class Yens extends Algorithm<DijkstraResult> {
         return new DijkstraResult(kShortestPaths.stream().map(MutablePathResult::toPathResult));
     }
 
-    @NotNull
-    private PriorityQueue<MutablePathResult> initCandidatesQueue() {
-        return new PriorityQueue<>(Comparator
-            .comparingDouble(MutablePathResult::totalCost)
-            .thenComparingInt(MutablePathResult::nodeCount));
-    }
-
     @Override
     public void release() {
-        dijkstra.release();
-        nodeBlackList.release();
-        relationshipBlackList.release();
+        for (var spurSearch : spurSearches) {
+            spurSearch.release();
+        }
     }
 
-    private Optional<PathResult> computeDijkstra(long sourceNode) {
+    private Optional<PathResult> computeDijkstra(Dijkstra dijkstra, long sourceNode) {
         progressTracker.logMessage(formatWithLocale("Dijkstra for spur node %d", sourceNode));
         return dijkstra.compute().findFirst();
     }
 
+    /**
+     * Computes spur paths with its own Dijkstra instance. The blacklists are
+     * reset and refilled for every spur node, the filter reading them is only
+     * installed once.
+     */
+    private final class SpurSearch {
+        private final Dijkstra dijkstra;
+        // Nodes of the root path, to avoid cyclic path searches.
+        private final LongScatterSet nodeBlackList;
+        // Relationships of the spur node that are part of previous shortest
+        // paths sharing the same root path.
+        private final LongHashSet relationshipBlackList;
+        private long spurNode;
+
+        SpurSearch(Dijkstra dijkstra) {
+            this.dijkstra = dijkstra;
+            this.nodeBlackList = new LongScatterSet();
+            this.relationshipBlackList = new LongHashSet();
+            // set filter in Dijkstra to respect our blacklists
+            dijkstra.withRelationshipFilter((source, target, relationshipId) ->
+                !nodeBlackList.contains(target) &&
+                !(source == spurNode && relationshipBlackList.contains(relationshipId))
+            );
+        }
+
+        Optional<MutablePathResult> spurPath(
+            List<MutablePathResult> kShortestPaths,
+            MutablePathResult rootPath,
+            int n,
+            double costBound
+        ) {
+            spurNode = rootPath.node(n);
+
+            for (var path : kShortestPaths) {
+                // Filter relationships that are part of the previous
+                // shortest paths which share the same root path.
+                if (rootPath.matches(path, n + 1)) {
+                    relationshipBlackList.add(path.relationship(n));
+                }
+            }
+
+            // Filter nodes from root path to avoid cyclic path searches.
+            for (int j = 0; j < n; j++) {
+                nodeBlackList.add(rootPath.node(j));
+            }
+
+            // Calculate the spur path from the spur node to the sink.
+            dijkstra.resetTraversalState();
+            dijkstra.withSourceNode(spurNode);
+            dijkstra.withCostBound(costBound);
+            var spurPath = spurSearches.size() == 1
+                ? computeDijkstra(dijkstra, graph.toOriginalNodeId(spurNode))
+                : dijkstra.compute().findFirst();
+
+            // Clear filters for next spur node
+            nodeBlackList.clear();
+            relationshipBlackList.clear();
+
+            return spurPath.map(MutablePathResult::of);
+        }
+
+        void release() {
+            dijkstra.release();
+            nodeBlackList.release();
+            relationshipBlackList.release();
+        }
+    }
+
+    /**
+     * The candidate paths of all iterations. Only as many candidates as there
+     * are paths left to find are kept, every other candidate can never be
+     * selected. Once that many candidates are known, the most expensive one
+     * bounds the cost of any further candidate.
+     */
+    private static final class Candidates {
+        private final TreeSet<MutablePathResult> paths;
+        private final Set<MutablePathResult> seen;
+        private int remaining;
+
+        Candidates(int remaining) {
+            this.paths = new TreeSet<>(CANDIDATE_ORDER);
+            this.seen = new HashSet<>();
+            this.remaining = remaining;
+        }
+
+        synchronized double costBound() {
+            return paths.size() < remaining ? Double.MAX_VALUE : paths.last().totalCost();
+        }
+
+        synchronized void offer(MutablePathResult path) {
+            if (!seen.add(path)) {
+                return;
+            }
+            paths.add(path);
+            if (paths.size() > remaining) {
+                paths.pollLast();
+            }
+        }
+
+        synchronized MutablePathResult poll() {
+            remaining--;
+            return paths.pollFirst();
+        }
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveSamplingTest {
+
+    @Test
+    void sampleBound() {
+        // floor(log2(10 - 2)) + 1 = 4, ln(1 / 0.05) = 2.9957
+        assertEquals(350, AdaptiveSampling.sampleBound(0.1, 0.05, 10));
+        assertThat(AdaptiveSampling.sampleBound(0.1, 0.05, 1_000))
+            .isGreaterThan(AdaptiveSampling.sampleBound(0.1, 0.05, 10));
+        assertThat(AdaptiveSampling.sampleBound(0.01, 0.05, 10))
+            .isGreaterThan(AdaptiveSampling.sampleBound(0.1, 0.05, 10));
+    }
+
+    @Test
+    void shouldConvergeOnlyAfterEnoughSamples() {
+        double nodeFailureProbability = 0.05 / (4 * 100);
+        assertTrue(AdaptiveSampling.hasConverged(0, 350, 350, 0.1, nodeFailureProbability));
+        assertFalse(AdaptiveSampling.hasConverged(0, 35, 350, 0.1, nodeFailureProbability));
+        assertFalse(AdaptiveSampling.hasConverged(175, 350, 350, 0.1, nodeFailureProbability));
+    }
+
+    @Test
+    void shouldValidateBounds() {
+        assertThatThrownBy(() -> new AdaptiveSampling(0, 0.1, Optional.empty()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("error bound");
+        assertThatThrownBy(() -> new AdaptiveSampling(0.1, 1, Optional.empty()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("failure probability");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Orientation.class, names = {"NATURAL", "UNDIRECTED"})
+    void shouldApproximateExactScoresWithinErrorBound(Orientation orientation) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(500)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(orientation)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var exact = new BetweennessCentrality(
+            graph,
+            SelectionStrategy.ALL,
+            Pools.DEFAULT,
+            4,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        double errorBound = 0.05;
+        var approximate = new BetweennessCentrality(
+            graph,
+            new AdaptiveSampling(errorBound, 0.1, Optional.of(42L)),
+            Pools.DEFAULT,
+            4,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        long nodeCount = graph.nodeCount();
+        double normalization = (graph.isUndirected() ? 2.0 : 1.0) / (nodeCount * (nodeCount - 1.0));
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(Math.abs(exact.get(nodeId) - approximate.get(nodeId)) * normalization)
+                .isLessThanOrEqualTo(errorBound);
+        }
+    }
+}
@@ -23,6 +23,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
@@ -142,6 +144,66 @@ class BetweennessCentralityTest {
         );
     }
 
+    static Stream<Arguments> batchedArguments() {
+        return crossArguments(() -> Stream.of(2, 64).map(Arguments::of), BetweennessCentralityTest::testArguments);
+    }
+
+    @ParameterizedTest(name = "sourceBatchSize={0}, graph={2}, concurrency={1}, samplingSize={3}")
+    @MethodSource("org.neo4j.gds.betweenness.BetweennessCentralityTest#batchedArguments")
+    void batchedSampling(
+        int sourceBatchSize,
+        int concurrency,
+        TestGraph graph,
+        int samplingSize,
+        Map<String, Double> expectedResult
+    ) {
+        var actualResult = new BetweennessCentrality(
+            graph,
+            new SelectionStrategy.RandomDegree(samplingSize, Optional.of(42L)),
+            Pools.DEFAULT,
+            concurrency,
+            sourceBatchSize,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertEquals(expectedResult.size(), actualResult.size());
+        expectedResult.forEach((variable, expectedCentrality) ->
+            assertEquals(expectedCentrality, actualResult.get(graph.toMappedNodeId(variable)), 1e-9, variable)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 64})
+    void batchedShouldMatchSingleSource(int sourceBatchSize) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var expected = new BetweennessCentrality(
+            graph,
+            SelectionStrategy.ALL,
+            Pools.DEFAULT,
+            4,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+        var actual = new BetweennessCentrality(
+            graph,
+            SelectionStrategy.ALL,
+            Pools.DEFAULT,
+            4,
+            sourceBatchSize,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertEquals(expected.get(nodeId), actual.get(nodeId), 1e-6 * Math.max(1.0, expected.get(nodeId)));
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 4})
     void noSampling(int concurrency) {
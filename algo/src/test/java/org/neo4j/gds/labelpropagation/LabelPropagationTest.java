@@ -196,9 +196,9 @@ class LabelPropagationTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 800_480L, 4_994_656L),
-            Arguments.of(4, 801_560L, 17_578_264L),
-            Arguments.of(42, 815_240L, 176_970_632L)
+            Arguments.of(1, 800_456L, 4_994_632L),
+            Arguments.of(4, 801_464L, 17_578_168L),
+            Arguments.of(42, 814_232L, 176_969_624L)
         );
     }
 
@@ -30,8 +30,11 @@ import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.api.RelationshipCursor;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.gds.graphbuilder.DefaultBuilder;
 import org.neo4j.gds.graphbuilder.GraphBuilder;
 
@@ -43,6 +46,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -282,6 +286,39 @@ final class MultiSourceBFSTest extends AlgoTestBase {
         }
     }
 
+    @Test
+    void directionOptimizingShouldMatchTopDown() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(Orientation.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var sources = LongStream.range(0, 2 * MultiSourceBFS.OMEGA + 1).map(i -> i * 7).toArray();
+
+        var topDown = HugeAtomicLongArray.newArray(graph.nodeCount());
+        MultiSourceBFS.aggregatedNeighborProcessing(
+            graph.nodeCount(),
+            graph,
+            (nodeId, depth, sourceNodes) -> topDown.getAndAdd(nodeId, (long) depth * sourceNodes.size()),
+            sources.clone()
+        ).run(4, Pools.DEFAULT);
+
+        var directionOptimizing = HugeAtomicLongArray.newArray(graph.nodeCount());
+        MultiSourceBFS.aggregatedNeighborProcessing(
+            graph,
+            (nodeId, depth, sourceNodes) -> directionOptimizing.getAndAdd(nodeId, (long) depth * sourceNodes.size()),
+            sources.clone()
+        ).run(4, Pools.DEFAULT);
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertEquals(topDown.get(nodeId), directionOptimizing.get(nodeId), "farness of node " + nodeId);
+        }
+    }
+
     @Test
     void testSize() {
         int maxNodes = 100;
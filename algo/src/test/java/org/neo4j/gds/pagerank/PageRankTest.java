@@ -593,9 +593,9 @@ class PageRankTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 2412832L, 2412832L),
-            Arguments.of(4, 2413000L, 2413000L),
-            Arguments.of(42, 2415128L, 2415128L)
+            Arguments.of(1, 2438024L, 2438024L),
+            Arguments.of(4, 2438216L, 2438216L),
+            Arguments.of(42, 2440648L, 2440648L)
         );
     }
 
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.astar;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.astar.config.ImmutableShortestPathAStarStreamConfig;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+import org.neo4j.kernel.database.DatabaseIdFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LandmarksTest {
+
+    private static final int NODE_COUNT = 1_000;
+    private static final int QUERY_COUNT = 50;
+
+    @Test
+    void shouldStoreDistancesPerLandmark() {
+        var graph = randomGraph(Orientation.UNDIRECTED);
+
+        var result = landmarks(graph, 4);
+        var distances = result.asNodeProperties();
+
+        assertThat(result.landmarks()).hasSize(4).doesNotHaveDuplicates();
+        for (int i = 0; i < result.landmarks().length; i++) {
+            long landmark = result.landmarks()[i];
+            assertThat(distances.doubleArrayValue(landmark)).hasSize(4);
+            assertThat(distances.doubleArrayValue(landmark)[i]).isEqualTo(0.0D);
+        }
+        assertThat(distances.doubleArrayValue(42)[0]).isCloseTo(cost(dijkstra(graph, result.landmarks()[0], 42, Optional.empty())), within(1E-9));
+    }
+
+    @Test
+    void shouldFindShortestPathsOnUndirectedGraphs() {
+        var graph = randomGraph(Orientation.UNDIRECTED);
+
+        assertMatchesDijkstra(graph, landmarks(graph, 8));
+    }
+
+    @Test
+    void shouldFindShortestPathsOnDirectedGraphs() {
+        var graphStore = CSRGraphStoreUtil.createFromGraph(
+            DatabaseIdFactory.from("alt", UUID.fromString("42-42-42-42-42")),
+            randomGraph(Orientation.NATURAL),
+            "REL",
+            Optional.of("weight"),
+            1
+        );
+
+        var forwardOnly = graphStore.getGraph(RelationshipType.of("REL"), Optional.of("weight"));
+        var forwardDistances = landmarks(forwardOnly, 8);
+        assertThat(forwardDistances.distancesToLandmarks()).isFalse();
+        assertThat(forwardDistances.asNodeProperties().doubleArrayValue(0)).hasSize(8);
+        assertMatchesDijkstra(forwardOnly, forwardDistances);
+
+        graphStore.indexInverse(RelationshipType.of("REL"));
+        var bidirectional = graphStore.getGraph(RelationshipType.of("REL"), Optional.of("weight"));
+        var bidirectionalDistances = landmarks(bidirectional, 8);
+        assertThat(bidirectionalDistances.distancesToLandmarks()).isTrue();
+        assertThat(bidirectionalDistances.asNodeProperties().doubleArrayValue(0)).hasSize(16);
+        assertMatchesDijkstra(bidirectional, bidirectionalDistances);
+    }
+
+    @Test
+    void shouldUseLandmarkPropertyAsAStarHeuristic() {
+        var graphStore = CSRGraphStoreUtil.createFromGraph(
+            DatabaseIdFactory.from("alt", UUID.fromString("42-42-42-42-42")),
+            randomGraph(Orientation.NATURAL),
+            "REL",
+            Optional.of("weight"),
+            1
+        );
+        graphStore.indexInverse(RelationshipType.of("REL"));
+        var graph = graphStore.getGraph(RelationshipType.of("REL"), Optional.of("weight"));
+        mutateLandmarks(graphStore, graph, 8);
+        var graphWithLandmarks = graphStore.getGraph(RelationshipType.of("REL"), Optional.of("weight"));
+
+        assertThat(LandmarkMetadata.of(graphStore.nodePropertyMetadata("landmarks")))
+            .hasValueSatisfying(metadata -> {
+                assertThat(metadata.landmarks()).hasSize(8).doesNotHaveDuplicates();
+                assertThat(metadata.distancesToLandmarks()).isTrue();
+            });
+
+        var random = new Random(42L);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            long source = random.nextInt(NODE_COUNT);
+            long target = random.nextInt(NODE_COUNT);
+            var config = ImmutableShortestPathAStarStreamConfig.builder()
+                .landmarkProperty("landmarks")
+                .relationshipWeightProperty("weight")
+                .sourceNode(graph.toOriginalNodeId(source))
+                .targetNode(graph.toOriginalNodeId(target))
+                .concurrency(1)
+                .build();
+
+            var path = AStar.sourceTarget(graphStore, graphWithLandmarks, config, ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst()
+                .orElse(PathResult.EMPTY);
+
+            assertThat(cost(path)).isCloseTo(cost(dijkstra(graph, source, target, Optional.empty())), within(1E-9));
+        }
+    }
+
+    @Test
+    void shouldRejectLandmarksOfOtherWeights() {
+        var graphStore = CSRGraphStoreUtil.createFromGraph(
+            DatabaseIdFactory.from("alt", UUID.fromString("42-42-42-42-42")),
+            randomGraph(Orientation.UNDIRECTED),
+            "REL",
+            Optional.of("weight"),
+            1
+        );
+        var graph = graphStore.getGraph(RelationshipType.of("REL"), Optional.of("weight"));
+        mutateLandmarks(graphStore, graph, 2);
+        var unweightedGraph = graphStore.getGraph(RelationshipType.of("REL"), Optional.empty());
+
+        var config = ImmutableShortestPathAStarStreamConfig.builder()
+            .landmarkProperty("landmarks")
+            .sourceNode(graph.toOriginalNodeId(0))
+            .targetNode(graph.toOriginalNodeId(1))
+            .build();
+
+        assertThatThrownBy(() -> AStar.sourceTarget(graphStore, unweightedGraph, config, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("was computed for the relationship types [REL] and the relationship weight property `weight`");
+    }
+
+    @Test
+    void shouldRejectPropertiesWithoutLandmarkMetadata() {
+        var graphStore = CSRGraphStoreUtil.createFromGraph(
+            DatabaseIdFactory.from("alt", UUID.fromString("42-42-42-42-42")),
+            randomGraph(Orientation.UNDIRECTED),
+            "REL",
+            Optional.of("weight"),
+            1
+        );
+        var graph = graphStore.getGraph(RelationshipType.of("REL"), Optional.of("weight"));
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "landmarks", landmarks(graph, 2).asNodeProperties());
+        var graphWithLandmarks = graphStore.getGraph(RelationshipType.of("REL"), Optional.of("weight"));
+
+        var config = ImmutableShortestPathAStarStreamConfig.builder()
+            .landmarkProperty("landmarks")
+            .relationshipWeightProperty("weight")
+            .sourceNode(graph.toOriginalNodeId(0))
+            .targetNode(graph.toOriginalNodeId(1))
+            .build();
+
+        assertThatThrownBy(() -> AStar.sourceTarget(graphStore, graphWithLandmarks, config, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("was not computed by `gds.alpha.shortestPath.landmarks.mutate`");
+    }
+
+    @Test
+    void shouldRequireAHeuristic() {
+        assertThatThrownBy(() -> ImmutableShortestPathAStarStreamConfig.builder()
+            .sourceNode(0)
+            .targetNode(1)
+            .build()
+        ).hasMessageContaining("Either 'landmarkProperty' or both 'latitudeProperty' and 'longitudeProperty'");
+
+        assertThatThrownBy(() -> ImmutableShortestPathAStarStreamConfig.builder()
+            .sourceNode(0)
+            .targetNode(1)
+            .landmarkProperty("landmarks")
+            .latitudeProperty("latitude")
+            .build()
+        ).hasMessageContaining("cannot be combined");
+    }
+
+    private static void assertMatchesDijkstra(Graph graph, Landmarks.LandmarkDistances landmarks) {
+        var distances = landmarks.asNodeProperties();
+        var random = new Random(42L);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            long source = random.nextInt(NODE_COUNT);
+            long target = random.nextInt(NODE_COUNT);
+
+            var heuristic = new AStar.LandmarkHeuristic(
+                distances,
+                target,
+                landmarks.landmarks().length,
+                graph.isUndirected(),
+                landmarks.distancesToLandmarks()
+            );
+            var expected = cost(dijkstra(graph, source, target, Optional.empty()));
+
+            // admissible: never overestimates the remaining distance
+            if (expected >= 0) {
+                assertThat(heuristic.applyAsDouble(source)).isLessThanOrEqualTo(expected + 1E-9);
+            }
+            assertThat(cost(dijkstra(graph, source, target, Optional.of(heuristic)))).isCloseTo(expected, within(1E-9));
+        }
+    }
+
+    private static PathResult dijkstra(
+        Graph graph,
+        long source,
+        long target,
+        Optional<Dijkstra.HeuristicFunction> heuristic
+    ) {
+        var config = ImmutableShortestPathDijkstraStreamConfig.builder()
+            .sourceNode(graph.toOriginalNodeId(source))
+            .targetNode(graph.toOriginalNodeId(target))
+            .concurrency(1)
+            .build();
+
+        return Dijkstra
+            .sourceTarget(graph, config, heuristic, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst()
+            .orElse(PathResult.EMPTY);
+    }
+
+    private static double cost(PathResult path) {
+        return path == PathResult.EMPTY ? -1.0D : path.totalCost();
+    }
+
+    private static Landmarks.LandmarkDistances landmarks(Graph graph, int landmarkCount) {
+        return new Landmarks(graph, landmarkCount, Pools.DEFAULT, 4, ProgressTracker.NULL_TRACKER).compute();
+    }
+
+    private static void mutateLandmarks(GraphStore graphStore, Graph graph, int landmarkCount) {
+        var landmarks = landmarks(graph, landmarkCount);
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "landmarks", landmarks.asNodeProperties());
+        var metadata = LandmarkMetadata.of(
+            graphStore.nodeLabels(),
+            List.of(RelationshipType.of("REL")),
+            Optional.of("weight"),
+            graph,
+            landmarks
+        );
+        graphStore.putNodePropertyMetadata("landmarks", metadata.toMap());
+    }
+
+    private static Graph randomGraph(Orientation orientation) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(NODE_COUNT)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 1, 10))
+            .orientation(orientation)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+}
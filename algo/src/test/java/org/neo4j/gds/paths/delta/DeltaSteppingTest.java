@@ -26,6 +26,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
@@ -52,6 +53,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
+import static org.neo4j.gds.compat.TestLog.DEBUG;
 import static org.neo4j.gds.compat.TestLog.INFO;
 import static org.neo4j.gds.paths.PathTestUtil.expected;
 
@@ -188,12 +190,67 @@ final class DeltaSteppingTest {
             assertEquals(expected, paths);
         }
 
+        @Test
+        void autoDelta() {
+            // average weight 39 / 7 scaled by the target degree over the average degree 7 / 6
+            assertEquals(39.0 / 7 * 32 * 6 / 7, DeltaStepping.autoDelta(graph), 1E-9);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 4})
+        void singleSourceWithAutoDelta(int concurrency) {
+            var expected = Set.of(
+                expected(idFunction, 0, new double[]{0.0}, "a"),
+                expected(idFunction, 1, new double[]{0.0, 4.0}, "a", "b"),
+                expected(idFunction, 2, new double[]{0.0, 2.0}, "a", "c"),
+                expected(idFunction, 3, new double[]{0.0, 2.0, 5.0}, "a", "c", "e"),
+                expected(idFunction, 4, new double[]{0.0, 2.0, 5.0, 9.0}, "a", "c", "e", "d"),
+                expected(idFunction, 5, new double[]{0.0, 2.0, 5.0, 9.0, 20.0}, "a", "c", "e", "d", "f")
+            );
+
+            var config = ImmutableAllShortestPathsDeltaStreamConfig.builder()
+                .concurrency(concurrency)
+                .sourceNode(idFunction.of("a"))
+                .build();
+
+            var paths = DeltaStepping
+                .of(graph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+                .compute()
+                .pathSet();
+
+            assertEquals(expected, paths);
+        }
+
+        @Test
+        void shouldLogBinStatistics() {
+            var config = ImmutableAllShortestPathsDeltaStreamConfig.builder()
+                .concurrency(1)
+                .sourceNode(idFunction.of("c"))
+                .delta(5.0)
+                .build();
+
+            var progressTask = new DeltaSteppingFactory<>().progressTask(graph, config);
+            var testLog = Neo4jProxy.testLog();
+            var progressTracker = new TestProgressTracker(progressTask, testLog, 1, EmptyTaskRegistryFactory.INSTANCE);
+
+            DeltaStepping.of(graph, config, Pools.DEFAULT, progressTracker)
+                .compute()
+                .pathSet();
+
+            assertThat(testLog.getMessages(DEBUG))
+                .extracting(removingThreadId())
+                .contains(
+                    "DeltaStepping :: Processed 3 bins, relaxed 4 nodes and 3 relationships, 3 distance updates, 1 fused local passes"
+                )
+                .noneMatch(message -> message.contains("Bin 0"));
+        }
+
         @Test
         void shouldLogProgress() {
             var config = ImmutableAllShortestPathsDeltaStreamConfig.builder()
                 .concurrency(4)
                 .sourceNode(idFunction.of("c"))
-                .delta(5)
+                .delta(5.0)
                 .build();
 
             var progressTask = new DeltaSteppingFactory().progressTask(graph, config);
@@ -28,8 +28,10 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.loading.NullPropertyMap.LongNullPropertyMap;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -47,7 +49,10 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.paths.PathTestUtil.expected;
 
@@ -70,13 +75,13 @@ final class DijkstraTest {
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
             // trackRelationships = false
-            Arguments.of(1_000, false, 32_744L),
-            Arguments.of(1_000_000, false, 32_250_488L),
-            Arguments.of(1_000_000_000, false, 32_254_883_400L),
+            Arguments.of(1_000, false, 32_752L),
+            Arguments.of(1_000_000, false, 32_250_496L),
+            Arguments.of(1_000_000_000, false, 32_254_883_408L),
             // trackRelationships = true
-            Arguments.of(1_000, true, 48_960L),
-            Arguments.of(1_000_000, true, 48_250_704L),
-            Arguments.of(1_000_000_000, true, 48_257_325_072L)
+            Arguments.of(1_000, true, 48_968L),
+            Arguments.of(1_000_000, true, 48_250_712L),
+            Arguments.of(1_000_000_000, true, 48_257_325_080L)
         );
     }
 
@@ -118,6 +123,9 @@ final class DijkstraTest {
         @Inject
         private Graph graph;
 
+        @Inject
+        private GraphStore graphStore;
+
         @Inject
         private IdFunction idFunction;
 
@@ -154,6 +162,52 @@ final class DijkstraTest {
             assertEquals(expected, path);
         }
 
+        @Test
+        void sourceTargetQuery() {
+            var expected = expected(idFunction, 0, new double[]{0.0, 2.0, 5.0, 9.0, 20.0}, "a", "c", "e", "d", "f");
+
+            var config = defaultSourceTargetConfigBuilder()
+                .sourceNode(idFunction.of("a"))
+                .targetNode(idFunction.of("f"))
+                .relationshipWeightProperty("cost")
+                .build();
+
+            var dijkstra = new DijkstraFactory.SourceTargetDijkstraFactory<>()
+                .build(graphStore, config, ProgressTracker.NULL_TRACKER);
+
+            assertEquals(expected, dijkstra.compute().findFirst().get());
+            assertThatThrownBy(() -> dijkstra.withSourceNode(0)).isInstanceOf(UnsupportedOperationException.class);
+
+            var unreachableConfig = defaultSourceTargetConfigBuilder()
+                .sourceNode(idFunction.of("f"))
+                .targetNode(idFunction.of("a"))
+                .build();
+            assertTrue(Dijkstra
+                .sourceTargetQuery(graph, unreachableConfig, ProgressTracker.NULL_TRACKER)
+                .compute()
+                .pathSet()
+                .isEmpty());
+        }
+
+        @Test
+        void sourceTargetQueriesShareTheEngineOfAGraphStore() {
+            var labels = graphStore.nodeLabels();
+            var types = graphStore.relationshipTypes();
+
+            var engine = ShortestPathQueryEngines.get(graphStore, labels, types, Optional.of("cost"));
+            assertSame(engine, ShortestPathQueryEngines.get(graphStore, labels, types, Optional.of("cost")));
+            assertNotSame(engine, ShortestPathQueryEngines.get(graphStore, labels, types, Optional.empty()));
+            assertEquals(2, ShortestPathQueryEngines.cachedEngineCount(graphStore));
+
+            // any change to the graph store replaces the engines created before
+            graphStore.addNodeProperty(labels, "engineTestProperty", new LongNullPropertyMap(0L));
+            try {
+                assertNotSame(engine, ShortestPathQueryEngines.get(graphStore, labels, types, Optional.of("cost")));
+            } finally {
+                graphStore.removeNodeProperty("engineTestProperty");
+            }
+        }
+
         @ParameterizedTest
         @MethodSource("predicatesAndPaths")
         void sourceTargetWithRelationshipFilter(Dijkstra.RelationshipFilter relationshipFilter, double[] expectedCosts, List<String> expectedPath) {
@@ -269,7 +323,7 @@ final class DijkstraTest {
                 .targetNode(idFunction.of("f"))
                 .build();
 
-            var progressTask = new DijkstraFactory.SourceTargetDijkstraFactory<>().progressTask(graph, config);
+            var progressTask = new DijkstraFactory.SourceTargetDijkstraFactory<>().progressTask(graphStore, config);
             var testLog = Neo4jProxy.testLog();
             var progressTracker = new TestProgressTracker(progressTask, testLog, 1, EmptyTaskRegistryFactory.INSTANCE);
 
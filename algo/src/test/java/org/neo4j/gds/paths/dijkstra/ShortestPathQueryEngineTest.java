@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.kernel.database.DatabaseIdFactory;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ShortestPathQueryEngineTest {
+
+    private static final int NODE_COUNT = 2_000;
+    private static final int QUERY_COUNT = 200;
+
+    @Test
+    void shouldMatchDijkstraOnDirectedGraphs() {
+        var graphStore = CSRGraphStoreUtil.createFromGraph(
+            DatabaseIdFactory.from("sp", UUID.fromString("42-42-42-42-42")),
+            randomGraph(Orientation.NATURAL),
+            "REL",
+            Optional.of("weight"),
+            1
+        );
+
+        var unidirectionalGraph = graphStore.getGraph(RelationshipType.of("REL"), Optional.of("weight"));
+        graphStore.indexInverse(RelationshipType.of("REL"));
+        var bidirectionalGraph = graphStore.getGraph(RelationshipType.of("REL"), Optional.of("weight"));
+
+        var unidirectional = new ShortestPathQueryEngine(unidirectionalGraph);
+        var bidirectional = new ShortestPathQueryEngine(bidirectionalGraph);
+        assertThat(unidirectional.isBidirectional()).isFalse();
+        assertThat(bidirectional.isBidirectional()).isTrue();
+
+        assertMatchesDijkstra(unidirectionalGraph, unidirectional);
+        assertMatchesDijkstra(bidirectionalGraph, bidirectional);
+    }
+
+    @Test
+    void shouldMatchDijkstraOnUndirectedGraphs() {
+        var graph = randomGraph(Orientation.UNDIRECTED);
+        var engine = new ShortestPathQueryEngine(graph);
+        assertThat(engine.isBidirectional()).isTrue();
+
+        assertMatchesDijkstra(graph, engine);
+    }
+
+    @Test
+    void shouldAnswerQueriesConcurrently() {
+        var graph = randomGraph(Orientation.UNDIRECTED);
+        var engine = new ShortestPathQueryEngine(graph);
+        var random = new Random(42L);
+        var sources = random.longs(QUERY_COUNT, 0, NODE_COUNT).toArray();
+        var targets = random.longs(QUERY_COUNT, 0, NODE_COUNT).toArray();
+
+        var expected = IntStream.range(0, QUERY_COUNT)
+            .mapToDouble(i -> dijkstraCost(graph, sources[i], targets[i]))
+            .toArray();
+        var actual = IntStream.range(0, QUERY_COUNT)
+            .parallel()
+            .mapToDouble(i -> cost(engine.query(sources[i], targets[i])))
+            .toArray();
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(1E-9));
+        }
+    }
+
+    @Test
+    void shouldReturnTrivialPathForEqualSourceAndTarget() {
+        var engine = new ShortestPathQueryEngine(randomGraph(Orientation.UNDIRECTED));
+
+        var path = engine.query(7, 7);
+
+        assertThat(path.nodeIds()).containsExactly(7);
+        assertThat(path.costs()).containsExactly(0.0D);
+    }
+
+    private static void assertMatchesDijkstra(Graph graph, ShortestPathQueryEngine engine) {
+        var random = new Random(42L);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            long source = random.nextInt(NODE_COUNT);
+            long target = random.nextInt(NODE_COUNT);
+
+            var path = engine.query(source, target);
+            double expected = dijkstraCost(graph, source, target);
+            assertThat(cost(path)).isCloseTo(expected, within(1E-9));
+
+            if (path != PathResult.EMPTY) {
+                var nodeIds = path.nodeIds();
+                var costs = path.costs();
+                assertThat(nodeIds[0]).isEqualTo(source);
+                assertThat(nodeIds[nodeIds.length - 1]).isEqualTo(target);
+                assertThat(costs).hasSameSizeAs(nodeIds);
+                assertThat(costs[0]).isEqualTo(0.0D);
+                for (int j = 1; j < costs.length; j++) {
+                    assertThat(costs[j]).isGreaterThanOrEqualTo(costs[j - 1]);
+                }
+            }
+        }
+    }
+
+    private static double dijkstraCost(Graph graph, long source, long target) {
+        var config = DijkstraTest.defaultSourceTargetConfigBuilder()
+            .sourceNode(graph.toOriginalNodeId(source))
+            .targetNode(graph.toOriginalNodeId(target))
+            .build();
+
+        return Dijkstra
+            .sourceTarget(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst()
+            .map(ShortestPathQueryEngineTest::cost)
+            .orElse(-1.0D);
+    }
+
+    private static double cost(PathResult path) {
+        return path == PathResult.EMPTY ? -1.0D : path.totalCost();
+    }
+
+    private static Graph randomGraph(Orientation orientation) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(NODE_COUNT)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 1, 10))
+            .orientation(orientation)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+}
@@ -22,8 +22,13 @@ package org.neo4j.gds.paths.traverse;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
@@ -32,7 +37,10 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.paths.traverse.ExitPredicate.Result;
+import org.neo4j.kernel.database.DatabaseIdFactory;
 
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -204,4 +212,49 @@ class BFSTest {
                 "BFS :: Finished"
             );
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void bottomUpLevelsShouldMatchTopDownTraversal(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+        var graphStore = CSRGraphStoreUtil.createFromGraph(
+            DatabaseIdFactory.from("bfs", UUID.fromString("42-42-42-42-42")),
+            randomGraph,
+            "REL",
+            Optional.empty(),
+            concurrency
+        );
+
+        var topDownGraph = graphStore.getGraph(RelationshipType.of("REL"));
+        graphStore.indexInverse(RelationshipType.of("REL"));
+        var directionOptimizingGraph = graphStore.getGraph(RelationshipType.of("REL"));
+
+        assertThat(topDownGraph.hasInverseIndex()).isFalse();
+        assertThat(directionOptimizingGraph.hasInverseIndex()).isTrue();
+
+        assertThat(traverse(directionOptimizingGraph, ExitPredicate.FOLLOW, concurrency))
+            .isEqualTo(traverse(topDownGraph, ExitPredicate.FOLLOW, concurrency));
+
+        ExitPredicate maxDepth = new MaxDepthExitPredicate(3);
+        assertThat(traverse(directionOptimizingGraph, maxDepth, concurrency))
+            .isEqualTo(traverse(topDownGraph, maxDepth, concurrency));
+    }
+
+    private static long[] traverse(Graph graph, ExitPredicate exitPredicate, int concurrency) {
+        return BFS.create(
+            graph,
+            0,
+            exitPredicate,
+            (s, t, w) -> w + 1,
+            concurrency,
+            ProgressTracker.NULL_TRACKER,
+            BFS.ALL_DEPTHS_ALLOWED
+        ).compute().toArray();
+    }
 }
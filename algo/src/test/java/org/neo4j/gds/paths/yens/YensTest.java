@@ -66,9 +66,9 @@ class YensTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1_000, 33_056L),
-            Arguments.of(1_000_000, 32_250_800L),
-            Arguments.of(1_000_000_000, 32_254_883_712L)
+            Arguments.of(1_000, 33_064L),
+            Arguments.of(1_000_000, 32_250_808L),
+            Arguments.of(1_000_000_000, 32_254_883_720L)
         );
     }
 
@@ -168,6 +168,25 @@ class YensTest {
         assertResult(graph, idFunction, expectedPaths);
     }
 
+    @Test
+    void shouldComputeSamePathsInParallel() {
+        var configBuilder = defaultSourceTargetConfigBuilder()
+            .sourceNode(idFunction.of("c"))
+            .targetNode(idFunction.of("h"))
+            .k(7);
+
+        var sequentialPaths = Yens
+            .sourceTarget(graph, configBuilder.concurrency(1).build(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .pathSet();
+        var parallelPaths = Yens
+            .sourceTarget(graph, configBuilder.concurrency(4).build(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .pathSet();
+
+        assertThat(parallelPaths).isEqualTo(sequentialPaths).hasSize(7);
+    }
+
     @Test
     void shouldLogProgress() {
         int k = 3;
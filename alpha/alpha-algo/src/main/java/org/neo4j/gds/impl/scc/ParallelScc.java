@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.scc;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parallel strongly connected components following the Multistep approach of Slota, Rajamanickam and Madduri,
+ * "BFS and Coloring-based Parallel Algorithms for Strongly Connected Components and Related Problems" (IPDPS 2014).
+ * <ol>
+ * <li>Trimming assigns nodes without incoming or outgoing relationships to unassigned nodes to singleton components.</li>
+ * <li>A forward-backward search from a high degree pivot extracts the component of that pivot,
+ * which in most real world graphs is the giant component.</li>
+ * <li>The remaining nodes are resolved by coloring: the highest node id that reaches a node is propagated forward,
+ * afterwards every node that kept its own id as color collects its component by a backward search
+ * restricted to its color. Coloring repeats, interleaved with trimming, until all nodes are assigned.</li>
+ * </ol>
+ * Each component is identified by the id of one of its nodes.
+ * Backward searches traverse the inverse index of the graph, which therefore must be present.
+ */
+final class ParallelScc {
+
+    private static final long UNASSIGNED = -1;
+
+    @FunctionalInterface
+    private interface Claim {
+        /**
+         * @return true if the target should be added to the next frontier
+         */
+        boolean test(long source, long target);
+    }
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+
+    private final HugeAtomicLongArray components;
+    private final HugeAtomicLongArray colors;
+    private final HugeAtomicBitSet visited;
+    private HugeLongArray frontier;
+    private HugeLongArray nextFrontier;
+    private final AtomicLong nextFrontierSize;
+    private final LongAdder assignedNodes;
+    private long loggedNodes;
+
+    ParallelScc(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+
+        this.components = HugeAtomicLongArray.newArray(nodeCount);
+        this.colors = HugeAtomicLongArray.newArray(nodeCount);
+        this.visited = HugeAtomicBitSet.create(nodeCount);
+        this.frontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontierSize = new AtomicLong();
+        this.assignedNodes = new LongAdder();
+    }
+
+    HugeLongArray compute() {
+        components.setAll(UNASSIGNED);
+
+        trim();
+        forwardBackward();
+
+        while (terminationFlag.running()) {
+            trim();
+            long unassigned = collectUnassigned();
+            if (unassigned == 0) {
+                break;
+            }
+            coloring(unassigned);
+        }
+
+        var result = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> result.set(nodeId, components.get(nodeId)));
+        return result;
+    }
+
+    private void trim() {
+        forEachNode((localGraph, nodeId) -> {
+            if (components.get(nodeId) != UNASSIGNED) {
+                return;
+            }
+            if (!hasUnassignedNeighbour(localGraph, nodeId, true) || !hasUnassignedNeighbour(localGraph, nodeId, false)) {
+                assign(nodeId, nodeId);
+            }
+        });
+        logProgress();
+    }
+
+    private boolean hasUnassignedNeighbour(Graph localGraph, long nodeId, boolean forward) {
+        boolean[] found = {false};
+        traverse(localGraph, nodeId, forward, (source, target) -> {
+            if (target != source && components.get(target) == UNASSIGNED) {
+                found[0] = true;
+                return false;
+            }
+            return true;
+        });
+        return found[0];
+    }
+
+    private void forwardBackward() {
+        long pivot = UNASSIGNED;
+        long pivotScore = -1;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (components.get(nodeId) == UNASSIGNED) {
+                long score = (graph.degree(nodeId) + 1L) * (graph.inverseDegree(nodeId) + 1L);
+                if (score > pivotScore) {
+                    pivot = nodeId;
+                    pivotScore = score;
+                }
+            }
+        }
+        if (pivot == UNASSIGNED) {
+            return;
+        }
+
+        // forward reachable set of the pivot
+        visited.clear();
+        visited.set(pivot);
+        frontier.set(0, pivot);
+        search(1, true, false, (source, target) -> components.get(target) == UNASSIGNED && !visited.getAndSet(target));
+
+        // nodes on a path from a forward reachable node to the pivot are themselves forward reachable,
+        // so the backward search can be restricted to the forward reachable set
+        long component = pivot;
+        assign(pivot, component);
+        frontier.set(0, pivot);
+        search(1, false, false, (source, target) -> visited.get(target) && claim(target, component));
+        logProgress();
+    }
+
+    private void coloring(long unassigned) {
+        swapFrontiers();
+        ParallelUtil.parallelForEachNode(unassigned, concurrency, index -> {
+            long nodeId = frontier.get(index);
+            colors.set(nodeId, nodeId);
+        });
+
+        // propagate the highest color forward, a node re-enters the frontier whenever its color increases
+        visited.clear();
+        search(unassigned, true, true, (source, target) -> {
+            if (components.get(target) != UNASSIGNED) {
+                return false;
+            }
+            long color = colors.get(source);
+            long current = colors.get(target);
+            while (current < color) {
+                long witness = colors.compareAndExchange(target, current, color);
+                if (witness == current) {
+                    return !visited.getAndSet(target);
+                }
+                current = witness;
+            }
+            return false;
+        });
+
+        // every node that kept its own color is the root of a component consisting of
+        // all nodes with the same color that can reach it
+        nextFrontierSize.set(0);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
+            if (components.get(nodeId) == UNASSIGNED && colors.get(nodeId) == nodeId) {
+                assign(nodeId, nodeId);
+                nextFrontier.set(nextFrontierSize.getAndIncrement(), nodeId);
+            }
+        });
+        long roots = nextFrontierSize.get();
+        swapFrontiers();
+        search(roots, false, false, (source, target) -> {
+            long color = colors.get(source);
+            return colors.get(target) == color && claim(target, color);
+        });
+        logProgress();
+    }
+
+    /**
+     * Level synchronous parallel search starting from the first {@code frontierSize} entries of the frontier.
+     * The claim decides for every traversed relationship whether its target joins the next level.
+     * If {@code reentrant}, the visited bits of each level are cleared again, so that they only
+     * deduplicate within a level.
+     */
+    private void search(long frontierSize, boolean forward, boolean reentrant, Claim claim) {
+        while (frontierSize > 0 && terminationFlag.running()) {
+            nextFrontierSize.set(0);
+            HugeLongArray currentFrontier = frontier;
+            var tasks = PartitionUtils.rangePartition(concurrency, frontierSize, partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                var buffer = new LongArrayList();
+                partition.consume(index -> traverse(localGraph, currentFrontier.get(index), forward, (source, target) -> {
+                    if (claim.test(source, target)) {
+                        buffer.add(target);
+                    }
+                    return true;
+                }));
+                long offset = nextFrontierSize.getAndAdd(buffer.size());
+                for (int i = 0; i < buffer.size(); i++) {
+                    nextFrontier.set(offset + i, buffer.get(i));
+                }
+            }, Optional.empty());
+            ParallelUtil.run(tasks, executorService);
+
+            frontierSize = nextFrontierSize.get();
+            swapFrontiers();
+            if (reentrant) {
+                for (long index = 0; index < frontierSize; index++) {
+                    visited.clear(frontier.get(index));
+                }
+            }
+        }
+    }
+
+    private long collectUnassigned() {
+        nextFrontierSize.set(0);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
+            if (components.get(nodeId) == UNASSIGNED) {
+                nextFrontier.set(nextFrontierSize.getAndIncrement(), nodeId);
+            }
+        });
+        return nextFrontierSize.get();
+    }
+
+    private void forEachNode(NodeConsumer consumer) {
+        var tasks = PartitionUtils.rangePartition(concurrency, nodeCount, partition -> (Runnable) () -> {
+            var localGraph = graph.concurrentCopy();
+            partition.consume(nodeId -> consumer.accept(localGraph, nodeId));
+        }, Optional.empty());
+        ParallelUtil.run(tasks, executorService);
+    }
+
+    @FunctionalInterface
+    private interface NodeConsumer {
+        void accept(Graph localGraph, long nodeId);
+    }
+
+    private static void traverse(
+        Graph localGraph,
+        long nodeId,
+        boolean forward,
+        RelationshipConsumer consumer
+    ) {
+        if (forward) {
+            localGraph.forEachRelationship(nodeId, consumer);
+        } else {
+            localGraph.forEachInverseRelationship(nodeId, consumer);
+        }
+    }
+
+    private void assign(long nodeId, long component) {
+        components.set(nodeId, component);
+        assignedNodes.increment();
+    }
+
+    private boolean claim(long nodeId, long component) {
+        if (components.compareAndSet(nodeId, UNASSIGNED, component)) {
+            assignedNodes.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private void swapFrontiers() {
+        var tmp = frontier;
+        frontier = nextFrontier;
+        nextFrontier = tmp;
+    }
+
+    private void logProgress() {
+        long assigned = assignedNodes.sum();
+        progressTracker.logProgress(assigned - loggedNodes);
+        loggedNodes = assigned;
+    }
+}
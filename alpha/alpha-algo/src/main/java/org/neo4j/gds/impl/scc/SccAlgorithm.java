@@ -22,17 +22,26 @@ package org.neo4j.gds.impl.scc;
 import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.PagedLongStack;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * huge iterative (non recursive) sequential strongly connected components algorithm.
  *
  * specified in:  http://code.activestate.com/recipes/578507-strongly-connected-components-of-a-directed-graph/
+ *
+ * Graphs with at least {@link #PARALLEL_NODE_THRESHOLD} nodes and an inverse index are computed
+ * by {@link ParallelScc} instead, if more than one thread is available.
  */
 public class SccAlgorithm extends Algorithm<HugeLongArray> {
 
+    static final long PARALLEL_NODE_THRESHOLD = 100_000;
+
     private enum Action {
         VISIT(0L),
         VISITEDGE(1L),
@@ -60,19 +69,38 @@ public class SccAlgorithm extends Algorithm<HugeLongArray> {
     private int minSetSize;
     private int maxSetSize;
 
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final boolean parallel;
+
+    public SccAlgorithm(
+        Graph graph,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, Pools.DEFAULT, 1, progressTracker);
+    }
+
     public SccAlgorithm(
         Graph graph,
+        ExecutorService executorService,
+        int concurrency,
         ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
         this.nodeCount = graph.nodeCount();
-        this.index = HugeLongArray.newArray(nodeCount);
-        this.stack = new PagedLongStack(nodeCount);
-        this.boundaries = new PagedLongStack(nodeCount);
-        this.connectedComponents = HugeLongArray.newArray(nodeCount);
-        this.visited = new BitSet(nodeCount);
-        this.todo = new PagedLongStack(nodeCount);
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.parallel = concurrency > 1 && nodeCount >= PARALLEL_NODE_THRESHOLD && graph.hasInverseIndex();
+        // the parallel implementation allocates its own data structures
+        if (!parallel) {
+            this.index = HugeLongArray.newArray(nodeCount);
+            this.stack = new PagedLongStack(nodeCount);
+            this.boundaries = new PagedLongStack(nodeCount);
+            this.connectedComponents = HugeLongArray.newArray(nodeCount);
+            this.visited = new BitSet(nodeCount);
+            this.todo = new PagedLongStack(nodeCount);
+        }
     }
 
     /**
@@ -83,6 +111,21 @@ public class SccAlgorithm extends Algorithm<HugeLongArray> {
         setCount = 0;
         minSetSize = Integer.MAX_VALUE;
         maxSetSize = 0;
+        if (parallel) {
+            connectedComponents = new ParallelScc(
+                graph,
+                concurrency,
+                executorService,
+                terminationFlag,
+                progressTracker
+            ).compute();
+            // a terminated run leaves unassigned nodes with component -1
+            if (running()) {
+                computeSetSizes();
+            }
+            progressTracker.endSubTask();
+            return connectedComponents;
+        }
         index.fill(-1);
         connectedComponents.fill(-1);
         todo.clear();
@@ -128,6 +171,25 @@ public class SccAlgorithm extends Algorithm<HugeLongArray> {
         return maxSetSize;
     }
 
+    private void computeSetSizes() {
+        // component ids are node ids of the component members
+        var setSizes = HugeIntArray.newArray(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long component = connectedComponents.get(nodeId);
+            if (component >= 0) {
+                setSizes.addTo(component, 1);
+            }
+        }
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int setSize = setSizes.get(nodeId);
+            if (setSize > 0) {
+                minSetSize = Math.min(minSetSize, setSize);
+                maxSetSize = Math.max(maxSetSize, setSize);
+                setCount++;
+            }
+        }
+    }
+
     private boolean compute(long nodeId) {
         if (!running()) {
             return false;
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTrees;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Parallel minimum weight spanning forest algorithm (Borůvka).
+ * <p>
+ * In every round each component selects its cheapest relationship to another component,
+ * and all selected relationships are added to the forest at once, which at least halves
+ * the number of components per round. Components are tracked by a {@link HugeAtomicDisjointSetStruct}.
+ * Relationships of equal weight are ordered by their node ids, so the selected relationships never form a cycle.
+ * <p>
+ * Without a start node the result spans every connected component, each tree rooted at its lowest node id.
+ * With a start node only the tree of that node is kept and rooted at the start node, like the result of {@link Prim}.
+ */
+public class Boruvka extends Algorithm<SpanningTree> {
+
+    private static final long NONE = -1L;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final DoubleUnaryOperator minMax;
+    private final long startNodeId;
+    private final ExecutorService executorService;
+    private final int concurrency;
+
+    private SpanningTree spanningTree;
+
+    /**
+     * Computes a spanning forest over all nodes of the graph.
+     */
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        this(graph, minMax, NONE, executorService, concurrency, progressTracker);
+    }
+
+    /**
+     * Computes the spanning tree of the component that contains the given (original) start node.
+     */
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long startNodeId,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.minMax = minMax;
+        this.startNodeId = startNodeId == NONE ? NONE : graph.toMappedNodeId(startNodeId);
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public SpanningTree compute() {
+        progressTracker.beginSubTask(nodeCount);
+
+        var components = new HugeAtomicDisjointSetStruct(nodeCount, concurrency);
+        var forestSources = HugeLongArray.newArray(Math.max(nodeCount - 1, 0));
+        var forestTargets = HugeLongArray.newArray(Math.max(nodeCount - 1, 0));
+        long forestSize = computeForest(components, forestSources, forestTargets);
+
+        this.spanningTree = orient(forestSources, forestTargets, forestSize);
+        progressTracker.endSubTask();
+        return this.spanningTree;
+    }
+
+    public SpanningTree getSpanningTree() {
+        return spanningTree;
+    }
+
+    @Override
+    public void release() {
+        spanningTree = null;
+    }
+
+    private long computeForest(
+        HugeAtomicDisjointSetStruct components,
+        HugeLongArray forestSources,
+        HugeLongArray forestTargets
+    ) {
+        // cheapest relationship of each node to another component
+        var cheapestTarget = HugeLongArray.newArray(nodeCount);
+        var cheapestWeight = HugeDoubleArray.newArray(nodeCount);
+        // node holding the cheapest relationship of each component, indexed by the component id
+        var componentCheapest = HugeAtomicLongArray.newArray(nodeCount);
+        componentCheapest.setAll(NONE);
+        var forestSize = new AtomicLong();
+
+        while (running()) {
+            var tasks = PartitionUtils.rangePartition(concurrency, nodeCount, partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(nodeId -> {
+                    long component = components.setIdOf(nodeId);
+                    long[] target = {NONE};
+                    double[] weight = {0.0D};
+                    localGraph.forEachRelationship(nodeId, 0.0D, (source, t, w) -> {
+                        if (components.setIdOf(t) != component) {
+                            double cost = minMax.applyAsDouble(w);
+                            if (target[0] == NONE || isCheaper(source, t, cost, source, target[0], weight[0])) {
+                                target[0] = t;
+                                weight[0] = cost;
+                            }
+                        }
+                        return true;
+                    });
+                    cheapestTarget.set(nodeId, target[0]);
+                    cheapestWeight.set(nodeId, weight[0]);
+                    if (target[0] != NONE) {
+                        offerCheapest(componentCheapest, component, nodeId, cheapestTarget, cheapestWeight);
+                    }
+                });
+            }, Optional.empty());
+            ParallelUtil.run(tasks, executorService);
+
+            long roundStart = forestSize.get();
+            ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
+                long component = components.setIdOf(nodeId);
+                if (componentCheapest.get(component) != nodeId) {
+                    return;
+                }
+                long target = cheapestTarget.get(nodeId);
+                long targetComponent = components.setIdOf(target);
+                // two components selecting the same relationship add it only once
+                long other = componentCheapest.get(targetComponent);
+                boolean mutual = other == target && cheapestTarget.get(other) == nodeId;
+                if (mutual && component > targetComponent) {
+                    return;
+                }
+                long index = forestSize.getAndIncrement();
+                forestSources.set(index, nodeId);
+                forestTargets.set(index, target);
+            });
+            long roundEnd = forestSize.get();
+            if (roundEnd == roundStart) {
+                break;
+            }
+
+            ParallelUtil.parallelForEachNode(
+                roundEnd - roundStart,
+                concurrency,
+                offset -> components.union(forestSources.get(roundStart + offset), forestTargets.get(roundStart + offset))
+            );
+            componentCheapest.setAll(NONE);
+            progressTracker.logProgress(roundEnd - roundStart);
+        }
+
+        return forestSize.get();
+    }
+
+    private static void offerCheapest(
+        HugeAtomicLongArray componentCheapest,
+        long component,
+        long nodeId,
+        HugeLongArray cheapestTarget,
+        HugeDoubleArray cheapestWeight
+    ) {
+        long current = componentCheapest.get(component);
+        while (current == NONE || isCheaper(
+            nodeId,
+            cheapestTarget.get(nodeId),
+            cheapestWeight.get(nodeId),
+            current,
+            cheapestTarget.get(current),
+            cheapestWeight.get(current)
+        )) {
+            long witness = componentCheapest.compareAndExchange(component, current, nodeId);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    /**
+     * Strict total order on undirected relationships: by weight, then by the lower and the higher node id.
+     */
+    private static boolean isCheaper(long source, long target, double weight, long otherSource, long otherTarget, double otherWeight) {
+        if (weight != otherWeight) {
+            return weight < otherWeight;
+        }
+        long min = Math.min(source, target);
+        long otherMin = Math.min(otherSource, otherTarget);
+        if (min != otherMin) {
+            return min < otherMin;
+        }
+        return Math.max(source, target) < Math.max(otherSource, otherTarget);
+    }
+
+    /**
+     * Roots the forest, either at the start node or at the lowest node id of each tree,
+     * and turns it into parent pointers.
+     */
+    private SpanningTree orient(HugeLongArray forestSources, HugeLongArray forestTargets, long forestSize) {
+        // adjacency of the forest in compressed sparse row form
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        for (long i = 0; i < forestSize; i++) {
+            offsets.addTo(forestSources.get(i) + 1, 1);
+            offsets.addTo(forestTargets.get(i) + 1, 1);
+        }
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.addTo(nodeId + 1, offsets.get(nodeId));
+        }
+        var adjacency = HugeLongArray.newArray(2 * forestSize);
+        var fill = offsets.copyOf(nodeCount);
+        for (long i = 0; i < forestSize; i++) {
+            long source = forestSources.get(i);
+            long target = forestTargets.get(i);
+            adjacency.set(fill.get(source), target);
+            fill.addTo(source, 1);
+            adjacency.set(fill.get(target), source);
+            fill.addTo(target, 1);
+        }
+
+        var parent = HugeLongArray.newArray(nodeCount);
+        parent.fill(NONE);
+        // every node is enqueued at most once across all trees
+        var queue = HugeLongArray.newArray(nodeCount);
+        var visited = new BitSet(nodeCount);
+        long tail = 0;
+
+        long firstRoot = startNodeId == NONE ? 0 : startNodeId;
+        long lastRoot = startNodeId == NONE ? nodeCount : startNodeId + 1;
+        for (long root = firstRoot; root < lastRoot && running(); root++) {
+            if (visited.get(root)) {
+                continue;
+            }
+            long head = tail;
+            visited.set(root);
+            queue.set(tail++, root);
+            while (head < tail) {
+                long node = queue.get(head++);
+                for (long i = offsets.get(node); i < offsets.get(node + 1); i++) {
+                    long neighbour = adjacency.get(i);
+                    if (!visited.get(neighbour)) {
+                        visited.set(neighbour);
+                        parent.set(neighbour, node);
+                        queue.set(tail++, neighbour);
+                    }
+                }
+            }
+        }
+
+        long head = nodeCount == 0 ? NONE : firstRoot;
+        return new SpanningTree(head, nodeCount, tail, parent);
+    }
+}
@@ -23,6 +23,7 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.RelationshipProperties;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.queue.IntPriorityQueue;
 
@@ -81,10 +82,10 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
 
         IntPriorityQueue priorityQueue = minMax == Prim.MAX_OPERATOR ? IntPriorityQueue.min() : IntPriorityQueue.max();
         SpanningTree spanningTree = prim.compute();
-        int[] parent = spanningTree.parent;
-        progressTracker.beginSubTask(parent.length);
-        for (int i = 0; i < parent.length && running(); i++) {
-            int p = parent[i];
+        HugeLongArray parent = spanningTree.parent;
+        progressTracker.beginSubTask(parent.size());
+        for (int i = 0; i < parent.size() && running(); i++) {
+            long p = parent.get(i);
             if (p == -1) {
                 continue;
             }
@@ -96,7 +97,7 @@ public class KSpanningTree extends Algorithm<SpanningTree> {
         // remove k-1 relationships
         for (int i = 0; i < k - 1 && running(); i++) {
             int cutNode = priorityQueue.pop();
-            parent[cutNode] = -1;
+            parent.set(cutNode, -1);
             progressTracker.logProgress();
         }
         progressTracker.endSubTask();
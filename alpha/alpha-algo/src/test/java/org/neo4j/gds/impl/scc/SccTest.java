@@ -20,9 +20,17 @@
 package org.neo4j.gds.impl.scc;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -31,9 +39,13 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
+import org.neo4j.kernel.database.DatabaseIdFactory;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -113,6 +125,46 @@ class SccTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4})
+    void parallelShouldMatchTarjan(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(20_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+        var graphStore = CSRGraphStoreUtil.createFromGraph(
+            DatabaseIdFactory.from("scc", UUID.fromString("42-42-42-42-42")),
+            randomGraph,
+            "REL",
+            Optional.empty(),
+            concurrency
+        );
+        graphStore.indexInverse(RelationshipType.of("REL"));
+        var indexedGraph = graphStore.getGraph(RelationshipType.of("REL"));
+
+        var expected = new SccAlgorithm(indexedGraph, ProgressTracker.NULL_TRACKER).compute();
+        var actual = new ParallelScc(
+            indexedGraph,
+            concurrency,
+            Pools.DEFAULT,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        // both partitions must be equal up to the choice of component ids
+        var expectedToActual = new HashMap<Long, Long>();
+        var actualToExpected = new HashMap<Long, Long>();
+        for (long nodeId = 0; nodeId < indexedGraph.nodeCount(); nodeId++) {
+            long expectedComponent = expected.get(nodeId);
+            long actualComponent = actual.get(nodeId);
+            assertEquals(actualComponent, expectedToActual.computeIfAbsent(expectedComponent, ignore -> actualComponent));
+            assertEquals(expectedComponent, actualToExpected.computeIfAbsent(actualComponent, ignore -> expectedComponent));
+        }
+    }
+
     // TODO: Try to get this working with AssertJ
     private void assertBelongSameSet(HugeLongArray data, Long... expected) {
         // check if all belong to same set
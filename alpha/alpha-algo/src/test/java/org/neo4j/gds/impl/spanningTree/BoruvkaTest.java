@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.impl.spanningTrees.Boruvka;
+import org.neo4j.gds.impl.spanningTrees.Prim;
+import org.neo4j.gds.impl.spanningTrees.SpanningTree;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@GdlExtension
+class BoruvkaTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (x:Node)" +
+        ", (y:Node)" +
+        ", (z:Node)" +
+
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 3.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 4.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 5.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(e)" +
+        ", (x)-[:TYPE {cost: 1.0}]->(y)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchPrimFromStartNode(int concurrency) {
+        for (var minMax : new DoubleUnaryOperator[]{Prim.MIN_OPERATOR, Prim.MAX_OPERATOR}) {
+            for (var start : new String[]{"a", "c", "e"}) {
+                long startNodeId = idFunction.of(start);
+                var expected = new Prim(graph, graph, minMax, startNodeId, ProgressTracker.NULL_TRACKER).compute();
+                var actual = new Boruvka(
+                    graph,
+                    minMax,
+                    startNodeId,
+                    Pools.DEFAULT,
+                    concurrency,
+                    ProgressTracker.NULL_TRACKER
+                ).compute();
+
+                assertEquals(expected.head, actual.head);
+                assertEquals(expected.effectiveNodeCount, actual.effectiveNodeCount);
+                assertArrayEquals(expected.parent.toArray(), actual.parent.toArray());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldSpanAllComponents(int concurrency) {
+        SpanningTree forest = new Boruvka(
+            graph,
+            Prim.MIN_OPERATOR,
+            Pools.DEFAULT,
+            concurrency,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertEquals(graph.nodeCount(), forest.effectiveNodeCount);
+
+        long[] relationships = {0};
+        double[] totalWeight = {0};
+        forest.forEach((parent, child) -> {
+            relationships[0]++;
+            totalWeight[0] += graph.relationshipProperty(parent, child, Double.NaN);
+            return true;
+        });
+        // 5 nodes + 2 nodes + 1 isolated node
+        assertEquals(5, relationships[0]);
+        assertEquals(1.0 + 2.0 + 4.0 + 5.0 + 1.0, totalWeight[0]);
+
+        assertEquals(forest.head(idFunction.of("a")), forest.head(idFunction.of("e")));
+        assertEquals(forest.head(idFunction.of("x")), forest.head(idFunction.of("y")));
+        assertEquals(-1, forest.parent.get(idFunction.of("z")));
+    }
+
+    @Test
+    void shouldRootTreesAtTheirLowestNodeId() {
+        SpanningTree forest = new Boruvka(
+            graph,
+            Prim.MAX_OPERATOR,
+            Pools.DEFAULT,
+            4,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            long root = forest.head(nodeId);
+            assertEquals(-1, forest.parent.get(root));
+            for (long other = 0; other < root; other++) {
+                assertNotEquals(root, forest.head(other), "root is not the lowest id of its tree");
+            }
+        }
+    }
+}
@@ -138,13 +138,13 @@ class PrimTest {
 
     private void assertMinimum(SpanningTree mst) {
         assertEquals(5, mst.effectiveNodeCount);
-        assertEquals(-1, mst.parent[y]);
-        assertEquals(-1, mst.parent[z]);
+        assertEquals(-1, mst.parent.get(y));
+        assertEquals(-1, mst.parent.get(z));
     }
 
     private void assertMaximum(SpanningTree mst) {
         assertEquals(5, mst.effectiveNodeCount);
-        assertEquals(-1, mst.parent[y]);
-        assertEquals(-1, mst.parent[z]);
+        assertEquals(-1, mst.parent.get(y));
+        assertEquals(-1, mst.parent.get(z));
     }
 }
@@ -23,6 +23,7 @@ import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.NodePropertiesWriter;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.impl.scc.SccAlgorithm;
@@ -55,6 +56,8 @@ public abstract class SccProc<PROC_RESULT> extends NodePropertiesWriter<SccAlgor
             ) {
                 return new SccAlgorithm(
                     graph,
+                    Pools.DEFAULT,
+                    configuration.concurrency(),
                     progressTracker
                 );
             }
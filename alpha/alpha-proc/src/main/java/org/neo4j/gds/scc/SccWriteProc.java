@@ -94,7 +94,7 @@ public class SccWriteProc extends SccProc<SccWriteProc.SccResult> {
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(progressTracker)
-                    .parallel(Pools.DEFAULT, config.writeConcurrency())
+                    .parallel(Pools.io(), config.writeConcurrency())
                     .build();
 
                 var properties = new LongNodeProperties() {
@@ -108,7 +108,7 @@ public abstract class KSpanningTreeProc extends NodePropertiesWriter<KSpanningTr
                 final NodePropertyExporter exporter = nodePropertyExporterBuilder
                     .withIdMap(graph)
                     .withTerminationFlag(TerminationFlag.wrap(transaction)).withProgressTracker(progressTracker)
-                    .parallel(Pools.DEFAULT, config.writeConcurrency())
+                    .parallel(Pools.io(), config.writeConcurrency())
                     .build();
 
                 var properties = new DoubleNodeProperties() {
@@ -119,7 +119,7 @@ public abstract class KSpanningTreeProc extends NodePropertiesWriter<KSpanningTr
 
                     @Override
                     public double doubleValue(long nodeId) {
-                        return spanningTree.head((int) nodeId);
+                        return spanningTree.head(nodeId);
                     }
                 };
 
@@ -20,14 +20,17 @@
 package org.neo4j.gds.spanningtree;
 
 import org.neo4j.gds.AlgoBaseProc;
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.write.RelationshipExporter;
 import org.neo4j.gds.core.write.RelationshipExporterBuilder;
 import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.impl.spanningTrees.Boruvka;
 import org.neo4j.gds.impl.spanningTrees.Prim;
 import org.neo4j.gds.impl.spanningTrees.SpanningGraph;
 import org.neo4j.gds.impl.spanningTrees.SpanningTree;
@@ -36,14 +39,16 @@ import org.neo4j.procedure.Context;
 
 import java.util.stream.Stream;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 // TODO: Always undirected
-public abstract class SpanningTreeProc extends AlgoBaseProc<Prim, SpanningTree, SpanningTreeConfig, Prim.Result> {
+public abstract class SpanningTreeProc extends AlgoBaseProc<Algorithm<SpanningTree>, SpanningTree, SpanningTreeConfig, Prim.Result> {
 
     @Context
     public RelationshipExporterBuilder<? extends RelationshipExporter> relationshipExporterBuilder;
 
     @Override
-    public GraphAlgorithmFactory<Prim, SpanningTreeConfig> algorithmFactory() {
+    public GraphAlgorithmFactory<Algorithm<SpanningTree>, SpanningTreeConfig> algorithmFactory() {
         return new GraphAlgorithmFactory<>() {
             @Override
             public String taskName() {
@@ -51,22 +56,42 @@ public abstract class SpanningTreeProc extends AlgoBaseProc<Prim, SpanningTree,
             }
 
             @Override
-            public Prim build(
+            public Algorithm<SpanningTree> build(
                 Graph graph,
                 SpanningTreeConfig configuration,
                 ProgressTracker progressTracker
             ) {
                 InputNodeValidator.validateStartNode(configuration.startNodeId(), graph);
+                // Prim is limited to int node ids and a single thread.
+                // Boruvka treats every relationship as undirected, so it only replaces Prim on undirected projections.
+                boolean exceedsPrim = graph.nodeCount() > Integer.MAX_VALUE;
+                if (!graph.isUndirected()) {
+                    if (exceedsPrim) {
+                        throw new IllegalArgumentException(formatWithLocale(
+                            "Spanning trees over more than %d nodes require an undirected projection.",
+                            Integer.MAX_VALUE
+                        ));
+                    }
+                } else if (configuration.concurrency() > 1 || exceedsPrim) {
+                    return new Boruvka(
+                        graph,
+                        configuration.minMax(),
+                        configuration.startNodeId(),
+                        Pools.DEFAULT,
+                        configuration.concurrency(),
+                        progressTracker
+                    );
+                }
                 return new Prim(graph, graph, configuration.minMax(), configuration.startNodeId(), progressTracker);
             }
         };
     }
 
     @Override
-    public ComputationResultConsumer<Prim, SpanningTree, SpanningTreeConfig, Stream<Prim.Result>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<SpanningTree>, SpanningTree, SpanningTreeConfig, Stream<Prim.Result>> computationResultConsumer() {
         return (computationResult, executionContext) -> {
             Graph graph = computationResult.graph();
-            Prim prim = computationResult.algorithm();
+            Algorithm<SpanningTree> algorithm = computationResult.algorithm();
             SpanningTree spanningTree = computationResult.result();
             SpanningTreeConfig config = computationResult.config();
 
@@ -91,7 +116,7 @@ public abstract class SpanningTreeProc extends AlgoBaseProc<Prim, SpanningTree,
                 relationshipExporterBuilder
                     .withGraph(spanningGraph)
                     .withIdMappingOperator(spanningGraph::toOriginalNodeId)
-                    .withTerminationFlag(prim.getTerminationFlag())
+                    .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(progressTracker)
                     .build()
                     .write(config.writeProperty(), config.weightWriteProperty());
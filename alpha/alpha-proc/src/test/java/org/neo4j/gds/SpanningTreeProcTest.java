@@ -196,6 +196,41 @@ public class SpanningTreeProcTest extends BaseProcTest {
         assertEquals(relCount, 4);
     }
 
+    @Test
+    void shouldComputeSameTreeInParallel() {
+        var createQuery = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .graphProject()
+            .withNodeLabel("Node")
+            .withRelationshipType("TYPE", Orientation.UNDIRECTED)
+            .withRelationshipProperty("cost", DefaultValue.of(1.0D))
+            .yields();
+        runQuery(createQuery);
+
+        for (var concurrency : new int[]{1, 4}) {
+            String query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+                .algo("gds.alpha.spanningTree")
+                .writeMode()
+                .addParameter("startNodeId", getStartNodeId())
+                .addParameter("concurrency", concurrency)
+                .addParameter("writeProperty", "MST" + concurrency)
+                .addParameter("relationshipWeightProperty", "cost")
+                .addParameter("weightWriteProperty", "cost")
+                .yields("effectiveNodeCount");
+
+            runQueryWithRowConsumer(query, res -> assertEquals(5, res.getNumber("effectiveNodeCount").intValue()));
+        }
+
+        var sequentialTree = runQuery(
+            "MATCH (a)-[r:MST1]->(b) RETURN collect([id(a), id(b), r.cost]) AS tree",
+            result -> result.next().get("tree")
+        );
+        var parallelTree = runQuery(
+            "MATCH (a)-[r:MST4]->(b) RETURN collect([id(a), id(b), r.cost]) AS tree",
+            result -> result.next().get("tree")
+        );
+        assertThat((Iterable<?>) parallelTree).hasSize(4).containsExactlyInAnyOrderElementsOf((Iterable<?>) sequentialTree);
+    }
+
     @Test
     void failOnInvalidStartNode() {
         loadGraph();
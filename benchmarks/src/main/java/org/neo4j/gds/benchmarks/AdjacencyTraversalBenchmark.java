@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers the adjacency decoding path: full scans through {@link HugeGraph#forEachRelationship},
+ * cursor reuse vs. allocation, and the {@code advance}/{@code skipUntil} intersection paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyTraversalBenchmark {
+
+    @Param({"1000000"})
+    long nodeCount;
+
+    @Param({"10", "100"})
+    long averageDegree;
+
+    @Param({"POWER_LAW", "UNIFORM"})
+    RelationshipDistribution distribution;
+
+    @Param({"COMPRESSED", "BIT_PACKED", "UNCOMPRESSED"})
+    BenchmarkGraphs.AdjacencyListKind adjacencyList;
+
+    private HugeGraph graph;
+    private AdjacencyList adjacency;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        adjacencyList.enable();
+        graph = BenchmarkGraphs.generate(nodeCount, averageDegree, distribution);
+        adjacency = graph.relationshipTopology().adjacencyList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph = null;
+        BenchmarkGraphs.AdjacencyListKind.reset();
+    }
+
+    @Benchmark
+    public long forEachRelationship() {
+        var sum = new long[1];
+        var nodeCount = graph.nodeCount();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                sum[0] += target;
+                return true;
+            });
+        }
+        return sum[0];
+    }
+
+    @Benchmark
+    public long cursorAllocation() {
+        long sum = 0;
+        var nodeCount = graph.nodeCount();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            try (var cursor = adjacency.adjacencyCursor(nodeId)) {
+                while (cursor.hasNextVLong()) {
+                    sum += cursor.nextVLong();
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long cursorReuse() {
+        long sum = 0;
+        var nodeCount = graph.nodeCount();
+        AdjacencyCursor cursor = adjacency.rawAdjacencyCursor();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cursor = adjacency.adjacencyCursor(cursor, nodeId);
+            while (cursor.hasNextVLong()) {
+                sum += cursor.nextVLong();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Intersects every adjacency list with the one of its successor, which is the
+     * access pattern of triangle counting and similar algorithms.
+     */
+    @Benchmark
+    public long intersect() {
+        long matches = 0;
+        var nodeCount = graph.nodeCount();
+        AdjacencyCursor left = adjacency.rawAdjacencyCursor();
+        AdjacencyCursor right = adjacency.rawAdjacencyCursor();
+        for (long nodeId = 0; nodeId + 1 < nodeCount; nodeId++) {
+            left = adjacency.adjacencyCursor(left, nodeId);
+            right = adjacency.adjacencyCursor(right, nodeId + 1);
+            while (left.hasNextVLong() && right.hasNextVLong()) {
+                long target = left.nextVLong();
+                long other = right.advance(target);
+                if (other == target) {
+                    matches++;
+                } else if (other == AdjacencyCursor.NOT_FOUND) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.gds.annotation.SuppressForbidden;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Compares two JMH result files in JSON format and prints the relative change per benchmark.
+ * A positive speedup means that the current run is faster than the baseline.
+ * Changes within the combined error bounds of both runs are reported as {@code ~}.
+ */
+public final class BenchmarkComparison {
+
+    @SuppressForbidden(reason = "This is a command line tool that reports to stdout")
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: BenchmarkComparison <baseline.json> <results.json>");
+        }
+        var baseline = read(Path.of(args[0]));
+        var current = read(Path.of(args[1]));
+        report(baseline, current, System.out);
+    }
+
+    static Map<String, Score> read(Path resultFile) throws IOException {
+        var results = new ObjectMapper().readTree(resultFile.toFile());
+        var scores = new TreeMap<String, Score>();
+        for (var result : results) {
+            var metric = result.get("primaryMetric");
+            scores.put(key(result), new Score(
+                metric.get("score").asDouble(),
+                metric.path("scoreError").asDouble(0.0),
+                metric.get("scoreUnit").asText(),
+                result.get("mode").asText()
+            ));
+        }
+        return scores;
+    }
+
+    static void report(Map<String, Score> baseline, Map<String, Score> current, PrintStream out) {
+        out.println(formatWithLocale("%-100s %15s %15s %10s", "Benchmark", "Baseline", "Current", "Speedup"));
+        current.forEach((key, score) -> {
+            var base = baseline.get(key);
+            if (base == null) {
+                out.println(formatWithLocale("%-100s %15s %15.3f %10s", key, "-", score.value, "new"));
+                return;
+            }
+            var significant = Math.abs(score.value - base.value) > score.error + base.error;
+            out.println(formatWithLocale(
+                "%-100s %15.3f %15.3f %10s %s",
+                key,
+                base.value,
+                score.value,
+                significant ? formatWithLocale("%+.1f%%", 100.0 * (score.speedupOver(base) - 1.0)) : "~",
+                score.unit
+            ));
+        });
+    }
+
+    private static String key(JsonNode result) {
+        var params = result.path("params");
+        if (params.isMissingNode() || params.size() == 0) {
+            return result.get("benchmark").asText();
+        }
+        var paramString = StreamSupport
+            .stream(((Iterable<Map.Entry<String, JsonNode>>) params::fields).spliterator(), false)
+            .map(entry -> entry.getKey() + "=" + entry.getValue().asText())
+            .sorted()
+            .collect(Collectors.joining(",", "[", "]"));
+        return result.get("benchmark").asText() + paramString;
+    }
+
+    static final class Score {
+        final double value;
+        final double error;
+        final String unit;
+        final String mode;
+
+        Score(double value, double error, String unit, String mode) {
+            this.value = value;
+            this.error = Double.isNaN(error) ? 0.0 : error;
+            this.unit = unit;
+            this.mode = mode;
+        }
+
+        /**
+         * Throughput modes report operations per time unit, all other modes report time per operation.
+         */
+        double speedupOver(Score baseline) {
+            return "thrpt".equals(mode)
+                ? value / baseline.value
+                : baseline.value / value;
+        }
+    }
+
+    private BenchmarkComparison() {}
+}
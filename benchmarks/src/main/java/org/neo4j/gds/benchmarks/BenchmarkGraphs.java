@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+/**
+ * Shared graph generation for the benchmarks.
+ * All graphs are generated with a fixed seed to make runs comparable.
+ */
+final class BenchmarkGraphs {
+
+    static final long SEED = 42L;
+
+    enum AdjacencyListKind {
+        COMPRESSED,
+        BIT_PACKED,
+        UNCOMPRESSED;
+
+        void enable() {
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(this == UNCOMPRESSED);
+            GdsFeatureToggles.USE_BIT_PACKED_ADJACENCY_LIST.toggle(this == BIT_PACKED);
+        }
+
+        static void reset() {
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.reset();
+            GdsFeatureToggles.USE_BIT_PACKED_ADJACENCY_LIST.reset();
+        }
+    }
+
+    static HugeGraph generate(long nodeCount, long averageDegree, RelationshipDistribution distribution) {
+        return RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .orientation(Orientation.NATURAL)
+            .seed(SEED)
+            .build()
+            .generate();
+    }
+
+    private BenchmarkGraphs() {}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers the get/set paths of the paged {@code HugeXxxArray}s, both for the
+ * single page and the paged implementations, in sequential and random order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HugeArrayBenchmark {
+
+    // the larger size exceeds a single page and uses the paged implementation
+    @Param({"100000", "300000000"})
+    long size;
+
+    private HugeLongArray longs;
+    private HugeDoubleArray doubles;
+    private HugeIntArray ints;
+    private long[] randomIndices;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        longs = HugeLongArray.newArray(size);
+        doubles = HugeDoubleArray.newArray(size);
+        ints = HugeIntArray.newArray(size);
+        longs.setAll(i -> i);
+        doubles.setAll(i -> i);
+        ints.setAll(i -> (int) i);
+
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+        randomIndices = new long[1 << 20];
+        for (int i = 0; i < randomIndices.length; i++) {
+            randomIndices[i] = random.nextLong(size);
+        }
+    }
+
+    @Benchmark
+    public long longGetSequential() {
+        long sum = 0;
+        for (long i = 0; i < size; i++) {
+            sum += longs.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longGetRandom() {
+        long sum = 0;
+        for (long index : randomIndices) {
+            sum += longs.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public HugeLongArray longSetSequential() {
+        for (long i = 0; i < size; i++) {
+            longs.set(i, i);
+        }
+        return longs;
+    }
+
+    @Benchmark
+    public HugeLongArray longAddToRandom() {
+        for (long index : randomIndices) {
+            longs.addTo(index, 1L);
+        }
+        return longs;
+    }
+
+    @Benchmark
+    public double doubleGetSequential() {
+        double sum = 0;
+        for (long i = 0; i < size; i++) {
+            sum += doubles.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double doubleGetRandom() {
+        double sum = 0;
+        for (long index : randomIndices) {
+            sum += doubles.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public HugeDoubleArray doubleSetSequential() {
+        for (long i = 0; i < size; i++) {
+            doubles.set(i, i);
+        }
+        return doubles;
+    }
+
+    @Benchmark
+    public long intGetSequential() {
+        long sum = 0;
+        for (long i = 0; i < size; i++) {
+            sum += ints.get(i);
+        }
+        return sum;
+    }
+}
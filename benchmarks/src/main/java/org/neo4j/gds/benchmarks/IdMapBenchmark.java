@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers the original to internal id mapping, e.g. {@code HugeIdMap#toMappedNodeId},
+ * in scan order and in random order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IdMapBenchmark {
+
+    @Param({"10000000"})
+    long nodeCount;
+
+    private HugeGraph graph;
+    private IdMap idMap;
+    private long[] randomOriginalIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        graph = BenchmarkGraphs.generate(nodeCount, 1, RelationshipDistribution.UNIFORM);
+        idMap = graph.idMap();
+        var random = new Random(BenchmarkGraphs.SEED);
+        randomOriginalIds = new long[(int) Math.min(nodeCount, 1 << 24)];
+        for (int i = 0; i < randomOriginalIds.length; i++) {
+            randomOriginalIds[i] = idMap.toOriginalNodeId(Math.floorMod(random.nextLong(), nodeCount));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph = null;
+    }
+
+    @Benchmark
+    public long toMappedNodeIdSequential() {
+        long sum = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            sum += idMap.toMappedNodeId(nodeId);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long toMappedNodeIdRandom() {
+        long sum = 0;
+        for (long originalId : randomOriginalIds) {
+            sum += idMap.toMappedNodeId(originalId);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long toOriginalNodeId() {
+        long sum = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            sum += idMap.toOriginalNodeId(nodeId);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.core.loading.RadixSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorts relationship batches the way {@code RelationshipsBatchBuffer} does during import.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RadixSortBenchmark {
+
+    @Param({"10000", "100000"})
+    int batchSize;
+
+    @Param({"1000000", "1000000000"})
+    long maxNodeId;
+
+    private long[] source;
+    private long[] data;
+    private long[] dataCopy;
+    private long[] relationshipReferences;
+    private long[] relationshipReferencesCopy;
+    private long[][] propertyReferences;
+    private long[][] propertyReferencesCopy;
+    private int[] histogram;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new SplittableRandom(BenchmarkGraphs.SEED);
+        source = new long[batchSize * 2];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = random.nextLong(maxNodeId);
+        }
+        data = new long[source.length];
+        dataCopy = RadixSort.newCopy(data);
+        relationshipReferences = new long[batchSize];
+        relationshipReferencesCopy = RadixSort.newCopy(relationshipReferences);
+        propertyReferences = new long[batchSize][];
+        propertyReferencesCopy = RadixSort.newCopy(propertyReferences);
+        histogram = RadixSort.newHistogram(source.length);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(source, 0, data, 0, source.length);
+    }
+
+    @Benchmark
+    public long[] sortBySource() {
+        RadixSort.radixSort(
+            data,
+            dataCopy,
+            relationshipReferences,
+            relationshipReferencesCopy,
+            propertyReferences,
+            propertyReferencesCopy,
+            histogram,
+            data.length
+        );
+        return data;
+    }
+
+    @Benchmark
+    public long[] sortByTarget() {
+        RadixSort.radixSort2(
+            data,
+            dataCopy,
+            relationshipReferences,
+            relationshipReferencesCopy,
+            propertyReferences,
+            propertyReferencesCopy,
+            histogram,
+            data.length
+        );
+        return data;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers parallel relationship import, i.e. batch buffering, radix sorting,
+ * the {@code AdjacencyBuffer} and adjacency compression.
+ * The store scanning part of {@code ScanningRelationshipsImporter} needs a database
+ * and is not covered; this benchmark feeds the same import pipeline from generated data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g", "-XX:MaxDirectMemorySize=4g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RelationshipImportBenchmark {
+
+    @Param({"1000000"})
+    long nodeCount;
+
+    @Param({"20"})
+    long averageDegree;
+
+    @Param({"1", "4", "8"})
+    int concurrency;
+
+    @Param({"COMPRESSED", "BIT_PACKED", "UNCOMPRESSED"})
+    BenchmarkGraphs.AdjacencyListKind adjacencyList;
+
+    private IdMap idMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        adjacencyList.enable();
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(nodeCount)
+            .concurrency(concurrency)
+            .build();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            nodesBuilder.addNode(nodeId);
+        }
+        idMap = nodesBuilder.build().idMap();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkGraphs.AdjacencyListKind.reset();
+    }
+
+    @Benchmark
+    public Relationships importRelationships() {
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .concurrency(concurrency)
+            .build();
+
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, source -> {
+            var random = new SplittableRandom(BenchmarkGraphs.SEED + source);
+            for (long i = 0; i < averageDegree; i++) {
+                relationshipsBuilder.add(source, random.nextLong(nodeCount));
+            }
+        });
+
+        return relationshipsBuilder.build();
+    }
+}
@@ -23,4 +23,12 @@ public interface PoolSizes {
 
     int corePoolSize();
     int maxPoolSize();
+
+    /**
+     * Number of threads kept alive for blocking I/O work, such as write-back
+     * and file export, when a dedicated I/O executor is in use.
+     */
+    default int ioPoolSize() {
+        return maxPoolSize();
+    }
 }
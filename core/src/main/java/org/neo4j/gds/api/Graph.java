@@ -68,6 +68,52 @@ public interface Graph extends IdMap, NodePropertyContainer, Degrees, Relationsh
 
     Graph relationshipTypeFilteredGraph(Set<RelationshipType> relationshipTypes);
 
+    /**
+     * Whether the incoming relationships of a node can be traversed via {@link #forEachInverseRelationship}.
+     * Undirected graphs always support this, directed graphs only if an inverse index has been built for them.
+     */
+    default boolean hasInverseIndex() {
+        return isUndirected();
+    }
+
+    /**
+     * @return the number of relationships that end at the given node.
+     */
+    default int inverseDegree(long nodeId) {
+        assertInverseIndex();
+        return degree(nodeId);
+    }
+
+    /**
+     * Calls the consumer for every relationship that ends at the given node.
+     * The given node is passed as the source and the start node of the relationship as the target.
+     */
+    default void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        assertInverseIndex();
+        forEachRelationship(nodeId, consumer);
+    }
+
+    /**
+     * Calls the consumer for every relationship that ends at the given node.
+     * The given node is passed as the source and the start node of the relationship as the target.
+     */
+    default void forEachInverseRelationship(
+        long nodeId,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        assertInverseIndex();
+        forEachRelationship(nodeId, fallbackValue, consumer);
+    }
+
+    private void assertInverseIndex() {
+        if (!isUndirected()) {
+            throw new UnsupportedOperationException(
+                "Incoming relationships can only be traversed on undirected graphs or graphs with an inverse index."
+            );
+        }
+    }
+
     boolean hasRelationshipProperty();
 
     void canRelease(boolean canRelease);
@@ -191,6 +191,30 @@ public abstract class GraphAdapter implements Graph {
         return graph.streamRelationships(nodeId, fallbackValue);
     }
 
+    @Override
+    public boolean hasInverseIndex() {
+        return graph.hasInverseIndex();
+    }
+
+    @Override
+    public int inverseDegree(long nodeId) {
+        return graph.inverseDegree(nodeId);
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        graph.forEachInverseRelationship(nodeId, consumer);
+    }
+
+    @Override
+    public void forEachInverseRelationship(
+        long nodeId,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        graph.forEachInverseRelationship(nodeId, fallbackValue, consumer);
+    }
+
     @Override
     public Graph relationshipTypeFilteredGraph(Set<RelationshipType> relationshipTypes) {
         return graph.relationshipTypeFilteredGraph(relationshipTypes);
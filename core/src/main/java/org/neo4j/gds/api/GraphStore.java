@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -93,6 +94,17 @@ public interface GraphStore {
 
     void removeNodeProperty(String propertyKey);
 
+    /**
+     * @return the metadata recorded for the node property, or an empty map if there is none
+     */
+    Map<String, Object> nodePropertyMetadata(String propertyKey);
+
+    /**
+     * Records how the values of an existing node property were computed, replacing any previous metadata.
+     * Values are strings, longs, booleans or lists of them. The metadata is removed together with the property.
+     */
+    void putNodePropertyMetadata(String propertyKey, Map<String, Object> metadata);
+
     long relationshipCount();
 
     long relationshipCount(RelationshipType relationshipType);
@@ -33,6 +33,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.GraphStoreFactory;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.compress.AdjacencyListStorage;
 import org.neo4j.gds.core.loading.NativeFactory;
 
 import java.util.HashSet;
@@ -75,6 +76,17 @@ public interface GraphProjectFromStoreConfig extends GraphProjectConfig {
         return PropertyMappings.of();
     }
 
+    /**
+     * Where the pages of the compressed adjacency lists are stored.
+     * Off-heap and memory mapped storage keep large graphs out of the Java heap.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.core.compress.AdjacencyListStorage#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.compress.AdjacencyListStorage#toString")
+    default AdjacencyListStorage adjacencyListStorage() {
+        return AdjacencyListStorage.HEAP;
+    }
+
     @Configuration.Ignore
     @Override
     default GraphStoreFactory.Supplier graphStoreFactory() {
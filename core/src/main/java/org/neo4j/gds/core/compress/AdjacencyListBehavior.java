@@ -22,21 +22,27 @@ package org.neo4j.gds.core.compress;
 import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.huge.BitPackedAdjacencyList;
 import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.OffHeapCompressedAdjacencyList;
 import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.loading.BitPackedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.loading.CompressedAdjacencyListBuilderFactory;
+import org.neo4j.gds.core.loading.DeltaBitPackingCompressor;
 import org.neo4j.gds.core.loading.DeltaVarLongCompressor;
+import org.neo4j.gds.core.loading.OffHeapCompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.loading.RawCompressor;
 import org.neo4j.gds.core.loading.UncompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.nio.file.Path;
 import java.util.function.LongSupplier;
 import java.util.stream.Stream;
 
 /**
  * Manages different configurations of adjacency list building,
- * i.e., compressed or uncompressed.
+ * i.e., compressed, bit packed, compressed off-heap or uncompressed.
  */
 public interface AdjacencyListBehavior {
 
@@ -44,12 +50,28 @@ public interface AdjacencyListBehavior {
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
         Aggregation[] aggregations
+    ) {
+        return asConfigured(nodeCountSupplier, propertyMappings, aggregations, AdjacencyListStorage.HEAP);
+    }
+
+    static AdjacencyCompressorFactory asConfigured(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        AdjacencyListStorage storage
     ) {
         var noAggregation = Stream.of(aggregations).allMatch(aggregation -> aggregation == Aggregation.NONE);
 
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? uncompressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation)
-            : compressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+        if (storage != AdjacencyListStorage.HEAP) {
+            return compressedOffHeap(nodeCountSupplier, propertyMappings, aggregations, noAggregation, storage);
+        }
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return uncompressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+        }
+        if (GdsFeatureToggles.USE_BIT_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return bitPacked(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
+        }
+        return compressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation);
     }
 
     static AdjacencyCompressorFactory compressed(
@@ -67,6 +89,42 @@ public interface AdjacencyListBehavior {
         );
     }
 
+    static AdjacencyCompressorFactory bitPacked(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return DeltaBitPackingCompressor.factory(
+            nodeCountSupplier,
+            BitPackedAdjacencyListBuilderFactory.of(),
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
+    static AdjacencyCompressorFactory compressedOffHeap(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        AdjacencyListStorage storage
+    ) {
+        var builderFactory = storage == AdjacencyListStorage.MEMORY_MAPPED
+            ? OffHeapCompressedAdjacencyListBuilderFactory.memoryMapped(
+                Path.of(GdsFeatureToggles.OFF_HEAP_ADJACENCY_LIST_DIRECTORY)
+            )
+            : OffHeapCompressedAdjacencyListBuilderFactory.direct();
+        return DeltaVarLongCompressor.factory(
+            nodeCountSupplier,
+            builderFactory,
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
     static AdjacencyCompressorFactory uncompressed(
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
@@ -83,15 +141,34 @@ public interface AdjacencyListBehavior {
     }
 
     static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
-            : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        if (GdsFeatureToggles.USE_BIT_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return BitPackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
     }
 
     static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
-            : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        return adjacencyListEstimation(relationshipType, undirected, AdjacencyListStorage.HEAP);
+    }
+
+    static MemoryEstimation adjacencyListEstimation(
+        RelationshipType relationshipType,
+        boolean undirected,
+        AdjacencyListStorage storage
+    ) {
+        if (storage != AdjacencyListStorage.HEAP) {
+            return OffHeapCompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        if (GdsFeatureToggles.USE_BIT_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return BitPackedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
     }
 
     static MemoryEstimation adjacencyPropertiesEstimation(RelationshipType relationshipType, boolean undirected) {
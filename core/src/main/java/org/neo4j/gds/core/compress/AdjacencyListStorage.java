@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compress;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Where the pages of a compressed adjacency list are stored.
+ */
+public enum AdjacencyListStorage {
+
+    HEAP,
+    // direct byte buffers outside of the Java heap
+    OFF_HEAP,
+    // a memory mapped scratch file, allows adjacency lists larger than the available memory
+    MEMORY_MAPPED;
+
+    private static final List<String> VALUES = Arrays
+        .stream(AdjacencyListStorage.values())
+        .map(AdjacencyListStorage::name)
+        .collect(Collectors.toList());
+
+    public static AdjacencyListStorage parse(Object input) {
+        if (input instanceof String) {
+            var inputString = ((String) input).toUpperCase(Locale.ENGLISH);
+            if (VALUES.contains(inputString)) {
+                return AdjacencyListStorage.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(String.format(
+                Locale.ENGLISH,
+                "Adjacency list storage `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        }
+        else if (input instanceof AdjacencyListStorage) {
+            return (AdjacencyListStorage) input;
+        }
+
+        throw new IllegalArgumentException(String.format(
+            Locale.ENGLISH,
+            "Expected AdjacencyListStorage or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(AdjacencyListStorage storage) {
+        return storage.toString();
+    }
+}
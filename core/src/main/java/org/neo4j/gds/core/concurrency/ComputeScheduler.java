@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.JobId;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Grants compute slots to running jobs so that the sum of the concurrency
+ * used by all jobs stays within a global budget.
+ *
+ * A job is bound to the thread that registered its task with the
+ * {@link org.neo4j.gds.core.utils.progress.TaskRegistry}.
+ * Parallel work started from that thread asks for slots through {@link #acquire(int, TerminationFlag)}.
+ * If slots are available, the job gets as many as it asked for, limited by the free slots and the quota of its user.
+ * If none are available, the caller waits until slots are released.
+ * Waiting jobs are admitted by priority and then in arrival order.
+ * Work that is not bound to a job, e.g. nested parallelism on worker threads, is never limited.
+ */
+public final class ComputeScheduler {
+
+    public static final ComputeScheduler UNLIMITED = new ComputeScheduler(Integer.MAX_VALUE, Integer.MAX_VALUE, false);
+
+    private static final ThreadLocal<Job> CURRENT_JOB = new ThreadLocal<>();
+    private static final long WAIT_MILLIS = 100;
+
+    private static volatile ComputeScheduler instance = UNLIMITED;
+
+    private final int totalSlots;
+    private final int defaultUserQuota;
+    private final boolean enabled;
+
+    private final Map<String, Integer> userQuotas;
+    private final Map<String, JobPriority> userPriorities;
+
+    private final ReentrantLock lock;
+    private final Condition slotsReleased;
+    private final TreeSet<Waiter> waiters;
+    private final Map<String, Integer> usedSlotsPerUser;
+    private final Map<Job, ComputeAllocation> allocations;
+    private int usedSlots;
+    private long arrivals;
+
+    public static void instance(ComputeScheduler scheduler) {
+        instance = scheduler;
+    }
+
+    public static ComputeScheduler instance() {
+        return instance;
+    }
+
+    public static ComputeScheduler create(int totalSlots, int defaultUserQuota) {
+        if (totalSlots < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of compute slots must be positive, but got %d.",
+                totalSlots
+            ));
+        }
+        return new ComputeScheduler(totalSlots, defaultUserQuota < 1 ? totalSlots : defaultUserQuota, true);
+    }
+
+    private ComputeScheduler(int totalSlots, int defaultUserQuota, boolean enabled) {
+        this.totalSlots = totalSlots;
+        this.defaultUserQuota = defaultUserQuota;
+        this.enabled = enabled;
+        this.userQuotas = new ConcurrentHashMap<>();
+        this.userPriorities = new ConcurrentHashMap<>();
+        this.lock = new ReentrantLock();
+        this.slotsReleased = lock.newCondition();
+        this.waiters = new TreeSet<>(Comparator
+            .comparing((Waiter waiter) -> waiter.job.priority, Comparator.reverseOrder())
+            .thenComparingLong(waiter -> waiter.arrival));
+        this.usedSlotsPerUser = new HashMap<>();
+        this.allocations = new HashMap<>();
+    }
+
+    /**
+     * Binds the calling thread to the given job until {@link #exitJob()} is called.
+     */
+    public static void enterJob(String username, JobId jobId, String taskName) {
+        var priority = instance.userPriorities.getOrDefault(username, JobPriority.NORMAL);
+        CURRENT_JOB.set(new Job(username, jobId.asString(), taskName, priority));
+    }
+
+    public static void exitJob() {
+        CURRENT_JOB.remove();
+    }
+
+    public int totalSlots() {
+        return totalSlots;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public void userQuota(String username, int slots) {
+        if (slots < 1) {
+            userQuotas.remove(username);
+        } else {
+            userQuotas.put(username, slots);
+        }
+    }
+
+    public int userQuota(String username) {
+        return Math.min(totalSlots, userQuotas.getOrDefault(username, defaultUserQuota));
+    }
+
+    public void userPriority(String username, JobPriority priority) {
+        userPriorities.put(username, priority);
+    }
+
+    public JobPriority userPriority(String username) {
+        return userPriorities.getOrDefault(username, JobPriority.NORMAL);
+    }
+
+    /**
+     * Requests {@code concurrency} slots for the job bound to the calling thread.
+     * The returned slots must be closed once the parallel work is done.
+     * The number of granted slots is at least one and at most {@code concurrency}.
+     */
+    public ComputeSlots acquire(int concurrency, TerminationFlag terminationFlag) {
+        var job = CURRENT_JOB.get();
+        if (!enabled || job == null || job.holdsSlots) {
+            return new ComputeSlots(this, null, concurrency);
+        }
+
+        lock.lock();
+        try {
+            var waiter = new Waiter(job, arrivals++);
+            waiters.add(waiter);
+            try {
+                int available;
+                while ((available = availableSlots(waiter)) == 0) {
+                    terminationFlag.assertRunning();
+                    slotsReleased.await(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                int granted = Math.min(concurrency, available);
+                usedSlots += granted;
+                usedSlotsPerUser.merge(job.username, granted, Integer::sum);
+                allocations.put(job, ImmutableComputeAllocation.of(
+                    job.username,
+                    job.jobId,
+                    job.taskName,
+                    job.priority,
+                    concurrency,
+                    granted
+                ));
+                job.holdsSlots = true;
+                return new ComputeSlots(this, job, granted);
+            } finally {
+                waiters.remove(waiter);
+                // the next waiter might be admissible now
+                slotsReleased.signalAll();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the current allocations of all users
+     */
+    public List<ComputeAllocation> allocations() {
+        lock.lock();
+        try {
+            return new ArrayList<>(allocations.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(Job job, int slots) {
+        lock.lock();
+        try {
+            usedSlots -= slots;
+            usedSlotsPerUser.computeIfPresent(job.username, (user, used) -> used == slots ? null : used - slots);
+            allocations.remove(job);
+            job.holdsSlots = false;
+            slotsReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A waiter may take slots if no waiter ahead of it can be admitted.
+     * Waiters ahead of it that exceed their user quota do not block it.
+     * Must be called while holding the lock.
+     */
+    private int availableSlots(Waiter waiter) {
+        int free = totalSlots - usedSlots;
+        if (free <= 0) {
+            return 0;
+        }
+        for (Waiter ahead : waiters) {
+            int available = Math.min(free, userQuota(ahead.job.username) - usedSlotsPerUser.getOrDefault(ahead.job.username, 0));
+            if (ahead == waiter) {
+                return Math.max(0, available);
+            }
+            if (available > 0) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    static final class Job {
+        final String username;
+        final String jobId;
+        final String taskName;
+        final JobPriority priority;
+        boolean holdsSlots;
+
+        Job(String username, String jobId, String taskName, JobPriority priority) {
+            this.username = username;
+            this.jobId = jobId;
+            this.taskName = taskName;
+            this.priority = priority;
+        }
+    }
+
+    private static final class Waiter {
+        final Job job;
+        final long arrival;
+
+        Waiter(Job job, long arrival) {
+            this.job = job;
+            this.arrival = arrival;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compute slots granted by the {@link ComputeScheduler}.
+ * Closing returns the slots to the scheduler.
+ */
+public final class ComputeSlots implements AutoCloseable {
+
+    private final ComputeScheduler scheduler;
+    private final @Nullable ComputeScheduler.Job job;
+    private final int granted;
+    private boolean closed;
+
+    ComputeSlots(ComputeScheduler scheduler, @Nullable ComputeScheduler.Job job, int granted) {
+        this.scheduler = scheduler;
+        this.job = job;
+        this.granted = granted;
+    }
+
+    public int granted() {
+        return granted;
+    }
+
+    @Override
+    public void close() {
+        if (!closed && job != null) {
+            scheduler.release(job, granted);
+        }
+        closed = true;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Description;
+import org.neo4j.configuration.DocumentedDefaultValue;
+import org.neo4j.configuration.SettingsDeclaration;
+import org.neo4j.graphdb.config.Setting;
+
+import static org.neo4j.configuration.SettingImpl.newBuilder;
+import static org.neo4j.configuration.SettingValueParsers.BOOL;
+import static org.neo4j.configuration.SettingValueParsers.INT;
+import static org.neo4j.configuration.SettingValueParsers.ofEnum;
+
+@ServiceProvider
+public final class ExecutorSettings implements SettingsDeclaration {
+
+    @Description("Executor backend used for blocking I/O work such as write-back and export.")
+    @DocumentedDefaultValue("SHARED")
+    public static final Setting<ExecutorBackend> executor_backend = newBuilder(
+        "gds.executor_backend",
+        ofEnum(ExecutorBackend.class),
+        ExecutorBackend.SHARED
+    ).build();
+
+    @Description("Enable the global scheduler that limits the total concurrency of all running jobs.")
+    @DocumentedDefaultValue("false")
+    public static final Setting<Boolean> compute_scheduler_enabled = newBuilder(
+        "gds.compute_scheduler.enabled",
+        BOOL,
+        false
+    ).build();
+
+    @Description("Number of compute slots shared by all jobs. Defaults to the number of available processors.")
+    @DocumentedDefaultValue("0")
+    public static final Setting<Integer> compute_slots = newBuilder(
+        "gds.compute_scheduler.slots",
+        INT,
+        0
+    ).build();
+
+    @Description("Maximum number of compute slots a single user can hold. Defaults to all slots.")
+    @DocumentedDefaultValue("0")
+    public static final Setting<Integer> compute_slots_per_user = newBuilder(
+        "gds.compute_scheduler.slots_per_user",
+        INT,
+        0
+    ).build();
+}
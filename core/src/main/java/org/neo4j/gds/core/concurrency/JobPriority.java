@@ -17,15 +17,10 @@
  * You should have received a copy of the GNU General Public License
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-package org.neo4j.gds.labelpropagation;
+package org.neo4j.gds.core.concurrency;
 
-interface Step extends Runnable {
-    @Override
-    void run();
-
-    boolean didConverge();
-
-    Step next();
-
-    default void release() {}
+public enum JobPriority {
+    LOW,
+    NORMAL,
+    HIGH
 }
@@ -27,6 +27,8 @@ import org.neo4j.gds.core.utils.BiLongConsumer;
 import org.neo4j.gds.core.utils.LazyMappingCollection;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.utils.ExceptionUtil;
 
@@ -107,6 +109,59 @@ public final class ParallelUtil {
         });
     }
 
+    /**
+     * Runs one task per degree partition of the given graph on the given executor, using at most {@code concurrency} threads.
+     * Partitions are split further by their degree sum as long as other workers are idle,
+     * which prevents a single partition with high degree nodes from dominating the runtime.
+     * The task creator and the tasks may be called from multiple threads at the same time.
+     *
+     * @param concurrency     how many workers should run simultaneously
+     * @param graph           the graph whose degrees are used for partitioning
+     * @param taskCreator     creates the task that processes a single partition
+     * @param terminationFlag checked before a task is started
+     * @param executor        the executor to run the workers on
+     * @return the executed tasks and statistics about their runtime
+     */
+    public static <TASK extends Runnable> WorkStealingResult<TASK> runWithWorkStealing(
+        int concurrency,
+        Graph graph,
+        Function<DegreePartition, TASK> taskCreator,
+        TerminationFlag terminationFlag,
+        ExecutorService executor
+    ) {
+        return runWithWorkStealing(
+            concurrency,
+            graph.nodeCount(),
+            graph::degree,
+            taskCreator,
+            terminationFlag,
+            executor
+        );
+    }
+
+    /**
+     * @see #runWithWorkStealing(int, Graph, Function, TerminationFlag, ExecutorService)
+     */
+    public static <TASK extends Runnable> WorkStealingResult<TASK> runWithWorkStealing(
+        int concurrency,
+        long nodeCount,
+        PartitionUtils.DegreeFunction degrees,
+        Function<DegreePartition, TASK> taskCreator,
+        TerminationFlag terminationFlag,
+        ExecutorService executor
+    ) {
+        try (var slots = ComputeScheduler.instance().acquire(concurrency, terminationFlag)) {
+            return WorkStealingRunner.run(
+                slots.granted(),
+                nodeCount,
+                degrees,
+                taskCreator,
+                terminationFlag,
+                executor
+            );
+        }
+    }
+
     /**
      * @return the number of threads required to compute elementCount with the given batchSize
      */
@@ -288,7 +343,9 @@ public final class ParallelUtil {
      * Runs a single task and waits until it's finished.
      */
     public static void run(Runnable task, ExecutorService executor) {
-        awaitTermination(Collections.singleton(executor.submit(task)));
+        try (var ignored = ComputeScheduler.instance().acquire(1, TerminationFlag.RUNNING_TRUE)) {
+            awaitTermination(Collections.singleton(executor.submit(task)));
+        }
     }
 
     /**
@@ -297,6 +354,9 @@ public final class ParallelUtil {
      * <p>
      * This is similar to {@link ExecutorService#invokeAll(Collection)},
      * except that all Exceptions thrown by any task are chained together.
+     * <p>
+     * If the {@link ComputeScheduler} grants fewer slots than there are tasks,
+     * at most the granted number of tasks runs at once.
      */
     public static void run(
         final Collection<? extends Runnable> tasks,
@@ -310,7 +370,13 @@ public final class ParallelUtil {
         final ExecutorService executor,
         final Collection<Future<?>> futures
     ) {
-        awaitTermination(run(tasks, true, executor, futures));
+        try (var slots = ComputeScheduler.instance().acquire(Math.max(1, tasks.size()), TerminationFlag.RUNNING_TRUE)) {
+            if (slots.granted() < tasks.size()) {
+                runWithConcurrency(slots.granted(), tasks, executor);
+            } else {
+                awaitTermination(run(tasks, true, executor, futures));
+            }
+        }
     }
 
     public static Collection<Future<?>> run(
@@ -1161,15 +1227,35 @@ public final class ParallelUtil {
         final TerminationFlag terminationFlag,
         final ExecutorService executor
     ) {
-        if (!canRunInParallel(executor) || concurrency <= 1) {
-            while (tasks.hasNext()) {
-                Runnable task = tasks.next();
-                terminationFlag.assertRunning();
-                task.run();
+        boolean parallel = canRunInParallel(executor) && concurrency > 1;
+
+        // the global scheduler may shrink the concurrency or block until other jobs release their slots,
+        // sequential runs take a single slot so that they are accounted for as well
+        try (var slots = ComputeScheduler.instance().acquire(parallel ? concurrency : 1, terminationFlag)) {
+            if (!parallel || slots.granted() <= 1) {
+                runSequentially(tasks, terminationFlag);
+            } else {
+                runWithGrantedConcurrency(slots.granted(), tasks, waitNanos, maxWaitRetries, terminationFlag, executor);
             }
-            return;
         }
+    }
+
+    private static void runSequentially(final Iterator<? extends Runnable> tasks, final TerminationFlag terminationFlag) {
+        while (tasks.hasNext()) {
+            Runnable task = tasks.next();
+            terminationFlag.assertRunning();
+            task.run();
+        }
+    }
 
+    private static void runWithGrantedConcurrency(
+        final int concurrency,
+        final Iterator<? extends Runnable> tasks,
+        final long waitNanos,
+        final long maxWaitRetries,
+        final TerminationFlag terminationFlag,
+        final ExecutorService executor
+    ) {
         CompletionService completionService =
             new CompletionService(executor, concurrency);
 
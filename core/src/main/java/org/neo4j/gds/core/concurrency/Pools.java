@@ -29,6 +29,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -40,6 +41,10 @@ public final class Pools {
     public static final ExecutorService DEFAULT_SINGLE_THREAD_POOL = createSingleThreadPool("algo");
 
     static final String THREAD_NAME_PREFIX = "gds";
+    static final String IO_THREAD_NAME_PREFIX = THREAD_NAME_PREFIX + "-io";
+
+    private static volatile ExecutorBackend ioBackend = ExecutorBackend.SHARED;
+    private static volatile ExecutorService ioPool;
 
     private Pools() {
         throw new UnsupportedOperationException();
@@ -58,6 +63,52 @@ public final class Pools {
         );
     }
 
+    public static void ioBackend(ExecutorBackend backend) {
+        ioBackend = backend;
+    }
+
+    public static ExecutorBackend ioBackend() {
+        return ioBackend;
+    }
+
+    /**
+     * Executor for work that mostly blocks on transactions or files, e.g. property write-back and CSV export.
+     * With {@link ExecutorBackend#SHARED} this is the {@link #DEFAULT} pool.
+     * With {@link ExecutorBackend#DEDICATED_IO} it is a lazily created pool with an unbounded FIFO queue,
+     * so that tasks from concurrent jobs are admitted in submission order without blocking the caller,
+     * and idle threads are released after the keep-alive.
+     */
+    public static ExecutorService io() {
+        if (ioBackend == ExecutorBackend.SHARED) {
+            return DEFAULT;
+        }
+        var pool = ioPool;
+        if (pool == null) {
+            synchronized (Pools.class) {
+                pool = ioPool;
+                if (pool == null) {
+                    pool = createIoPool();
+                    ioPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    static ExecutorService createIoPool() {
+        var ioPoolSize = PoolSizesService.poolSizes().ioPoolSize();
+        var pool = new ThreadPoolExecutor(
+            ioPoolSize,
+            ioPoolSize,
+            30L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            NamedThreadFactory.daemon(IO_THREAD_NAME_PREFIX)
+        );
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
     public static ExecutorService createSingleThreadPool(String threadPrefix) {
         return Executors.newSingleThreadExecutor(NamedThreadFactory.daemon(threadPrefix));
     }
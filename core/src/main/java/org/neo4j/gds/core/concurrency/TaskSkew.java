@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.ValueClass;
+
+/**
+ * Describes how evenly the work of a parallel execution was spread over its tasks.
+ */
+@ValueClass
+public interface TaskSkew {
+
+    long taskCount();
+
+    /**
+     * @return how often a partition has been split in order to feed idle workers
+     */
+    long splitCount();
+
+    long minTaskNanos();
+
+    long maxTaskNanos();
+
+    long totalTaskNanos();
+
+    long maxTaskDegree();
+
+    long totalDegree();
+
+    @Value.Derived
+    default double meanTaskNanos() {
+        return taskCount() == 0 ? 0D : (double) totalTaskNanos() / taskCount();
+    }
+
+    /**
+     * @return the ratio of the slowest task to the average task, 1.0 means perfectly balanced
+     */
+    @Value.Derived
+    default double skew() {
+        var mean = meanTaskNanos();
+        return mean == 0D ? 1D : maxTaskNanos() / mean;
+    }
+}
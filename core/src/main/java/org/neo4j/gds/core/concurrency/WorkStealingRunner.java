@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Executes degree partitions on the given executor and splits them while other workers are idle.
+ *
+ * The node range is divided into blocks of {@link #BLOCK_SIZE} nodes. A prefix sum
+ * over the block weights, i.e. degree plus one per node, allows to split any block
+ * aligned range into two halves of equal weight in logarithmic time. A range is split
+ * until its weight falls below the grain or enough ranges are queued for idle workers
+ * to steal. A single supernode therefore only occupies one worker, while the rest of
+ * its former batch is picked up by the others.
+ *
+ * The workers share a single queue of ranges, so any executor can run them and no
+ * dedicated fork-join pool is needed.
+ */
+final class WorkStealingRunner<TASK extends Runnable> {
+
+    static final int BLOCK_SHIFT = 6;
+    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    // how many tasks per worker we aim for if the degree distribution is uniform
+    private static final int TASKS_PER_WORKER = 8;
+    // how long an idle worker waits before it looks for a range again
+    private static final long IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private final long nodeCount;
+    private final HugeLongArray blockWeights;
+    private final long grain;
+    private final Function<DegreePartition, TASK> taskCreator;
+    private final TerminationFlag terminationFlag;
+    private final ConcurrentLinkedQueue<ExecutedTask<TASK>> executedTasks;
+    private final AtomicLong splits;
+    private final int concurrency;
+    private final ConcurrentLinkedDeque<Range> queuedRanges;
+    private final AtomicInteger queuedCount;
+    private final AtomicLong pendingRanges;
+    private final AtomicBoolean failed;
+
+    static <TASK extends Runnable> WorkStealingResult<TASK> run(
+        int concurrency,
+        long nodeCount,
+        PartitionUtils.DegreeFunction degrees,
+        Function<DegreePartition, TASK> taskCreator,
+        TerminationFlag terminationFlag,
+        ExecutorService executor
+    ) {
+        var runner = new WorkStealingRunner<>(
+            concurrency,
+            nodeCount,
+            blockWeights(nodeCount, degrees),
+            taskCreator,
+            terminationFlag
+        );
+        return runner.run(executor);
+    }
+
+    /**
+     * Computes the exclusive prefix sum over the weights of all blocks.
+     * The entry at index {@code blockCount} contains the total weight.
+     */
+    static HugeLongArray blockWeights(long nodeCount, PartitionUtils.DegreeFunction degrees) {
+        long blockCount = BitUtil.ceilDiv(nodeCount, BLOCK_SIZE);
+        var prefixSums = HugeLongArray.newArray(blockCount + 1);
+        long sum = 0L;
+        for (long block = 0; block < blockCount; block++) {
+            prefixSums.set(block, sum);
+            long start = block << BLOCK_SHIFT;
+            long end = Math.min(start + BLOCK_SIZE, nodeCount);
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                sum += degrees.degree(nodeId) + 1L;
+            }
+        }
+        prefixSums.set(blockCount, sum);
+        return prefixSums;
+    }
+
+    private WorkStealingRunner(
+        int concurrency,
+        long nodeCount,
+        HugeLongArray blockWeights,
+        Function<DegreePartition, TASK> taskCreator,
+        TerminationFlag terminationFlag
+    ) {
+        this.nodeCount = nodeCount;
+        this.blockWeights = blockWeights;
+        this.grain = Math.max(
+            BLOCK_SIZE,
+            BitUtil.ceilDiv(totalWeight(), (long) concurrency * TASKS_PER_WORKER)
+        );
+        this.taskCreator = taskCreator;
+        this.terminationFlag = terminationFlag;
+        this.executedTasks = new ConcurrentLinkedQueue<>();
+        this.splits = new AtomicLong();
+        this.concurrency = concurrency;
+        this.queuedRanges = new ConcurrentLinkedDeque<>();
+        this.queuedCount = new AtomicInteger();
+        this.pendingRanges = new AtomicLong();
+        this.failed = new AtomicBoolean();
+    }
+
+    private WorkStealingResult<TASK> run(ExecutorService executor) {
+        long blockCount = blockWeights.size() - 1;
+        if (blockCount > 0) {
+            enqueue(new Range(0L, blockCount));
+            var workers = new ArrayList<Runnable>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(this::work);
+            }
+            ParallelUtil.runWithConcurrency(concurrency, workers, executor);
+        }
+
+        List<ExecutedTask<TASK>> tasks = executedTasks
+            .stream()
+            .sorted(Comparator.comparingLong(executed -> executed.partition.startNode()))
+            .collect(Collectors.toList());
+
+        return ImmutableWorkStealingResult.<TASK>builder()
+            .tasks(tasks.stream().map(executed -> executed.task).collect(Collectors.toList()))
+            .skew(skew(tasks, splits.get()))
+            .build();
+    }
+
+    private void work() {
+        while (pendingRanges.get() > 0 && !failed.get()) {
+            var range = queuedRanges.pollFirst();
+            if (range == null) {
+                LockSupport.parkNanos(IDLE_NANOS);
+                continue;
+            }
+            queuedCount.decrementAndGet();
+            try {
+                process(range);
+            } catch (RuntimeException | Error e) {
+                // release the other workers, which would otherwise wait for the range forever
+                failed.set(true);
+                throw e;
+            }
+            pendingRanges.decrementAndGet();
+        }
+    }
+
+    private void process(Range range) {
+        long startBlock = range.startBlock;
+        long endBlock = range.endBlock;
+
+        // keep splitting off the upper half as long as idle workers could pick it up
+        while (endBlock - startBlock > 1
+               && weight(startBlock, endBlock) > grain
+               && queuedCount.get() < concurrency) {
+            long splitBlock = splitBlock(startBlock, endBlock);
+            enqueue(new Range(splitBlock, endBlock));
+            splits.incrementAndGet();
+            endBlock = splitBlock;
+        }
+
+        execute(startBlock, endBlock);
+    }
+
+    private void enqueue(Range range) {
+        // count the range before it becomes visible, so no worker leaves while it is queued
+        pendingRanges.incrementAndGet();
+        queuedCount.incrementAndGet();
+        queuedRanges.addLast(range);
+    }
+
+    private long totalWeight() {
+        return blockWeights.get(blockWeights.size() - 1);
+    }
+
+    private long weight(long startBlock, long endBlock) {
+        return blockWeights.get(endBlock) - blockWeights.get(startBlock);
+    }
+
+    /**
+     * Finds the first block in {@code (startBlock, endBlock)} at which the range
+     * has accumulated at least half of its weight.
+     */
+    private long splitBlock(long startBlock, long endBlock) {
+        long target = blockWeights.get(startBlock) + weight(startBlock, endBlock) / 2;
+        long low = startBlock + 1;
+        long high = endBlock - 1;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (blockWeights.get(mid) < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void execute(long startBlock, long endBlock) {
+        terminationFlag.assertRunning();
+
+        long startNode = startBlock << BLOCK_SHIFT;
+        long endNode = Math.min(endBlock << BLOCK_SHIFT, nodeCount);
+        // the block weights count one per node on top of the degree
+        long totalDegree = weight(startBlock, endBlock) - (endNode - startNode);
+        var partition = DegreePartition.of(startNode, endNode - startNode, totalDegree);
+
+        var task = taskCreator.apply(partition);
+        long start = System.nanoTime();
+        task.run();
+        executedTasks.add(new ExecutedTask<>(task, partition, System.nanoTime() - start));
+    }
+
+    private static <TASK> TaskSkew skew(List<ExecutedTask<TASK>> tasks, long splits) {
+        long min = tasks.isEmpty() ? 0L : Long.MAX_VALUE;
+        long max = 0L;
+        long sum = 0L;
+        long maxDegree = 0L;
+        long degreeSum = 0L;
+        for (var executed : tasks) {
+            min = Math.min(min, executed.nanos);
+            max = Math.max(max, executed.nanos);
+            sum += executed.nanos;
+            maxDegree = Math.max(maxDegree, executed.partition.totalDegree());
+            degreeSum += executed.partition.totalDegree();
+        }
+
+        return ImmutableTaskSkew.builder()
+            .taskCount(tasks.size())
+            .splitCount(splits)
+            .minTaskNanos(min)
+            .maxTaskNanos(max)
+            .totalTaskNanos(sum)
+            .maxTaskDegree(maxDegree)
+            .totalDegree(degreeSum)
+            .build();
+    }
+
+    private static final class ExecutedTask<TASK> {
+        private final TASK task;
+        private final DegreePartition partition;
+        private final long nanos;
+
+        private ExecutedTask(TASK task, DegreePartition partition, long nanos) {
+            this.task = task;
+            this.partition = partition;
+            this.nanos = nanos;
+        }
+    }
+
+    private static final class Range {
+        private final long startBlock;
+        private final long endBlock;
+
+        private Range(long startBlock, long endBlock) {
+            this.startBlock = startBlock;
+            this.endBlock = endBlock;
+        }
+    }
+}
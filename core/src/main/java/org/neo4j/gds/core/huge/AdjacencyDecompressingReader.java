@@ -19,25 +19,7 @@
  */
 package org.neo4j.gds.core.huge;
 
-import org.neo4j.gds.api.AdjacencyCursor;
-import org.neo4j.gds.core.loading.MutableIntValue;
-
-import java.util.Arrays;
-
-import static org.neo4j.gds.core.huge.VarLongDecoding.decodeDeltaVLongs;
-
-final class AdjacencyDecompressingReader {
-
-    static final int CHUNK_SIZE = 64;
-
-    private final long[] block;
-    private int pos;
-    private byte[] array;
-    private int offset;
-
-    AdjacencyDecompressingReader() {
-        this.block = new long[CHUNK_SIZE];
-    }
+final class AdjacencyDecompressingReader extends AbstractAdjacencyDecompressingReader<byte[]> {
 
     //@formatter:off
     static long readLong(byte[] array, int offset) {
@@ -52,107 +34,8 @@ final class AdjacencyDecompressingReader {
     }
     //@formatter:on
 
-    void copyFrom(AdjacencyDecompressingReader other) {
-        System.arraycopy(other.block, 0, block, 0, CHUNK_SIZE);
-        pos = other.pos;
-        array = other.array;
-        offset = other.offset;
-    }
-
-    int reset(byte[] adjacencyPage, int offset, int degree) {
-        this.array = adjacencyPage;
-        this.offset = decodeDeltaVLongs(0L, adjacencyPage, offset, Math.min(degree, CHUNK_SIZE), block);
-        pos = 0;
-        return degree;
-    }
-
-    long next(int remaining) {
-        int pos = this.pos++;
-        if (pos < CHUNK_SIZE) {
-            return block[pos];
-        }
-        // We need to set this to 1 since the target
-        // at index 0 is returned from readNextBlock.
-        this.pos = 1;
-        return readNextBlock(remaining);
-    }
-
-    long peek(int remaining) {
-        int pos = this.pos;
-        if (pos < CHUNK_SIZE) {
-            return block[pos];
-        }
-        // We need to set this to 0 since the target
-        // at index 0 is returned from readNextBlock
-        // and we don't want to advance the cursor.
-        this.pos = 0;
-        return readNextBlock(remaining);
-    }
-
-    private long readNextBlock(int remaining) {
-        offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
-        return block[0];
-    }
-
-    long skipUntil(long target, int remaining, MutableIntValue consumed) {
-        int pos = this.pos;
-        long[] block = this.block;
-        int available = remaining;
-
-        // skip blocks until we have either not enough available to decode or have advanced far enough
-        while (available > CHUNK_SIZE - pos && block[CHUNK_SIZE - 1] <= target) {
-            int skippedInThisBlock = CHUNK_SIZE - pos;
-            int needToDecode = Math.min(CHUNK_SIZE, available - skippedInThisBlock);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
-            available -= skippedInThisBlock;
-            pos = 0;
-        }
-
-        // last block
-        if(available <= 0) {
-            return AdjacencyCursor.NOT_FOUND;
-        }
-
-        int targetPos = findPosStrictlyGreaterInBlock(target, pos, Math.min(pos + available, CHUNK_SIZE), block);
-        // we need to consume including targetPos, not to it, therefore +1
-        available -= (1 + targetPos - pos);
-        consumed.value = remaining - available;
-        this.pos = 1 + targetPos;
-        return block[targetPos];
-    }
-
-    long advance(long target, int remaining, MutableIntValue consumed) {
-        int pos = this.pos;
-        long[] block = this.block;
-        int available = remaining;
-
-        // skip blocks until we have either not enough available to decode or have advanced far enough
-        while (available > CHUNK_SIZE - pos && block[CHUNK_SIZE - 1] < target) {
-            int skippedInThisBlock = CHUNK_SIZE - pos;
-            int needToDecode = Math.min(CHUNK_SIZE, available - skippedInThisBlock);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
-            available -= skippedInThisBlock;
-            pos = 0;
-        }
-
-        // last block
-        int targetPos = findPosInBlock(target, pos, Math.min(pos + available, CHUNK_SIZE), block);
-        // we need to consume including targetPos, not to it, therefore +1
-        available -= (1 + targetPos - pos);
-        consumed.value = remaining - available;
-        this.pos = 1 + targetPos;
-        return block[targetPos];
-    }
-
-    private int findPosStrictlyGreaterInBlock(long target, int pos, int limit, long[] block) {
-        return findPosInBlock(1L + target, pos, limit, block);
-    }
-
-    private int findPosInBlock(long target, int pos, int limit, long[] block) {
-        int targetPos = Arrays.binarySearch(block, pos, limit, target);
-        if (targetPos < 0) {
-            targetPos = Math.min(-1 - targetPos, -1 + limit);
-        }
-        return targetPos;
+    @Override
+    int decodeDeltaVLongs(long startValue, byte[] page, int offset, int limit, long[] out) {
+        return VarLongDecoding.decodeDeltaVLongs(startValue, page, offset, limit, out);
     }
 }
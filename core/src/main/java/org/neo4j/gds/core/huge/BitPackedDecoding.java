@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+/**
+ * Decoding counterpart of {@link org.neo4j.gds.core.loading.BitPackedEncoding}.
+ */
+final class BitPackedDecoding {
+
+    /**
+     * Decodes a single bit packed block of {@code limit} deltas, starting at {@code offset}
+     * with the bit width header, and writes the prefix sums, starting from {@code startValue},
+     * into {@code out[into, into + limit)}.
+     *
+     * @return the offset of the next block
+     */
+    static int decodeDeltaBlock(
+        long startValue,
+        byte[] adjacencyPage,
+        int offset,
+        int limit,
+        long[] out,
+        int into
+    ) {
+        if (limit <= 0) {
+            return offset;
+        }
+        int bitWidth = adjacencyPage[offset++];
+        int end = into + limit;
+
+        if (bitWidth == 0) {
+            // all deltas are zero, i.e. parallel relationships to the same target
+            for (int i = into; i < end; i++) {
+                out[i] = startValue;
+            }
+            return offset;
+        }
+
+        long mask = bitWidth == Long.SIZE ? -1L : (1L << bitWidth) - 1L;
+        int bitPosition = 0;
+        for (int i = into; i < end; i++) {
+            int byteIndex = offset + (bitPosition >>> 3);
+            int shift = bitPosition & 7;
+            long value = (adjacencyPage[byteIndex] & 0xFFL) >>> shift;
+            int read = 8 - shift;
+            while (read < bitWidth) {
+                value |= (adjacencyPage[++byteIndex] & 0xFFL) << read;
+                read += 8;
+            }
+            startValue += value & mask;
+            out[i] = startValue;
+            bitPosition += bitWidth;
+        }
+
+        return offset + ((limit * bitWidth + 7) >>> 3);
+    }
+
+    /**
+     * Decodes the absolute first value and the first block of at most {@code limit - 1} deltas.
+     *
+     * @return the offset of the next block
+     */
+    static int decodeFirstBlock(byte[] adjacencyPage, int offset, int limit, long[] out) {
+        offset = VarLongDecoding.decodeDeltaVLongs(0L, adjacencyPage, offset, 1, out);
+        return decodeDeltaBlock(out[0], adjacencyPage, offset, limit - 1, out, 1);
+    }
+
+    private BitPackedDecoding() {
+        throw new UnsupportedOperationException("No instances");
+    }
+}
@@ -109,6 +109,18 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         this.offsets = offsets;
     }
 
+    public byte[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public void close() {
         pages = null;
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.LongObjectMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+
+/**
+ * An adjacency list that overlays replacement target lists for some nodes on top of a base adjacency list.
+ * The overlay stores the complete, sorted target list of every changed node,
+ * so reads never merge base and delta at traversal time.
+ * Instances are immutable; applying further changes creates a new overlay that shares the base.
+ */
+public final class DeltaAdjacencyList implements AdjacencyList {
+
+    private final AdjacencyList base;
+    private final LongObjectHashMap<long[]> overrides;
+    private final long overlayElementCount;
+
+    public static DeltaAdjacencyList of(AdjacencyList base, LongObjectMap<long[]> overrides) {
+        var copy = new LongObjectHashMap<long[]>(overrides);
+        long overlayElementCount = 0;
+        for (var cursor : copy) {
+            overlayElementCount += cursor.value.length;
+        }
+        return new DeltaAdjacencyList(base, copy, overlayElementCount);
+    }
+
+    private DeltaAdjacencyList(AdjacencyList base, LongObjectHashMap<long[]> overrides, long overlayElementCount) {
+        this.base = base;
+        this.overrides = overrides;
+        this.overlayElementCount = overlayElementCount;
+    }
+
+    public AdjacencyList base() {
+        return base;
+    }
+
+    /**
+     * @return a read-only view of the replaced target lists, keyed by node id
+     */
+    public LongObjectMap<long[]> overrides() {
+        return overrides;
+    }
+
+    /**
+     * @return the number of targets stored in the overlay
+     */
+    public long overlayElementCount() {
+        return overlayElementCount;
+    }
+
+    @Override
+    public int degree(long node) {
+        var targets = overrides.get(node);
+        return targets != null ? targets.length : base.degree(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        if (!overrides.containsKey(node)) {
+            return base.adjacencyCursor(node, fallbackValue);
+        }
+        var cursor = new DeltaCursor(this);
+        cursor.position(node, fallbackValue);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var cursor = reuse instanceof DeltaCursor && ((DeltaCursor) reuse).adjacencyList == this
+            ? (DeltaCursor) reuse
+            : new DeltaCursor(this);
+        cursor.position(node, fallbackValue);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new DeltaCursor(this);
+    }
+
+    @Override
+    public void close() {
+        base.close();
+    }
+
+    /**
+     * Reads either the overlay targets of a node or, for unchanged nodes, a reused cursor of the base list.
+     * The cursor can be reused for all nodes of the adjacency list that created it.
+     */
+    static final class DeltaCursor implements AdjacencyCursor {
+
+        private static final long[] NO_TARGETS = new long[0];
+
+        private final DeltaAdjacencyList adjacencyList;
+        private @Nullable AdjacencyCursor baseCursor;
+        // null while the current node is read from the base cursor
+        private long @Nullable [] targets;
+        private int offset;
+
+        DeltaCursor(DeltaAdjacencyList adjacencyList) {
+            this.adjacencyList = adjacencyList;
+            this.targets = NO_TARGETS;
+        }
+
+        void position(long node, double fallbackValue) {
+            var overlayTargets = adjacencyList.overrides.get(node);
+            if (overlayTargets != null) {
+                this.targets = overlayTargets;
+                this.offset = 0;
+            } else {
+                this.targets = null;
+                this.baseCursor = adjacencyList.base.adjacencyCursor(baseCursor, node, fallbackValue);
+            }
+        }
+
+        /**
+         * Unlike for the compressed lists, the index of this cursor is the node id itself,
+         * as the overlay has no offsets into the base list.
+         * The degree is taken from the overlay or the base list and the given one is ignored.
+         */
+        @Override
+        public void init(long index, int degree) {
+            position(index, Double.NaN);
+        }
+
+        @Override
+        public int size() {
+            return targets != null ? targets.length : baseCursor.size();
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return targets != null ? offset < targets.length : baseCursor.hasNextVLong();
+        }
+
+        @Override
+        public long nextVLong() {
+            return targets != null ? targets[offset++] : baseCursor.nextVLong();
+        }
+
+        @Override
+        public long peekVLong() {
+            return targets != null ? targets[offset] : baseCursor.peekVLong();
+        }
+
+        @Override
+        public int remaining() {
+            return targets != null ? targets.length - offset : baseCursor.remaining();
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            if (targets == null) {
+                return baseCursor.skipUntil(target);
+            }
+            if (offset >= targets.length) {
+                return NOT_FOUND;
+            }
+            return consumeUntil(search(target, false));
+        }
+
+        @Override
+        public long advance(long target) {
+            if (targets == null) {
+                return baseCursor.advance(target);
+            }
+            if (offset >= targets.length) {
+                return NOT_FOUND;
+            }
+            return consumeUntil(search(target, true));
+        }
+
+        // first index from the current offset with a target larger than (or, if inclusive, equal to) the given one
+        private int search(long target, boolean inclusive) {
+            int low = offset;
+            int high = targets.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (targets[mid] < target || (!inclusive && targets[mid] == target)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // like the compressed cursors, an unsuccessful search consumes everything and returns the last target
+        private long consumeUntil(int index) {
+            if (index == targets.length) {
+                offset = targets.length;
+                return targets[targets.length - 1];
+            }
+            offset = index + 1;
+            return targets[index];
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof DeltaCursor && ((DeltaCursor) destination).adjacencyList == adjacencyList
+                ? (DeltaCursor) destination
+                : new DeltaCursor(adjacencyList);
+            dest.targets = targets;
+            dest.offset = offset;
+            if (targets == null) {
+                dest.baseCursor = baseCursor.shallowCopy(dest.baseCursor);
+            }
+            return dest;
+        }
+
+        @Override
+        public void close() {
+            if (baseCursor != null) {
+                baseCursor.close();
+            }
+        }
+    }
+}
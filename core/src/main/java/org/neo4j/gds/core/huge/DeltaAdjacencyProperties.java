@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.LongObjectMap;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+
+/**
+ * The property counterpart of {@link DeltaAdjacencyList}.
+ * Every node with replaced targets has its complete list of property values, stored as double bits,
+ * overlaid on top of the base properties. The values are aligned with the targets of the overlay.
+ */
+public final class DeltaAdjacencyProperties implements AdjacencyProperties {
+
+    private final AdjacencyProperties base;
+    private final LongObjectHashMap<long[]> overrides;
+
+    public static DeltaAdjacencyProperties of(AdjacencyProperties base, LongObjectMap<long[]> overrides) {
+        return new DeltaAdjacencyProperties(base, new LongObjectHashMap<>(overrides));
+    }
+
+    private DeltaAdjacencyProperties(AdjacencyProperties base, LongObjectHashMap<long[]> overrides) {
+        this.base = base;
+        this.overrides = overrides;
+    }
+
+    public AdjacencyProperties base() {
+        return base;
+    }
+
+    /**
+     * @return a read-only view of the replaced property values, keyed by node id
+     */
+    public LongObjectMap<long[]> overrides() {
+        return overrides;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        if (!overrides.containsKey(node)) {
+            return base.propertyCursor(node, fallbackValue);
+        }
+        var cursor = new DeltaPropertyCursor(this);
+        cursor.position(node, fallbackValue);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        var cursor = reuse instanceof DeltaPropertyCursor && ((DeltaPropertyCursor) reuse).properties == this
+            ? (DeltaPropertyCursor) reuse
+            : new DeltaPropertyCursor(this);
+        cursor.position(node, fallbackValue);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new DeltaPropertyCursor(this);
+    }
+
+    @Override
+    public void close() {
+        base.close();
+    }
+
+    /**
+     * Reads either the overlay values of a node or, for unchanged nodes, a reused cursor of the base properties.
+     * Like {@link DeltaAdjacencyList.DeltaCursor}, the index of this cursor is the node id itself.
+     */
+    static final class DeltaPropertyCursor implements PropertyCursor {
+
+        private static final long[] NO_VALUES = new long[0];
+
+        private final DeltaAdjacencyProperties properties;
+        private @Nullable PropertyCursor baseCursor;
+        // null while the current node is read from the base cursor
+        private long @Nullable [] values;
+        private int offset;
+
+        DeltaPropertyCursor(DeltaAdjacencyProperties properties) {
+            this.properties = properties;
+            this.values = NO_VALUES;
+        }
+
+        void position(long node, double fallbackValue) {
+            var overlayValues = properties.overrides.get(node);
+            if (overlayValues != null) {
+                this.values = overlayValues;
+                this.offset = 0;
+            } else {
+                this.values = null;
+                this.baseCursor = baseCursor == null
+                    ? properties.base.propertyCursor(node, fallbackValue)
+                    : properties.base.propertyCursor(baseCursor, node, fallbackValue);
+            }
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            position(index, Double.NaN);
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return values != null ? offset < values.length : baseCursor.hasNextLong();
+        }
+
+        @Override
+        public long nextLong() {
+            return values != null ? values[offset++] : baseCursor.nextLong();
+        }
+
+        @Override
+        public void close() {
+            if (baseCursor != null) {
+                baseCursor.close();
+            }
+        }
+    }
+}
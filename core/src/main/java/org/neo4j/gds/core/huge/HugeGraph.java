@@ -110,6 +110,14 @@ public class HugeGraph implements CSRGraph {
 
     private PropertyCursor propertyCursorCache;
 
+    protected @Nullable AdjacencyList inverseAdjacency;
+
+    protected @Nullable AdjacencyProperties inverseProperties;
+
+    private @Nullable AdjacencyCursor inverseAdjacencyCursorCache;
+
+    private @Nullable PropertyCursor inversePropertyCursorCache;
+
     private boolean canRelease = true;
 
     protected final boolean hasRelationshipProperty;
@@ -121,6 +129,26 @@ public class HugeGraph implements CSRGraph {
         Map<String, NodeProperties> nodeProperties,
         Relationships.Topology topology,
         Optional<Relationships.Properties> maybeRelationshipProperty
+    ) {
+        return create(
+            nodes,
+            schema,
+            nodeProperties,
+            topology,
+            maybeRelationshipProperty,
+            Optional.empty(),
+            Optional.empty()
+        );
+    }
+
+    public static HugeGraph create(
+        IdMap nodes,
+        GraphSchema schema,
+        Map<String, NodeProperties> nodeProperties,
+        Relationships.Topology topology,
+        Optional<Relationships.Properties> maybeRelationshipProperty,
+        Optional<Relationships.Topology> maybeInverseTopology,
+        Optional<Relationships.Properties> maybeInverseRelationshipProperty
     ) {
         return new HugeGraph(
             nodes,
@@ -132,7 +160,9 @@ public class HugeGraph implements CSRGraph {
             maybeRelationshipProperty.map(Relationships.Properties::defaultPropertyValue).orElse(Double.NaN),
             maybeRelationshipProperty.map(Relationships.Properties::propertiesList).orElse(null),
             topology.orientation(),
-            topology.isMultiGraph()
+            topology.isMultiGraph(),
+            maybeInverseTopology.map(Relationships.Topology::adjacencyList).orElse(null),
+            maybeInverseRelationshipProperty.map(Relationships.Properties::propertiesList).orElse(null)
         );
     }
 
@@ -146,7 +176,9 @@ public class HugeGraph implements CSRGraph {
         double defaultRelationshipPropertyValue,
         @Nullable AdjacencyProperties relationshipProperty,
         Orientation orientation,
-        boolean isMultiGraph
+        boolean isMultiGraph,
+        @Nullable AdjacencyList inverseAdjacency,
+        @Nullable AdjacencyProperties inverseRelationshipProperty
     ) {
         this.idMap = idMap;
         this.schema = schema;
@@ -160,6 +192,12 @@ public class HugeGraph implements CSRGraph {
         this.hasRelationshipProperty = hasRelationshipProperty;
         this.adjacencyCursorCache = adjacency.rawAdjacencyCursor();
         this.propertyCursorCache = relationshipProperty != null ? relationshipProperty.rawPropertyCursor() : null;
+        this.inverseAdjacency = inverseAdjacency;
+        this.inverseProperties = inverseRelationshipProperty;
+        this.inverseAdjacencyCursorCache = inverseAdjacency != null ? inverseAdjacency.rawAdjacencyCursor() : null;
+        this.inversePropertyCursorCache = inverseRelationshipProperty != null
+            ? inverseRelationshipProperty.rawPropertyCursor()
+            : null;
     }
 
     @Override
@@ -337,6 +375,48 @@ public class HugeGraph implements CSRGraph {
         return degreeCounter.degree;
     }
 
+    @Override
+    public boolean hasInverseIndex() {
+        return inverseAdjacency != null || isUndirected();
+    }
+
+    @Override
+    public int inverseDegree(long nodeId) {
+        if (inverseAdjacency == null) {
+            return CSRGraph.super.inverseDegree(nodeId);
+        }
+        return inverseAdjacency.degree(nodeId);
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        if (inverseAdjacency == null) {
+            CSRGraph.super.forEachInverseRelationship(nodeId, consumer);
+            return;
+        }
+        var adjacencyCursor = inverseAdjacency.adjacencyCursor(inverseAdjacencyCursorCache, nodeId);
+        consumeAdjacentNodes(nodeId, adjacencyCursor, consumer);
+    }
+
+    @Override
+    public void forEachInverseRelationship(
+        long nodeId,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        if (inverseAdjacency == null) {
+            CSRGraph.super.forEachInverseRelationship(nodeId, fallbackValue, consumer);
+            return;
+        }
+        if (!hasRelationshipProperty() || inverseProperties == null) {
+            forEachInverseRelationship(nodeId, (s, t) -> consumer.accept(s, t, fallbackValue));
+            return;
+        }
+        var adjacencyCursor = inverseAdjacency.adjacencyCursor(inverseAdjacencyCursorCache, nodeId);
+        var propertyCursor = inverseProperties.propertyCursor(inversePropertyCursorCache, nodeId, defaultPropertyValue);
+        consumeAdjacentNodesWithProperty(nodeId, adjacencyCursor, propertyCursor, consumer);
+    }
+
     @Override
     public long toMappedNodeId(long nodeId) {
         return idMap.toMappedNodeId(nodeId);
@@ -369,7 +449,9 @@ public class HugeGraph implements CSRGraph {
             defaultPropertyValue,
             properties,
             orientation,
-            isMultiGraph
+            isMultiGraph,
+            inverseAdjacency,
+            inverseProperties
         );
     }
 
@@ -440,6 +522,22 @@ public class HugeGraph implements CSRGraph {
             propertyCursorCache.close();
             propertyCursorCache = null;
         }
+        if (inverseAdjacency != null) {
+            inverseAdjacency.close();
+            inverseAdjacency = null;
+        }
+        if (inverseProperties != null) {
+            inverseProperties.close();
+            inverseProperties = null;
+        }
+        if (inverseAdjacencyCursorCache != null) {
+            inverseAdjacencyCursorCache.close();
+            inverseAdjacencyCursorCache = null;
+        }
+        if (inversePropertyCursorCache != null) {
+            inversePropertyCursorCache.close();
+            inversePropertyCursorCache = null;
+        }
     }
 
     @Override
@@ -206,6 +206,37 @@ public class NodeFilteredGraph extends CSRGraphAdapter {
             .map(rel -> ImmutableRelationshipCursor.of(filteredIdMap.toMappedNodeId(rel.sourceId()), filteredIdMap.toMappedNodeId(rel.targetId()), rel.property()));
     }
 
+    @Override
+    public int inverseDegree(long nodeId) {
+        var degree = new MutableInt();
+        forEachInverseRelationship(nodeId, (s, t) -> {
+            degree.increment();
+            return true;
+        });
+        return degree.intValue();
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        super.forEachInverseRelationship(
+            filteredIdMap.toOriginalNodeId(nodeId),
+            (s, t) -> filterAndConsume(s, t, consumer)
+        );
+    }
+
+    @Override
+    public void forEachInverseRelationship(
+        long nodeId,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        super.forEachInverseRelationship(
+            filteredIdMap.toOriginalNodeId(nodeId),
+            fallbackValue,
+            (s, t, p) -> filterAndConsume(s, t, p, consumer)
+        );
+    }
+
     long getFilteredMappedNodeId(long nodeId) {
         return filteredIdMap.toMappedNodeId(nodeId);
     }
@@ -119,6 +119,18 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
         this.offsets = offsets;
     }
 
+    public long[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public int degree(long node) {
         return degrees.get(node);
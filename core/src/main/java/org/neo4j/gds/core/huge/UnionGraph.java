@@ -205,6 +205,40 @@ public final class UnionGraph implements CSRGraph {
             .flatMap(graph -> graph.streamRelationships(nodeId, fallbackValue));
     }
 
+    @Override
+    public boolean hasInverseIndex() {
+        return graphs.stream().allMatch(Graph::hasInverseIndex);
+    }
+
+    @Override
+    public int inverseDegree(long nodeId) {
+        long degree = 0;
+
+        for (CSRGraph graph : graphs) {
+            degree += graph.inverseDegree(nodeId);
+        }
+
+        return Math.toIntExact(degree);
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        for (Graph graph : graphs) {
+            graph.forEachInverseRelationship(nodeId, consumer);
+        }
+    }
+
+    @Override
+    public void forEachInverseRelationship(
+        long nodeId,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        for (Graph graph : graphs) {
+            graph.forEachInverseRelationship(nodeId, fallbackValue, consumer);
+        }
+    }
+
     @Override
     public Graph relationshipTypeFilteredGraph(Set<RelationshipType> relationshipTypes) {
         List<CSRGraph> filteredGraphs = new ArrayList<>();
@@ -28,13 +28,16 @@ import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compress.AdjacencyCompressor;
 import org.neo4j.gds.core.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.compress.LongArrayBuffer;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.LongAdder;
 
 import static org.neo4j.gds.mem.BitUtil.ceilDiv;
@@ -240,6 +243,22 @@ public final class AdjacencyBuffer {
         return tasks;
     }
 
+    /**
+     * Adds the number of buffered targets of each source node to {@code degrees}.
+     * Must be called before the builder tasks drain the buffer.
+     */
+    void addDegrees(HugeLongArray degrees, int concurrency, ExecutorService executorService) {
+        var tasks = new ArrayList<Runnable>(chunkedAdjacencyLists.length);
+        for (int page = 0; page < chunkedAdjacencyLists.length; page++) {
+            var pageIndex = page;
+            // pages contain disjoint source ids, so tasks never write to the same index
+            tasks.add(() -> chunkedAdjacencyLists[pageIndex].forEachLength(
+                (localId, length) -> degrees.addTo(paging.sourceNodeId(localId, pageIndex), length)
+            ));
+        }
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+    }
+
     int[] getPropertyKeyIds() {
         return propertyKeyIds;
     }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.core.loading.VarLongEncoding.encodedVLongSize;
+
+/**
+ * Block oriented encoding for sorted and delta encoded adjacency lists.
+ * <p>
+ * The first target is stored as a var-long. The remaining deltas are split into blocks
+ * that line up with the decoding blocks of the adjacency cursors, i.e. the first block holds
+ * {@code BLOCK_SIZE - 1} deltas and all following blocks hold {@code BLOCK_SIZE} deltas.
+ * Every block starts with a single byte holding the bit width {@code b} of its largest delta,
+ * followed by all deltas of the block, each packed into exactly {@code b} bits (little endian).
+ */
+public final class BitPackedEncoding {
+
+    public static final int BLOCK_SIZE = 64;
+
+    /**
+     * Encodes {@code values[0]} as an absolute value and {@code values[1..length)} as bit packed deltas.
+     *
+     * @return the offset into {@code out} after the last written byte
+     */
+    public static int encode(long[] values, int length, byte[] out, int into) {
+        if (length == 0) {
+            return into;
+        }
+        into = VarLongEncoding.encodeVLongs(values, 0, 1, out, into);
+        int from = 1;
+        int blockLength = Math.min(length, BLOCK_SIZE) - 1;
+        while (blockLength > 0) {
+            into = packBlock(values, from, blockLength, out, into);
+            from += blockLength;
+            blockLength = Math.min(length - from, BLOCK_SIZE);
+        }
+        return into;
+    }
+
+    public static int encodedSize(long[] values, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int size = encodedVLongSize(values[0]);
+        int from = 1;
+        int blockLength = Math.min(length, BLOCK_SIZE) - 1;
+        while (blockLength > 0) {
+            size += 1 + packedBlockSize(blockLength, bitWidth(values, from, blockLength));
+            from += blockLength;
+            blockLength = Math.min(length - from, BLOCK_SIZE);
+        }
+        return size;
+    }
+
+    static int packedBlockSize(int blockLength, int bitWidth) {
+        return (blockLength * bitWidth + 7) >>> 3;
+    }
+
+    private static int bitWidth(long[] values, int from, int length) {
+        long bits = 0L;
+        for (int i = from; i < from + length; i++) {
+            bits |= values[i];
+        }
+        return Long.SIZE - Long.numberOfLeadingZeros(bits);
+    }
+
+    private static int packBlock(long[] values, int from, int length, byte[] out, int into) {
+        int bitWidth = bitWidth(values, from, length);
+        out[into++] = (byte) bitWidth;
+        if (bitWidth == 0) {
+            return into;
+        }
+
+        int packedBytes = packedBlockSize(length, bitWidth);
+        // the output is a reused buffer, we only OR bits into it
+        Arrays.fill(out, into, into + packedBytes, (byte) 0);
+
+        int bitPosition = 0;
+        for (int i = from; i < from + length; i++) {
+            long value = values[i];
+            int byteIndex = into + (bitPosition >>> 3);
+            int shift = bitPosition & 7;
+            out[byteIndex] |= (byte) (value << shift);
+            int written = 8 - shift;
+            value >>>= written;
+            while (written < bitWidth) {
+                out[++byteIndex] |= (byte) value;
+                value >>>= 8;
+                written += 8;
+            }
+            bitPosition += bitWidth;
+        }
+
+        return into + packedBytes;
+    }
+
+    private BitPackedEncoding() {
+        throw new UnsupportedOperationException("No instances");
+    }
+}
@@ -24,6 +24,7 @@ import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.AdjacencyProperties;
 import org.neo4j.gds.api.CSRGraph;
@@ -31,6 +32,8 @@ import org.neo4j.gds.api.CompositeRelationshipIterator;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableNodeProperty;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
 import org.neo4j.gds.api.NodeProperties;
 import org.neo4j.gds.api.NodeProperty;
 import org.neo4j.gds.api.NodePropertyStore;
@@ -46,8 +49,10 @@ import org.neo4j.gds.api.schema.PropertySchema;
 import org.neo4j.gds.api.schema.RelationshipPropertySchema;
 import org.neo4j.gds.api.schema.RelationshipSchema;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.ProcedureConstants;
 import org.neo4j.gds.core.huge.CSRCompositeRelationshipIterator;
+import org.neo4j.gds.core.huge.DeltaAdjacencyList;
 import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.huge.NodeFilteredGraph;
 import org.neo4j.gds.core.huge.UnionGraph;
@@ -67,6 +72,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -79,22 +87,37 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 @Value.Style(typeBuilder = "GraphStoreBuilder")
 public class CSRGraphStore implements GraphStore {
 
+    // compactions of all graph stores share one thread, so they neither occupy nor queue behind algorithm tasks
+    private static final ExecutorService COMPACTION_POOL = Pools.createSingleThreadPool("compaction");
+
     private final int concurrency;
 
     private final NamedDatabaseId databaseId;
 
-    private final IdMap nodes;
+    // replaced by node deltas
+    private IdMap nodes;
 
     protected final Map<RelationshipType, Relationships.Topology> relationships;
 
     private final Map<RelationshipType, RelationshipPropertyStore> relationshipProperties;
 
+    private final Map<RelationshipType, InverseRelationships> inverseRelationships;
+
+    // relationship types whose inverse index was dropped by a delta and is rebuilt by the next getGraph
+    private final Set<RelationshipType> staleInverseRelationships;
+
     private final Set<Graph> createdGraphs;
 
+    private final Set<RelationshipType> compactingRelationshipTypes;
+
+    private final List<Consumer<CSRGraphStore>> modificationListeners;
+
     private GraphSchema schema;
 
     private NodePropertyStore nodeProperties;
 
+    private final Map<String, Map<String, Object>> nodePropertyMetadata;
+
     private ZonedDateTime modificationTime;
 
     @Builder.Factory
@@ -138,12 +161,17 @@ public class CSRGraphStore implements GraphStore {
 
         this.nodes = nodes;
         this.nodeProperties = nodeProperties;
+        this.nodePropertyMetadata = new ConcurrentHashMap<>();
 
         this.relationships = new HashMap<>(relationships);
         this.relationshipProperties = new HashMap<>(relationshipProperties);
+        this.inverseRelationships = new HashMap<>();
+        this.staleInverseRelationships = new HashSet<>();
 
         this.concurrency = concurrency;
         this.createdGraphs = new HashSet<>();
+        this.compactingRelationshipTypes = ConcurrentHashMap.newKeySet();
+        this.modificationListeners = new CopyOnWriteArrayList<>();
         this.modificationTime = TimeUtil.now();
     }
 
@@ -243,6 +271,7 @@ public class CSRGraphStore implements GraphStore {
                 .from(graphStore.nodeProperties)
                 .removeProperty(propertyKey)
                 .build();
+            graphStore.nodePropertyMetadata.remove(propertyKey);
 
             NodeSchema.Builder nodeSchemaBuilder = NodeSchema
                 .builder()
@@ -256,6 +285,45 @@ public class CSRGraphStore implements GraphStore {
         });
     }
 
+    @Override
+    public Map<String, Object> nodePropertyMetadata(String propertyKey) {
+        return nodePropertyMetadata.getOrDefault(propertyKey, Map.of());
+    }
+
+    @Override
+    public void putNodePropertyMetadata(String propertyKey, Map<String, Object> metadata) {
+        metadata.forEach((key, value) -> {
+            if (!isMetadataValue(value)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Metadata values must be strings, longs, booleans or lists of them, but `%s` is %s.",
+                    key,
+                    value
+                ));
+            }
+        });
+        var copy = Map.copyOf(metadata);
+        updateGraphStore(graphStore -> {
+            if (!graphStore.hasNodeProperty(propertyKey)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node property `%s` does not exist.",
+                    propertyKey
+                ));
+            }
+            graphStore.nodePropertyMetadata.put(propertyKey, copy);
+        });
+    }
+
+    private static boolean isMetadataValue(Object value) {
+        if (value instanceof List) {
+            return ((List<?>) value).stream().allMatch(CSRGraphStore::isScalarMetadataValue);
+        }
+        return isScalarMetadataValue(value);
+    }
+
+    private static boolean isScalarMetadataValue(Object value) {
+        return value instanceof String || value instanceof Long || value instanceof Boolean;
+    }
+
     @Override
     public NodeProperty nodeProperty(String propertyKey) {
         return this.nodeProperties.get(propertyKey);
@@ -386,11 +454,260 @@ public class CSRGraphStore implements GraphStore {
         });
     }
 
+    /**
+     * Adds and removes relationships of an existing relationship type in place.
+     * The changes are kept in an overlay on top of the compressed adjacency and property lists.
+     * Relationship properties that the delta does not provide values for get their default value.
+     * Once the overlay has grown large enough, it is merged into new compressed lists in the background.
+     * Graphs that were created before this call keep seeing the previous relationships.
+     *
+     * @return the number of relationships of the type after applying the delta
+     */
+    public long applyRelationshipDelta(RelationshipType relationshipType, RelationshipDelta delta) {
+        var newElementCount = new long[1];
+        updateGraphStore(graphStore -> {
+            validateDeltaTarget(relationshipType, delta);
+            var updated = RelationshipDeltas.apply(
+                graphStore.relationships.get(relationshipType),
+                graphStore.relationshipPropertyLists(relationshipType),
+                nodes,
+                delta
+            );
+            graphStore.putRelationships(relationshipType, updated);
+            // the inverse index does not follow the overlay, it is rebuilt once a graph of the type is requested
+            if (graphStore.inverseRelationships.remove(relationshipType) != null) {
+                graphStore.staleInverseRelationships.add(relationshipType);
+            }
+            newElementCount[0] = updated.topology().elementCount();
+            if (RelationshipDeltas.needsCompaction(updated.topology()) && compactingRelationshipTypes.add(relationshipType)) {
+                // compaction waits for tasks on the default pool, so it must not occupy one of its threads
+                COMPACTION_POOL.execute(() -> {
+                    try {
+                        compactRelationships(relationshipType);
+                    } finally {
+                        compactingRelationshipTypes.remove(relationshipType);
+                    }
+                });
+            }
+        });
+        return newElementCount[0];
+    }
+
+    /**
+     * Adds and removes nodes in place. The id map and the node properties are rebuilt for the new nodes,
+     * added nodes get the default value of every node property and start out without relationships.
+     * Without removals, all existing nodes keep their ids and the adjacency lists are kept as they are.
+     * Removals renumber the remaining nodes and rebuild the relationships of all types,
+     * which takes time linear in the size of the graph.
+     * Graphs that were created before this call keep seeing the previous nodes.
+     *
+     * @return the number of nodes after applying the delta
+     */
+    public long applyNodeDelta(NodeDelta delta) {
+        var newNodeCount = new long[1];
+        updateGraphStore(graphStore -> {
+            var nodeDeltas = NodeDeltas.apply(graphStore.nodes, delta, concurrency);
+
+            var nodePropertyStoreBuilder = NodePropertyStore.builder();
+            graphStore.nodeProperties.nodeProperties().forEach((propertyKey, property) ->
+                nodePropertyStoreBuilder.putIfAbsent(
+                    propertyKey,
+                    ImmutableNodeProperty.of(nodeDeltas.nodeProperties(property), property.propertySchema())
+                )
+            );
+            graphStore.nodeProperties = nodePropertyStoreBuilder.build();
+
+            for (var relationshipType : List.copyOf(graphStore.relationships.keySet())) {
+                var relationships = new RelationshipDeltas.Result(
+                    graphStore.relationships.get(relationshipType),
+                    graphStore.relationshipPropertyLists(relationshipType)
+                );
+                graphStore.putRelationships(relationshipType, nodeDeltas.relationships(relationships, concurrency));
+                // the inverse index only covers the previous nodes
+                if (graphStore.inverseRelationships.remove(relationshipType) != null) {
+                    graphStore.staleInverseRelationships.add(relationshipType);
+                }
+            }
+
+            graphStore.nodes = nodeDeltas.nodes();
+            newNodeCount[0] = graphStore.nodes.nodeCount();
+        });
+        return newNodeCount[0];
+    }
+
+    /**
+     * Merges the delta overlay of the given relationship type into a new compressed adjacency list.
+     * Deltas applied while the compaction is running are kept in the overlay of the compacted list.
+     */
+    public void compactRelationships(RelationshipType relationshipType) {
+        Relationships.Topology snapshot;
+        Map<String, Relationships.Properties> snapshotProperties;
+        IdMap snapshotNodes;
+        synchronized (this) {
+            snapshot = relationships.get(relationshipType);
+            snapshotProperties = relationshipPropertyLists(relationshipType);
+            snapshotNodes = nodes;
+        }
+        if (snapshot == null || !(snapshot.adjacencyList() instanceof DeltaAdjacencyList)) {
+            return;
+        }
+
+        var compacted = RelationshipDeltas.compact(snapshot, snapshotProperties, snapshotNodes, concurrency);
+
+        updateGraphStore(graphStore -> {
+            var current = graphStore.relationships.get(relationshipType);
+            // the type might have been deleted or replaced, or the nodes changed in the meantime
+            if (current != null
+                && graphStore.nodes == snapshotNodes
+                && current.adjacencyList() instanceof DeltaAdjacencyList
+                && ((DeltaAdjacencyList) current.adjacencyList()).base() == ((DeltaAdjacencyList) snapshot.adjacencyList()).base()) {
+                var currentRelationships = new RelationshipDeltas.Result(
+                    current,
+                    graphStore.relationshipPropertyLists(relationshipType)
+                );
+                graphStore.putRelationships(
+                    relationshipType,
+                    RelationshipDeltas.rebase(compacted, snapshot, currentRelationships)
+                );
+            }
+            // compaction only changes how the relationships are stored, not which relationships there are
+        }, false);
+    }
+
+    /**
+     * Merges the delta overlay of the given relationship type into new adjacency and property lists
+     * without installing them, the graph store keeps serving the overlay.
+     * Relationship types without an overlay are returned as they are.
+     *
+     * @return the relationships with their property lists, or {@code null} if the type does not exist
+     */
+    public @Nullable CompactedRelationships compactedRelationships(RelationshipType relationshipType) {
+        Relationships.Topology topology;
+        Map<String, Relationships.Properties> properties;
+        IdMap idMap;
+        synchronized (this) {
+            topology = relationships.get(relationshipType);
+            if (topology == null) {
+                return null;
+            }
+            properties = relationshipPropertyLists(relationshipType);
+            idMap = nodes;
+        }
+        if (!(topology.adjacencyList() instanceof DeltaAdjacencyList)) {
+            return new CompactedRelationships(topology, properties);
+        }
+        var compacted = RelationshipDeltas.compact(topology, properties, idMap, concurrency);
+        return new CompactedRelationships(compacted.topology(), compacted.properties());
+    }
+
+    /**
+     * Builds an index of the incoming relationships of the given type, including all of its relationship properties.
+     * Graphs created afterwards support {@link Graph#forEachInverseRelationship} and {@link Graph#inverseDegree}.
+     * Undirected relationship types do not need an index, their outgoing relationships are also the incoming ones.
+     * Once the relationships of the type are changed via {@link #applyRelationshipDelta}, the index is
+     * rebuilt by the next call to {@link #getGraph} that includes the type.
+     */
+    public void indexInverse(RelationshipType relationshipType) {
+        Relationships.Topology topology;
+        Map<String, Relationships.Properties> properties;
+        IdMap idMap;
+        synchronized (this) {
+            topology = relationships.get(relationshipType);
+            if (topology == null) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "No relationships have been loaded for relationship type '%s'",
+                    relationshipType
+                ));
+            }
+            if (topology.orientation() == Orientation.UNDIRECTED || inverseRelationships.containsKey(relationshipType)) {
+                return;
+            }
+            properties = relationshipPropertyLists(relationshipType);
+            idMap = nodes;
+        }
+
+        var inverse = InverseRelationships.build(idMap, topology, properties, concurrency);
+
+        updateGraphStore(graphStore -> {
+            // the relationships might have been changed or deleted while the index was built
+            if (graphStore.relationships.get(relationshipType) == topology) {
+                graphStore.inverseRelationships.put(relationshipType, inverse);
+                graphStore.staleInverseRelationships.remove(relationshipType);
+            }
+        });
+    }
+
+    public synchronized boolean hasInverseIndex(RelationshipType relationshipType) {
+        var topology = relationships.get(relationshipType);
+        return topology != null
+               && (topology.orientation() == Orientation.UNDIRECTED
+                   || inverseRelationships.containsKey(relationshipType)
+                   || staleInverseRelationships.contains(relationshipType));
+    }
+
+    /**
+     * Returns the topology of the given relationship type as it is stored, without wrapping it into a graph.
+     */
+    public synchronized @Nullable Relationships.Topology relationshipTopology(RelationshipType relationshipType) {
+        return relationships.get(relationshipType);
+    }
+
+    private void validateDeltaTarget(RelationshipType relationshipType, RelationshipDelta delta) {
+        if (!relationships.containsKey(relationshipType)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "No relationships have been loaded for relationship type '%s'",
+                relationshipType
+            ));
+        }
+        var propertyKeys = relationshipPropertyKeys(relationshipType);
+        var unknownPropertyKeys = delta
+            .propertyKeys()
+            .stream()
+            .filter(propertyKey -> !propertyKeys.contains(propertyKey))
+            .collect(Collectors.toList());
+        if (!unknownPropertyKeys.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Relationship type '%s' does not have the properties %s. Available properties are %s.",
+                relationshipType,
+                StringJoining.join(unknownPropertyKeys),
+                StringJoining.join(propertyKeys)
+            ));
+        }
+    }
+
+    private Map<String, Relationships.Properties> relationshipPropertyLists(RelationshipType relationshipType) {
+        return relationshipProperties.containsKey(relationshipType)
+            ? relationshipProperties
+                .get(relationshipType)
+                .relationshipProperties()
+                .values()
+                .stream()
+                .collect(toMap(RelationshipProperty::key, RelationshipProperty::values))
+            : Map.of();
+    }
+
+    private void putRelationships(RelationshipType relationshipType, RelationshipDeltas.Result updated) {
+        relationships.put(relationshipType, updated.topology());
+        if (updated.properties().isEmpty()) {
+            return;
+        }
+        var builder = RelationshipPropertyStore.builder();
+        relationshipProperties.get(relationshipType).relationshipProperties().forEach((propertyKey, property) ->
+            builder.putIfAbsent(
+                propertyKey,
+                ImmutableRelationshipProperty.of(updated.properties().get(propertyKey), property.propertySchema())
+            )
+        );
+        relationshipProperties.put(relationshipType, builder.build());
+    }
+
     @Override
     public DeletionResult deleteRelationships(RelationshipType relationshipType) {
         return DeletionResult.of(builder ->
             updateGraphStore(graphStore -> {
                 var removedTopology = graphStore.relationships.remove(relationshipType);
+                graphStore.inverseRelationships.remove(relationshipType);
+                graphStore.staleInverseRelationships.remove(relationshipType);
                 if (removedTopology != null) {
                     builder.deletedRelationships(removedTopology.elementCount());
                 }
@@ -428,11 +745,13 @@ public class CSRGraphStore implements GraphStore {
         Optional<String> maybeRelationshipProperty
     ) {
         validateInput(relationshipTypes, maybeRelationshipProperty);
+        rebuildStaleInverseIndices(relationshipTypes);
         return createGraph(nodeLabels, relationshipTypes, maybeRelationshipProperty);
     }
 
     @Override
     public CSRGraph getUnion() {
+        rebuildStaleInverseIndices(relationshipTypes());
         var graphs = relationships
             .keySet()
             .stream()
@@ -520,6 +839,10 @@ public class CSRGraphStore implements GraphStore {
             closeables.accept((AutoCloseable) this.nodes);
         }
         this.relationships.values().forEach(rel -> closeables.add(rel.adjacencyList()));
+        this.inverseRelationships.values().forEach(inverse -> {
+            closeables.add(inverse.topology().adjacencyList());
+            inverse.properties().values().forEach(prop -> closeables.add(prop.propertiesList()));
+        });
         this.relationshipProperties.forEach((propertyName, properties) ->
             properties.values().forEach(prop -> closeables.add(prop.values().propertiesList()))
         );
@@ -543,9 +866,30 @@ public class CSRGraphStore implements GraphStore {
         return nodes.nodeCount();
     }
 
-    private synchronized void updateGraphStore(Consumer<CSRGraphStore> updateFunction) {
-        updateFunction.accept(this);
-        this.modificationTime = TimeUtil.now();
+    /**
+     * Registers a listener that is called after every change to the content of this graph store.
+     * Listeners are called on the modifying thread, after the graph store has been unlocked.
+     */
+    void addModificationListener(Consumer<CSRGraphStore> listener) {
+        modificationListeners.add(listener);
+    }
+
+    void removeModificationListener(Consumer<CSRGraphStore> listener) {
+        modificationListeners.remove(listener);
+    }
+
+    private void updateGraphStore(Consumer<CSRGraphStore> updateFunction) {
+        updateGraphStore(updateFunction, true);
+    }
+
+    private void updateGraphStore(Consumer<CSRGraphStore> updateFunction, boolean changesContent) {
+        synchronized (this) {
+            updateFunction.accept(this);
+            this.modificationTime = TimeUtil.now();
+        }
+        if (changesContent) {
+            modificationListeners.forEach(listener -> listener.accept(this));
+        }
     }
 
     private void addRelationshipProperty(
@@ -574,6 +918,17 @@ public class CSRGraphStore implements GraphStore {
         });
     }
 
+    private void rebuildStaleInverseIndices(Collection<RelationshipType> relationshipTypes) {
+        List<RelationshipType> staleRelationshipTypes;
+        synchronized (this) {
+            staleRelationshipTypes = relationshipTypes
+                .stream()
+                .filter(staleInverseRelationships::contains)
+                .collect(Collectors.toList());
+        }
+        staleRelationshipTypes.forEach(this::indexInverse);
+    }
+
     private CSRGraph createGraph(
         Collection<NodeLabel> nodeLabels,
         RelationshipType relationshipType,
@@ -638,13 +993,16 @@ public class CSRGraphStore implements GraphStore {
         var properties = maybeRelationshipProperty.map(propertyKey -> relationshipProperties
             .get(relationshipType)
             .get(propertyKey).values());
+        var inverse = Optional.ofNullable(inverseRelationships.get(relationshipType));
 
         var initialGraph = HugeGraph.create(
             nodes,
             graphSchema,
             filteredNodeProperties,
             topology,
-            properties
+            properties,
+            inverse.map(InverseRelationships::topology),
+            inverse.flatMap(index -> maybeRelationshipProperty.map(propertyKey -> index.properties().get(propertyKey)))
         );
 
         return filteredNodes.isPresent()
@@ -701,4 +1059,27 @@ public class CSRGraphStore implements GraphStore {
         });
     }
 
+    /**
+     * The relationships of one type with all of their property lists, see {@link #compactedRelationships}.
+     */
+    public static final class CompactedRelationships {
+        private final Relationships.Topology topology;
+        private final Map<String, Relationships.Properties> properties;
+
+        CompactedRelationships(Relationships.Topology topology, Map<String, Relationships.Properties> properties) {
+            this.topology = topology;
+            this.properties = properties;
+        }
+
+        public Relationships.Topology topology() {
+            return topology;
+        }
+
+        /**
+         * @return the property lists by property key, they share the offsets of the adjacency list
+         */
+        public Map<String, Relationships.Properties> properties() {
+            return properties;
+        }
+    }
 }
@@ -25,6 +25,7 @@ import org.neo4j.gds.collections.HugeSparseCollections;
 import org.neo4j.gds.collections.HugeSparseIntList;
 import org.neo4j.gds.collections.HugeSparseLongArrayList;
 import org.neo4j.gds.collections.HugeSparseLongList;
+import org.neo4j.gds.collections.LongIntConsumer;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
@@ -225,6 +226,14 @@ public final class ChunkedAdjacencyLists {
         return targetLists.contains(index);
     }
 
+    /**
+     * Calls the consumer for every index that received at least one target,
+     * passing the number of targets added so far. Does not drain the lists.
+     */
+    public void forEachLength(LongIntConsumer consumer) {
+        lengths.forAll(consumer);
+    }
+
     public void consume(Consumer consumer) {
         new CompositeDrainingIterator(targetLists, properties, positions, lastValues, lengths).consume(consumer);
     }
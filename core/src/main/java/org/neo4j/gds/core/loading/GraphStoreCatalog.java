@@ -23,14 +23,27 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.schema.GraphSchema;
 import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.utils.StringJoining;
 import org.neo4j.kernel.database.NamedDatabaseId;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -41,8 +54,31 @@ public final class GraphStoreCatalog {
 
     private static final ConcurrentHashMap<String, UserCatalog> userCatalogs = new ConcurrentHashMap<>();
 
+    // guards all changes to the set of resident and spilled graphs
+    private static final Object evictionLock = new Object();
+
+    private static final AtomicLong accessClock = new AtomicLong();
+
+    private static volatile @Nullable CatalogMemoryBudget memoryBudget;
+
     private GraphStoreCatalog() { }
 
+    /**
+     * Limits the heap used by all catalogued graphs.
+     * Whenever a graph is added or reloaded and the budget is exceeded, other graphs are spilled to disk
+     * according to the eviction policy of the budget, until the catalog fits into the budget again.
+     * Spilled graphs are reloaded on their next access by name.
+     * Until then, they are listed through {@link #getSpilledGraphs(String)} with the statistics they had when spilled.
+     * Graphs that are still in use when they are evicted stay valid for their current users.
+     * If such a graph is modified after it has been spilled, it is put back into memory, so that no change is lost.
+     *
+     * @param budget the budget to enforce, or {@code null} to stop evicting graphs
+     */
+    public static void memoryBudget(@Nullable CatalogMemoryBudget budget) {
+        memoryBudget = budget;
+        enforceMemoryBudget(null);
+    }
+
     public static GraphStoreWithConfig get(CatalogRequest request, String graphName) {
         var userCatalogKey = UserCatalog.UserCatalogKey.of(request.databaseName(), graphName);
         var ownCatalog = getUserCatalog(request.username());
@@ -102,7 +138,8 @@ public final class GraphStoreCatalog {
         var usersWithMatchingGraphs = userCatalogs
             .entrySet()
             .stream()
-            .flatMap(e -> Stream.ofNullable(e.getValue().get(userCatalogKey, false)).map(graph -> e.getKey()))
+            .filter(e -> e.getValue().exists(userCatalogKey))
+            .map(Map.Entry::getKey)
             .collect(Collectors.toSet());
 
         if (usersWithMatchingGraphs.isEmpty() && failOnMissing) {
@@ -156,6 +193,7 @@ public final class GraphStoreCatalog {
             );
             return userCatalog;
         });
+        enforceMemoryBudget(graphStore);
     }
 
     public static boolean exists(String username, NamedDatabaseId databaseId, String graphName) {
@@ -166,7 +204,7 @@ public final class GraphStoreCatalog {
         return userCatalogs
             .values()
             .stream()
-            .mapToInt(userCatalog -> userCatalog.getGraphStores().values().size())
+            .mapToInt(UserCatalog::graphStoresCount)
             .sum();
     }
 
@@ -174,7 +212,7 @@ public final class GraphStoreCatalog {
         return userCatalogs
             .values()
             .stream()
-            .mapToInt(userCatalog -> userCatalog.getGraphStores(databaseId).values().size())
+            .mapToInt(userCatalog -> userCatalog.graphStoresCount(databaseId))
             .sum();
     }
 
@@ -203,7 +241,12 @@ public final class GraphStoreCatalog {
     }
 
     public static void removeAllLoadedGraphs() {
-        userCatalogs.clear();
+        var spilledGraphs = new ArrayList<SpilledGraph>();
+        synchronized (evictionLock) {
+            userCatalogs.values().forEach(userCatalog -> spilledGraphs.addAll(userCatalog.removeSpilledGraphs()));
+            userCatalogs.clear();
+        }
+        spilledGraphs.forEach(SpilledGraph::discard);
     }
 
     public static void removeAllLoadedGraphs(NamedDatabaseId databaseId) {
@@ -225,10 +268,180 @@ public final class GraphStoreCatalog {
             .flatMap(entry -> entry.getValue().streamGraphStores(entry.getKey()));
     }
 
+    /**
+     * Lists the graphs of the given user that are spilled to disk, without reloading them.
+     */
+    public static Stream<SpilledGraphInfo> getSpilledGraphs(String username) {
+        return getUserCatalog(username).streamSpilledGraphs(username);
+    }
+
+    public static Stream<SpilledGraphInfo> getAllSpilledGraphs() {
+        return userCatalogs
+            .entrySet()
+            .stream()
+            .flatMap(entry -> entry.getValue().streamSpilledGraphs(entry.getKey()));
+    }
+
     private static UserCatalog getUserCatalog(String username) {
         return userCatalogs.getOrDefault(username, UserCatalog.EMPTY);
     }
 
+    private static void enforceMemoryBudget(@Nullable GraphStore pinnedGraphStore) {
+        var budget = memoryBudget;
+        if (budget == null) {
+            return;
+        }
+
+        var residents = new ArrayList<EvictionCandidate>();
+        synchronized (evictionLock) {
+            for (var entry : userCatalogs.entrySet()) {
+                var userCatalog = entry.getValue();
+                for (var graph : userCatalog.graphsByName.entrySet()) {
+                    var residency = userCatalog.residencyByName.computeIfAbsent(graph.getKey(), __ -> new Residency());
+                    residents.add(new EvictionCandidate(
+                        entry.getKey(),
+                        userCatalog,
+                        graph.getKey(),
+                        graph.getValue(),
+                        residency
+                    ));
+                }
+            }
+        }
+
+        // measuring and spilling graphs is slow, so it happens without holding the lock
+        long residentBytes = 0L;
+        var candidates = new ArrayList<EvictionCandidate>();
+        for (var resident : residents) {
+            var graphStore = resident.graphStoreWithConfig.graphStore();
+            resident.sizeInBytes = resident.residency.sizeInBytes(graphStore);
+            residentBytes += resident.sizeInBytes;
+            if (graphStore != pinnedGraphStore
+                && resident.residency.evictable
+                // only modifications of these can be observed, see UserCatalog#restore
+                && graphStore instanceof CSRGraphStore
+                && budget.spiller().canSpill(graphStore)) {
+                candidates.add(resident);
+            }
+        }
+
+        candidates.sort(budget.evictionPolicy() == CatalogEvictionPolicy.LFU
+            ? Comparator
+                .<EvictionCandidate>comparingLong(candidate -> candidate.residency.accessCount.get())
+                .thenComparingLong(candidate -> candidate.residency.lastAccess)
+            : Comparator.<EvictionCandidate>comparingLong(candidate -> candidate.residency.lastAccess)
+        );
+
+        var victims = candidates.iterator();
+        while (residentBytes > budget.maxBytes() && victims.hasNext()) {
+            var victim = victims.next();
+            if (victim.userCatalog.spill(victim, budget)) {
+                residentBytes -= victim.sizeInBytes;
+            }
+        }
+    }
+
+    private static void deleteSpillLocation(Path location) {
+        try (var paths = Files.walk(location)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Residency {
+        private final AtomicLong accessCount = new AtomicLong();
+        private volatile long lastAccess = accessClock.incrementAndGet();
+        private long sizeInBytes = -1L;
+        private @Nullable ZonedDateTime sizedAt;
+        private volatile boolean evictable = true;
+        // guarded by the eviction lock
+        private boolean spilling;
+        private boolean modifiedWhileSpilling;
+
+        private void touch() {
+            lastAccess = accessClock.incrementAndGet();
+            accessCount.incrementAndGet();
+        }
+
+        private synchronized long sizeInBytes(GraphStore graphStore) {
+            // mutations change the size of the graph store, but measuring it is expensive
+            if (sizeInBytes < 0 || !graphStore.modificationTime().equals(sizedAt)) {
+                sizedAt = graphStore.modificationTime();
+                sizeInBytes = Math.max(0L, MemoryUsage.sizeOf(graphStore));
+            }
+            return sizeInBytes;
+        }
+    }
+
+    private static final class SpilledGraph {
+        private final GraphProjectConfig config;
+        // statistics at the time of spilling, used for listing the graph without reloading it
+        private final long nodeCount;
+        private final long relationshipCount;
+        private final GraphSchema schema;
+        private final ZonedDateTime modificationTime;
+        private final Path location;
+        private final GraphStoreSpiller spiller;
+        // lets us skip reading from disk if the evicted graph store is still referenced elsewhere
+        private final WeakReference<CSRGraphStore> graphStore;
+        // puts the evicted graph store back into the catalog once it is modified
+        private final Consumer<CSRGraphStore> onModification;
+
+        private SpilledGraph(
+            GraphProjectConfig config,
+            Path location,
+            GraphStoreSpiller spiller,
+            CSRGraphStore graphStore,
+            Consumer<CSRGraphStore> onModification
+        ) {
+            this.config = config;
+            this.nodeCount = graphStore.nodeCount();
+            this.relationshipCount = graphStore.relationshipCount();
+            this.schema = graphStore.schema();
+            this.modificationTime = graphStore.modificationTime();
+            this.location = location;
+            this.spiller = spiller;
+            this.graphStore = new WeakReference<>(graphStore);
+            this.onModification = onModification;
+        }
+
+        /**
+         * Stops observing the evicted graph store and deletes the snapshot.
+         * Must be called after the spilled graph has been removed from the catalog, without holding the eviction lock.
+         */
+        private void discard() {
+            var evictedGraphStore = graphStore.get();
+            if (evictedGraphStore != null) {
+                evictedGraphStore.removeModificationListener(onModification);
+            }
+            deleteSpillLocation(location);
+        }
+    }
+
+    private static final class EvictionCandidate {
+        private final String username;
+        private final UserCatalog userCatalog;
+        private final UserCatalog.UserCatalogKey userCatalogKey;
+        private final GraphStoreWithConfig graphStoreWithConfig;
+        private final Residency residency;
+        private long sizeInBytes;
+
+        private EvictionCandidate(
+            String username,
+            UserCatalog userCatalog,
+            UserCatalog.UserCatalogKey userCatalogKey,
+            GraphStoreWithConfig graphStoreWithConfig,
+            Residency residency
+        ) {
+            this.username = username;
+            this.userCatalog = userCatalog;
+            this.userCatalogKey = userCatalogKey;
+            this.graphStoreWithConfig = graphStoreWithConfig;
+            this.residency = residency;
+        }
+    }
+
     @ValueClass
     public interface GraphStoreWithUserNameAndConfig {
 
@@ -239,6 +452,26 @@ public final class GraphStoreCatalog {
         GraphProjectConfig config();
     }
 
+    @ValueClass
+    public interface SpilledGraphInfo {
+
+        String userName();
+
+        String databaseName();
+
+        GraphProjectConfig config();
+
+        long nodeCount();
+
+        long relationshipCount();
+
+        GraphSchema schema();
+
+        ZonedDateTime modificationTime();
+
+        Optional<Map<String, Object>> degreeDistribution();
+    }
+
     static class UserCatalog {
 
         @ValueClass
@@ -263,6 +496,10 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, Residency> residencyByName = new ConcurrentHashMap<>();
+
+        private final Map<UserCatalogKey, SpilledGraph> spilledByName = new ConcurrentHashMap<>();
+
         private void set(
             UserCatalogKey userCatalogKey,
             GraphProjectConfig config,
@@ -274,13 +511,21 @@ public final class GraphStoreCatalog {
             }
             GraphStoreWithConfig graphStoreWithConfig = GraphStoreWithConfig.of(graphStore, config);
 
-            if (!overwrite && graphsByName.containsKey(userCatalogKey)) {
-                throw new IllegalStateException(formatWithLocale(
-                    "Graph name %s already loaded",
-                    config.graphName()
-                ));
+            SpilledGraph replacedSpilledGraph;
+            synchronized (evictionLock) {
+                if (!overwrite && exists(userCatalogKey)) {
+                    throw new IllegalStateException(formatWithLocale(
+                        "Graph name %s already loaded",
+                        config.graphName()
+                    ));
+                }
+                graphsByName.put(userCatalogKey, graphStoreWithConfig);
+                residencyByName.put(userCatalogKey, new Residency());
+                replacedSpilledGraph = spilledByName.remove(userCatalogKey);
+            }
+            if (replacedSpilledGraph != null) {
+                replacedSpilledGraph.discard();
             }
-            graphsByName.put(userCatalogKey, graphStoreWithConfig);
             graphStore.canRelease(false);
         }
 
@@ -289,7 +534,7 @@ public final class GraphStoreCatalog {
             if (userCatalogKey == null || degreeDistribution == null) {
                 throw new IllegalArgumentException("Both name and degreeDistribution must be not null");
             }
-            if (!graphsByName.containsKey(userCatalogKey)) {
+            if (!exists(userCatalogKey)) {
                 throw new IllegalArgumentException(formatWithLocale(
                     "Cannot set degreeDistribution because graph %s does not exist",
                     userCatalogKey.graphName()
@@ -310,13 +555,144 @@ public final class GraphStoreCatalog {
         private @Nullable GraphStoreWithConfig get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
             var graphStoreWithConfig = graphsByName.get(userCatalogKey);
 
+            if (graphStoreWithConfig == null && spilledByName.containsKey(userCatalogKey)) {
+                graphStoreWithConfig = reload(userCatalogKey);
+            }
+
             if (graphStoreWithConfig == null && failOnMissing) {
                 throw graphNotFoundException(userCatalogKey);
             }
 
+            if (graphStoreWithConfig != null) {
+                var residency = residencyByName.get(userCatalogKey);
+                if (residency != null) {
+                    residency.touch();
+                }
+            }
+
             return graphStoreWithConfig;
         }
 
+        private @Nullable GraphStoreWithConfig reload(UserCatalogKey userCatalogKey) {
+            var spilledGraph = spilledByName.get(userCatalogKey);
+            if (spilledGraph == null) {
+                // reloaded or removed concurrently
+                return graphsByName.get(userCatalogKey);
+            }
+
+            GraphStore graphStore = spilledGraph.graphStore.get();
+            if (graphStore == null) {
+                try {
+                    graphStore = spilledGraph.spiller.reload(spilledGraph.location);
+                } catch (RuntimeException e) {
+                    if (spilledByName.get(userCatalogKey) == spilledGraph) {
+                        throw e;
+                    }
+                    // the snapshot has been deleted by a concurrent reload or removal
+                    return graphsByName.get(userCatalogKey);
+                }
+            }
+
+            GraphStoreWithConfig graphStoreWithConfig;
+            synchronized (evictionLock) {
+                if (spilledByName.get(userCatalogKey) != spilledGraph) {
+                    return graphsByName.get(userCatalogKey);
+                }
+                graphStore.canRelease(false);
+                graphStoreWithConfig = GraphStoreWithConfig.of(graphStore, spilledGraph.config);
+                graphsByName.put(userCatalogKey, graphStoreWithConfig);
+                residencyByName.put(userCatalogKey, new Residency());
+                spilledByName.remove(userCatalogKey);
+            }
+            spilledGraph.discard();
+            enforceMemoryBudget(graphStoreWithConfig.graphStore());
+            return graphStoreWithConfig;
+        }
+
+        private boolean spill(EvictionCandidate victim, CatalogMemoryBudget budget) {
+            var userCatalogKey = victim.userCatalogKey;
+            var graphStoreWithConfig = victim.graphStoreWithConfig;
+            var graphStore = (CSRGraphStore) graphStoreWithConfig.graphStore();
+            var residency = victim.residency;
+            synchronized (evictionLock) {
+                // the graph might have been replaced, removed or spilled concurrently
+                if (graphsByName.get(userCatalogKey) != graphStoreWithConfig || residency.spilling) {
+                    return false;
+                }
+                residency.spilling = true;
+                residency.modifiedWhileSpilling = false;
+            }
+
+            // registered before writing, so that modifications during the spill are noticed as well
+            Consumer<CSRGraphStore> onModification = modified -> restore(userCatalogKey, modified);
+            graphStore.addModificationListener(onModification);
+
+            var location = budget.spillLocation().resolve(UUID.randomUUID().toString());
+            boolean written;
+            try {
+                Files.createDirectories(location);
+                budget.spiller().spill(victim.username, graphStore, location);
+                written = true;
+            } catch (IOException | RuntimeException e) {
+                // keep the graph in memory and do not try again
+                residency.evictable = false;
+                written = false;
+            }
+
+            synchronized (evictionLock) {
+                residency.spilling = false;
+                if (written
+                    && !residency.modifiedWhileSpilling
+                    && graphsByName.get(userCatalogKey) == graphStoreWithConfig) {
+                    spilledByName.put(userCatalogKey, new SpilledGraph(
+                        graphStoreWithConfig.config(),
+                        location,
+                        budget.spiller(),
+                        graphStore,
+                        onModification
+                    ));
+                    graphsByName.remove(userCatalogKey);
+                    residencyByName.remove(userCatalogKey);
+                    return true;
+                }
+            }
+            graphStore.removeModificationListener(onModification);
+            deleteSpillLocation(location);
+            return false;
+        }
+
+        /**
+         * Called whenever a graph store is modified while it is being spilled or after it has been spilled.
+         * Its snapshot is outdated then, so it is put back into memory and might be spilled again later.
+         */
+        private void restore(UserCatalogKey userCatalogKey, CSRGraphStore graphStore) {
+            SpilledGraph outdated;
+            synchronized (evictionLock) {
+                var resident = graphsByName.get(userCatalogKey);
+                if (resident != null && resident.graphStore() == graphStore) {
+                    var residency = residencyByName.get(userCatalogKey);
+                    if (residency != null && residency.spilling) {
+                        residency.modifiedWhileSpilling = true;
+                    }
+                    return;
+                }
+                outdated = spilledByName.get(userCatalogKey);
+                if (outdated == null || outdated.graphStore.get() != graphStore) {
+                    return;
+                }
+                spilledByName.remove(userCatalogKey);
+                graphsByName.put(userCatalogKey, GraphStoreWithConfig.of(graphStore, outdated.config));
+                residencyByName.put(userCatalogKey, new Residency());
+            }
+            outdated.discard();
+        }
+
+        private List<SpilledGraph> removeSpilledGraphs() {
+            var spilledGraphs = new ArrayList<>(spilledByName.values());
+            spilledByName.clear();
+            return spilledGraphs;
+        }
+
         private NoSuchElementException graphNotFoundException(UserCatalogKey userCatalogKey) {
             var graphName = userCatalogKey.graphName();
 
@@ -330,14 +706,15 @@ public final class GraphStoreCatalog {
         }
 
         private Optional<Map<String, Object>> getDegreeDistribution(UserCatalogKey userCatalogKey) {
-            if (!graphsByName.containsKey(userCatalogKey)) {
+            if (!exists(userCatalogKey)) {
                 return Optional.empty();
             }
             return Optional.ofNullable(degreeDistributionByName.get(userCatalogKey));
         }
 
         private boolean exists(UserCatalogKey userCatalogKey) {
-            return userCatalogKey != null && graphsByName.containsKey(userCatalogKey);
+            return userCatalogKey != null
+                   && (graphsByName.containsKey(userCatalogKey) || spilledByName.containsKey(userCatalogKey));
         }
 
         private boolean remove(
@@ -345,20 +722,72 @@ public final class GraphStoreCatalog {
             Consumer<GraphStoreWithConfig> removedGraphConsumer,
             boolean failOnMissing
         ) {
-            return Optional.ofNullable(get(userCatalogKey, failOnMissing))
-                .map(graphStoreWithConfig -> {
-                    removedGraphConsumer.accept(graphStoreWithConfig);
-                    graphStoreWithConfig.graphStore().canRelease(true);
-                    graphStoreWithConfig.graphStore().release();
-                    removeDegreeDistribution(userCatalogKey);
-                    graphsByName.remove(userCatalogKey);
-                    return Boolean.TRUE;
-                })
-                .orElse(Boolean.FALSE);
+            GraphStoreWithConfig resident;
+            SpilledGraph spilledGraph;
+            synchronized (evictionLock) {
+                resident = graphsByName.remove(userCatalogKey);
+                residencyByName.remove(userCatalogKey);
+                spilledGraph = spilledByName.remove(userCatalogKey);
+            }
+
+            if (resident == null && spilledGraph == null) {
+                if (failOnMissing) {
+                    throw graphNotFoundException(userCatalogKey);
+                }
+                return false;
+            }
+
+            removeDegreeDistribution(userCatalogKey);
+            GraphStoreWithConfig removed;
+            try {
+                removed = resident != null ? resident : removedSpilledGraph(spilledGraph);
+            } finally {
+                if (spilledGraph != null) {
+                    spilledGraph.discard();
+                }
+            }
+            removedGraphConsumer.accept(removed);
+            removed.graphStore().canRelease(true);
+            removed.graphStore().release();
+            return true;
+        }
+
+        /**
+         * The graph store of a removed spilled graph is only read back for the removed graph consumer.
+         * It is not added to the catalog again and does not count towards the memory budget.
+         */
+        private static GraphStoreWithConfig removedSpilledGraph(SpilledGraph spilledGraph) {
+            GraphStore graphStore = spilledGraph.graphStore.get();
+            if (graphStore == null) {
+                graphStore = spilledGraph.spiller.reload(spilledGraph.location);
+            }
+            return GraphStoreWithConfig.of(graphStore, spilledGraph.config);
         }
 
         private void remove(String databaseName) {
-            graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+            var spilledGraphs = new ArrayList<SpilledGraph>();
+            synchronized (evictionLock) {
+                graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+                residencyByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+                spilledByName
+                    .keySet()
+                    .stream()
+                    .filter(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName))
+                    .collect(Collectors.toList())
+                    .forEach(userCatalogKey -> spilledGraphs.add(spilledByName.remove(userCatalogKey)));
+            }
+            spilledGraphs.forEach(SpilledGraph::discard);
+        }
+
+        private int graphStoresCount() {
+            return graphsByName.size() + spilledByName.size();
+        }
+
+        private int graphStoresCount(NamedDatabaseId databaseId) {
+            return (int) Stream
+                .concat(graphsByName.keySet().stream(), spilledByName.keySet().stream())
+                .filter(userCatalogKey -> userCatalogKey.databaseName().equals(databaseId.name()))
+                .count();
         }
 
         private Stream<GraphStoreWithUserNameAndConfig> streamGraphStores(String userName) {
@@ -372,6 +801,22 @@ public final class GraphStoreCatalog {
                 ));
         }
 
+        private Stream<SpilledGraphInfo> streamSpilledGraphs(String userName) {
+            return spilledByName
+                .entrySet()
+                .stream()
+                .map(entry -> ImmutableSpilledGraphInfo.builder()
+                    .userName(userName)
+                    .databaseName(entry.getKey().databaseName())
+                    .config(entry.getValue().config)
+                    .nodeCount(entry.getValue().nodeCount)
+                    .relationshipCount(entry.getValue().relationshipCount)
+                    .schema(entry.getValue().schema)
+                    .modificationTime(entry.getValue().modificationTime)
+                    .degreeDistribution(Optional.ofNullable(degreeDistributionByName.get(entry.getKey())))
+                    .build());
+        }
+
         private Map<GraphProjectConfig, GraphStore> getGraphStores() {
             return graphsByName.values().stream()
                 .collect(Collectors.toMap(
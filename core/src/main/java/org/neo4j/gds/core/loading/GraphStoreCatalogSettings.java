@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Description;
+import org.neo4j.configuration.DocumentedDefaultValue;
+import org.neo4j.configuration.SettingsDeclaration;
+import org.neo4j.graphdb.config.Setting;
+
+import java.nio.file.Path;
+
+import static org.neo4j.configuration.SettingImpl.newBuilder;
+import static org.neo4j.configuration.SettingValueParsers.BYTES;
+import static org.neo4j.configuration.SettingValueParsers.PATH;
+import static org.neo4j.configuration.SettingValueParsers.ofEnum;
+
+@ServiceProvider
+public final class GraphStoreCatalogSettings implements SettingsDeclaration {
+
+    @Description("Heap budget for all graphs in the graph catalog. " +
+                 "Graphs exceeding the budget are spilled to `gds.catalog.spill_location` and reloaded on their next access. " +
+                 "A value of 0 disables the budget.")
+    @DocumentedDefaultValue("0")
+    public static final Setting<Long> catalog_memory_budget = newBuilder(
+        "gds.catalog.memory_budget",
+        BYTES,
+        0L
+    ).build();
+
+    @Description("Directory that graphs evicted from the graph catalog are spilled to.")
+    public static final Setting<Path> catalog_spill_location = newBuilder(
+        "gds.catalog.spill_location",
+        PATH,
+        null
+    ).build();
+
+    @Description("Policy that selects the graph to evict when the graph catalog exceeds its memory budget.")
+    @DocumentedDefaultValue("LRU")
+    public static final Setting<CatalogEvictionPolicy> catalog_eviction_policy = newBuilder(
+        "gds.catalog.eviction_policy",
+        ofEnum(CatalogEvictionPolicy.class),
+        CatalogEvictionPolicy.LRU
+    ).build();
+}
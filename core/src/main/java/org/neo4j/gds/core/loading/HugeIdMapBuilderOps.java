@@ -30,7 +30,7 @@ import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
 public final class HugeIdMapBuilderOps {
 
-    static HugeIdMap build(
+    public static HugeIdMap build(
         HugeLongArray graphIds,
         long nodeCount,
         LabelInformation.Builder labelInformationBuilder,
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the incoming adjacency list of a relationship type from its outgoing adjacency list.
+ * Every node reads its own outgoing relationships and adds them reversed, so the nodes can be processed in parallel.
+ * Properties are carried over in the same pass and stay aligned with the inverted targets.
+ */
+final class InverseRelationships {
+
+    private final Relationships.Topology topology;
+    private final Map<String, Relationships.Properties> properties;
+
+    private InverseRelationships(Relationships.Topology topology, Map<String, Relationships.Properties> properties) {
+        this.topology = topology;
+        this.properties = properties;
+    }
+
+    Relationships.Topology topology() {
+        return topology;
+    }
+
+    Map<String, Relationships.Properties> properties() {
+        return properties;
+    }
+
+    static InverseRelationships build(
+        IdMap idMap,
+        Relationships.Topology topology,
+        Map<String, Relationships.Properties> properties,
+        int concurrency
+    ) {
+        var propertyKeys = new ArrayList<>(properties.keySet());
+        var propertyLists = new ArrayList<Relationships.Properties>(propertyKeys.size());
+        var builderBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .orientation(Orientation.NATURAL)
+            .concurrency(concurrency);
+        for (var propertyKey : propertyKeys) {
+            var propertyList = properties.get(propertyKey);
+            propertyLists.add(propertyList);
+            // the outgoing relationships are already aggregated, inverting them must not aggregate again
+            builderBuilder.addPropertyConfig(GraphFactory.PropertyConfig.of(
+                Aggregation.NONE,
+                DefaultValue.of(propertyList.defaultPropertyValue())
+            ));
+        }
+        var relationshipsBuilder = builderBuilder.build();
+
+        var adjacencyList = topology.adjacencyList();
+        ParallelUtil.parallelForEachNode(idMap.nodeCount(), concurrency, node -> {
+            var adjacencyCursor = adjacencyList.adjacencyCursor(node);
+            if (propertyLists.isEmpty()) {
+                while (adjacencyCursor.hasNextVLong()) {
+                    relationshipsBuilder.addFromInternal(adjacencyCursor.nextVLong(), node);
+                }
+            } else {
+                invertWithProperties(node, adjacencyCursor, propertyLists, relationshipsBuilder);
+            }
+        });
+
+        var inverted = relationshipsBuilder.buildAll();
+        var invertedTopology = ImmutableTopology.of(
+            inverted.get(0).topology().adjacencyList(),
+            inverted.get(0).topology().elementCount(),
+            topology.orientation(),
+            topology.isMultiGraph()
+        );
+
+        var invertedProperties = new HashMap<String, Relationships.Properties>();
+        for (int i = 0; i < propertyKeys.size(); i++) {
+            var forwardProperties = propertyLists.get(i);
+            var propertiesList = inverted.get(i).properties().orElseThrow().propertiesList();
+            invertedProperties.put(propertyKeys.get(i), ImmutableProperties.of(
+                propertiesList,
+                invertedTopology.elementCount(),
+                topology.orientation(),
+                topology.isMultiGraph(),
+                forwardProperties.defaultPropertyValue()
+            ));
+        }
+
+        return new InverseRelationships(invertedTopology, invertedProperties);
+    }
+
+    private static void invertWithProperties(
+        long node,
+        AdjacencyCursor adjacencyCursor,
+        List<Relationships.Properties> propertyLists,
+        RelationshipsBuilder relationshipsBuilder
+    ) {
+        var propertyCursors = new PropertyCursor[propertyLists.size()];
+        for (int i = 0; i < propertyCursors.length; i++) {
+            var propertyList = propertyLists.get(i);
+            propertyCursors[i] = propertyList.propertiesList().propertyCursor(node, propertyList.defaultPropertyValue());
+        }
+        try {
+            while (adjacencyCursor.hasNextVLong()) {
+                var source = adjacencyCursor.nextVLong();
+                if (propertyCursors.length == 1) {
+                    relationshipsBuilder.addFromInternal(source, node, Double.longBitsToDouble(propertyCursors[0].nextLong()));
+                } else {
+                    var values = new double[propertyCursors.length];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = Double.longBitsToDouble(propertyCursors[i].nextLong());
+                    }
+                    relationshipsBuilder.addFromInternal(source, node, values);
+                }
+            }
+        } finally {
+            for (var propertyCursor : propertyCursors) {
+                propertyCursor.close();
+            }
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.GraphDimensionsStoreReader;
 import org.neo4j.gds.core.IdMapBehaviorServiceProvider;
 import org.neo4j.gds.core.compress.AdjacencyListBehavior;
+import org.neo4j.gds.core.compress.AdjacencyListStorage;
 import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -45,9 +46,11 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.internal.id.IdGeneratorFactory;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.neo4j.gds.core.GraphDimensionsValidation.validate;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -82,23 +85,59 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
 
     @Override
     public MemoryEstimation estimateMemoryUsageDuringLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), true);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            true,
+            storeConfig.adjacencyListStorage()
+        );
     }
 
     @Override
     public MemoryEstimation estimateMemoryUsageAfterLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), false);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            false,
+            storeConfig.adjacencyListStorage()
+        );
     }
 
     public static MemoryEstimation getMemoryEstimation(
         NodeProjections nodeProjections,
         RelationshipProjections relationshipProjections,
         boolean isLoading
+    ) {
+        return getMemoryEstimation(nodeProjections, relationshipProjections, isLoading, AdjacencyListStorage.HEAP);
+    }
+
+    public static MemoryEstimation getMemoryEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections,
+        boolean isLoading,
+        AdjacencyListStorage adjacencyListStorage
     ) {
         MemoryEstimations.Builder builder = MemoryEstimations.builder("graph projection");
 
         // node information
-        builder.add("nodeIdMap", IdMapBehaviorServiceProvider.idMapBehavior().memoryEstimation());
+        if (GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.isEnabled()) {
+            // relabelled node ids are always stored in a HugeIdMap
+            builder.add("nodeIdMap", HugeIdMap.memoryEstimation());
+            if (isLoading) {
+                var reordering = MemoryEstimations.builder("node reordering")
+                    .perNode("mapped ids", HugeLongArray::memoryEstimation)
+                    // the id map in store order is alive until the relabelling has finished
+                    .add("nodeIdMap in store order", IdMapBehaviorServiceProvider.idMapBehavior().memoryEstimation());
+                // every node property is copied into the relabelled id space, array values are shared
+                nodeProjections.allProperties().forEach(property -> reordering.perNode(
+                    "relabelled " + property,
+                    HugeLongArray::memoryEstimation
+                ));
+                builder.add(reordering.build());
+            }
+        } else {
+            builder.add("nodeIdMap", IdMapBehaviorServiceProvider.idMapBehavior().memoryEstimation());
+        }
 
         // nodeProperties
         nodeProjections.allProperties()
@@ -110,11 +149,32 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
             if (isLoading) {
                 builder.max(List.of(
                     relationshipEstimationDuringLoading(relationshipType, relationshipProjection, undirected),
-                    relationshipEstimationAfterLoading(relationshipType, relationshipProjection, undirected)
+                    relationshipEstimationAfterLoading(
+                        relationshipType,
+                        relationshipProjection,
+                        undirected,
+                        adjacencyListStorage
+                    )
                 ));
             } else {
                 builder.add(MemoryEstimations.builder(HugeGraph.class).build());
-                builder.add(relationshipEstimationAfterLoading(relationshipType, relationshipProjection, undirected));
+                builder.add(relationshipEstimationAfterLoading(
+                    relationshipType,
+                    relationshipProjection,
+                    undirected,
+                    adjacencyListStorage
+                ));
+            }
+            if (relationshipProjection.indexInverse() && !undirected) {
+                builder.add(
+                    formatWithLocale("inverse index '%s'", relationshipType),
+                    relationshipEstimationAfterLoading(
+                        relationshipType,
+                        relationshipProjection,
+                        false,
+                        adjacencyListStorage
+                    )
+                );
             }
         });
 
@@ -160,13 +220,14 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
     private static MemoryEstimation relationshipEstimationAfterLoading(
         RelationshipType relationshipType,
         RelationshipProjection relationshipProjection,
-        boolean undirected
+        boolean undirected,
+        AdjacencyListStorage adjacencyListStorage
     ) {
         var afterLoadingEstimation = MemoryEstimations.builder("size after loading");
         // adjacency list
         afterLoadingEstimation.add(
             formatWithLocale("adjacency list for '%s'", relationshipType),
-            AdjacencyListBehavior.adjacencyListEstimation(relationshipType, undirected)
+            AdjacencyListBehavior.adjacencyListEstimation(relationshipType, undirected, adjacencyListStorage)
         );
         // all properties per projection
         relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
@@ -241,8 +302,20 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         try {
             progressTracker.beginSubTask();
             IdMapAndProperties nodes = loadNodes(concurrency);
-            RelationshipsAndProperties relationships = loadRelationships(nodes.idMap(), concurrency);
+            var nodeReordering = GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.isEnabled()
+                ? Optional.of(new NodeReordering(nodes.idMap().nodeCount(), concurrency, loadingContext.executor()))
+                : Optional.<NodeReordering>empty();
+            RelationshipsAndProperties relationships = loadRelationships(nodes.idMap(), nodeReordering, concurrency);
+            // the adjacency lists have been written in the relabelled id space
+            if (nodeReordering.isPresent()) {
+                nodes = nodeReordering.get().relabel(nodes);
+            }
             CSRGraphStore graphStore = createGraphStore(nodes, relationships);
+            storeConfig.relationshipProjections().projections().forEach((relationshipType, projection) -> {
+                if (projection.indexInverse()) {
+                    graphStore.indexInverse(relationshipType);
+                }
+            });
 
             logLoadingSummary(graphStore);
 
@@ -269,9 +342,14 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         }
     }
 
-    private RelationshipsAndProperties loadRelationships(IdMap idMap, int concurrency) {
+    private RelationshipsAndProperties loadRelationships(
+        IdMap idMap,
+        Optional<NodeReordering> nodeReordering,
+        int concurrency
+    ) {
         var scanningRelationshipsImporter = new ScanningRelationshipsImporterBuilder()
             .idMap(idMap)
+            .nodeReordering(nodeReordering)
             .graphProjectConfig(graphProjectConfig)
             .loadingContext(loadingContext)
             .dimensions(dimensions)
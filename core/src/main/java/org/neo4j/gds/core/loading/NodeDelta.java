@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.NodeLabel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A batch of nodes to add to and remove from a graph store.
+ * Node ids are the ids of the nodes in the database.
+ * Removing a node also removes all of its relationships.
+ * Removals are applied before additions, so a node can be removed and added again in the same delta.
+ */
+public final class NodeDelta {
+
+    private final LongArrayList added;
+    private final List<List<NodeLabel>> addedLabels;
+    private final LongArrayList removed;
+
+    public static NodeDelta create() {
+        return new NodeDelta();
+    }
+
+    private NodeDelta() {
+        this.added = new LongArrayList();
+        this.addedLabels = new ArrayList<>();
+        this.removed = new LongArrayList();
+    }
+
+    /**
+     * Adds a node with the given labels, which have to be labels of the graph store.
+     * For graph stores with a single label, the label can be omitted.
+     */
+    public NodeDelta add(long nodeId, NodeLabel... labels) {
+        added.add(nodeId);
+        addedLabels.add(List.of(labels));
+        return this;
+    }
+
+    public NodeDelta remove(long nodeId) {
+        removed.add(nodeId);
+        return this;
+    }
+
+    public int addedCount() {
+        return added.size();
+    }
+
+    public int removedCount() {
+        return removed.size();
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    LongArrayList added() {
+        return added;
+    }
+
+    /**
+     * @return the labels of the added nodes, in the order of {@link #added()}
+     */
+    List<List<NodeLabel>> addedLabels() {
+        return addedLabels;
+    }
+
+    LongArrayList removed() {
+        return removed;
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.NodeProperty;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Applies a {@link NodeDelta} to an id map by building a new one.
+ * The remaining nodes keep their relative order and added nodes are appended,
+ * so without removals the ids of all existing nodes stay the same.
+ * Node properties and relationships are carried over to the new id map by {@link #nodeProperties} and {@link #relationships}.
+ */
+final class NodeDeltas {
+
+    private final IdMap nodes;
+    private final long previousNodeCount;
+    private final long keptNodeCount;
+    // both null if no node was removed, in which case the kept nodes keep their ids
+    private final @Nullable HugeLongArray previousNodeIds;
+    private final @Nullable HugeLongArray nodeIds;
+
+    private NodeDeltas(
+        IdMap nodes,
+        long previousNodeCount,
+        long keptNodeCount,
+        @Nullable HugeLongArray previousNodeIds,
+        @Nullable HugeLongArray nodeIds
+    ) {
+        this.nodes = nodes;
+        this.previousNodeCount = previousNodeCount;
+        this.keptNodeCount = keptNodeCount;
+        this.previousNodeIds = previousNodeIds;
+        this.nodeIds = nodeIds;
+    }
+
+    static NodeDeltas apply(IdMap previous, NodeDelta delta, int concurrency) {
+        long previousNodeCount = previous.nodeCount();
+        var availableLabels = previous.availableNodeLabels();
+
+        var removedNodes = new BitSet(previousNodeCount);
+        delta.removed().forEach(cursor -> {
+            var mappedNodeId = previous.safeToMappedNodeId(cursor.value);
+            if (mappedNodeId == IdMap.NOT_FOUND) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node %d is not part of the graph and cannot be removed.",
+                    cursor.value
+                ));
+            }
+            removedNodes.set(mappedNodeId);
+        });
+
+        var addedNodes = new LongHashSet();
+        long highestNeoId = previous.highestNeoId();
+        for (int i = 0; i < delta.addedCount(); i++) {
+            var nodeId = delta.added().get(i);
+            var mappedNodeId = previous.safeToMappedNodeId(nodeId);
+            if (!addedNodes.add(nodeId) || (mappedNodeId != IdMap.NOT_FOUND && !removedNodes.get(mappedNodeId))) {
+                throw new IllegalArgumentException(formatWithLocale("Node %d is already part of the graph.", nodeId));
+            }
+            validateLabels(nodeId, delta.addedLabels().get(i), availableLabels);
+            highestNeoId = Math.max(highestNeoId, nodeId);
+        }
+
+        long keptNodeCount = previousNodeCount - removedNodes.cardinality();
+        long nodeCount = keptNodeCount + delta.addedCount();
+        var graphIds = HugeLongArray.newArray(nodeCount);
+        HugeLongArray previousNodeIds = null;
+        HugeLongArray nodeIds = null;
+        if (keptNodeCount == previousNodeCount) {
+            for (long nodeId = 0; nodeId < previousNodeCount; nodeId++) {
+                graphIds.set(nodeId, previous.toOriginalNodeId(nodeId));
+            }
+        } else {
+            previousNodeIds = HugeLongArray.newArray(keptNodeCount);
+            nodeIds = HugeLongArray.newArray(previousNodeCount);
+            long nextNodeId = 0;
+            for (long previousNodeId = 0; previousNodeId < previousNodeCount; previousNodeId++) {
+                if (removedNodes.get(previousNodeId)) {
+                    nodeIds.set(previousNodeId, IdMap.NOT_FOUND);
+                } else {
+                    previousNodeIds.set(nextNodeId, previousNodeId);
+                    nodeIds.set(previousNodeId, nextNodeId);
+                    graphIds.set(nextNodeId, previous.toOriginalNodeId(previousNodeId));
+                    nextNodeId++;
+                }
+            }
+        }
+        for (int i = 0; i < delta.addedCount(); i++) {
+            graphIds.set(keptNodeCount + i, delta.added().get(i));
+        }
+
+        LabelInformation.Builder labelInformationBuilder;
+        if (availableLabels.size() == 1) {
+            labelInformationBuilder = LabelInformation.single(availableLabels.iterator().next());
+        } else {
+            var builder = LabelInformation.builder(highestNeoId + 1);
+            for (long previousNodeId = 0; previousNodeId < previousNodeCount; previousNodeId++) {
+                if (!removedNodes.get(previousNodeId)) {
+                    var originalNodeId = previous.toOriginalNodeId(previousNodeId);
+                    // the builder expects original ids and maps them once the id map is built
+                    previous.forEachNodeLabel(previousNodeId, label -> {
+                        builder.addNodeIdToLabel(label, originalNodeId);
+                        return true;
+                    });
+                }
+            }
+            for (int i = 0; i < delta.addedCount(); i++) {
+                var originalNodeId = delta.added().get(i);
+                delta.addedLabels().get(i).forEach(label -> builder.addNodeIdToLabel(label, originalNodeId));
+            }
+            labelInformationBuilder = builder;
+        }
+
+        var nodes = HugeIdMapBuilderOps.build(graphIds, nodeCount, labelInformationBuilder, highestNeoId, concurrency);
+        return new NodeDeltas(nodes, previousNodeCount, keptNodeCount, previousNodeIds, nodeIds);
+    }
+
+    private static void validateLabels(long nodeId, List<NodeLabel> labels, Set<NodeLabel> availableLabels) {
+        if (labels.isEmpty() && availableLabels.size() > 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node %d needs at least one of the labels %s.",
+                nodeId,
+                labelNames(availableLabels)
+            ));
+        }
+        for (var label : labels) {
+            if (!availableLabels.contains(label)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node %d has the label '%s', which is not part of the graph. Available labels are %s.",
+                    nodeId,
+                    label.name(),
+                    labelNames(availableLabels)
+                ));
+            }
+        }
+    }
+
+    private static String labelNames(Set<NodeLabel> labels) {
+        return StringJoining.join(labels.stream().map(NodeLabel::name).collect(Collectors.toList()));
+    }
+
+    IdMap nodes() {
+        return nodes;
+    }
+
+    /**
+     * @return the id of the node in the previous id map, or {@link IdMap#NOT_FOUND} for added nodes
+     */
+    long previousNodeId(long nodeId) {
+        if (nodeId >= keptNodeCount) {
+            return IdMap.NOT_FOUND;
+        }
+        return previousNodeIds == null ? nodeId : previousNodeIds.get(nodeId);
+    }
+
+    /**
+     * @return the id of a node of the previous id map in the new one, or {@link IdMap#NOT_FOUND} for removed nodes
+     */
+    long nodeId(long previousNodeId) {
+        return nodeIds == null ? previousNodeId : nodeIds.get(previousNodeId);
+    }
+
+    /**
+     * Copies the values of the remaining nodes into the new id space. Added nodes get the default value of the property.
+     */
+    NodeProperties nodeProperties(NodeProperty property) {
+        var values = property.values();
+        var defaultValue = property.defaultValue();
+        long nodeCount = nodes.nodeCount();
+        switch (values.valueType()) {
+            case LONG: {
+                var copy = HugeLongArray.newArray(nodeCount);
+                copy.setAll(nodeId -> {
+                    long previousNodeId = previousNodeId(nodeId);
+                    return previousNodeId == IdMap.NOT_FOUND ? defaultValue.longValue() : values.longValue(previousNodeId);
+                });
+                return copy.asNodeProperties();
+            }
+            case DOUBLE: {
+                var copy = HugeDoubleArray.newArray(nodeCount);
+                copy.setAll(nodeId -> {
+                    long previousNodeId = previousNodeId(nodeId);
+                    return previousNodeId == IdMap.NOT_FOUND ? defaultValue.doubleValue() : values.doubleValue(previousNodeId);
+                });
+                return copy.asNodeProperties();
+            }
+            case LONG_ARRAY: {
+                var copy = HugeObjectArray.newArray(long[].class, nodeCount);
+                copy.setAll(nodeId -> {
+                    long previousNodeId = previousNodeId(nodeId);
+                    return previousNodeId == IdMap.NOT_FOUND ? defaultValue.longArrayValue() : values.longArrayValue(previousNodeId);
+                });
+                return copy.asNodeProperties();
+            }
+            case DOUBLE_ARRAY: {
+                var copy = HugeObjectArray.newArray(double[].class, nodeCount);
+                copy.setAll(nodeId -> {
+                    long previousNodeId = previousNodeId(nodeId);
+                    return previousNodeId == IdMap.NOT_FOUND ? defaultValue.doubleArrayValue() : values.doubleArrayValue(previousNodeId);
+                });
+                return copy.asNodeProperties();
+            }
+            case FLOAT_ARRAY: {
+                var copy = HugeObjectArray.newArray(float[].class, nodeCount);
+                copy.setAll(nodeId -> {
+                    long previousNodeId = previousNodeId(nodeId);
+                    return previousNodeId == IdMap.NOT_FOUND ? defaultValue.floatArrayValue() : values.floatArrayValue(previousNodeId);
+                });
+                return copy.asNodeProperties();
+            }
+            default:
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "Node property '%s' of type %s cannot be carried over to the changed nodes.",
+                    property.key(),
+                    values.valueType()
+                ));
+        }
+    }
+
+    /**
+     * Without removals, the relationships keep their adjacency lists and the added nodes start out without relationships.
+     * Otherwise, the relationships of the remaining nodes are rebuilt for the new node ids.
+     */
+    RelationshipDeltas.Result relationships(RelationshipDeltas.Result relationships, int concurrency) {
+        return nodeIds == null
+            ? RelationshipDeltas.extend(relationships, previousNodeCount, nodes.nodeCount())
+            : RelationshipDeltas.rebuild(relationships, previousNodeCount, this::nodeId, nodes, concurrency);
+    }
+}
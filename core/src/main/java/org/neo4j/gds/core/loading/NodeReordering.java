@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.NodeProperty;
+import org.neo4j.gds.api.NodePropertyStore;
+import org.neo4j.gds.core.compress.AdjacencyCompressor;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Relabels the internal node ids of a native projection by descending degree.
+ *
+ * The new ids are computed from the adjacency buffers after the relationship
+ * store scan and before the adjacency lists are compressed. The compressors
+ * receive the relabelling as a {@link AdjacencyCompressor.ValueMapper}, so
+ * source and target ids are written in the new id space directly.
+ * Afterwards, {@link #relabel(IdMapAndProperties)} moves the id map, the
+ * node labels and the node properties into the same id space.
+ *
+ * Placing high degree nodes next to each other keeps the values most often
+ * accessed by neighbour iterations, e.g. the scores of PageRank, on a few
+ * shared pages. Original ids are unaffected, stream and write results map
+ * back through the relabelled id map.
+ */
+public final class NodeReordering {
+
+    private final long nodeCount;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    // maps the internal id assigned during node loading to the relabelled id
+    private @Nullable HugeLongArray mappedIds;
+
+    public NodeReordering(long nodeCount, int concurrency, ExecutorService executorService) {
+        this.nodeCount = nodeCount;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Computes the degree order from the buffered relationships of all importers.
+     * Must be called before the adjacency list builder tasks drain the buffers.
+     */
+    AdjacencyCompressor.ValueMapper computeOrder(Collection<SingleTypeRelationshipImporter> importers) {
+        var degrees = HugeLongArray.newArray(nodeCount);
+        for (var importer : importers) {
+            importer.addDegrees(degrees, concurrency, executorService);
+        }
+
+        this.mappedIds = degreeOrder(degrees, nodeCount);
+        return mappedIds::get;
+    }
+
+    /**
+     * Rewrites the given id map and node properties into the relabelled id space.
+     */
+    IdMapAndProperties relabel(IdMapAndProperties nodes) {
+        if (mappedIds == null) {
+            throw new IllegalStateException("The node order has not been computed.");
+        }
+
+        var idMap = nodes.idMap();
+        if (idMap.nodeCount() != nodeCount) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected an id map with %d nodes, got %d nodes.",
+                nodeCount,
+                idMap.nodeCount()
+            ));
+        }
+
+        var relabelledIdMap = relabelIdMap(idMap);
+
+        var propertyStore = NodePropertyStore.builder();
+        nodes.properties().nodeProperties().forEach((propertyKey, property) -> propertyStore.putNodeProperty(
+            propertyKey,
+            NodeProperty.of(
+                propertyKey,
+                property.propertyState(),
+                relabelProperties(property.values()),
+                property.defaultValue()
+            )
+        ));
+
+        return ImmutableIdMapAndProperties.of(relabelledIdMap, propertyStore.build());
+    }
+
+    /**
+     * Assigns new ids by a stable counting sort over the degrees.
+     * The degree array is reused to store the new ids.
+     */
+    static HugeLongArray degreeOrder(HugeLongArray degrees, long nodeCount) {
+        long maxDegree = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            maxDegree = Math.max(maxDegree, degrees.get(nodeId));
+        }
+
+        // offsets[d] is the next id for a node with degree d, highest degrees first
+        var offsets = HugeLongArray.newArray(maxDegree + 1);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.addTo(degrees.get(nodeId), 1L);
+        }
+        long nextId = 0L;
+        for (long degree = maxDegree; degree >= 0; degree--) {
+            long count = offsets.get(degree);
+            offsets.set(degree, nextId);
+            nextId += count;
+        }
+
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long degree = degrees.get(nodeId);
+            degrees.set(nodeId, offsets.get(degree));
+            offsets.addTo(degree, 1L);
+        }
+
+        return degrees;
+    }
+
+    private HugeIdMap relabelIdMap(IdMap idMap) {
+        var mappedIds = this.mappedIds;
+
+        var graphIds = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            nodeId -> graphIds.set(mappedIds.get(nodeId), idMap.toOriginalNodeId(nodeId))
+        );
+
+        var nodeToGraphIds = HugeIdMapBuilderOps.buildSparseIdMap(
+            nodeCount,
+            idMap.highestNeoId(),
+            concurrency,
+            graphIds
+        );
+
+        return new HugeIdMap(
+            graphIds,
+            nodeToGraphIds,
+            relabelLabelInformation(idMap),
+            nodeCount,
+            idMap.highestNeoId()
+        );
+    }
+
+    private LabelInformation relabelLabelInformation(IdMap idMap) {
+        var mappedIds = this.mappedIds;
+
+        // every projected node carries the label if only one is available
+        var availableLabels = idMap.availableNodeLabels();
+        if (availableLabels.size() == 1) {
+            return LabelInformation
+                .single(availableLabels.iterator().next())
+                .build(nodeCount, LongUnaryOperator.identity());
+        }
+
+        var labelInformationBuilder = LabelInformation.builder(nodeCount);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            nodeId -> idMap.forEachNodeLabel(nodeId, nodeLabel -> {
+                labelInformationBuilder.addNodeIdToLabel(nodeLabel, mappedIds.get(nodeId));
+                return true;
+            })
+        );
+        return labelInformationBuilder.build(nodeCount, LongUnaryOperator.identity());
+    }
+
+    private NodeProperties relabelProperties(NodeProperties properties) {
+        var mappedIds = this.mappedIds;
+
+        switch (properties.valueType()) {
+            case LONG:
+                var longValues = HugeLongArray.newArray(nodeCount);
+                ParallelUtil.parallelForEachNode(
+                    nodeCount,
+                    concurrency,
+                    nodeId -> longValues.set(mappedIds.get(nodeId), properties.longValue(nodeId))
+                );
+                return longValues.asNodeProperties();
+            case DOUBLE:
+                var doubleValues = HugeDoubleArray.newArray(nodeCount);
+                ParallelUtil.parallelForEachNode(
+                    nodeCount,
+                    concurrency,
+                    nodeId -> doubleValues.set(mappedIds.get(nodeId), properties.doubleValue(nodeId))
+                );
+                return doubleValues.asNodeProperties();
+            case DOUBLE_ARRAY:
+                var doubleArrays = HugeObjectArray.newArray(double[].class, nodeCount);
+                ParallelUtil.parallelForEachNode(
+                    nodeCount,
+                    concurrency,
+                    nodeId -> doubleArrays.set(mappedIds.get(nodeId), properties.doubleArrayValue(nodeId))
+                );
+                return doubleArrays.asNodeProperties();
+            case FLOAT_ARRAY:
+                var floatArrays = HugeObjectArray.newArray(float[].class, nodeCount);
+                ParallelUtil.parallelForEachNode(
+                    nodeCount,
+                    concurrency,
+                    nodeId -> floatArrays.set(mappedIds.get(nodeId), properties.floatArrayValue(nodeId))
+                );
+                return floatArrays.asNodeProperties();
+            case LONG_ARRAY:
+                var longArrays = HugeObjectArray.newArray(long[].class, nodeCount);
+                ParallelUtil.parallelForEachNode(
+                    nodeCount,
+                    concurrency,
+                    nodeId -> longArrays.set(mappedIds.get(nodeId), properties.longArrayValue(nodeId))
+                );
+                return longArrays.asNodeProperties();
+            default:
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "Cannot relabel node properties of type %s",
+                    properties.valueType()
+                ));
+        }
+    }
+}
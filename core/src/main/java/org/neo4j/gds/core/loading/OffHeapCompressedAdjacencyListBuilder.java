@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.huge.OffHeapCompressedAdjacencyList;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SHIFT;
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SIZE;
+
+/**
+ * Writes compressed adjacency lists straight into off-heap pages,
+ * either direct buffers or regions of a memory mapped scratch file.
+ * Nothing is staged on the heap, apart from the compression buffers of the importing threads.
+ * Addresses follow the same layout as the {@link BumpAllocator}, so pages can be read
+ * with the regular page index and page offset arithmetic.
+ *
+ * The pages are not reordered, even if the reordered adjacency list toggle is enabled.
+ */
+public final class OffHeapCompressedAdjacencyListBuilder implements AdjacencyListBuilder<byte[], OffHeapCompressedAdjacencyList> {
+
+    // Pages are sliced from larger regions to keep the number of
+    // direct allocations and memory mappings low.
+    private static final int PAGES_PER_REGION = 64;
+    private static final int REGION_SIZE = PAGES_PER_REGION * PAGE_SIZE;
+
+    private final List<ByteBuffer> pages;
+    private final FileChannel scratchFile;
+    private long scratchFileSize;
+    private ByteBuffer region;
+
+    OffHeapCompressedAdjacencyListBuilder(boolean memoryMapped, Path scratchDirectory) {
+        this.pages = new ArrayList<>();
+        this.scratchFile = memoryMapped ? openScratchFile(scratchDirectory) : null;
+        this.scratchFileSize = 0L;
+        this.region = ByteBuffer.allocate(0);
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(this);
+    }
+
+    @Override
+    public Allocator newPositionalAllocator() {
+        return newAllocator();
+    }
+
+    @Override
+    public OffHeapCompressedAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets) {
+        if (scratchFile != null) {
+            try {
+                // The file is unlinked when the channel is closed,
+                // the mappings stay valid until they are unreachable.
+                scratchFile.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        ByteBuffer[] pages;
+        synchronized (this) {
+            pages = this.pages.toArray(ByteBuffer[]::new);
+        }
+        return new OffHeapCompressedAdjacencyList(pages, degrees, offsets);
+    }
+
+    /**
+     * Adds a page of the given size and returns its address.
+     * Pages larger than {@link BumpAllocator#PAGE_SIZE} hold a single oversized adjacency list.
+     */
+    private synchronized long newPage(int size) {
+        ByteBuffer page;
+        if (size > PAGE_SIZE) {
+            page = allocateRegion(size);
+        } else {
+            if (region.remaining() < size) {
+                region = allocateRegion(REGION_SIZE);
+            }
+            int position = region.position();
+            page = region.duplicate().position(position).limit(position + size).slice();
+            region.position(position + size);
+        }
+        pages.add(page);
+        return (long) (pages.size() - 1) << PAGE_SHIFT;
+    }
+
+    private synchronized ByteBuffer page(long address) {
+        return pages.get((int) (address >>> PAGE_SHIFT));
+    }
+
+    private ByteBuffer allocateRegion(int size) {
+        if (scratchFile == null) {
+            return ByteBuffer.allocateDirect(size);
+        }
+        try {
+            // Mapping a region beyond the end of the file grows the file.
+            var mapped = scratchFile.map(FileChannel.MapMode.READ_WRITE, scratchFileSize, size);
+            scratchFileSize += size;
+            return mapped;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static FileChannel openScratchFile(Path scratchDirectory) {
+        try {
+            var file = Files.createTempFile(scratchDirectory, "gds-adjacency-", ".pages");
+            return FileChannel.open(
+                file,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Thread-local allocator that bumps into its current page
+     * and fetches a new one from the builder once it is full.
+     */
+    static final class Allocator implements AdjacencyListBuilder.Allocator<byte[]> {
+
+        private final OffHeapCompressedAdjacencyListBuilder builder;
+
+        private ByteBuffer page;
+        private long pageAddress;
+
+        private Allocator(OffHeapCompressedAdjacencyListBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public void close() {
+            page = null;
+        }
+
+        @Override
+        public long write(byte[] targets, int length, long address) {
+            if (length > PAGE_SIZE) {
+                long oversizedPageAddress = builder.newPage(length);
+                builder.page(oversizedPageAddress).put(targets, 0, length);
+                return oversizedPageAddress;
+            }
+            if (page == null || page.remaining() < length) {
+                pageAddress = builder.newPage(PAGE_SIZE);
+                page = builder.page(pageAddress);
+            }
+            long writeAddress = pageAddress + page.position();
+            page.put(targets, 0, length);
+            return writeAddress;
+        }
+    }
+}
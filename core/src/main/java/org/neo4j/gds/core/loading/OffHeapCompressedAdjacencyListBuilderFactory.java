@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.huge.OffHeapCompressedAdjacencyList;
+import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+
+import java.nio.file.Path;
+
+public final class OffHeapCompressedAdjacencyListBuilderFactory implements AdjacencyListBuilderFactory<byte[], OffHeapCompressedAdjacencyList, long[], UncompressedAdjacencyList> {
+
+    public static OffHeapCompressedAdjacencyListBuilderFactory direct() {
+        return new OffHeapCompressedAdjacencyListBuilderFactory(false, null);
+    }
+
+    public static OffHeapCompressedAdjacencyListBuilderFactory memoryMapped(Path scratchDirectory) {
+        return new OffHeapCompressedAdjacencyListBuilderFactory(true, scratchDirectory);
+    }
+
+    private final boolean memoryMapped;
+    private final Path scratchDirectory;
+
+    private OffHeapCompressedAdjacencyListBuilderFactory(boolean memoryMapped, Path scratchDirectory) {
+        this.memoryMapped = memoryMapped;
+        this.scratchDirectory = scratchDirectory;
+    }
+
+    @Override
+    public OffHeapCompressedAdjacencyListBuilder newAdjacencyListBuilder() {
+        return new OffHeapCompressedAdjacencyListBuilder(memoryMapped, scratchDirectory);
+    }
+
+    @Override
+    public UncompressedAdjacencyListBuilder newAdjacencyPropertiesBuilder() {
+        return new UncompressedAdjacencyListBuilder();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A batch of relationships to add to and remove from a projected relationship type.
+ * Node ids are the ids of the nodes in the database.
+ * Added relationships carry a value for each of the given property keys, in the order of the keys.
+ * Properties of the relationship type that are not part of the delta get their default value.
+ */
+public final class RelationshipDelta {
+
+    private final List<String> propertyKeys;
+    private final LongArrayList added;
+    private final DoubleArrayList addedProperties;
+    private final LongArrayList removed;
+
+    public static RelationshipDelta create(String... propertyKeys) {
+        return new RelationshipDelta(List.of(propertyKeys));
+    }
+
+    private RelationshipDelta(List<String> propertyKeys) {
+        this.propertyKeys = propertyKeys;
+        this.added = new LongArrayList();
+        this.addedProperties = new DoubleArrayList();
+        this.removed = new LongArrayList();
+    }
+
+    /**
+     * Adds a relationship. For relationship types without parallel relationships,
+     * an existing relationship keeps its properties unless it is removed in the same delta.
+     */
+    public RelationshipDelta add(long sourceNodeId, long targetNodeId, double... propertyValues) {
+        if (propertyValues.length != propertyKeys.size()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected %d property values for the properties %s, but got %d.",
+                propertyKeys.size(),
+                propertyKeys,
+                propertyValues.length
+            ));
+        }
+        added.add(sourceNodeId, targetNodeId);
+        addedProperties.add(propertyValues, 0, propertyValues.length);
+        return this;
+    }
+
+    /**
+     * Removes a single occurrence of the given relationship, if it exists.
+     */
+    public RelationshipDelta remove(long sourceNodeId, long targetNodeId) {
+        removed.add(sourceNodeId, targetNodeId);
+        return this;
+    }
+
+    public int addedCount() {
+        return added.size() / 2;
+    }
+
+    public int removedCount() {
+        return removed.size() / 2;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    List<String> propertyKeys() {
+        return propertyKeys;
+    }
+
+    /**
+     * @return source and target ids of the added relationships, interleaved
+     */
+    LongArrayList added() {
+        return added;
+    }
+
+    /**
+     * @return the property values of the added relationships, one row of {@link #propertyKeys()} values per relationship
+     */
+    DoubleArrayList addedProperties() {
+        return addedProperties;
+    }
+
+    /**
+     * @return source and target ids of the removed relationships, interleaved
+     */
+    LongArrayList removed() {
+        return removed;
+    }
+}
@@ -0,0 +1,535 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.huge.DeltaAdjacencyList;
+import org.neo4j.gds.core.huge.DeltaAdjacencyProperties;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Applies {@link RelationshipDelta}s to a relationship topology and its properties without re-projecting them.
+ * Changed nodes get their full target list replaced in a {@link DeltaAdjacencyList} overlay
+ * and their full property lists replaced in aligned {@link DeltaAdjacencyProperties} overlays.
+ * Once the overlay grows large, {@link #compact} merges it into newly compressed adjacency and property lists.
+ */
+final class RelationshipDeltas {
+
+    /**
+     * Compaction is worth it once the overlay holds this fraction of all relationships of the type.
+     */
+    private static final double COMPACTION_RATIO = 0.1;
+    private static final long MIN_COMPACTION_ELEMENTS = 1 << 14;
+
+    private static final long[] EMPTY = new long[0];
+
+    private RelationshipDeltas() {}
+
+    /**
+     * The topology of a relationship type together with its properties, keyed by property key.
+     */
+    static final class Result {
+        private final Relationships.Topology topology;
+        private final Map<String, Relationships.Properties> properties;
+
+        Result(Relationships.Topology topology, Map<String, Relationships.Properties> properties) {
+            this.topology = topology;
+            this.properties = properties;
+        }
+
+        Relationships.Topology topology() {
+            return topology;
+        }
+
+        Map<String, Relationships.Properties> properties() {
+            return properties;
+        }
+    }
+
+    static Result apply(
+        Relationships.Topology topology,
+        Map<String, Relationships.Properties> properties,
+        IdMap idMap,
+        RelationshipDelta delta
+    ) {
+        var base = base(topology.adjacencyList());
+        var overrides = overrides(topology.adjacencyList());
+
+        var propertyKeys = new ArrayList<>(properties.keySet());
+        var propertyBases = new ArrayList<AdjacencyProperties>(propertyKeys.size());
+        var propertyOverrides = new ArrayList<LongObjectHashMap<long[]>>(propertyKeys.size());
+        var addedValues = new ArrayList<AddedValues>(propertyKeys.size());
+        for (var propertyKey : propertyKeys) {
+            var propertyList = properties.get(propertyKey);
+            propertyBases.add(base(propertyList.propertiesList()));
+            propertyOverrides.add(overrides(propertyList.propertiesList()));
+            addedValues.add(new AddedValues(delta, propertyKey, propertyList.defaultPropertyValue()));
+        }
+
+        var undirected = topology.orientation() == Orientation.UNDIRECTED;
+        var added = new LongObjectHashMap<LongArrayList>();
+        var addedRelationships = new LongObjectHashMap<IntArrayList>();
+        var removed = new LongObjectHashMap<LongArrayList>();
+        collect(delta.added(), idMap, undirected, added, addedRelationships);
+        collect(delta.removed(), idMap, undirected, removed, null);
+
+        long elementCount = topology.elementCount();
+        var changedNodes = new LongArrayList();
+        for (var node : added.keys()) {
+            changedNodes.add(node.value);
+        }
+        for (var node : removed.keys()) {
+            if (!added.containsKey(node.value)) {
+                changedNodes.add(node.value);
+            }
+        }
+
+        for (var cursor : changedNodes) {
+            long node = cursor.value;
+            var previous = overrides.containsKey(node) ? overrides.get(node) : targets(base, node);
+            var additions = added.containsKey(node) ? added.get(node).toArray() : EMPTY;
+            var removals = removed.containsKey(node) ? removed.get(node).toArray() : EMPTY;
+            var origins = mergeOrigins(previous, additions, removals, topology.isMultiGraph());
+
+            var merged = new long[origins.length];
+            for (int i = 0; i < origins.length; i++) {
+                merged[i] = origins[i] >= 0 ? previous[origins[i]] : additions[-origins[i] - 1];
+            }
+            elementCount += merged.length - previous.length;
+            overrides.put(node, merged);
+
+            for (int p = 0; p < propertyKeys.size(); p++) {
+                var previousValues = propertyOverrides.get(p).containsKey(node)
+                    ? propertyOverrides.get(p).get(node)
+                    : values(propertyBases.get(p), node, previous.length, properties.get(propertyKeys.get(p)));
+                var relationships = addedRelationships.get(node);
+                var mergedValues = new long[origins.length];
+                for (int i = 0; i < origins.length; i++) {
+                    mergedValues[i] = origins[i] >= 0
+                        ? previousValues[origins[i]]
+                        : addedValues.get(p).get(relationships.get(-origins[i] - 1));
+                }
+                propertyOverrides.get(p).put(node, mergedValues);
+            }
+        }
+
+        var updatedTopology = ImmutableTopology.of(
+            DeltaAdjacencyList.of(base, overrides),
+            elementCount,
+            topology.orientation(),
+            topology.isMultiGraph()
+        );
+        var updatedProperties = new HashMap<String, Relationships.Properties>();
+        for (int p = 0; p < propertyKeys.size(); p++) {
+            updatedProperties.put(propertyKeys.get(p), ImmutableProperties.of(
+                DeltaAdjacencyProperties.of(propertyBases.get(p), propertyOverrides.get(p)),
+                elementCount,
+                topology.orientation(),
+                topology.isMultiGraph(),
+                properties.get(propertyKeys.get(p)).defaultPropertyValue()
+            ));
+        }
+        return new Result(updatedTopology, updatedProperties);
+    }
+
+    static boolean needsCompaction(Relationships.Topology topology) {
+        if (!(topology.adjacencyList() instanceof DeltaAdjacencyList)) {
+            return false;
+        }
+        var overlayElementCount = ((DeltaAdjacencyList) topology.adjacencyList()).overlayElementCount();
+        return overlayElementCount >= MIN_COMPACTION_ELEMENTS
+               && overlayElementCount >= topology.elementCount() * COMPACTION_RATIO;
+    }
+
+    /**
+     * Builds new compressed adjacency and property lists that contain the base and the overlay of the given relationships.
+     */
+    static Result compact(
+        Relationships.Topology topology,
+        Map<String, Relationships.Properties> properties,
+        IdMap idMap,
+        int concurrency
+    ) {
+        return rebuild(new Result(topology, properties), idMap.nodeCount(), LongUnaryOperator.identity(), idMap, concurrency);
+    }
+
+    /**
+     * Adds empty target lists to the overlay for the nodes from {@code previousNodeCount} to {@code nodeCount},
+     * which the base adjacency and property lists do not know about.
+     */
+    static Result extend(Result relationships, long previousNodeCount, long nodeCount) {
+        var topology = relationships.topology();
+        var overrides = overrides(topology.adjacencyList());
+        for (long node = previousNodeCount; node < nodeCount; node++) {
+            overrides.put(node, EMPTY);
+        }
+        var extendedTopology = ImmutableTopology.of(
+            DeltaAdjacencyList.of(base(topology.adjacencyList()), overrides),
+            topology.elementCount(),
+            topology.orientation(),
+            topology.isMultiGraph()
+        );
+
+        var extendedProperties = new HashMap<String, Relationships.Properties>();
+        relationships.properties().forEach((propertyKey, propertyList) -> {
+            var propertyOverrides = overrides(propertyList.propertiesList());
+            for (long node = previousNodeCount; node < nodeCount; node++) {
+                propertyOverrides.put(node, EMPTY);
+            }
+            extendedProperties.put(propertyKey, ImmutableProperties.of(
+                DeltaAdjacencyProperties.of(base(propertyList.propertiesList()), propertyOverrides),
+                propertyList.elementCount(),
+                propertyList.orientation(),
+                propertyList.isMultiGraph(),
+                propertyList.defaultPropertyValue()
+            ));
+        });
+        return new Result(extendedTopology, extendedProperties);
+    }
+
+    /**
+     * Builds new compressed adjacency and property lists for renumbered nodes.
+     * {@code nodeIds} maps the nodes of the given relationships to the nodes of {@code idMap},
+     * relationships of nodes that are mapped to {@link IdMap#NOT_FOUND} are dropped.
+     */
+    static Result rebuild(
+        Result relationships,
+        long previousNodeCount,
+        LongUnaryOperator nodeIds,
+        IdMap idMap,
+        int concurrency
+    ) {
+        var topology = relationships.topology();
+        var properties = relationships.properties();
+        var propertyKeys = new ArrayList<>(properties.keySet());
+        var propertyLists = new ArrayList<Relationships.Properties>(propertyKeys.size());
+        var builderBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .orientation(Orientation.NATURAL)
+            .concurrency(concurrency);
+        for (var propertyKey : propertyKeys) {
+            var propertyList = properties.get(propertyKey);
+            propertyLists.add(propertyList);
+            // the relationships are already aggregated, compacting them must not aggregate again
+            builderBuilder.addPropertyConfig(GraphFactory.PropertyConfig.of(
+                Aggregation.NONE,
+                DefaultValue.of(propertyList.defaultPropertyValue())
+            ));
+        }
+        var relationshipsBuilder = builderBuilder.build();
+
+        var adjacencyList = topology.adjacencyList();
+        ParallelUtil.parallelForEachNode(previousNodeCount, concurrency, previousNode -> {
+            var node = nodeIds.applyAsLong(previousNode);
+            if (node == IdMap.NOT_FOUND) {
+                return;
+            }
+            var adjacencyCursor = adjacencyList.adjacencyCursor(previousNode);
+            if (propertyLists.isEmpty()) {
+                while (adjacencyCursor.hasNextVLong()) {
+                    var target = nodeIds.applyAsLong(adjacencyCursor.nextVLong());
+                    if (target != IdMap.NOT_FOUND) {
+                        relationshipsBuilder.addFromInternal(node, target);
+                    }
+                }
+                return;
+            }
+            var propertyCursors = new PropertyCursor[propertyLists.size()];
+            for (int i = 0; i < propertyCursors.length; i++) {
+                var propertyList = propertyLists.get(i);
+                propertyCursors[i] = propertyList.propertiesList().propertyCursor(previousNode, propertyList.defaultPropertyValue());
+            }
+            while (adjacencyCursor.hasNextVLong()) {
+                var target = nodeIds.applyAsLong(adjacencyCursor.nextVLong());
+                // the property cursors advance for dropped relationships as well to stay aligned with the targets
+                var values = new double[propertyCursors.length];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = Double.longBitsToDouble(propertyCursors[i].nextLong());
+                }
+                if (target == IdMap.NOT_FOUND) {
+                    continue;
+                }
+                if (values.length == 1) {
+                    relationshipsBuilder.addFromInternal(node, target, values[0]);
+                } else {
+                    relationshipsBuilder.addFromInternal(node, target, values);
+                }
+            }
+            for (var propertyCursor : propertyCursors) {
+                propertyCursor.close();
+            }
+        });
+
+        var compacted = relationshipsBuilder.buildAll();
+        var compactedTopology = ImmutableTopology.of(
+            compacted.get(0).topology().adjacencyList(),
+            compacted.get(0).topology().elementCount(),
+            topology.orientation(),
+            topology.isMultiGraph()
+        );
+        var compactedProperties = new HashMap<String, Relationships.Properties>();
+        for (int i = 0; i < propertyKeys.size(); i++) {
+            compactedProperties.put(propertyKeys.get(i), ImmutableProperties.of(
+                compacted.get(i).properties().orElseThrow().propertiesList(),
+                compactedTopology.elementCount(),
+                topology.orientation(),
+                topology.isMultiGraph(),
+                propertyLists.get(i).defaultPropertyValue()
+            ));
+        }
+        return new Result(compactedTopology, compactedProperties);
+    }
+
+    /**
+     * Re-applies the overlay entries that were changed after {@code compactedFrom} was taken onto the compacted relationships.
+     */
+    static Result rebase(Result compacted, Relationships.Topology compactedFrom, Result current) {
+        if (current.topology() == compactedFrom) {
+            return compacted;
+        }
+        var compactedFromOverrides = ((DeltaAdjacencyList) compactedFrom.adjacencyList()).overrides();
+        var currentOverrides = ((DeltaAdjacencyList) current.topology().adjacencyList()).overrides();
+        var newerOverrides = new LongObjectHashMap<long[]>();
+        for (var cursor : currentOverrides) {
+            // every delta replaces the target lists of the nodes it changes, so unchanged nodes share the same array
+            if (compactedFromOverrides.get(cursor.key) != cursor.value) {
+                newerOverrides.put(cursor.key, cursor.value);
+            }
+        }
+
+        var currentTopology = current.topology();
+        var rebasedTopology = ImmutableTopology.of(
+            DeltaAdjacencyList.of(compacted.topology().adjacencyList(), newerOverrides),
+            currentTopology.elementCount(),
+            currentTopology.orientation(),
+            currentTopology.isMultiGraph()
+        );
+        var rebasedProperties = new HashMap<String, Relationships.Properties>();
+        current.properties().forEach((propertyKey, propertyList) -> {
+            var currentValues = ((DeltaAdjacencyProperties) propertyList.propertiesList()).overrides();
+            var newerValues = new LongObjectHashMap<long[]>();
+            for (var node : newerOverrides.keys()) {
+                newerValues.put(node.value, currentValues.get(node.value));
+            }
+            rebasedProperties.put(propertyKey, ImmutableProperties.of(
+                DeltaAdjacencyProperties.of(compacted.properties().get(propertyKey).propertiesList(), newerValues),
+                currentTopology.elementCount(),
+                currentTopology.orientation(),
+                currentTopology.isMultiGraph(),
+                propertyList.defaultPropertyValue()
+            ));
+        });
+        return new Result(rebasedTopology, rebasedProperties);
+    }
+
+    private static void collect(
+        LongArrayList relationships,
+        IdMap idMap,
+        boolean undirected,
+        LongObjectHashMap<LongArrayList> targetsBySource,
+        @Nullable LongObjectHashMap<IntArrayList> relationshipsBySource
+    ) {
+        var buffer = relationships.buffer;
+        for (int i = 0; i < relationships.size(); i += 2) {
+            var source = toMappedNodeId(idMap, buffer[i]);
+            var target = toMappedNodeId(idMap, buffer[i + 1]);
+            addTarget(targetsBySource, relationshipsBySource, source, target, i / 2);
+            if (undirected) {
+                addTarget(targetsBySource, relationshipsBySource, target, source, i / 2);
+            }
+        }
+    }
+
+    private static void addTarget(
+        LongObjectHashMap<LongArrayList> targetsBySource,
+        @Nullable LongObjectHashMap<IntArrayList> relationshipsBySource,
+        long source,
+        long target,
+        int relationship
+    ) {
+        var targets = targetsBySource.get(source);
+        if (targets == null) {
+            targets = new LongArrayList();
+            targetsBySource.put(source, targets);
+        }
+        targets.add(target);
+        if (relationshipsBySource != null) {
+            var relationships = relationshipsBySource.get(source);
+            if (relationships == null) {
+                relationships = new IntArrayList();
+                relationshipsBySource.put(source, relationships);
+            }
+            relationships.add(relationship);
+        }
+    }
+
+    private static AdjacencyList base(AdjacencyList adjacencyList) {
+        return adjacencyList instanceof DeltaAdjacencyList
+            ? ((DeltaAdjacencyList) adjacencyList).base()
+            : adjacencyList;
+    }
+
+    private static LongObjectHashMap<long[]> overrides(AdjacencyList adjacencyList) {
+        return adjacencyList instanceof DeltaAdjacencyList
+            ? new LongObjectHashMap<>(((DeltaAdjacencyList) adjacencyList).overrides())
+            : new LongObjectHashMap<>();
+    }
+
+    private static AdjacencyProperties base(AdjacencyProperties properties) {
+        return properties instanceof DeltaAdjacencyProperties
+            ? ((DeltaAdjacencyProperties) properties).base()
+            : properties;
+    }
+
+    private static LongObjectHashMap<long[]> overrides(AdjacencyProperties properties) {
+        return properties instanceof DeltaAdjacencyProperties
+            ? new LongObjectHashMap<>(((DeltaAdjacencyProperties) properties).overrides())
+            : new LongObjectHashMap<>();
+    }
+
+    private static long toMappedNodeId(IdMap idMap, long originalNodeId) {
+        var mappedNodeId = idMap.safeToMappedNodeId(originalNodeId);
+        if (mappedNodeId == IdMap.NOT_FOUND) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node %d is not part of the graph. Nodes have to be added with a node delta before they can be connected.",
+                originalNodeId
+            ));
+        }
+        return mappedNodeId;
+    }
+
+    private static long[] targets(AdjacencyList adjacencyList, long node) {
+        var targets = new long[adjacencyList.degree(node)];
+        if (targets.length > 0) {
+            var cursor = adjacencyList.adjacencyCursor(node);
+            for (int i = 0; i < targets.length && cursor.hasNextVLong(); i++) {
+                targets[i] = cursor.nextVLong();
+            }
+        }
+        return targets;
+    }
+
+    private static long[] values(AdjacencyProperties properties, long node, int degree, Relationships.Properties propertyList) {
+        var values = new long[degree];
+        if (degree > 0) {
+            var cursor = properties.propertyCursor(node, propertyList.defaultPropertyValue());
+            for (int i = 0; i < degree && cursor.hasNextLong(); i++) {
+                values[i] = cursor.nextLong();
+            }
+            cursor.close();
+        }
+        return values;
+    }
+
+    /**
+     * Merges two sorted target lists, dropping one occurrence per removed target.
+     */
+    static long[] merge(long[] previous, LongArrayList added, LongArrayList removed, boolean isMultiGraph) {
+        var additions = added == null ? EMPTY : added.toArray();
+        var origins = mergeOrigins(previous, additions, removed == null ? EMPTY : removed.toArray(), isMultiGraph);
+        var merged = new long[origins.length];
+        for (int i = 0; i < origins.length; i++) {
+            merged[i] = origins[i] >= 0 ? previous[origins[i]] : additions[-origins[i] - 1];
+        }
+        return merged;
+    }
+
+    /**
+     * Merges the sorted previous targets with the unsorted additions, dropping one occurrence per removal.
+     * Removals and duplicates drop previous targets before added ones.
+     *
+     * @return for every merged target, its index in {@code previous}, or {@code -(index + 1)} for an index in {@code additions}
+     */
+    private static int[] mergeOrigins(long[] previous, long[] additions, long[] removals, boolean isMultiGraph) {
+        // a stable sort keeps additions of the same target in the order of the delta
+        var order = IndirectSort.mergesort(0, additions.length, new AscendingLongComparator(additions));
+        Arrays.sort(removals);
+
+        var origins = new int[previous.length + additions.length];
+        int p = 0, a = 0, r = 0, length = 0;
+        long last = -1;
+        while (p < previous.length || a < additions.length) {
+            boolean fromPrevious = a == additions.length || (p < previous.length && previous[p] <= additions[order[a]]);
+            int origin = fromPrevious ? p++ : -(order[a++] + 1);
+            long next = fromPrevious ? previous[origin] : additions[-origin - 1];
+            while (r < removals.length && removals[r] < next) {
+                r++;
+            }
+            if (r < removals.length && removals[r] == next) {
+                r++;
+                continue;
+            }
+            if (!isMultiGraph && length > 0 && last == next) {
+                continue;
+            }
+            origins[length++] = origin;
+            last = next;
+        }
+        return length == origins.length ? origins : Arrays.copyOf(origins, length);
+    }
+
+    /**
+     * The values of one property for the relationships added by a delta, as double bits.
+     */
+    private static final class AddedValues {
+        private final RelationshipDelta delta;
+        private final int column;
+        private final long defaultValue;
+
+        AddedValues(RelationshipDelta delta, String propertyKey, double defaultValue) {
+            this.delta = delta;
+            this.column = delta.propertyKeys().indexOf(propertyKey);
+            this.defaultValue = Double.doubleToLongBits(defaultValue);
+        }
+
+        long get(int relationship) {
+            if (column < 0) {
+                return defaultValue;
+            }
+            var value = delta.addedProperties().get(relationship * delta.propertyKeys().size() + column);
+            return Double.doubleToLongBits(value);
+        }
+    }
+}
@@ -39,7 +39,8 @@ public final class RelationshipsScannerTask extends StatementAction implements R
         ProgressTracker progressTracker,
         IdMap idMap,
         StoreScanner<RelationshipReference> scanner,
-        Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters
+        Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters,
+        Optional<NodeReordering> nodeReordering
     ) {
         return new Factory(
             loadingContext.transactionContext(),
@@ -47,6 +48,7 @@ public final class RelationshipsScannerTask extends StatementAction implements R
             idMap,
             scanner,
             singleTypeRelationshipImporters,
+            nodeReordering,
             loadingContext.terminationFlag()
         );
     }
@@ -57,6 +59,7 @@ public final class RelationshipsScannerTask extends StatementAction implements R
         private final IdMap idMap;
         private final StoreScanner<RelationshipReference> scanner;
         private final Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters;
+        private final Optional<NodeReordering> nodeReordering;
         private final TerminationFlag terminationFlag;
 
         Factory(
@@ -65,6 +68,7 @@ public final class RelationshipsScannerTask extends StatementAction implements R
             IdMap idMap,
             StoreScanner<RelationshipReference> scanner,
             Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters,
+            Optional<NodeReordering> nodeReordering,
             TerminationFlag terminationFlag
         ) {
             this.tx = tx;
@@ -72,6 +76,7 @@ public final class RelationshipsScannerTask extends StatementAction implements R
             this.idMap = idMap;
             this.scanner = scanner;
             this.singleTypeRelationshipImporters = singleTypeRelationshipImporters;
+            this.nodeReordering = nodeReordering;
             this.terminationFlag = terminationFlag;
         }
 
@@ -90,8 +95,10 @@ public final class RelationshipsScannerTask extends StatementAction implements R
 
         @Override
         public Collection<AdjacencyBuffer.AdjacencyListBuilderTask> adjacencyListBuilderTasks() {
+            // the buffers are complete at this point, so the order covers all relationships
+            var mapper = nodeReordering.map(reordering -> reordering.computeOrder(singleTypeRelationshipImporters));
             return singleTypeRelationshipImporters.stream()
-                .flatMap(factory -> factory.adjacencyListBuilderTasks(Optional.empty()).stream())
+                .flatMap(factory -> factory.adjacencyListBuilderTasks(mapper).stream())
                 .collect(Collectors.toList());
         }
     }
@@ -28,6 +28,7 @@ import org.neo4j.gds.core.loading.SingleTypeRelationshipImporter.SingleTypeRelat
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 
@@ -37,6 +38,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
     private final GraphLoaderContext loadingContext;
 
     private final IdMap idMap;
+    private final Optional<NodeReordering> nodeReordering;
     private List<SingleTypeRelationshipImportContext> importContexts;
 
     @Builder.Factory
@@ -46,6 +48,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
         GraphDimensions dimensions,
         ProgressTracker progressTracker,
         IdMap idMap,
+        Optional<NodeReordering> nodeReordering,
         int concurrency
     ) {
         return new ScanningRelationshipsImporter(
@@ -54,6 +57,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
             dimensions,
             progressTracker,
             idMap,
+            nodeReordering,
             concurrency
         );
     }
@@ -64,6 +68,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
         GraphDimensions dimensions,
         ProgressTracker progressTracker,
         IdMap idMap,
+        Optional<NodeReordering> nodeReordering,
         int concurrency
     ) {
         super(
@@ -76,6 +81,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
         this.graphProjectConfig = graphProjectConfig;
         this.loadingContext = loadingContext;
         this.idMap = idMap;
+        this.nodeReordering = nodeReordering;
     }
 
     @Override
@@ -97,7 +103,8 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
                     var importMetaData = SingleTypeRelationshipImporter.ImportMetaData.of(
                         projection,
                         dimensions.relationshipTypeTokenMapping().get(relationshipType),
-                        dimensions.relationshipPropertyTokens()
+                        dimensions.relationshipPropertyTokens(),
+                        graphProjectConfig.adjacencyListStorage()
                     );
 
                     var importerFactory = new SingleTypeRelationshipImporterBuilder()
@@ -123,7 +130,8 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
             importContexts
                 .stream()
                 .map(SingleTypeRelationshipImportContext::singleTypeRelationshipImporter)
-                .collect(Collectors.toList())
+                .collect(Collectors.toList()),
+            nodeReordering
         );
     }
 
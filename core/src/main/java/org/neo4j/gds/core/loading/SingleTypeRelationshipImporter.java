@@ -30,12 +30,15 @@ import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compress.AdjacencyCompressor;
 import org.neo4j.gds.core.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.compress.AdjacencyListBehavior;
+import org.neo4j.gds.core.compress.AdjacencyListStorage;
 import org.neo4j.gds.core.compress.AdjacencyListsWithProperties;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.kernel.api.KernelTransaction;
 
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.function.LongSupplier;
 
 @Value.Style(typeBuilder = "SingleTypeRelationshipImporterBuilder")
@@ -59,7 +62,8 @@ public final class SingleTypeRelationshipImporter {
         var adjacencyCompressorFactory = AdjacencyListBehavior.asConfigured(
             nodeCountSupplier,
             importMetaData.projection().properties(),
-            importMetaData.aggregations()
+            importMetaData.aggregations(),
+            importMetaData.adjacencyListStorage()
         );
 
         var adjacencyBuffer = new AdjacencyBufferBuilder()
@@ -95,6 +99,10 @@ public final class SingleTypeRelationshipImporter {
         return adjacencyBuffer.adjacencyListBuilderTasks(mapper);
     }
 
+    public void addDegrees(HugeLongArray degrees, int concurrency, ExecutorService executorService) {
+        adjacencyBuffer.addDegrees(degrees, concurrency, executorService);
+    }
+
     public ThreadLocalSingleTypeRelationshipImporter threadLocalImporter(
         PartialIdMap idMap,
         int bulkSize,
@@ -153,10 +161,16 @@ public final class SingleTypeRelationshipImporter {
 
         int typeTokenId();
 
+        @Value.Default
+        default AdjacencyListStorage adjacencyListStorage() {
+            return AdjacencyListStorage.HEAP;
+        }
+
         static ImportMetaData of(
             RelationshipProjection projection,
             int typeTokenId,
-            Map<String, Integer> relationshipPropertyTokens
+            Map<String, Integer> relationshipPropertyTokens,
+            AdjacencyListStorage adjacencyListStorage
         ) {
             return ImmutableImportMetaData
                 .builder()
@@ -165,6 +179,7 @@ public final class SingleTypeRelationshipImporter {
                 .propertyKeyIds(propertyKeyIds(projection, relationshipPropertyTokens))
                 .defaultValues(defaultValues(projection))
                 .typeTokenId(typeTokenId)
+                .adjacencyListStorage(adjacencyListStorage)
                 .build();
         }
 
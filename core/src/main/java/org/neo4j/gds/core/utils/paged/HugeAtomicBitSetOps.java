@@ -183,6 +183,26 @@ public final class HugeAtomicBitSetOps {
         }
     }
 
+    /**
+     * Returns the index of the first set bit that is greater than or equal to the given index,
+     * or {@code -1} if there is no such bit.
+     */
+    static long nextSetBit(HugeAtomicLongArray bits, long index) {
+        long wordIndex = index / NUM_BITS;
+        if (wordIndex >= bits.size()) {
+            return -1;
+        }
+        // the shift distance is taken modulo 64, which masks out the bits before the index
+        long word = bits.get(wordIndex) & (-1L << index);
+        while (word == 0) {
+            if (++wordIndex == bits.size()) {
+                return -1;
+            }
+            word = bits.get(wordIndex);
+        }
+        return wordIndex * NUM_BITS + Long.numberOfTrailingZeros(word);
+    }
+
     /**
      * Returns the number of set bits in the bit set.
      * <p>
@@ -113,6 +113,14 @@ public final class HugeAtomicGrowingBitSet {
         HugeAtomicBitSetOps.forEachSetBit(bits, consumer);
     }
 
+    /**
+     * Returns the index of the first set bit that is greater than or equal to the given index,
+     * or {@code -1} if there is no such bit.
+     */
+    public long nextSetBit(long index) {
+        return HugeAtomicBitSetOps.nextSetBit(bits, index);
+    }
+
     /**
      * Returns the number of set bits in the bit set.
      * <p>
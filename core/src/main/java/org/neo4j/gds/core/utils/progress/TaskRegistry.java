@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.utils.progress;
 
 import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.core.concurrency.ComputeScheduler;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 
 public class TaskRegistry {
@@ -41,10 +42,12 @@ public class TaskRegistry {
 
     public void registerTask(Task task) {
         taskStore.store(username, jobId, task);
+        ComputeScheduler.enterJob(username, jobId, task.description());
     }
 
     public void unregisterTask() {
         taskStore.remove(username, jobId);
+        ComputeScheduler.exitJob();
     }
 
     public boolean containsTask(Task task) {
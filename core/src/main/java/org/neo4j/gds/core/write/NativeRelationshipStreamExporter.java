@@ -96,7 +96,7 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
                 propertyTokens,
                 terminationFlag
             );
-            var consumer = Pools.DEFAULT.submit(writer);
+            var consumer = Pools.io().submit(writer);
 
             var bufferRef = new AtomicReference<>(bufferPool.poll());
 
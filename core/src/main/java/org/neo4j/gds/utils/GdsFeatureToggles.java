@@ -32,7 +32,9 @@ public enum GdsFeatureToggles {
     USE_PARALLEL_PROPERTY_VALUE_INDEX(false),
     USE_BIT_ID_MAP(true),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
-    USE_REORDERED_ADJACENCY_LIST(false);
+    USE_REORDERED_ADJACENCY_LIST(false),
+    USE_BIT_PACKED_ADJACENCY_LIST(false),
+    USE_DEGREE_ORDERED_NODE_IDS(false);
 
     public boolean isEnabled() {
         return current.get();
@@ -106,6 +108,13 @@ public enum GdsFeatureToggles {
     );
     public static final AtomicInteger PAGES_PER_THREAD = new AtomicInteger(PAGES_PER_THREAD_FLAG);
 
+    // Directory in which the scratch files for memory mapped adjacency lists are created.
+    // Only used for projections with `adjacencyListStorage: 'MEMORY_MAPPED'`.
+    public static final String OFF_HEAP_ADJACENCY_LIST_DIRECTORY = System.getProperty(
+        name(GdsFeatureToggles.class, "offHeapAdjacencyListDirectory"),
+        System.getProperty("java.io.tmpdir")
+    );
+
     private static String name(Class<?> location, String name) {
         return location.getCanonicalName() + "." + name;
     }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.JobId;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComputeSchedulerTest {
+
+    @AfterEach
+    void tearDown() {
+        ComputeScheduler.exitJob();
+        ComputeScheduler.instance(ComputeScheduler.UNLIMITED);
+    }
+
+    @Test
+    void shouldNotLimitWorkOutsideOfJobs() {
+        var scheduler = ComputeScheduler.create(2, 0);
+
+        try (var slots = scheduler.acquire(8, TerminationFlag.RUNNING_TRUE)) {
+            assertThat(slots.granted()).isEqualTo(8);
+        }
+        assertThat(scheduler.allocations()).isEmpty();
+    }
+
+    @Test
+    void shouldShrinkToAvailableSlots() throws Exception {
+        var scheduler = ComputeScheduler.create(4, 0);
+
+        ComputeScheduler.enterJob("alice", new JobId(), "first");
+        try (var first = scheduler.acquire(3, TerminationFlag.RUNNING_TRUE)) {
+            assertThat(first.granted()).isEqualTo(3);
+
+            var second = CompletableFuture.supplyAsync(() -> acquireAndRelease(scheduler, "bob", 4));
+            assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+        assertThat(scheduler.allocations()).isEmpty();
+    }
+
+    @Test
+    void shouldRespectUserQuota() throws Exception {
+        var scheduler = ComputeScheduler.create(8, 2);
+        scheduler.userQuota("bob", 6);
+
+        assertThat(CompletableFuture.supplyAsync(() -> acquireAndRelease(scheduler, "alice", 8)).get()).isEqualTo(2);
+        assertThat(CompletableFuture.supplyAsync(() -> acquireAndRelease(scheduler, "bob", 8)).get()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldBlockUntilSlotsAreReleased() throws Exception {
+        var scheduler = ComputeScheduler.create(2, 0);
+
+        ComputeScheduler.enterJob("alice", new JobId(), "first");
+        var first = scheduler.acquire(2, TerminationFlag.RUNNING_TRUE);
+        assertThat(scheduler.allocations())
+            .singleElement()
+            .satisfies(allocation -> {
+                assertThat(allocation.username()).isEqualTo("alice");
+                assertThat(allocation.grantedSlots()).isEqualTo(2);
+            });
+
+        var second = CompletableFuture.supplyAsync(() -> acquireAndRelease(scheduler, "bob", 2));
+        Thread.sleep(200);
+        assertThat(second).isNotDone();
+
+        first.close();
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAdmitWaitersByPriority() throws Exception {
+        var scheduler = ComputeScheduler.create(1, 0);
+        ComputeScheduler.instance(scheduler);
+        scheduler.userPriority("bob", JobPriority.LOW);
+        scheduler.userPriority("carol", JobPriority.HIGH);
+
+        ComputeScheduler.enterJob("alice", new JobId(), "first");
+        var first = scheduler.acquire(1, TerminationFlag.RUNNING_TRUE);
+
+        var admissions = new ConcurrentLinkedQueue<String>();
+        var low = CompletableFuture.runAsync(() -> acquireAndRecord(scheduler, "bob", admissions));
+        Thread.sleep(200);
+        var high = CompletableFuture.runAsync(() -> acquireAndRecord(scheduler, "carol", admissions));
+        Thread.sleep(200);
+        assertThat(admissions).isEmpty();
+
+        first.close();
+        CompletableFuture.allOf(low, high).get(10, TimeUnit.SECONDS);
+        assertThat(admissions).containsExactly("carol", "bob");
+    }
+
+    @Test
+    void shouldAcquireSlotForSequentialRuns() throws Exception {
+        var scheduler = ComputeScheduler.create(1, 0);
+        ComputeScheduler.instance(scheduler);
+
+        ComputeScheduler.enterJob("alice", new JobId(), "first");
+        var first = scheduler.acquire(1, TerminationFlag.RUNNING_TRUE);
+
+        var sequential = CompletableFuture.runAsync(() -> {
+            ComputeScheduler.enterJob("bob", new JobId(), "sequential");
+            try {
+                ParallelUtil.runWithConcurrency(1, List.of(() -> {}), Pools.DEFAULT);
+            } finally {
+                ComputeScheduler.exitJob();
+            }
+        });
+        Thread.sleep(200);
+        assertThat(sequential).isNotDone();
+
+        first.close();
+        sequential.get(10, TimeUnit.SECONDS);
+    }
+
+    private static void acquireAndRecord(ComputeScheduler scheduler, String username, Queue<String> admissions) {
+        ComputeScheduler.enterJob(username, new JobId(), "task");
+        try (var ignored = scheduler.acquire(1, TerminationFlag.RUNNING_TRUE)) {
+            admissions.add(username);
+        } finally {
+            ComputeScheduler.exitJob();
+        }
+    }
+
+    private static int acquireAndRelease(ComputeScheduler scheduler, String username, int concurrency) {
+        ComputeScheduler.enterJob(username, new JobId(), "task");
+        try (var slots = scheduler.acquire(concurrency, TerminationFlag.RUNNING_TRUE)) {
+            return slots.granted();
+        } finally {
+            ComputeScheduler.exitJob();
+        }
+    }
+}
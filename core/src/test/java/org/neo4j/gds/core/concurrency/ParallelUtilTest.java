@@ -30,6 +30,7 @@ import org.neo4j.gds.core.loading.HugeParallelGraphImporter;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
 
 import java.util.AbstractCollection;
 import java.util.Arrays;
@@ -38,6 +39,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -410,6 +412,95 @@ final class ParallelUtilTest {
         assertThat(counter.get()).isEqualTo(2);
     }
 
+    @Test
+    void shouldVisitEachNodeOnceWithWorkStealing() {
+        long nodeCount = 100_000;
+        var visits = new AtomicInteger[(int) nodeCount];
+        Arrays.setAll(visits, i -> new AtomicInteger());
+
+        // a few supernodes at the start dominate a plain range partitioning
+        var result = ParallelUtil.runWithWorkStealing(
+            4,
+            nodeCount,
+            nodeId -> nodeId < 10 ? 100_000 : 1,
+            partition -> () -> partition.consume(nodeId -> visits[(int) nodeId].incrementAndGet()),
+            TerminationFlag.RUNNING_TRUE,
+            Pools.DEFAULT
+        );
+
+        assertThat(visits).allSatisfy(visit -> assertThat(visit.get()).isEqualTo(1));
+        assertThat(result.tasks()).hasSize((int) result.skew().taskCount());
+        assertThat(result.skew().taskCount()).isGreaterThan(1L);
+        assertThat(result.skew().totalDegree()).isEqualTo(10 * 100_000L + nodeCount - 10);
+        assertThat(result.skew().skew()).isGreaterThanOrEqualTo(1D);
+    }
+
+    @Test
+    void shouldReturnWorkStealingTasksInPartitionOrder() {
+        var partitions = new ConcurrentHashMap<Runnable, DegreePartition>();
+        var result = ParallelUtil.runWithWorkStealing(
+            4,
+            10_000,
+            nodeId -> (int) (nodeId % 100),
+            partition -> {
+                // capturing the partition gives every task its own identity
+                Runnable task = () -> assertThat(partition.nodeCount()).isPositive();
+                partitions.put(task, partition);
+                return task;
+            },
+            TerminationFlag.RUNNING_TRUE,
+            Pools.DEFAULT
+        );
+
+        // every split adds exactly one task
+        assertThat(result.skew().splitCount()).isEqualTo(result.skew().taskCount() - 1);
+
+        long expectedStart = 0L;
+        for (Runnable task : result.tasks()) {
+            var partition = partitions.get(task);
+            assertThat(partition.startNode()).isEqualTo(expectedStart);
+            expectedStart += partition.nodeCount();
+        }
+        assertThat(expectedStart).isEqualTo(10_000L);
+    }
+
+    @Test
+    void shouldRunWorkStealingTasksOnGivenExecutor() throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(4, runnable -> new Thread(runnable, "work-stealing-test"));
+        var callingThread = Thread.currentThread().getName();
+        var threadNames = ConcurrentHashMap.<String>newKeySet();
+        try {
+            ParallelUtil.runWithWorkStealing(
+                4,
+                10_000,
+                nodeId -> nodeId < 10 ? 10_000 : 1,
+                partition -> () -> threadNames.add(Thread.currentThread().getName()),
+                TerminationFlag.RUNNING_TRUE,
+                executor
+            );
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertThat(threadNames).isNotEmpty().isSubsetOf("work-stealing-test", callingThread);
+    }
+
+    @Test
+    void shouldNotRunWorkStealingTasksAfterTermination() {
+        var counter = new AtomicInteger();
+
+        assertThatThrownBy(() -> ParallelUtil.runWithWorkStealing(
+            4,
+            10_000,
+            nodeId -> 1,
+            partition -> counter::incrementAndGet,
+            () -> false,
+            Pools.DEFAULT
+        )).isInstanceOf(RuntimeException.class);
+        assertThat(counter.get()).isEqualTo(0);
+    }
+
     @Test
     void shouldCollectExceptionsFromFailingTasks() {
         AtomicInteger successfulTasks = new AtomicInteger();
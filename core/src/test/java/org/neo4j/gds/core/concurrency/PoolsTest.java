@@ -24,6 +24,9 @@ import org.junit.jupiter.api.Test;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PoolsTest {
 
@@ -35,4 +38,29 @@ class PoolsTest {
         assertEquals(4, defaultPool.getMaximumPoolSize());
     }
 
+    @Test
+    void shouldGetElasticIoPool() {
+        ThreadPoolExecutor ioPool = (ThreadPoolExecutor) Pools.createIoPool();
+
+        assertEquals(4, ioPool.getCorePoolSize());
+        assertTrue(ioPool.allowsCoreThreadTimeOut());
+        assertEquals(Integer.MAX_VALUE, ioPool.getQueue().remainingCapacity());
+        ioPool.shutdown();
+    }
+
+    @Test
+    void shouldSelectIoExecutorByBackend() {
+        var previous = Pools.ioBackend();
+        try {
+            Pools.ioBackend(ExecutorBackend.SHARED);
+            assertSame(Pools.DEFAULT, Pools.io());
+
+            Pools.ioBackend(ExecutorBackend.DEDICATED_IO);
+            assertNotSame(Pools.DEFAULT, Pools.io());
+            assertSame(Pools.io(), Pools.io());
+        } finally {
+            Pools.ioBackend(previous);
+        }
+    }
+
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.core.loading.BitPackedEncoding;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BitPackedAdjacencyListTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 63, 64, 65, 128, 129, 1000})
+    void shouldDecodeAllTargets(int degree) {
+        var targets = targets(degree, 42L);
+        try (var cursor = adjacencyList(targets).adjacencyCursor(0)) {
+            assertThat(cursor.size()).isEqualTo(degree);
+            for (long target : targets) {
+                assertThat(cursor.hasNextVLong()).isTrue();
+                assertThat(cursor.peekVLong()).isEqualTo(target);
+                assertThat(cursor.nextVLong()).isEqualTo(target);
+            }
+            assertThat(cursor.hasNextVLong()).isFalse();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 63, 64, 65, 1000})
+    void shouldSkipUntilAndAdvance(int degree) {
+        var targets = targets(degree, 1337L);
+        var adjacencyList = adjacencyList(targets);
+        for (int i = 0; i < degree; i++) {
+            long target = targets[i];
+            try (var cursor = adjacencyList.adjacencyCursor(0)) {
+                assertThat(cursor.advance(target)).isEqualTo(target);
+            }
+            try (var cursor = adjacencyList.adjacencyCursor(0)) {
+                long expected = i + 1 < degree ? targets[i + 1] : AdjacencyCursor.NOT_FOUND;
+                long actual = cursor.skipUntil(target);
+                if (expected == AdjacencyCursor.NOT_FOUND) {
+                    assertThat(cursor.hasNextVLong()).isFalse();
+                } else {
+                    assertThat(actual).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {64, 200})
+    void shouldDecodeParallelRelationships(int degree) {
+        var targets = new long[degree];
+        Arrays.fill(targets, 0, degree / 2, 7L);
+        Arrays.fill(targets, degree / 2, degree, 1L << 40);
+        try (var cursor = adjacencyList(targets).adjacencyCursor(0)) {
+            for (long target : targets) {
+                assertThat(cursor.nextVLong()).isEqualTo(target);
+            }
+        }
+    }
+
+    private static long[] targets(int degree, long seed) {
+        var random = new Random(seed);
+        var targets = new long[degree];
+        long current = random.nextInt(1_000_000);
+        for (int i = 0; i < degree; i++) {
+            // mix small and large gaps so that blocks get different bit widths
+            current += 1 + (i % 100 == 0 ? random.nextInt(1 << 24) : random.nextInt(16));
+            targets[i] = current;
+        }
+        return targets;
+    }
+
+    private static BitPackedAdjacencyList adjacencyList(long[] targets) {
+        var deltas = targets.clone();
+        for (int i = deltas.length - 1; i > 0; i--) {
+            deltas[i] -= deltas[i - 1];
+        }
+        var page = new byte[BitPackedEncoding.encodedSize(deltas, deltas.length)];
+        int written = BitPackedEncoding.encode(deltas, deltas.length, page, 0);
+        assertThat(written).isEqualTo(page.length);
+
+        var degrees = HugeIntArray.newArray(1);
+        degrees.set(0, targets.length);
+        var offsets = HugeLongArray.newArray(1);
+        offsets.set(0, 0L);
+        return new BitPackedAdjacencyList(new byte[][]{page}, degrees, offsets);
+    }
+}
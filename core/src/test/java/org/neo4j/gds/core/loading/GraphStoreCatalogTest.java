@@ -21,15 +21,28 @@ package org.neo4j.gds.core.loading;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.kernel.database.DatabaseIdFactory;
 import org.neo4j.kernel.database.NamedDatabaseId;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
@@ -439,4 +452,154 @@ class GraphStoreCatalogTest {
             ))
             .withMessage("Graph with name `myGraph` does not exist on database `mydatabase`. It might exist on another database.");
     }
+
+    @Test
+    void shouldSpillGraphsExceedingTheMemoryBudget(@TempDir Path spillLocation) throws IOException {
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.memoryBudget(CatalogMemoryBudget.of(1L, spillLocation, CatalogEvictionPolicy.LRU, spiller));
+        try {
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(USER_NAME, "graph1"), graphStore);
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(USER_NAME, "graph2"), otherGraphStore);
+
+            assertThat(spiller.spilledGraphStores).containsExactly(graphStore);
+            assertTrue(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, "graph1"));
+            assertEquals(2, GraphStoreCatalog.graphStoresCount());
+            assertThat(GraphStoreCatalog.getGraphStores(USER_NAME).values()).containsExactly(otherGraphStore);
+            assertThat(GraphStoreCatalog.getSpilledGraphs(USER_NAME)).singleElement().satisfies(spilledGraph -> {
+                assertThat(spilledGraph.config().graphName()).isEqualTo("graph1");
+                assertThat(spilledGraph.nodeCount()).isEqualTo(graphStore.nodeCount());
+                assertThat(spilledGraph.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+            });
+
+            assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "graph1").graphStore()).isEqualTo(graphStore);
+            assertThat(spiller.spilledGraphStores).containsExactly(graphStore, otherGraphStore);
+            assertThat(GraphStoreCatalog.getGraphStores(USER_NAME).values()).containsExactly(graphStore);
+            assertThat(GraphStoreCatalog.getSpilledGraphs(USER_NAME))
+                .extracting(spilledGraph -> spilledGraph.config().graphName())
+                .containsExactly("graph2");
+            try (var spilledGraphs = Files.list(spillLocation)) {
+                assertThat(spilledGraphs).hasSize(1);
+            }
+        } finally {
+            GraphStoreCatalog.memoryBudget(null);
+            GraphStoreCatalog.removeAllLoadedGraphs();
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"LRU, graph2", "LFU, graph1"})
+    void shouldEvictGraphAccordingToPolicy(
+        CatalogEvictionPolicy evictionPolicy,
+        String evictedGraph,
+        @TempDir Path spillLocation
+    ) {
+        var graphStore3 = GdlFactory.of("()").build();
+        long budget = MemoryUsage.sizeOf(graphStore) + MemoryUsage.sizeOf(otherGraphStore) + MemoryUsage.sizeOf(graphStore3) / 2;
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.memoryBudget(CatalogMemoryBudget.of(budget, spillLocation, evictionPolicy, spiller));
+        try {
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(USER_NAME, "graph1"), graphStore);
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(USER_NAME, "graph2"), otherGraphStore);
+            for (int i = 0; i < 3; i++) {
+                GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "graph2");
+            }
+            GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "graph1");
+
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(USER_NAME, "graph3"), graphStore3);
+
+            assertThat(spiller.spilledGraphStores).hasSize(1);
+            assertThat(GraphStoreCatalog.getGraphStores(USER_NAME).keySet())
+                .extracting(GraphProjectConfig::graphName)
+                .doesNotContain(evictedGraph)
+                .hasSize(2);
+        } finally {
+            GraphStoreCatalog.memoryBudget(null);
+            GraphStoreCatalog.removeAllLoadedGraphs();
+        }
+    }
+
+    @Test
+    void shouldRestoreSpilledGraphOnModification(@TempDir Path spillLocation) throws IOException {
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.memoryBudget(CatalogMemoryBudget.of(1L, spillLocation, CatalogEvictionPolicy.LRU, spiller));
+        try {
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(USER_NAME, "graph1"), graphStore);
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(USER_NAME, "graph2"), otherGraphStore);
+            assertThat(spiller.spilledGraphStores).containsExactly(graphStore);
+
+            // a running job still holds the evicted graph store and mutates it
+            graphStore.addNodeProperty(
+                graphStore.nodeLabels(),
+                "score",
+                HugeLongArray.newArray(graphStore.nodeCount()).asNodeProperties()
+            );
+
+            assertThat(GraphStoreCatalog.getGraphStores(USER_NAME).values())
+                .containsExactlyInAnyOrder(graphStore, otherGraphStore);
+            assertEquals(2, GraphStoreCatalog.graphStoresCount());
+            try (var spilledGraphs = Files.list(spillLocation)) {
+                assertThat(spilledGraphs).isEmpty();
+            }
+            assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "graph1").graphStore().hasNodeProperty("score")).isTrue();
+        } finally {
+            GraphStoreCatalog.memoryBudget(null);
+            GraphStoreCatalog.removeAllLoadedGraphs();
+        }
+    }
+
+    @Test
+    void shouldRemoveSpilledGraphWithoutReloadingIt(@TempDir Path spillLocation) throws IOException {
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.memoryBudget(CatalogMemoryBudget.of(1L, spillLocation, CatalogEvictionPolicy.LRU, spiller));
+        try {
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(USER_NAME, "graph1"), graphStore);
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(USER_NAME, "graph2"), otherGraphStore);
+
+            var removedGraphs = new ArrayList<GraphStore>();
+            GraphStoreCatalog.remove(
+                CatalogRequest.of(USER_NAME, DATABASE_ID),
+                "graph1",
+                graphStoreWithConfig -> removedGraphs.add(graphStoreWithConfig.graphStore()),
+                true
+            );
+
+            assertThat(removedGraphs).containsExactly(graphStore);
+            assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, "graph1"));
+            // reloading graph1 would have spilled graph2
+            assertThat(spiller.spilledGraphStores).containsExactly(graphStore);
+            assertThat(GraphStoreCatalog.getGraphStores(USER_NAME).values()).containsExactly(otherGraphStore);
+            try (var spilledGraphs = Files.list(spillLocation)) {
+                assertThat(spilledGraphs).isEmpty();
+            }
+        } finally {
+            GraphStoreCatalog.memoryBudget(null);
+            GraphStoreCatalog.removeAllLoadedGraphs();
+        }
+    }
+
+    private static final class InMemorySpiller implements GraphStoreSpiller {
+        private final List<GraphStore> spilledGraphStores = new ArrayList<>();
+        private final Map<Path, GraphStore> graphStoresByLocation = new HashMap<>();
+
+        @Override
+        public boolean canSpill(GraphStore graphStore) {
+            return true;
+        }
+
+        @Override
+        public void spill(String username, GraphStore graphStore, Path location) {
+            spilledGraphStores.add(graphStore);
+            graphStoresByLocation.put(location, graphStore);
+        }
+
+        @Override
+        public GraphStore reload(Path location) {
+            return graphStoresByLocation.remove(location);
+        }
+
+        @Override
+        public int priority() {
+            return 0;
+        }
+    }
 }
@@ -46,6 +46,7 @@ import org.neo4j.gds.core.loading.NullPropertyMap.DoubleNullPropertyMap;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.gdl.GdlFactory;
 
 import java.time.ZonedDateTime;
 import java.util.Arrays;
@@ -59,6 +60,7 @@ import java.util.stream.Stream;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -202,6 +204,27 @@ class GraphStoreTest extends BaseTest {
         assertFalse(graphStore.hasNodeProperty(Collections.singletonList(ALL_NODES), "nodeProp"));
     }
 
+    @Test
+    void testNodePropertyMetadata() {
+        GraphStore graphStore = GdlFactory.of("(a {nodeProp: 42})-[:REL]->(b {nodeProp: 23})").build();
+
+        assertThat(graphStore.nodePropertyMetadata("nodeProp")).isEmpty();
+        graphStore.putNodePropertyMetadata("nodeProp", Map.of("ids", List.of(0L, 1L), "source", "test"));
+        assertThat(graphStore.nodePropertyMetadata("nodeProp"))
+            .containsExactlyInAnyOrderEntriesOf(Map.of("ids", List.of(0L, 1L), "source", "test"));
+
+        assertThatThrownBy(() -> graphStore.putNodePropertyMetadata("nodeProp", Map.of("value", 1.0D)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Metadata values must be strings, longs, booleans or lists of them");
+        assertThatThrownBy(() -> graphStore.putNodePropertyMetadata("missing", Map.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Node property `missing` does not exist.");
+
+        graphStore.removeNodeProperty("nodeProp");
+        graphStore.addNodeProperty(Set.of(ALL_NODES), "nodeProp", new DoubleNullPropertyMap(42.0));
+        assertThat(graphStore.nodePropertyMetadata("nodeProp")).isEmpty();
+    }
+
     @Test
     void deleteRelationshipsAndProperties() {
         runQuery("CREATE ()-[:REL {p: 2}]->(), ()-[:LER {p: 1}]->(), ()-[:LER {p: 2}]->(), ()-[:LER {q: 2}]->()");
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InverseRelationshipsTest {
+
+    private static final RelationshipType REL = RelationshipType.of("REL");
+
+    private static final String GRAPH =
+        "(a:A), (b:A), (c:A), (d:B)" +
+        ", (a)-[:REL {w: 1.0}]->(b)" +
+        ", (a)-[:REL {w: 2.0}]->(c)" +
+        ", (b)-[:REL {w: 3.0}]->(c)" +
+        ", (d)-[:REL {w: 4.0}]->(c)";
+
+    @Test
+    void shouldTraverseIncomingRelationships() {
+        var graphStore = GdlFactory.of(GRAPH).build();
+        assertThat(graphStore.hasInverseIndex(REL)).isFalse();
+
+        graphStore.indexInverse(REL);
+
+        assertThat(graphStore.hasInverseIndex(REL)).isTrue();
+        var graph = graphStore.getGraph(REL);
+        assertThat(graph.hasInverseIndex()).isTrue();
+
+        assertThat(graph.inverseDegree(0)).isEqualTo(0);
+        assertThat(graph.inverseDegree(1)).isEqualTo(1);
+        assertThat(graph.inverseDegree(2)).isEqualTo(3);
+        assertThat(incoming(graph, 2)).containsExactly(0L, 1L, 3L);
+        assertThat(incoming(graph, 1)).containsExactly(0L);
+    }
+
+    @Test
+    void shouldCarryRelationshipProperties() {
+        var graphStore = GdlFactory.of(GRAPH).build();
+        graphStore.indexInverse(REL);
+
+        var graph = graphStore.getGraph(REL, Optional.of("w"));
+        var sources = new ArrayList<Long>();
+        var weights = new ArrayList<Double>();
+        graph.concurrentCopy().forEachInverseRelationship(2, Double.NaN, (node, source, weight) -> {
+            assertThat(node).isEqualTo(2);
+            sources.add(source);
+            weights.add(weight);
+            return true;
+        });
+
+        assertThat(sources).containsExactly(0L, 1L, 3L);
+        assertThat(weights).containsExactly(2.0, 3.0, 4.0);
+    }
+
+    @Test
+    void shouldFilterIncomingRelationshipsByLabel() {
+        var graphStore = GdlFactory.of(GRAPH).build();
+        graphStore.indexInverse(REL);
+
+        var graph = graphStore.getGraph(List.of(NodeLabel.of("A")), List.of(REL), Optional.empty());
+        var c = graph.toMappedNodeId(graphStore.nodes().toOriginalNodeId(2));
+
+        assertThat(graph.inverseDegree(c)).isEqualTo(2);
+        assertThat(incoming(graph, c)).hasSize(2).allMatch(source -> source < graph.nodeCount());
+    }
+
+    @Test
+    void shouldUseOutgoingRelationshipsOfUndirectedGraphs() {
+        var config = ImmutableGraphProjectFromGdlConfig.builder()
+            .username("")
+            .graphName("graph")
+            .gdlGraph("(a)-[:REL]->(b), (b)-[:REL]->(c)")
+            .orientation(Orientation.UNDIRECTED)
+            .build();
+        var graphStore = GdlFactory.builder().graphProjectConfig(config).build().build();
+
+        assertThat(graphStore.hasInverseIndex(REL)).isTrue();
+        var graph = graphStore.getGraph(REL);
+        assertThat(graph.inverseDegree(1)).isEqualTo(2);
+        assertThat(incoming(graph, 1)).containsExactly(0L, 2L);
+    }
+
+    @Test
+    void shouldRebuildIndexAfterRelationshipDelta() {
+        var graphStore = GdlFactory.of("(a), (b), (a)-[:REL]->(b)").build();
+        graphStore.indexInverse(REL);
+
+        graphStore.applyRelationshipDelta(REL, RelationshipDelta.create().add(
+            graphStore.nodes().toOriginalNodeId(1),
+            graphStore.nodes().toOriginalNodeId(0)
+        ));
+
+        assertThat(graphStore.hasInverseIndex(REL)).isTrue();
+        var graph = graphStore.getGraph(REL);
+        assertThat(graph.hasInverseIndex()).isTrue();
+        assertThat(graph.inverseDegree(0)).isEqualTo(1);
+        assertThat(incoming(graph, 0)).containsExactly(1L);
+        assertThat(incoming(graph, 1)).containsExactly(0L);
+    }
+
+    private static List<Long> incoming(Graph graph, long nodeId) {
+        var sources = new ArrayList<Long>();
+        graph.forEachInverseRelationship(nodeId, (node, source) -> {
+            sources.add(source);
+            return true;
+        });
+        return sources;
+    }
+}
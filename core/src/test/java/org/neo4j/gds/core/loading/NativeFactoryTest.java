@@ -20,8 +20,13 @@
 package org.neo4j.gds.core.loading;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.ElementProjection;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.NodeProjection;
 import org.neo4j.gds.NodeProjections;
 import org.neo4j.gds.Orientation;
+import org.neo4j.gds.PropertyMapping;
+import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.RelationshipProjections;
 import org.neo4j.gds.RelationshipType;
@@ -29,6 +34,8 @@ import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -80,4 +87,46 @@ class NativeFactoryTest {
         assertEquals(12_056_534_400L, estimate.memoryUsage().min);
         assertEquals(13_667_147_136L, estimate.memoryUsage().max);
     }
+
+    @Test
+    void memoryEstimationForNodeReorderingCountsRelabelledProperties() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(100_000_000L)
+            .relCountUpperBound(500_000_000L)
+            .build();
+
+        var relationshipProjections = RelationshipProjections.single(
+            RelationshipType.ALL_RELATIONSHIPS,
+            RelationshipProjection.ALL
+        );
+        var withoutProperties = NodeProjections.all();
+        var withProperty = NodeProjections.single(
+            NodeLabel.ALL_NODES,
+            NodeProjection.of(ElementProjection.PROJECT_ALL, PropertyMappings.of(PropertyMapping.of("p")))
+        );
+
+        var estimates = new MemoryTree[4];
+        GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.enableAndRun(() -> {
+            estimates[0] = NativeFactory
+                .getMemoryEstimation(withoutProperties, relationshipProjections, true)
+                .estimate(dimensions, 1);
+            estimates[1] = NativeFactory
+                .getMemoryEstimation(withProperty, relationshipProjections, true)
+                .estimate(dimensions, 1);
+            estimates[2] = NativeFactory
+                .getMemoryEstimation(withoutProperties, relationshipProjections, false)
+                .estimate(dimensions, 1);
+            estimates[3] = NativeFactory
+                .getMemoryEstimation(withProperty, relationshipProjections, false)
+                .estimate(dimensions, 1);
+        });
+
+        long propertyAfterLoading = estimates[3].memoryUsage().min - estimates[2].memoryUsage().min;
+        long propertyDuringLoading = estimates[1].memoryUsage().min - estimates[0].memoryUsage().min;
+        // the relabelled copy of the property is a dense long array
+        assertEquals(
+            propertyAfterLoading + HugeLongArray.memoryEstimation(dimensions.nodeCount()),
+            propertyDuringLoading
+        );
+    }
 }
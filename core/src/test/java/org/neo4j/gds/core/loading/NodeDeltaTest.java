@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class NodeDeltaTest {
+
+    private static final RelationshipType REL = RelationshipType.of("REL");
+    private static final NodeLabel A = NodeLabel.of("A");
+    private static final NodeLabel B = NodeLabel.of("B");
+
+    private static final String GRAPH =
+        "(a:A {p: 1}), (b:B {p: 2}), (c:A {p: 3}), (d:B {p: 4})" +
+        ", (a)-[:REL {w: 1.0}]->(b)" +
+        ", (a)-[:REL {w: 2.0}]->(c)" +
+        ", (b)-[:REL {w: 3.0}]->(d)" +
+        ", (c)-[:REL {w: 4.0}]->(d)";
+
+    @Test
+    void shouldAddNodesWithoutChangingExistingIds() {
+        var graphStore = GdlFactory.of(GRAPH).build();
+        var previousNodes = graphStore.nodes();
+
+        var nodeCount = graphStore.applyNodeDelta(NodeDelta.create().add(1337, B));
+
+        assertThat(nodeCount).isEqualTo(5);
+        var nodes = graphStore.nodes();
+        for (long nodeId = 0; nodeId < 4; nodeId++) {
+            assertThat(nodes.toOriginalNodeId(nodeId)).isEqualTo(previousNodes.toOriginalNodeId(nodeId));
+            assertThat(nodes.nodeLabels(nodeId)).isEqualTo(previousNodes.nodeLabels(nodeId));
+        }
+        assertThat(nodes.toMappedNodeId(1337)).isEqualTo(4);
+        assertThat(nodes.nodeLabels(4)).containsExactly(B);
+        assertThat(graphStore.nodePropertyValues("p").longValue(4))
+            .isEqualTo(graphStore.nodeProperty("p").defaultValue().longValue());
+
+        var graph = graphStore.getGraph(REL, Optional.of("w"));
+        assertThat(graph.nodeCount()).isEqualTo(5);
+        assertThat(graph.degree(4)).isEqualTo(0);
+        assertThat(graph.relationshipCount()).isEqualTo(4);
+
+        graphStore.applyRelationshipDelta(REL, RelationshipDelta.create("w")
+            .add(1337, nodes.toOriginalNodeId(0), 5.0)
+        );
+        assertThat(graphStore.getGraph(REL, Optional.of("w")).relationshipProperty(4, 0)).isEqualTo(5.0);
+
+        graphStore.compactRelationships(REL);
+        assertThat(graphStore.getGraph(REL).degree(4)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRemoveNodesAndTheirRelationships() {
+        var graphStore = GdlFactory.of(GRAPH).build();
+        var previousNodes = graphStore.nodes();
+
+        var nodeCount = graphStore.applyNodeDelta(NodeDelta.create().remove(previousNodes.toOriginalNodeId(1)));
+
+        assertThat(nodeCount).isEqualTo(3);
+        var nodes = graphStore.nodes();
+        assertThat(nodes.safeToMappedNodeId(previousNodes.toOriginalNodeId(1))).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(nodes.toOriginalNodeId(1)).isEqualTo(previousNodes.toOriginalNodeId(2));
+        assertThat(nodes.hasLabel(2, B)).isTrue();
+        assertThat(graphStore.nodePropertyValues("p").longValue(1)).isEqualTo(3);
+        assertThat(graphStore.relationshipCount(REL)).isEqualTo(2);
+
+        assertGraphEquals(
+            fromGdl("(a:A {p: 1}), (c:A {p: 3}), (d:B {p: 4}), (a)-[{w: 2.0}]->(c), (c)-[{w: 4.0}]->(d)"),
+            graphStore.getGraph(REL, Optional.of("w"))
+        );
+    }
+
+    @Test
+    void shouldReAddRemovedNodes() {
+        var graphStore = GdlFactory.of(GRAPH).build();
+        var b = graphStore.nodes().toOriginalNodeId(1);
+
+        graphStore.applyNodeDelta(NodeDelta.create().remove(b).add(b, A));
+
+        var nodes = graphStore.nodes();
+        assertThat(nodes.nodeCount()).isEqualTo(4);
+        assertThat(nodes.toMappedNodeId(b)).isEqualTo(3);
+        assertThat(nodes.nodeLabels(3)).containsExactly(A);
+        assertThat(graphStore.getGraph(REL).degree(3)).isEqualTo(0);
+        assertThat(graphStore.relationshipCount(REL)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRebuildInverseIndexForChangedNodes() {
+        var graphStore = GdlFactory.of(GRAPH).build();
+        graphStore.indexInverse(REL);
+
+        graphStore.applyNodeDelta(NodeDelta.create().add(1337, A));
+
+        var graph = graphStore.getGraph(REL);
+        assertThat(graph.hasInverseIndex()).isTrue();
+        assertThat(graph.inverseDegree(4)).isEqualTo(0);
+        assertThat(graph.inverseDegree(3)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectInvalidNodeDeltas() {
+        var graphStore = GdlFactory.of(GRAPH).build();
+        var a = graphStore.nodes().toOriginalNodeId(0);
+
+        assertThatThrownBy(() -> graphStore.applyNodeDelta(NodeDelta.create().remove(1337)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Node 1337 is not part of the graph and cannot be removed.");
+        assertThatThrownBy(() -> graphStore.applyNodeDelta(NodeDelta.create().add(a, A)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("is already part of the graph");
+        assertThatThrownBy(() -> graphStore.applyNodeDelta(NodeDelta.create().add(1337, NodeLabel.of("C"))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Node 1337 has the label 'C', which is not part of the graph.");
+        assertThatThrownBy(() -> graphStore.applyNodeDelta(NodeDelta.create().add(1337)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Node 1337 needs at least one of the labels");
+
+        assertThat(graphStore.nodeCount()).isEqualTo(4);
+    }
+}
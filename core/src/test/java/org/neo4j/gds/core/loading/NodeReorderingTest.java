@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseTest;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.PropertyMapping;
+import org.neo4j.gds.StoreLoaderBuilder;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class NodeReorderingTest extends BaseTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A {p: 1})" +
+        ", (b:B {p: 2})" +
+        ", (c:A {p: 3})" +
+        ", (d:B {p: 4})" +
+        ", (a)-[:REL]->(b)" +
+        ", (c)-[:REL]->(a)" +
+        ", (c)-[:REL]->(b)" +
+        ", (d)-[:REL]->(a)" +
+        ", (d)-[:REL]->(b)" +
+        ", (d)-[:REL]->(c)";
+
+    @BeforeEach
+    void setUp() {
+        runQuery(DB_CYPHER);
+    }
+
+    @Test
+    void shouldAssignIdsByDescendingDegree() {
+        var degrees = HugeLongArray.of(1, 3, 0, 3, 2);
+
+        var mappedIds = NodeReordering.degreeOrder(degrees, degrees.size());
+
+        assertThat(mappedIds.toArray()).containsExactly(3, 0, 4, 1, 2);
+    }
+
+    @Test
+    void shouldRelabelNativeProjection() {
+        GraphStore[] graphStore = new GraphStore[1];
+        GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.enableAndRun(() -> graphStore[0] = new StoreLoaderBuilder()
+            .api(db)
+            .addNodeLabels("A", "B")
+            .addRelationshipType("REL")
+            .addNodeProperty(PropertyMapping.of("p"))
+            .build()
+            .graphStore());
+
+        var graph = graphStore[0].getUnion();
+
+        assertGraphEquals(
+            fromGdl(
+                "  (a:A {p: 1})" +
+                ", (b:B {p: 2})" +
+                ", (c:A {p: 3})" +
+                ", (d:B {p: 4})" +
+                ", (a)-->(b)" +
+                ", (c)-->(a)" +
+                ", (c)-->(b)" +
+                ", (d)-->(a)" +
+                ", (d)-->(b)" +
+                ", (d)-->(c)"
+            ),
+            graph
+        );
+
+        // d, c, a, b
+        var properties = graph.nodeProperties("p");
+        assertThat(properties.longValue(0)).isEqualTo(4L);
+        assertThat(properties.longValue(1)).isEqualTo(3L);
+        assertThat(properties.longValue(2)).isEqualTo(1L);
+        assertThat(properties.longValue(3)).isEqualTo(2L);
+
+        assertThat(graph.nodeLabels(0)).containsExactly(NodeLabel.of("B"));
+        assertThat(graph.nodeLabels(1)).containsExactly(NodeLabel.of("A"));
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(graph.toMappedNodeId(graph.toOriginalNodeId(nodeId))).isEqualTo(nodeId);
+        }
+    }
+}
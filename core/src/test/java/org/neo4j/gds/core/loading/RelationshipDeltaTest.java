@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.core.huge.DeltaAdjacencyList;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class RelationshipDeltaTest {
+
+    private static final RelationshipType REL = RelationshipType.of("REL");
+
+    private static final String NODES = "(a), (b), (c), (d)";
+
+    @Test
+    void shouldAddAndRemoveRelationships() {
+        var graphStore = GdlFactory.of(NODES + ", (a)-[:REL]->(b), (a)-[:REL]->(c), (b)-[:REL]->(c)").build();
+        var nodes = graphStore.nodes();
+
+        var relationshipCount = graphStore.applyRelationshipDelta(REL, RelationshipDelta.create()
+            .add(nodes.toOriginalNodeId(3), nodes.toOriginalNodeId(0))
+            .add(nodes.toOriginalNodeId(0), nodes.toOriginalNodeId(3))
+            .remove(nodes.toOriginalNodeId(0), nodes.toOriginalNodeId(1))
+        );
+
+        assertThat(relationshipCount).isEqualTo(4);
+        assertThat(graphStore.relationshipCount(REL)).isEqualTo(4);
+        assertGraphEquals(
+            fromGdl(NODES + ", (a)-->(c), (a)-->(d), (b)-->(c), (d)-->(a)"),
+            graphStore.getGraph(REL)
+        );
+    }
+
+    @Test
+    void shouldKeepDeltasAcrossCompaction() {
+        var graphStore = GdlFactory.of(NODES + ", (a)-[:REL]->(b), (b)-[:REL]->(c)").build();
+        var nodes = graphStore.nodes();
+
+        graphStore.applyRelationshipDelta(REL, RelationshipDelta.create()
+            .add(nodes.toOriginalNodeId(2), nodes.toOriginalNodeId(3))
+        );
+        graphStore.compactRelationships(REL);
+
+        assertThat(graphStore.getGraph(REL, Optional.empty()).relationshipCount()).isEqualTo(3);
+        assertGraphEquals(
+            fromGdl(NODES + ", (a)-->(b), (b)-->(c), (c)-->(d)"),
+            graphStore.getGraph(REL)
+        );
+
+        graphStore.applyRelationshipDelta(REL, RelationshipDelta.create()
+            .remove(nodes.toOriginalNodeId(1), nodes.toOriginalNodeId(2))
+        );
+        assertGraphEquals(
+            fromGdl(NODES + ", (a)-->(b), (c)-->(d)"),
+            graphStore.getGraph(REL)
+        );
+    }
+
+    @Test
+    void shouldRebaseDeltasAppliedDuringCompaction() {
+        var graphStore = GdlFactory.of(NODES + ", (a)-[:REL]->(b), (b)-[:REL]->(c)").build();
+        var nodes = graphStore.nodes();
+
+        graphStore.applyRelationshipDelta(REL, RelationshipDelta.create()
+            .add(nodes.toOriginalNodeId(2), nodes.toOriginalNodeId(3))
+        );
+        var snapshot = graphStore.relationships.get(REL);
+        var compacted = RelationshipDeltas.compact(snapshot, Map.of(), nodes, 1);
+
+        // arrives after the snapshot was taken, but before the compacted list is swapped in
+        graphStore.applyRelationshipDelta(REL, RelationshipDelta.create()
+            .add(nodes.toOriginalNodeId(3), nodes.toOriginalNodeId(0))
+            .remove(nodes.toOriginalNodeId(0), nodes.toOriginalNodeId(1))
+        );
+        var current = graphStore.relationships.get(REL);
+        var rebased = RelationshipDeltas
+            .rebase(compacted, snapshot, new RelationshipDeltas.Result(current, Map.of()))
+            .topology();
+
+        var adjacencyList = (DeltaAdjacencyList) rebased.adjacencyList();
+        assertThat(adjacencyList.base()).isSameAs(compacted.topology().adjacencyList());
+        assertThat(adjacencyList.overrides().keys().toArray()).containsExactlyInAnyOrder(0, 3);
+        assertThat(rebased.elementCount()).isEqualTo(3);
+
+        graphStore.relationships.put(REL, rebased);
+        assertGraphEquals(
+            fromGdl(NODES + ", (b)-->(c), (c)-->(d), (d)-->(a)"),
+            graphStore.getGraph(REL)
+        );
+    }
+
+    @Test
+    void shouldCarryRelationshipProperties() {
+        var graphStore = GdlFactory.of(NODES + ", (a)-[:REL {w: 1.0, x: 2.0}]->(b), (a)-[:REL {w: 3.0, x: 4.0}]->(c)").build();
+        var nodes = graphStore.nodes();
+
+        graphStore.applyRelationshipDelta(REL, RelationshipDelta.create("w")
+            .add(nodes.toOriginalNodeId(0), nodes.toOriginalNodeId(3), 5.0)
+            .add(nodes.toOriginalNodeId(0), nodes.toOriginalNodeId(0), 6.0)
+            .remove(nodes.toOriginalNodeId(0), nodes.toOriginalNodeId(1))
+        );
+
+        assertGraphEquals(
+            fromGdl(NODES + ", (a)-[{w: 6.0}]->(a), (a)-[{w: 3.0}]->(c), (a)-[{w: 5.0}]->(d)"),
+            graphStore.getGraph(REL, Optional.of("w"))
+        );
+        // properties that are not part of the delta get their default value
+        assertThat(graphStore.getGraph(REL, Optional.of("x")).relationshipProperty(0, 2)).isEqualTo(4.0);
+        assertThat(graphStore.getGraph(REL, Optional.of("x")).relationshipProperty(0, 3))
+            .isEqualTo(graphStore.relationshipPropertyValues(REL, "x").values().defaultPropertyValue());
+
+        graphStore.compactRelationships(REL);
+
+        assertGraphEquals(
+            fromGdl(NODES + ", (a)-[{w: 6.0}]->(a), (a)-[{w: 3.0}]->(c), (a)-[{w: 5.0}]->(d)"),
+            graphStore.getGraph(REL, Optional.of("w"))
+        );
+        assertThat(graphStore.relationshipPropertyValues(REL, "w").values().elementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReplacePropertiesOfRemovedAndAddedRelationships() {
+        var graphStore = GdlFactory.of(NODES + ", (a)-[:REL {w: 1.0}]->(b)").build();
+        var nodes = graphStore.nodes();
+        var a = nodes.toOriginalNodeId(0);
+        var b = nodes.toOriginalNodeId(1);
+
+        graphStore.applyRelationshipDelta(REL, RelationshipDelta.create("w").add(a, b, 2.0));
+        assertThat(graphStore.getGraph(REL, Optional.of("w")).relationshipProperty(0, 1)).isEqualTo(1.0);
+
+        graphStore.applyRelationshipDelta(REL, RelationshipDelta.create("w").remove(a, b).add(a, b, 2.0));
+        assertThat(graphStore.getGraph(REL, Optional.of("w")).relationshipProperty(0, 1)).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldRejectUnknownPropertyKeys() {
+        var graphStore = GdlFactory.of(NODES + ", (a)-[:REL {w: 1.0}]->(b)").build();
+
+        assertThatThrownBy(() -> graphStore.applyRelationshipDelta(REL, RelationshipDelta.create("foo").add(0, 1, 1.0)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Relationship type 'REL' does not have the properties 'foo'")
+            .hasMessageContaining("'w'");
+        assertThatThrownBy(() -> RelationshipDelta.create("w").add(0, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Expected 1 property values");
+    }
+
+    @Test
+    void shouldFollowCursorContractForOverlayTargets() {
+        var graphStore = GdlFactory.of(NODES + ", (a)-[:REL]->(b), (b)-[:REL]->(c)").build();
+        var nodes = graphStore.nodes();
+
+        graphStore.applyRelationshipDelta(REL, RelationshipDelta.create()
+            .add(nodes.toOriginalNodeId(0), nodes.toOriginalNodeId(2))
+            .add(nodes.toOriginalNodeId(0), nodes.toOriginalNodeId(3))
+        );
+        var adjacencyList = graphStore.relationships.get(REL).adjacencyList();
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.advance(2)).isEqualTo(2);
+        assertThat(cursor.skipUntil(42)).isEqualTo(3);
+        assertThat(cursor.remaining()).isZero();
+        assertThat(cursor.advance(42)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+
+        // the raw cursor is reused for overlay and base nodes alike
+        var raw = adjacencyList.rawAdjacencyCursor();
+        var reused = adjacencyList.adjacencyCursor(raw, 0);
+        assertThat(reused).isSameAs(raw);
+        assertThat(reused.size()).isEqualTo(3);
+        reused = adjacencyList.adjacencyCursor(raw, 1);
+        assertThat(reused).isSameAs(raw);
+        assertThat(reused.nextVLong()).isEqualTo(2);
+
+        raw.init(0, 0);
+        assertThat(raw.peekVLong()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMergeSortedTargetLists() {
+        var added = new LongArrayList();
+        added.add(4, 1, 4);
+        var removed = new LongArrayList();
+        removed.add(2, 7);
+
+        assertThat(RelationshipDeltas.merge(new long[]{2, 2, 5}, added, removed, true))
+            .containsExactly(1, 2, 4, 4, 5);
+        assertThat(RelationshipDeltas.merge(new long[]{2, 2, 5}, added, removed, false))
+            .containsExactly(1, 2, 4, 5);
+    }
+
+    @Test
+    void shouldUseOverlayForChangedNodesOnly() {
+        var graphStore = GdlFactory.of(NODES + ", (a)-[:REL]->(b), (b)-[:REL]->(c)").build();
+        var nodes = graphStore.nodes();
+
+        graphStore.applyRelationshipDelta(REL, RelationshipDelta.create()
+            .add(nodes.toOriginalNodeId(0), nodes.toOriginalNodeId(2))
+        );
+
+        var adjacencyList = (DeltaAdjacencyList) graphStore.relationships.get(REL).adjacencyList();
+        assertThat(adjacencyList.overrides().size()).isEqualTo(1);
+        assertThat(adjacencyList.overrides().get(0)).containsExactly(1, 2);
+        assertThat(adjacencyList.degree(1)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectUnknownNodes() {
+        var graphStore = GdlFactory.of(NODES + ", (a)-[:REL]->(b)").build();
+
+        assertThatThrownBy(() -> graphStore.applyRelationshipDelta(REL, RelationshipDelta.create().add(0, 1337)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Node 1337 is not part of the graph");
+    }
+}
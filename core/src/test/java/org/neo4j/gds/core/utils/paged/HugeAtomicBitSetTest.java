@@ -68,6 +68,24 @@ class HugeAtomicBitSetTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @MethodSource("suppliers")
+    void testNextSetBit(HabsSupplier supplier) {
+        var bitSet = supplier.get(4096);
+
+        var expected = List.of(0L, 3L, 63L, 64L, 1337L, 4095L);
+        expected.forEach(bitSet::set);
+
+        var actual = new ArrayList<Long>();
+        for (long index = bitSet.nextSetBit(0); index != -1; index = bitSet.nextSetBit(index + 1)) {
+            actual.add(index);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(bitSet.nextSetBit(65)).isEqualTo(1337L);
+        assertThat(bitSet.nextSetBit(4096)).isEqualTo(-1L);
+    }
+
     @ParameterizedTest
     @MethodSource("suppliers")
     void getAndSetReturnsTrueIfTheBitWasSet(HabsSupplier supplier) {
@@ -295,6 +313,8 @@ class HugeAtomicBitSetTest {
 
         void forEachSetBit(LongConsumer consumer);
 
+        long nextSetBit(long index);
+
         long cardinality();
 
         boolean isEmpty();
@@ -349,6 +369,11 @@ class HugeAtomicBitSetTest {
                         habs.forEachSetBit(consumer);
                     }
 
+                    @Override
+                    public long nextSetBit(long index) {
+                        return habs.nextSetBit(index);
+                    }
+
                     @Override
                     public long cardinality() {
                         return habs.cardinality();
@@ -420,6 +445,11 @@ class HugeAtomicBitSetTest {
                         habs.forEachSetBit(consumer);
                     }
 
+                    @Override
+                    public long nextSetBit(long index) {
+                        return habs.nextSetBit(index);
+                    }
+
                     @Override
                     public long cardinality() {
                         return habs.cardinality();
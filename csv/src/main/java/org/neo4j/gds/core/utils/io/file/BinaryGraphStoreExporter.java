@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.huge.BitPackedAdjacencyList;
+import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.OffHeapCompressedAdjacencyList;
+import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.utils.io.MetaDataStore;
+import org.neo4j.gds.core.utils.io.file.csv.CsvGraphInfoVisitor;
+import org.neo4j.gds.core.utils.io.file.csv.CsvNodeSchemaVisitor;
+import org.neo4j.gds.core.utils.io.file.csv.CsvRelationshipSchemaVisitor;
+import org.neo4j.gds.core.utils.io.file.csv.UserInfoVisitor;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Dumps the in-memory representation of a {@link CSRGraphStore} into a set of binary files.
+ * Adjacency list pages, degrees, offsets, original node ids and property arrays are written as they are,
+ * so that {@link BinaryGraphStoreImporter} can restore the graph store without re-building any of them.
+ * Metadata and schema are written in the same format as the CSV export,
+ * the metadata of node properties is recorded in the manifest.
+ * Inverse indices are not written, only the relationship types that have one are recorded
+ * and {@link BinaryGraphStoreImporter} rebuilds their indices after loading.
+ */
+public final class BinaryGraphStoreExporter {
+
+    static final String MANIFEST_FILE_NAME = "manifest.gds";
+    static final String NODES_FILE_NAME = "nodes.gds";
+    static final String NODE_PROPERTY_FILE_NAME = "node_property_%d.gds";
+    static final String RELATIONSHIPS_FILE_NAME = "relationships_%d.gds";
+    static final String RELATIONSHIP_PROPERTY_FILE_NAME = "relationship_property_%d_%d.gds";
+
+    static final int COMPRESSED = 0;
+    static final int BIT_PACKED = 1;
+    static final int UNCOMPRESSED = 2;
+
+    static final int METADATA_STRING = 0;
+    static final int METADATA_LONG = 1;
+    static final int METADATA_BOOLEAN = 2;
+    static final int METADATA_LIST = 3;
+
+    private final CSRGraphStore graphStore;
+    private final String username;
+    private final Path exportPath;
+    private final int concurrency;
+
+    public BinaryGraphStoreExporter(CSRGraphStore graphStore, String username, Path exportPath, int concurrency) {
+        this.graphStore = graphStore;
+        this.username = username;
+        this.exportPath = exportPath;
+        this.concurrency = concurrency;
+    }
+
+    public void run() {
+        var metaDataStore = MetaDataStore.of(graphStore);
+        try (var userInfoVisitor = new UserInfoVisitor(exportPath)) {
+            userInfoVisitor.export(username);
+        }
+        try (var graphInfoVisitor = new CsvGraphInfoVisitor(exportPath)) {
+            graphInfoVisitor.export(metaDataStore.graphInfo());
+        }
+        try (var nodeSchemaVisitor = new CsvNodeSchemaVisitor(exportPath)) {
+            GraphStoreToFileExporter.visitNodeSchema(metaDataStore.nodeSchema(), nodeSchemaVisitor);
+        }
+        try (var relationshipSchemaVisitor = new CsvRelationshipSchemaVisitor(exportPath)) {
+            GraphStoreToFileExporter.visitRelationshipSchema(metaDataStore.relationshipSchema(), relationshipSchemaVisitor);
+        }
+
+        var nodePropertyKeys = graphStore.nodePropertyKeys().stream().sorted().collect(Collectors.toList());
+        var relationshipTypes = graphStore
+            .relationshipTypes()
+            .stream()
+            .sorted(Comparator.comparing(RelationshipType::name))
+            .collect(Collectors.toList());
+
+        var tasks = new ArrayList<Runnable>();
+        try (var manifest = new BinarySnapshotWriter(exportPath.resolve(MANIFEST_FILE_NAME))) {
+            manifest.writeInt(nodePropertyKeys.size());
+            for (int i = 0; i < nodePropertyKeys.size(); i++) {
+                var propertyKey = nodePropertyKeys.get(i);
+                manifest.writeString(propertyKey);
+                writeMetadata(manifest, graphStore.nodePropertyMetadata(propertyKey));
+                var file = exportPath.resolve(formatWithLocale(NODE_PROPERTY_FILE_NAME, i));
+                tasks.add(() -> writeNodeProperty(file, graphStore.nodePropertyValues(propertyKey)));
+            }
+
+            manifest.writeInt(relationshipTypes.size());
+            for (int i = 0; i < relationshipTypes.size(); i++) {
+                var relationshipType = relationshipTypes.get(i);
+                // the delta overlay is merged into the snapshot only, the graph store stays as it is
+                var relationships = graphStore.compactedRelationships(relationshipType);
+                var topology = relationships.topology();
+                manifest.writeString(relationshipType.name);
+                manifest.writeInt(hasInverseIndex(relationshipType, topology) ? 1 : 0);
+                var topologyFile = exportPath.resolve(formatWithLocale(RELATIONSHIPS_FILE_NAME, i));
+                tasks.add(() -> writeTopology(topologyFile, topology));
+
+                var propertyKeys = relationships
+                    .properties()
+                    .keySet()
+                    .stream()
+                    .sorted()
+                    .collect(Collectors.toList());
+                manifest.writeInt(propertyKeys.size());
+                for (int j = 0; j < propertyKeys.size(); j++) {
+                    var propertyKey = propertyKeys.get(j);
+                    manifest.writeString(propertyKey);
+                    var properties = relationships.properties().get(propertyKey);
+                    var propertyFile = exportPath.resolve(formatWithLocale(RELATIONSHIP_PROPERTY_FILE_NAME, i, j));
+                    tasks.add(() -> writeRelationshipProperty(propertyFile, relationshipType, propertyKey, properties));
+                }
+            }
+        }
+        tasks.add(this::writeNodes);
+
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.io());
+    }
+
+    private static void writeMetadata(BinarySnapshotWriter manifest, Map<String, Object> metadata) {
+        manifest.writeInt(metadata.size());
+        metadata.forEach((key, value) -> {
+            manifest.writeString(key);
+            writeMetadataValue(manifest, value);
+        });
+    }
+
+    private static void writeMetadataValue(BinarySnapshotWriter manifest, Object value) {
+        if (value instanceof List) {
+            var values = (List<?>) value;
+            manifest.writeInt(METADATA_LIST);
+            manifest.writeInt(values.size());
+            values.forEach(element -> writeMetadataValue(manifest, element));
+        } else if (value instanceof Long) {
+            manifest.writeInt(METADATA_LONG);
+            manifest.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            manifest.writeInt(METADATA_BOOLEAN);
+            manifest.writeInt((Boolean) value ? 1 : 0);
+        } else {
+            manifest.writeInt(METADATA_STRING);
+            manifest.writeString((String) value);
+        }
+    }
+
+    private boolean hasInverseIndex(RelationshipType relationshipType, Relationships.Topology topology) {
+        // undirected relationships are their own inverse and do not need to be re-indexed
+        return topology.orientation() != Orientation.UNDIRECTED && graphStore.hasInverseIndex(relationshipType);
+    }
+
+    private void writeNodes() {
+        var nodes = graphStore.nodes();
+        long nodeCount = nodes.nodeCount();
+        var labels = nodes
+            .availableNodeLabels()
+            .stream()
+            .sorted(Comparator.comparing(NodeLabel::name))
+            .collect(Collectors.toList());
+
+        try (var writer = new BinarySnapshotWriter(exportPath.resolve(NODES_FILE_NAME))) {
+            writer.writeLong(nodeCount);
+            writer.writeLong(nodes.highestNeoId());
+            writer.writeLongs(nodeCount, nodes::toOriginalNodeId);
+
+            writer.writeInt(labels.size());
+            // a single label is implied for all nodes and does not need a bit set
+            if (labels.size() > 1) {
+                long words = BitUtil.ceilDiv(nodeCount, Long.SIZE);
+                for (NodeLabel label : labels) {
+                    writer.writeString(label.name);
+                    writer.writeLongs(words, word -> labelWord(nodes, label, word, nodeCount));
+                }
+            } else {
+                labels.forEach(label -> writer.writeString(label.name));
+            }
+        }
+    }
+
+    private static long labelWord(IdMap nodes, NodeLabel label, long word, long nodeCount) {
+        long start = word * Long.SIZE;
+        long end = Math.min(start + Long.SIZE, nodeCount);
+        long bits = 0L;
+        for (long nodeId = start; nodeId < end; nodeId++) {
+            if (nodes.hasLabel(nodeId, label)) {
+                bits |= 1L << (nodeId - start);
+            }
+        }
+        return bits;
+    }
+
+    private void writeNodeProperty(Path file, NodeProperties properties) {
+        long nodeCount = graphStore.nodeCount();
+        var valueType = properties.valueType();
+        try (var writer = new BinarySnapshotWriter(file)) {
+            writer.writeString(valueType.name());
+            switch (valueType) {
+                case LONG:
+                    writer.writeLongs(nodeCount, properties::longValue);
+                    break;
+                case DOUBLE:
+                    writer.writeDoubles(nodeCount, properties::doubleValue);
+                    break;
+                case LONG_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        var values = properties.longArrayValue(nodeId);
+                        writer.writeInt(values == null ? -1 : values.length);
+                        if (values != null) {
+                            writer.writeLongs(values.length, index -> values[(int) index]);
+                        }
+                    }
+                    break;
+                case DOUBLE_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        var values = properties.doubleArrayValue(nodeId);
+                        writer.writeInt(values == null ? -1 : values.length);
+                        if (values != null) {
+                            writer.writeDoubles(values.length, index -> values[(int) index]);
+                        }
+                    }
+                    break;
+                case FLOAT_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        var values = properties.floatArrayValue(nodeId);
+                        writer.writeInt(values == null ? -1 : values.length);
+                        if (values != null) {
+                            writer.writeDoubles(values.length, index -> values[(int) index]);
+                        }
+                    }
+                    break;
+                default:
+                    throw new UnsupportedOperationException(formatWithLocale(
+                        "Node properties of type %s can not be written to a snapshot.",
+                        valueType
+                    ));
+            }
+        }
+    }
+
+    private static void writeTopology(Path file, Relationships.Topology topology) {
+        try (var writer = new BinarySnapshotWriter(file)) {
+            writer.writeLong(topology.elementCount());
+            writer.writeString(topology.orientation().name());
+            writer.writeInt(topology.isMultiGraph() ? 1 : 0);
+            writeAdjacencyList(writer, topology.adjacencyList());
+        }
+    }
+
+    private static void writeRelationshipProperty(
+        Path file,
+        RelationshipType relationshipType,
+        String propertyKey,
+        Relationships.Properties properties
+    ) {
+        if (!(properties.propertiesList() instanceof UncompressedAdjacencyList)) {
+            throw new UnsupportedOperationException(formatWithLocale(
+                "Relationship property '%s.%s' is stored as %s, which can not be written to a snapshot.",
+                relationshipType,
+                propertyKey,
+                properties.propertiesList().getClass().getSimpleName()
+            ));
+        }
+        try (var writer = new BinarySnapshotWriter(file)) {
+            writer.writeLong(properties.elementCount());
+            writer.writeString(properties.orientation().name());
+            writer.writeInt(properties.isMultiGraph() ? 1 : 0);
+            writer.writeDouble(properties.defaultPropertyValue());
+            writeAdjacencyList(writer, (AdjacencyList) properties.propertiesList());
+        }
+    }
+
+    private static void writeAdjacencyList(BinarySnapshotWriter writer, AdjacencyList adjacencyList) {
+        if (adjacencyList instanceof CompressedAdjacencyList) {
+            var compressed = (CompressedAdjacencyList) adjacencyList;
+            writer.writeInt(COMPRESSED);
+            writeDegreesAndOffsets(writer, compressed.degrees(), compressed.offsets());
+            writer.writeInt(compressed.pages().length);
+            for (byte[] page : compressed.pages()) {
+                writer.writePage(page);
+            }
+        } else if (adjacencyList instanceof OffHeapCompressedAdjacencyList) {
+            // off-heap pages use the same encoding and are restored like on-heap ones
+            var compressed = (OffHeapCompressedAdjacencyList) adjacencyList;
+            writer.writeInt(COMPRESSED);
+            writeDegreesAndOffsets(writer, compressed.degrees(), compressed.offsets());
+            writer.writeInt(compressed.pages().length);
+            for (var page : compressed.pages()) {
+                writer.writePage(page);
+            }
+        } else if (adjacencyList instanceof BitPackedAdjacencyList) {
+            var bitPacked = (BitPackedAdjacencyList) adjacencyList;
+            writer.writeInt(BIT_PACKED);
+            writeDegreesAndOffsets(writer, bitPacked.degrees(), bitPacked.offsets());
+            writer.writeInt(bitPacked.pages().length);
+            for (byte[] page : bitPacked.pages()) {
+                writer.writePage(page);
+            }
+        } else if (adjacencyList instanceof UncompressedAdjacencyList) {
+            var uncompressed = (UncompressedAdjacencyList) adjacencyList;
+            writer.writeInt(UNCOMPRESSED);
+            writeDegreesAndOffsets(writer, uncompressed.degrees(), uncompressed.offsets());
+            writer.writeInt(uncompressed.pages().length);
+            for (long[] page : uncompressed.pages()) {
+                writer.writePage(page);
+            }
+        } else {
+            throw new UnsupportedOperationException(formatWithLocale(
+                "Adjacency lists of type %s can not be written to a snapshot.",
+                adjacencyList.getClass().getSimpleName()
+            ));
+        }
+    }
+
+    private static void writeDegreesAndOffsets(
+        BinarySnapshotWriter writer,
+        HugeIntArray degrees,
+        HugeLongArray offsets
+    ) {
+        writer.writeLong(degrees.size());
+        writer.writeInts(degrees.size(), degrees::get);
+        writer.writeLong(offsets.size());
+        writer.writeLongs(offsets.size(), offsets::get);
+    }
+}
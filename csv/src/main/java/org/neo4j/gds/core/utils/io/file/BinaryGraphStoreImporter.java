@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.ImmutableGraphSchema;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.huge.BitPackedAdjacencyList;
+import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.OffHeapCompressedAdjacencyList;
+import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.HugeIdMap;
+import org.neo4j.gds.core.loading.HugeIdMapBuilderOps;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.values.storable.NumberType;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.BIT_PACKED;
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.COMPRESSED;
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.MANIFEST_FILE_NAME;
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.METADATA_BOOLEAN;
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.METADATA_LIST;
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.METADATA_LONG;
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.METADATA_STRING;
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.NODES_FILE_NAME;
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.NODE_PROPERTY_FILE_NAME;
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.RELATIONSHIPS_FILE_NAME;
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.RELATIONSHIP_PROPERTY_FILE_NAME;
+import static org.neo4j.gds.core.utils.io.file.BinaryGraphStoreExporter.UNCOMPRESSED;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Restores a graph store from the files written by {@link BinaryGraphStoreExporter}.
+ * All files are read in parallel. If {@code memoryMapped} is set, compressed adjacency pages are mapped
+ * into memory instead of being copied onto the heap and the resulting graph uses an
+ * {@link OffHeapCompressedAdjacencyList}. Mapped pages are only checksummed if {@code verifyMappedPages} is set,
+ * as verifying them reads the whole file up front, which mapping is meant to avoid.
+ * Inverse indices are not part of the snapshot and are rebuilt for all relationship types that had one.
+ */
+public final class BinaryGraphStoreImporter {
+
+    private final Path importPath;
+    private final int concurrency;
+    private final boolean memoryMapped;
+    private final boolean verifyChecksums;
+    private final boolean verifyMappedPages;
+
+    public BinaryGraphStoreImporter(Path importPath, int concurrency, boolean memoryMapped, boolean verifyChecksums) {
+        this(importPath, concurrency, memoryMapped, verifyChecksums, false);
+    }
+
+    public BinaryGraphStoreImporter(
+        Path importPath,
+        int concurrency,
+        boolean memoryMapped,
+        boolean verifyChecksums,
+        boolean verifyMappedPages
+    ) {
+        this.importPath = importPath;
+        this.concurrency = concurrency;
+        this.memoryMapped = memoryMapped;
+        this.verifyChecksums = verifyChecksums;
+        this.verifyMappedPages = verifyMappedPages;
+    }
+
+    public CsvGraphStoreImporter.UserGraphStore run() {
+        var userName = new UserInfoLoader(importPath).load();
+        var graphInfo = new GraphInfoLoader(importPath).load();
+        var nodeSchema = new NodeSchemaLoader(importPath).load();
+        var relationshipSchema = new RelationshipSchemaLoader(importPath).load();
+        long nodeCount = graphInfo.nodeCount();
+
+        var nodeProperties = new ConcurrentHashMap<String, NodeProperties>();
+        var nodePropertyMetadata = new HashMap<String, Map<String, Object>>();
+        var topologies = new ConcurrentHashMap<RelationshipType, Relationships.Topology>();
+        var relationshipProperties = new ConcurrentHashMap<RelationshipType, Map<String, Relationships.Properties>>();
+        var inverseIndexedTypes = new ArrayList<RelationshipType>();
+        var idMap = new HugeIdMap[1];
+
+        var tasks = new ArrayList<Runnable>();
+        tasks.add(() -> idMap[0] = readNodes());
+        try (var manifest = reader(MANIFEST_FILE_NAME)) {
+            int nodePropertyCount = manifest.readInt();
+            for (int i = 0; i < nodePropertyCount; i++) {
+                var propertyKey = manifest.readString();
+                var metadata = readMetadata(manifest);
+                if (!metadata.isEmpty()) {
+                    nodePropertyMetadata.put(propertyKey, metadata);
+                }
+                var file = formatWithLocale(NODE_PROPERTY_FILE_NAME, i);
+                tasks.add(() -> nodeProperties.put(propertyKey, readNodeProperty(file, nodeCount)));
+            }
+
+            int relationshipTypeCount = manifest.readInt();
+            for (int i = 0; i < relationshipTypeCount; i++) {
+                var relationshipType = RelationshipType.of(manifest.readString());
+                if (manifest.readInt() == 1) {
+                    inverseIndexedTypes.add(relationshipType);
+                }
+                var topologyFile = formatWithLocale(RELATIONSHIPS_FILE_NAME, i);
+                tasks.add(() -> topologies.put(relationshipType, readTopology(topologyFile)));
+
+                var propertiesByKey = new ConcurrentHashMap<String, Relationships.Properties>();
+                relationshipProperties.put(relationshipType, propertiesByKey);
+                int propertyCount = manifest.readInt();
+                for (int j = 0; j < propertyCount; j++) {
+                    var propertyKey = manifest.readString();
+                    var propertyFile = formatWithLocale(RELATIONSHIP_PROPERTY_FILE_NAME, i, j);
+                    tasks.add(() -> propertiesByKey.put(propertyKey, readRelationshipProperty(propertyFile)));
+                }
+            }
+        }
+
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.io());
+
+        var graphStoreBuilder = new GraphStoreBuilder()
+            .databaseId(graphInfo.namedDatabaseId())
+            .schema(ImmutableGraphSchema.builder().nodeSchema(nodeSchema).relationshipSchema(relationshipSchema).build())
+            .nodes(idMap[0])
+            .relationships(topologies)
+            .concurrency(concurrency);
+
+        var nodePropertySchemas = nodeSchema.unionProperties();
+        CSRGraphStoreUtil.extractNodeProperties(graphStoreBuilder, nodePropertySchemas::get, nodeProperties);
+
+        var relationshipPropertyStores = new HashMap<RelationshipType, RelationshipPropertyStore>();
+        relationshipProperties.forEach((relationshipType, propertiesByKey) -> {
+            var propertySchemas = relationshipSchema.properties().get(relationshipType);
+            var propertyStoreBuilder = RelationshipPropertyStore.builder();
+            propertiesByKey.forEach((propertyKey, properties) -> {
+                var propertySchema = propertySchemas.get(propertyKey);
+                propertyStoreBuilder.putIfAbsent(propertyKey, RelationshipProperty.of(
+                    propertyKey,
+                    NumberType.FLOATING_POINT,
+                    propertySchema.state(),
+                    properties,
+                    propertySchema.defaultValue(),
+                    propertySchema.aggregation()
+                ));
+            });
+            relationshipPropertyStores.put(relationshipType, propertyStoreBuilder.build());
+        });
+        graphStoreBuilder.relationshipPropertyStores(relationshipPropertyStores);
+
+        var graphStore = graphStoreBuilder.build();
+        inverseIndexedTypes.forEach(graphStore::indexInverse);
+        nodePropertyMetadata.forEach(graphStore::putNodePropertyMetadata);
+
+        return ImmutableUserGraphStore.of(userName, graphStore);
+    }
+
+    private static Map<String, Object> readMetadata(BinarySnapshotReader manifest) {
+        int size = manifest.readInt();
+        var metadata = new HashMap<String, Object>();
+        for (int i = 0; i < size; i++) {
+            var key = manifest.readString();
+            metadata.put(key, readMetadataValue(manifest));
+        }
+        return metadata;
+    }
+
+    private static Object readMetadataValue(BinarySnapshotReader manifest) {
+        int type = manifest.readInt();
+        switch (type) {
+            case METADATA_LIST:
+                int size = manifest.readInt();
+                var values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(readMetadataValue(manifest));
+                }
+                return values;
+            case METADATA_LONG:
+                return manifest.readLong();
+            case METADATA_BOOLEAN:
+                return manifest.readInt() == 1;
+            case METADATA_STRING:
+                return manifest.readString();
+            default:
+                throw new IllegalStateException(formatWithLocale(
+                    "Unexpected metadata type %d in snapshot file `%s`.",
+                    type,
+                    MANIFEST_FILE_NAME
+                ));
+        }
+    }
+
+    private HugeIdMap readNodes() {
+        try (var reader = reader(NODES_FILE_NAME)) {
+            long nodeCount = reader.readLong();
+            long highestNeoId = reader.readLong();
+            var originalIds = reader.readLongs(nodeCount);
+
+            int labelCount = reader.readInt();
+            LabelInformation.Builder labelInformationBuilder;
+            if (labelCount > 1) {
+                labelInformationBuilder = LabelInformation.builder(highestNeoId + 1);
+                long words = BitUtil.ceilDiv(nodeCount, Long.SIZE);
+                for (int i = 0; i < labelCount; i++) {
+                    var label = NodeLabel.of(reader.readString());
+                    for (long word = 0; word < words; word++) {
+                        long bits = reader.readLong();
+                        while (bits != 0) {
+                            long nodeId = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                            // the builder expects original ids and maps them once the id map is built
+                            labelInformationBuilder.addNodeIdToLabel(label, originalIds.get(nodeId));
+                            bits &= bits - 1;
+                        }
+                    }
+                }
+            } else {
+                var label = labelCount == 1 ? NodeLabel.of(reader.readString()) : NodeLabel.ALL_NODES;
+                labelInformationBuilder = LabelInformation.single(label);
+            }
+
+            return HugeIdMapBuilderOps.build(originalIds, nodeCount, labelInformationBuilder, highestNeoId, concurrency);
+        }
+    }
+
+    private NodeProperties readNodeProperty(String fileName, long nodeCount) {
+        try (var reader = reader(fileName)) {
+            var valueType = ValueType.valueOf(reader.readString());
+            switch (valueType) {
+                case LONG:
+                    return reader.readLongs(nodeCount).asNodeProperties();
+                case DOUBLE:
+                    return reader.readDoubles(nodeCount).asNodeProperties();
+                case LONG_ARRAY: {
+                    var values = HugeObjectArray.newArray(long[].class, nodeCount);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        int length = reader.readInt();
+                        if (length >= 0) {
+                            values.set(nodeId, reader.readLongArray(length));
+                        }
+                    }
+                    return values.asNodeProperties();
+                }
+                case DOUBLE_ARRAY: {
+                    var values = HugeObjectArray.newArray(double[].class, nodeCount);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        int length = reader.readInt();
+                        if (length >= 0) {
+                            values.set(nodeId, reader.readDoubleArray(length));
+                        }
+                    }
+                    return values.asNodeProperties();
+                }
+                case FLOAT_ARRAY: {
+                    var values = HugeObjectArray.newArray(float[].class, nodeCount);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        int length = reader.readInt();
+                        if (length >= 0) {
+                            var doubles = reader.readDoubleArray(length);
+                            var floats = new float[length];
+                            for (int i = 0; i < length; i++) {
+                                floats[i] = (float) doubles[i];
+                            }
+                            values.set(nodeId, floats);
+                        }
+                    }
+                    return values.asNodeProperties();
+                }
+                default:
+                    throw new IllegalStateException(formatWithLocale(
+                        "Unexpected node property type %s in snapshot file `%s`.",
+                        valueType,
+                        fileName
+                    ));
+            }
+        }
+    }
+
+    private Relationships.Topology readTopology(String fileName) {
+        try (var reader = reader(fileName)) {
+            long elementCount = reader.readLong();
+            var orientation = Orientation.valueOf(reader.readString());
+            boolean isMultiGraph = reader.readInt() == 1;
+            var adjacencyList = readAdjacencyList(reader, fileName);
+            return ImmutableTopology.of(adjacencyList, elementCount, orientation, isMultiGraph);
+        }
+    }
+
+    private Relationships.Properties readRelationshipProperty(String fileName) {
+        try (var reader = reader(fileName)) {
+            long elementCount = reader.readLong();
+            var orientation = Orientation.valueOf(reader.readString());
+            boolean isMultiGraph = reader.readInt() == 1;
+            double defaultPropertyValue = reader.readDouble();
+            var propertiesList = (UncompressedAdjacencyList) readAdjacencyList(reader, fileName);
+            return ImmutableProperties.of(propertiesList, elementCount, orientation, isMultiGraph, defaultPropertyValue);
+        }
+    }
+
+    private AdjacencyList readAdjacencyList(BinarySnapshotReader reader, String fileName) {
+        int kind = reader.readInt();
+        var degrees = reader.readInts(reader.readLong());
+        var offsets = reader.readLongs(reader.readLong());
+        int pageCount = reader.readInt();
+        switch (kind) {
+            case COMPRESSED:
+                if (memoryMapped) {
+                    var pages = new ByteBuffer[pageCount];
+                    for (int i = 0; i < pageCount; i++) {
+                        pages[i] = reader.mapPage(verifyMappedPages);
+                    }
+                    return new OffHeapCompressedAdjacencyList(pages, degrees, offsets);
+                } else {
+                    var pages = new byte[pageCount][];
+                    for (int i = 0; i < pageCount; i++) {
+                        pages[i] = reader.readPage();
+                    }
+                    return new CompressedAdjacencyList(pages, degrees, offsets);
+                }
+            case BIT_PACKED: {
+                var pages = new byte[pageCount][];
+                for (int i = 0; i < pageCount; i++) {
+                    pages[i] = reader.readPage();
+                }
+                return new BitPackedAdjacencyList(pages, degrees, offsets);
+            }
+            case UNCOMPRESSED: {
+                var pages = new long[pageCount][];
+                for (int i = 0; i < pageCount; i++) {
+                    pages[i] = reader.readLongPage();
+                }
+                return new UncompressedAdjacencyList(pages, degrees, offsets);
+            }
+            default:
+                throw new IllegalStateException(formatWithLocale(
+                    "Unexpected adjacency list kind %d in snapshot file `%s`.",
+                    kind,
+                    fileName
+                ));
+        }
+    }
+
+    private BinarySnapshotReader reader(String fileName) {
+        return new BinarySnapshotReader(importPath.resolve(fileName), verifyChecksums);
+    }
+}
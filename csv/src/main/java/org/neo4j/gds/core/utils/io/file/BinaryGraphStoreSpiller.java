@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.GraphStoreSpiller;
+
+import java.nio.file.Path;
+
+/**
+ * Spills catalogued graph stores using the binary snapshot format.
+ */
+@ServiceProvider
+public final class BinaryGraphStoreSpiller implements GraphStoreSpiller {
+
+    @Override
+    public boolean canSpill(GraphStore graphStore) {
+        return graphStore instanceof CSRGraphStore;
+    }
+
+    @Override
+    public void spill(String username, GraphStore graphStore, Path location) {
+        new BinaryGraphStoreExporter(
+            (CSRGraphStore) graphStore,
+            username,
+            location,
+            ConcurrencyConfig.DEFAULT_CONCURRENCY
+        ).run();
+    }
+
+    @Override
+    public GraphStore reload(Path location) {
+        return new BinaryGraphStoreImporter(location, ConcurrencyConfig.DEFAULT_CONCURRENCY, false, true)
+            .run()
+            .graphStore();
+    }
+
+    @Override
+    public int priority() {
+        return 0;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import static org.neo4j.gds.core.utils.io.file.BinarySnapshotWriter.BLOCK_BYTES;
+import static org.neo4j.gds.core.utils.io.file.BinarySnapshotWriter.BLOCK_HEADER_BYTES;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads a file written by {@link BinarySnapshotWriter}.
+ * Values must be read with the same sequence of calls that was used to write them.
+ */
+final class BinarySnapshotReader implements AutoCloseable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final boolean verifyChecksums;
+    private final ByteBuffer header;
+    private final CRC32C checksum;
+    private final ByteBuffer blockBuffer;
+    private ByteBuffer block;
+
+    BinarySnapshotReader(Path file, boolean verifyChecksums) {
+        this.file = file;
+        this.verifyChecksums = verifyChecksums;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.header = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+        this.checksum = new CRC32C();
+        this.blockBuffer = ByteBuffer.allocateDirect(BLOCK_BYTES);
+        this.block = blockBuffer.flip();
+
+        var fileHeader = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+        readFully(fileHeader);
+        fileHeader.flip();
+        long magic = fileHeader.getLong();
+        int version = fileHeader.getInt();
+        if (magic != BinarySnapshotWriter.MAGIC || version != BinarySnapshotWriter.VERSION) {
+            throw new IllegalStateException(formatWithLocale(
+                "File `%s` is not a graph snapshot of version %d.",
+                file,
+                BinarySnapshotWriter.VERSION
+            ));
+        }
+    }
+
+    long readLong() {
+        return current(Long.BYTES).getLong();
+    }
+
+    int readInt() {
+        return current(Integer.BYTES).getInt();
+    }
+
+    double readDouble() {
+        return current(Double.BYTES).getDouble();
+    }
+
+    String readString() {
+        var buffer = current(Integer.BYTES);
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    HugeLongArray readLongs(long count) {
+        var values = HugeLongArray.newArray(count);
+        for (long index = 0; index < count; index++) {
+            values.set(index, current(Long.BYTES).getLong());
+        }
+        return values;
+    }
+
+    HugeIntArray readInts(long count) {
+        var values = HugeIntArray.newArray(count);
+        for (long index = 0; index < count; index++) {
+            values.set(index, current(Integer.BYTES).getInt());
+        }
+        return values;
+    }
+
+    HugeDoubleArray readDoubles(long count) {
+        var values = HugeDoubleArray.newArray(count);
+        for (long index = 0; index < count; index++) {
+            values.set(index, current(Double.BYTES).getDouble());
+        }
+        return values;
+    }
+
+    long[] readLongArray(int length) {
+        var values = new long[length];
+        for (int index = 0; index < length; index++) {
+            values[index] = current(Long.BYTES).getLong();
+        }
+        return values;
+    }
+
+    double[] readDoubleArray(int length) {
+        var values = new double[length];
+        for (int index = 0; index < length; index++) {
+            values[index] = current(Double.BYTES).getDouble();
+        }
+        return values;
+    }
+
+    long[] readLongPage() {
+        return readLongArray(readInt());
+    }
+
+    byte[] readPage() {
+        int length = readBlockHeader();
+        var page = new byte[length];
+        var buffer = ByteBuffer.wrap(page);
+        readFully(buffer);
+        verify(buffer.flip(), header.getLong(Integer.BYTES));
+        return page;
+    }
+
+    /**
+     * Maps the next page read-only instead of copying it onto the heap.
+     * Computing the checksum reads the whole page and thereby faults it into memory,
+     * so mapped pages are only verified if {@code verify} is set, in addition to {@code verifyChecksums}.
+     */
+    ByteBuffer mapPage(boolean verify) {
+        int length = readBlockHeader();
+        try {
+            var page = channel.map(FileChannel.MapMode.READ_ONLY, channel.position(), length);
+            channel.position(channel.position() + length);
+            if (verify) {
+                verify(page.duplicate(), header.getLong(Integer.BYTES));
+            }
+            return page;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the current block, reading the next one if the current block has less than {@code bytes} remaining.
+     */
+    private ByteBuffer current(int bytes) {
+        if (block.remaining() < bytes) {
+            if (block.hasRemaining()) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Unexpected block boundary in snapshot file `%s`.",
+                    file
+                ));
+            }
+            int length = readBlockHeader();
+            // only strings larger than a block are written as oversized blocks
+            block = length > blockBuffer.capacity()
+                ? ByteBuffer.allocate(length)
+                : blockBuffer.clear().limit(length);
+            readFully(block);
+            block.flip();
+            verify(block.duplicate(), header.getLong(Integer.BYTES));
+        }
+        return block;
+    }
+
+    private int readBlockHeader() {
+        if (block.hasRemaining()) {
+            throw new IllegalStateException(formatWithLocale(
+                "Unexpected page in snapshot file `%s`.",
+                file
+            ));
+        }
+        header.clear();
+        readFully(header);
+        return header.getInt(0);
+    }
+
+    private void verify(ByteBuffer payload, long expectedChecksum) {
+        if (!verifyChecksums) {
+            return;
+        }
+        checksum.reset();
+        checksum.update(payload);
+        if (checksum.getValue() != expectedChecksum) {
+            throw new IllegalStateException(formatWithLocale(
+                "Checksum mismatch in snapshot file `%s`, the file is corrupted.",
+                file
+            ));
+        }
+    }
+
+    private void readFully(ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IllegalStateException(formatWithLocale(
+                        "Unexpected end of snapshot file `%s`.",
+                        file
+                    ));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes a binary snapshot file as a sequence of checksummed blocks.
+ * Each block is framed by its payload length and the CRC32C of the payload.
+ * Values of a single write call are split into blocks of at most {@link #BLOCK_BYTES} bytes,
+ * a single value never spans two blocks. Strings that do not fit into a block are written as a block of their own.
+ */
+final class BinarySnapshotWriter implements AutoCloseable {
+
+    // "GDSSNAP1"
+    static final long MAGIC = 0x4744_5353_4E41_5031L;
+    static final int VERSION = 3;
+    static final int BLOCK_BYTES = 1 << 20;
+    static final int BLOCK_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+
+    private final FileChannel channel;
+    private final ByteBuffer header;
+    private final ByteBuffer block;
+    private final CRC32C checksum;
+
+    BinarySnapshotWriter(Path file) {
+        try {
+            this.channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.header = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+        this.block = ByteBuffer.allocateDirect(BLOCK_BYTES);
+        this.checksum = new CRC32C();
+
+        var fileHeader = ByteBuffer.allocate(Long.BYTES + Integer.BYTES).putLong(MAGIC).putInt(VERSION).flip();
+        writeFully(fileHeader);
+    }
+
+    void writeLong(long value) {
+        ensureCapacity(Long.BYTES).putLong(value);
+    }
+
+    void writeInt(int value) {
+        ensureCapacity(Integer.BYTES).putInt(value);
+    }
+
+    void writeDouble(double value) {
+        ensureCapacity(Double.BYTES).putDouble(value);
+    }
+
+    void writeString(String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        int size = Integer.BYTES + bytes.length;
+        if (size > BLOCK_BYTES) {
+            flushBlock();
+            writeBlock(ByteBuffer.allocate(size).putInt(bytes.length).put(bytes).flip());
+        } else {
+            ensureCapacity(size).putInt(bytes.length).put(bytes);
+        }
+    }
+
+    void writeLongs(long count, LongUnaryOperator values) {
+        for (long index = 0; index < count; index++) {
+            ensureCapacity(Long.BYTES).putLong(values.applyAsLong(index));
+        }
+    }
+
+    void writeInts(long count, LongToIntFunction values) {
+        for (long index = 0; index < count; index++) {
+            ensureCapacity(Integer.BYTES).putInt(values.applyAsInt(index));
+        }
+    }
+
+    void writeDoubles(long count, LongToDoubleFunction values) {
+        for (long index = 0; index < count; index++) {
+            ensureCapacity(Double.BYTES).putDouble(values.applyAsDouble(index));
+        }
+    }
+
+    /**
+     * Writes the page as a single block, so that readers can map it without copying.
+     */
+    void writePage(ByteBuffer page) {
+        flushBlock();
+        writeBlock(page.duplicate().clear());
+    }
+
+    void writePage(byte[] page) {
+        flushBlock();
+        writeBlock(ByteBuffer.wrap(page));
+    }
+
+    void writePage(long[] page) {
+        writeInt(page.length);
+        writeLongs(page.length, index -> page[(int) index]);
+    }
+
+    @Override
+    public void close() {
+        flushBlock();
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer ensureCapacity(int bytes) {
+        if (block.remaining() < bytes) {
+            flushBlock();
+        }
+        return block;
+    }
+
+    private void flushBlock() {
+        if (block.position() > 0) {
+            block.flip();
+            writeBlock(block);
+            block.clear();
+        }
+    }
+
+    private void writeBlock(ByteBuffer payload) {
+        checksum.reset();
+        checksum.update(payload.duplicate());
+        header.clear();
+        header.putInt(payload.remaining()).putLong(checksum.getValue()).flip();
+        writeFully(header);
+        writeFully(payload);
+    }
+
+    private void writeFully(ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -166,7 +166,7 @@ public final class CsvGraphStoreImporter {
             (index) -> new ElementImportRunner(nodeVisitorBuilder.build(), nodesIterator, progressTracker)
         );
 
-        ParallelUtil.run(tasks, Pools.DEFAULT);
+        ParallelUtil.run(tasks, Pools.io());
 
         var idMapAndProperties = nodesBuilder.build();
         graphStoreBuilder.nodes(idMapAndProperties.idMap());
@@ -200,7 +200,7 @@ public final class CsvGraphStoreImporter {
             (index) -> new ElementImportRunner(relationshipVisitorBuilder.build(), relationshipsIterator, progressTracker)
         );
 
-        ParallelUtil.run(tasks, Pools.DEFAULT);
+        ParallelUtil.run(tasks, Pools.io());
 
         var relationships = relationshipTopologyAndProperties(relationshipBuildersByType, relationshipSchema);
 
@@ -22,6 +22,7 @@ package org.neo4j.gds.core.utils.io.file;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.io.GraphStoreExporter;
@@ -156,6 +157,46 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
         return IdMappingType.ORIGINAL;
     }
 
+    static void visitNodeSchema(NodeSchema nodeSchema, NodeSchemaVisitor nodeSchemaVisitor) {
+        nodeSchema.properties().forEach((nodeLabel, properties) -> {
+            if (properties.isEmpty()) {
+                nodeSchemaVisitor.nodeLabel(nodeLabel);
+                nodeSchemaVisitor.endOfEntity();
+            } else {
+                properties.forEach((propertyKey, propertySchema) -> {
+                    nodeSchemaVisitor.nodeLabel(nodeLabel);
+                    nodeSchemaVisitor.key(propertyKey);
+                    nodeSchemaVisitor.defaultValue(propertySchema.defaultValue());
+                    nodeSchemaVisitor.valueType(propertySchema.valueType());
+                    nodeSchemaVisitor.state(propertySchema.state());
+                    nodeSchemaVisitor.endOfEntity();
+                });
+            }
+        });
+    }
+
+    static void visitRelationshipSchema(
+        RelationshipSchema relationshipSchema,
+        RelationshipSchemaVisitor relationshipSchemaVisitor
+    ) {
+        relationshipSchema.properties().forEach((relationshipType, properties) -> {
+            if (properties.isEmpty()) {
+                relationshipSchemaVisitor.relationshipType(relationshipType);
+                relationshipSchemaVisitor.endOfEntity();
+            } else {
+                properties.forEach((propertyKey, propertySchema) -> {
+                    relationshipSchemaVisitor.relationshipType(relationshipType);
+                    relationshipSchemaVisitor.key(propertyKey);
+                    relationshipSchemaVisitor.defaultValue(propertySchema.defaultValue());
+                    relationshipSchemaVisitor.valueType(propertySchema.valueType());
+                    relationshipSchemaVisitor.aggregation(propertySchema.aggregation());
+                    relationshipSchemaVisitor.state(propertySchema.state());
+                    relationshipSchemaVisitor.endOfEntity();
+                });
+            }
+        });
+    }
+
     private void exportNodes(GraphStoreInput graphStoreInput) {
         var nodeInput = graphStoreInput.nodes(Collector.EMPTY);
         var nodeInputIterator = nodeInput.iterator();
@@ -165,7 +206,7 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
             (index) -> new ElementImportRunner(nodeVisitorSupplier.apply(index), nodeInputIterator, ProgressTracker.NULL_TRACKER)
         );
 
-        ParallelUtil.runWithConcurrency(config.writeConcurrency(), tasks, Pools.DEFAULT);
+        ParallelUtil.runWithConcurrency(config.writeConcurrency(), tasks, Pools.io());
     }
 
     private void exportRelationships(GraphStoreInput graphStoreInput) {
@@ -177,7 +218,7 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
             (index) -> new ElementImportRunner(relationshipVisitorSupplier.apply(index), relationshipInputIterator, ProgressTracker.NULL_TRACKER)
         );
 
-        ParallelUtil.runWithConcurrency(config.writeConcurrency(), tasks, Pools.DEFAULT);
+        ParallelUtil.runWithConcurrency(config.writeConcurrency(), tasks, Pools.io());
     }
 
     private static final class FullGraphStoreToFileExporter extends GraphStoreToFileExporter {
@@ -227,45 +268,14 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
         }
 
         private void exportNodeSchema(GraphStoreInput graphStoreInput) {
-            var nodeSchema = graphStoreInput.metaDataStore().nodeSchema();
             try (var nodeSchemaVisitor = nodeSchemaVisitorSupplier.get()) {
-                nodeSchema.properties().forEach((nodeLabel, properties) -> {
-                    if (properties.isEmpty()) {
-                        nodeSchemaVisitor.nodeLabel(nodeLabel);
-                        nodeSchemaVisitor.endOfEntity();
-                    } else {
-                        properties.forEach((propertyKey, propertySchema) -> {
-                            nodeSchemaVisitor.nodeLabel(nodeLabel);
-                            nodeSchemaVisitor.key(propertyKey);
-                            nodeSchemaVisitor.defaultValue(propertySchema.defaultValue());
-                            nodeSchemaVisitor.valueType(propertySchema.valueType());
-                            nodeSchemaVisitor.state(propertySchema.state());
-                            nodeSchemaVisitor.endOfEntity();
-                        });
-                    }
-                });
+                visitNodeSchema(graphStoreInput.metaDataStore().nodeSchema(), nodeSchemaVisitor);
             }
         }
 
         private void exportRelationshipSchema(GraphStoreInput graphStoreInput) {
-            var relationshipSchema = graphStoreInput.metaDataStore().relationshipSchema();
             try (var relationshipSchemaVisitor = relationshipSchemaVisitorSupplier.get()) {
-                relationshipSchema.properties().forEach((relationshipType, properties) -> {
-                    if (properties.isEmpty()) {
-                        relationshipSchemaVisitor.relationshipType(relationshipType);
-                        relationshipSchemaVisitor.endOfEntity();
-                    } else {
-                        properties.forEach((propertyKey, propertySchema) -> {
-                            relationshipSchemaVisitor.relationshipType(relationshipType);
-                            relationshipSchemaVisitor.key(propertyKey);
-                            relationshipSchemaVisitor.defaultValue(propertySchema.defaultValue());
-                            relationshipSchemaVisitor.valueType(propertySchema.valueType());
-                            relationshipSchemaVisitor.aggregation(propertySchema.aggregation());
-                            relationshipSchemaVisitor.state(propertySchema.state());
-                            relationshipSchemaVisitor.endOfEntity();
-                        });
-                    }
-                });
+                visitRelationshipSchema(graphStoreInput.metaDataStore().relationshipSchema(), relationshipSchemaVisitor);
             }
         }
     }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.huge.DeltaAdjacencyList;
+import org.neo4j.gds.core.huge.OffHeapCompressedAdjacencyList;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.RelationshipDelta;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class BinaryGraphStoreImporterTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42, prop3: [1L, 3L, 3L, 7L]})" +
+        ", (b:A:B { prop1: 1, prop2: 43})" +
+        ", (c:A:C { prop1: 2, prop2: 44, prop3: [1L, 9L, 8L, 4L] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 3, prop4: 45 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 4, prop4: 46 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 5, prop4: 47 }]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @Inject
+    Graph graph;
+
+    @TempDir
+    Path graphLocation;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldRestoreGraphStore(boolean memoryMapped) {
+        new BinaryGraphStoreExporter((CSRGraphStore) graphStore, "alice", graphLocation, 4).run();
+
+        var userGraphStore = new BinaryGraphStoreImporter(graphLocation, 4, memoryMapped, true).run();
+
+        assertThat(userGraphStore.userName()).isEqualTo("alice");
+        var importedGraphStore = userGraphStore.graphStore();
+        assertThat(importedGraphStore.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThat(importedGraphStore.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertGraphEquals(graph, importedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldMapCompressedPages() {
+        new BinaryGraphStoreExporter((CSRGraphStore) graphStore, "alice", graphLocation, 1).run();
+
+        var importedGraphStore = (CSRGraphStore) new BinaryGraphStoreImporter(graphLocation, 1, true, false)
+            .run()
+            .graphStore();
+
+        assertThat(importedGraphStore.relationshipTopology(RelationshipType.of("REL1")).adjacencyList())
+            .isInstanceOf(OffHeapCompressedAdjacencyList.class);
+    }
+
+    @Test
+    void shouldRebuildInverseIndex() {
+        var csrGraphStore = (CSRGraphStore) graphStore;
+        csrGraphStore.indexInverse(RelationshipType.of("REL1"));
+        new BinaryGraphStoreExporter(csrGraphStore, "alice", graphLocation, 1).run();
+
+        var importedGraphStore = (CSRGraphStore) new BinaryGraphStoreImporter(graphLocation, 1, false, true)
+            .run()
+            .graphStore();
+
+        assertThat(importedGraphStore.hasInverseIndex(RelationshipType.of("REL1"))).isTrue();
+        assertThat(importedGraphStore.hasInverseIndex(RelationshipType.of("REL2"))).isFalse();
+        var importedGraph = importedGraphStore.getGraph(RelationshipType.of("REL1"));
+        assertThat(importedGraph.inverseDegree(importedGraph.toMappedNodeId(graph.toOriginalNodeId(0)))).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWriteDeltasWithoutCompactingTheGraphStore() {
+        var csrGraphStore = (CSRGraphStore) graphStore;
+        var rel1 = RelationshipType.of("REL1");
+        csrGraphStore.applyRelationshipDelta(rel1, RelationshipDelta.create("prop1", "prop2")
+            .add(graph.toOriginalNodeId(2), graph.toOriginalNodeId(3), 5, 48)
+            .remove(graph.toOriginalNodeId(0), graph.toOriginalNodeId(1))
+        );
+
+        new BinaryGraphStoreExporter(csrGraphStore, "alice", graphLocation, 1).run();
+
+        assertThat(csrGraphStore.relationshipTopology(rel1).adjacencyList()).isInstanceOf(DeltaAdjacencyList.class);
+        var importedGraphStore = new BinaryGraphStoreImporter(graphLocation, 1, false, true).run().graphStore();
+        assertGraphEquals(
+            csrGraphStore.getGraph(rel1, Optional.of("prop2")),
+            importedGraphStore.getGraph(rel1, Optional.of("prop2"))
+        );
+    }
+
+    @Test
+    void shouldRestoreNodePropertyMetadata() {
+        var metadata = Map.<String, Object>of(
+            "landmarks", List.of(1L, 3L),
+            "relationshipTypes", List.of("REL1"),
+            "orientation", "NATURAL",
+            "distancesToLandmarks", true
+        );
+        graphStore.putNodePropertyMetadata("prop3", metadata);
+        new BinaryGraphStoreExporter((CSRGraphStore) graphStore, "alice", graphLocation, 1).run();
+
+        var importedGraphStore = new BinaryGraphStoreImporter(graphLocation, 1, false, true).run().graphStore();
+
+        assertThat(importedGraphStore.nodePropertyMetadata("prop3")).containsExactlyInAnyOrderEntriesOf(metadata);
+        assertThat(importedGraphStore.nodePropertyMetadata("prop1")).isEmpty();
+    }
+
+    @Test
+    void shouldWriteStringsLargerThanABlock() {
+        var file = graphLocation.resolve("strings.bin");
+        var largeString = "a".repeat(BinarySnapshotWriter.BLOCK_BYTES + 1);
+        try (var writer = new BinarySnapshotWriter(file)) {
+            writer.writeInt(42);
+            writer.writeString(largeString);
+            writer.writeString("small");
+        }
+
+        try (var reader = new BinarySnapshotReader(file, true)) {
+            assertThat(reader.readInt()).isEqualTo(42);
+            assertThat(reader.readString()).isEqualTo(largeString);
+            assertThat(reader.readString()).isEqualTo("small");
+        }
+    }
+
+    @Test
+    void shouldDetectCorruptedFiles() throws IOException {
+        new BinaryGraphStoreExporter((CSRGraphStore) graphStore, "alice", graphLocation, 1).run();
+
+        try (var file = new RandomAccessFile(graphLocation.resolve(BinaryGraphStoreExporter.NODES_FILE_NAME).toFile(), "rw")) {
+            long position = file.length() - 1;
+            file.seek(position);
+            int lastByte = file.read();
+            file.seek(position);
+            file.write(lastByte ^ 0xFF);
+        }
+
+        assertThatThrownBy(() -> new BinaryGraphStoreImporter(graphLocation, 1, false, true).run())
+            .hasMessageContaining("Checksum mismatch");
+    }
+}
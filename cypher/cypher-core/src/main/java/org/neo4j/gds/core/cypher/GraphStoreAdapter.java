@@ -39,6 +39,7 @@ import org.neo4j.values.storable.NumberType;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -147,6 +148,16 @@ public abstract class GraphStoreAdapter implements GraphStoreWrapper {
         graphStore.removeNodeProperty(propertyKey);
     }
 
+    @Override
+    public Map<String, Object> nodePropertyMetadata(String propertyKey) {
+        return graphStore.nodePropertyMetadata(propertyKey);
+    }
+
+    @Override
+    public void putNodePropertyMetadata(String propertyKey, Map<String, Object> metadata) {
+        graphStore.putNodePropertyMetadata(propertyKey, metadata);
+    }
+
     @Override
     public long relationshipCount() {
         return graphStore.relationshipCount();
@@ -26,6 +26,13 @@ import org.neo4j.gds.concurrency.PoolSizesProvider;
 import org.neo4j.gds.concurrency.PoolSizesService;
 import org.neo4j.gds.core.IdMapBehaviorFactory;
 import org.neo4j.gds.core.IdMapBehaviorServiceProvider;
+import org.neo4j.gds.core.concurrency.ComputeScheduler;
+import org.neo4j.gds.core.concurrency.ExecutorSettings;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.CatalogMemoryBudget;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.GraphStoreCatalogSettings;
+import org.neo4j.gds.core.loading.GraphStoreSpiller;
 import org.neo4j.gds.core.model.ModelCatalog;
 import org.neo4j.gds.core.model.ModelCatalogProvider;
 import org.neo4j.gds.transaction.SecurityContextWrapperFactory;
@@ -34,6 +41,7 @@ import org.neo4j.kernel.extension.context.ExtensionContext;
 import org.neo4j.kernel.lifecycle.LifecycleAdapter;
 
 import static org.neo4j.gds.utils.PriorityServiceLoader.loadService;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class EditionLifecycleAdapter extends LifecycleAdapter {
 
@@ -60,6 +68,8 @@ public class EditionLifecycleAdapter extends LifecycleAdapter {
         setupIdMapBehavior(licenseState);
         setupConcurrencyValidator(licenseState);
         setupPoolSizes(licenseState);
+        setupComputeScheduler();
+        setupGraphStoreCatalog();
         setupModelCatalog(licenseState);
     }
 
@@ -120,6 +130,38 @@ public class EditionLifecycleAdapter extends LifecycleAdapter {
         );
 
         PoolSizesService.poolSizes(poolSizesProvider.get(licenseState));
+        Pools.ioBackend(config.get(ExecutorSettings.executor_backend));
+    }
+
+    private void setupComputeScheduler() {
+        if (config.get(ExecutorSettings.compute_scheduler_enabled)) {
+            var slots = config.get(ExecutorSettings.compute_slots);
+            ComputeScheduler.instance(ComputeScheduler.create(
+                slots > 0 ? slots : Runtime.getRuntime().availableProcessors(),
+                config.get(ExecutorSettings.compute_slots_per_user)
+            ));
+        }
+    }
+
+    private void setupGraphStoreCatalog() {
+        long memoryBudget = config.get(GraphStoreCatalogSettings.catalog_memory_budget);
+        if (memoryBudget > 0) {
+            var spillLocation = config.get(GraphStoreCatalogSettings.catalog_spill_location);
+            if (spillLocation == null) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The configuration option '%s' must be set when '%s' is set.",
+                    GraphStoreCatalogSettings.catalog_spill_location.name(),
+                    GraphStoreCatalogSettings.catalog_memory_budget.name()
+                ));
+            }
+            var spiller = loadService(GraphStoreSpiller.class, GraphStoreSpiller::priority);
+            GraphStoreCatalog.memoryBudget(CatalogMemoryBudget.of(
+                memoryBudget,
+                spillLocation,
+                config.get(GraphStoreCatalogSettings.catalog_eviction_policy),
+                spiller
+            ));
+        }
     }
 
     private void setupModelCatalog(LicenseState licenseState) {
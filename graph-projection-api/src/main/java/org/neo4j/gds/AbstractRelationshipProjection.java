@@ -50,6 +50,15 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         return Aggregation.DEFAULT;
     }
 
+    /**
+     * Whether an index of the incoming relationships is built next to the projected ones.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    public boolean indexInverse() {
+        return false;
+    }
+
     @Value.Default
     @Value.Parameter(false)
     @Override
@@ -65,6 +74,7 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
     public static final String TYPE_KEY = "type";
     public static final String ORIENTATION_KEY = "orientation";
     public static final String AGGREGATION_KEY = "aggregation";
+    public static final String INDEX_INVERSE_KEY = "indexInverse";
 
     public static RelationshipProjection fromMap(Map<String, Object> map, RelationshipType relationshipType) {
         RelationshipProjection.Builder builder = RelationshipProjection.builder();
@@ -76,6 +86,9 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         if (map.containsKey(ORIENTATION_KEY)) {
             builder.orientation(Orientation.parse(nonEmptyString(map, ORIENTATION_KEY)));
         }
+        if (map.containsKey(INDEX_INVERSE_KEY)) {
+            builder.indexInverse(booleanValue(map, INDEX_INVERSE_KEY));
+        }
         if (map.containsKey(AGGREGATION_KEY)) {
             Aggregation aggregation = Aggregation.parse(nonEmptyString(map, AGGREGATION_KEY));
             builder.aggregation(aggregation);
@@ -131,6 +144,9 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         value.put(TYPE_KEY, type());
         value.put(ORIENTATION_KEY, orientation().name());
         value.put(AGGREGATION_KEY, aggregation().name());
+        if (indexInverse()) {
+            value.put(INDEX_INVERSE_KEY, true);
+        }
     }
 
     @Override
@@ -167,7 +183,7 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
     }
 
     private static void validateConfigKeys(Map<String, Object> map) {
-        ConfigKeyValidation.requireOnlyKeysFrom(List.of(TYPE_KEY, ORIENTATION_KEY, AGGREGATION_KEY, PROPERTIES_KEY), map.keySet());
+        ConfigKeyValidation.requireOnlyKeysFrom(List.of(TYPE_KEY, ORIENTATION_KEY, AGGREGATION_KEY, INDEX_INVERSE_KEY, PROPERTIES_KEY), map.keySet());
     }
 
     @org.immutables.builder.Builder.AccessibleFields
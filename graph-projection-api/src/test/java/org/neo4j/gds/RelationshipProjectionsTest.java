@@ -168,6 +168,23 @@ class RelationshipProjectionsTest {
         );
     }
 
+    @Test
+    void shouldParseIndexInverse() {
+        Map<String, Object> projection = Map.of(
+            "MY_TYPE", Map.of(
+                "type", "T",
+                "indexInverse", true
+            )
+        );
+
+        RelationshipProjections actual = RelationshipProjections.fromObject(projection);
+        RelationshipProjection relationshipProjection = actual.getFilter(RelationshipType.of("MY_TYPE"));
+
+        assertThat(relationshipProjection.indexInverse(), equalTo(true));
+        assertThat(relationshipProjection.toObject().get("indexInverse"), equalTo((Object) true));
+        assertThat(RelationshipProjection.fromString("T").toObject().containsKey("indexInverse"), equalTo(false));
+    }
+
     @Test
     void shouldFailOnUnsupportedType() {
         IllegalArgumentException ex = assertThrows(
@@ -104,9 +104,15 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.scc.write",
         "gds.alpha.scc.stream",
 
+        "gds.alpha.scheduler.allocations",
+        "gds.alpha.scheduler.configureUser",
+
         "gds.alpha.scaleProperties.mutate",
         "gds.alpha.scaleProperties.stream",
 
+        "gds.alpha.shortestPath.landmarks.mutate",
+        "gds.alpha.shortestPath.landmarks.mutate.estimate",
+
         "gds.alpha.sllpa.mutate",
         "gds.alpha.sllpa.mutate.estimate",
         "gds.alpha.sllpa.stats",
@@ -431,7 +437,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 293;
+        int expectedCount = 297;
         assertEquals(
             expectedCount,
             registeredProcedures.size(),
@@ -19,20 +19,37 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterator> {
 
     private final PrimitiveAsyncDoubleQueues queues;
+    private final int messageDimension;
 
     AsyncQueueMessenger(long nodeCount) {
-        this.queues = PrimitiveAsyncDoubleQueues.of(nodeCount);
+        this(nodeCount, 0);
+    }
+
+    /**
+     * Creates a messenger for double array messages with the given
+     * dimension or, if the dimension is {@code 0}, for double messages.
+     */
+    AsyncQueueMessenger(long nodeCount, int messageDimension) {
+        this.queues = PrimitiveAsyncDoubleQueues.of(nodeCount, messageDimension);
+        this.messageDimension = messageDimension;
     }
 
     static MemoryEstimation memoryEstimation() {
         return PrimitiveAsyncDoubleQueues.memoryEstimation();
     }
 
+    static MemoryEstimation memoryEstimation(int messageDimension) {
+        return PrimitiveAsyncDoubleQueues.memoryEstimation(messageDimension);
+    }
+
     @Override
     public void initIteration(int iteration) {
         if (iteration > 0) {
@@ -43,12 +60,26 @@ class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterat
     @Override
     public void sendTo(long targetNodeId, double message) {
         assert !Double.isNaN(message);
+        checkScalarMessages();
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        checkArrayMessage(message);
+        // only the first entry marks the message as written
+        assert !Double.isNaN(message[0]);
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public ValueType messageType() {
+        return messageDimension > 0 ? ValueType.DOUBLE_ARRAY : ValueType.DOUBLE;
+    }
+
     @Override
     public PrimitiveAsyncDoubleQueues.Iterator messageIterator() {
-        return new PrimitiveAsyncDoubleQueues.Iterator(queues);
+        return new PrimitiveAsyncDoubleQueues.Iterator(queues, Math.max(messageDimension, 1));
     }
 
     @Override
@@ -65,4 +96,23 @@ class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterat
         queues.release();
     }
 
+    private void checkScalarMessages() {
+        if (messageDimension > 0) {
+            throw new UnsupportedOperationException("Messages of type double array must be sent as arrays.");
+        }
+    }
+
+    private void checkArrayMessage(double[] message) {
+        if (messageDimension == 0) {
+            throw new UnsupportedOperationException("Messages of type double must be sent as scalar values.");
+        }
+        if (message.length != messageDimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a message of dimension %d, but got %d.",
+                messageDimension,
+                message.length
+            ));
+        }
+    }
+
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.AutoCloseableThreadLocal;
+
+import java.util.stream.IntStream;
+
+/**
+ * A {@link ReducingMessenger} that combines messages in thread-local
+ * buffers instead of reducing every message into the shared send array.
+ * <p>
+ * Each thread keeps one sparse buffer per block of target node ids.
+ * Messages to the same target are reduced inside the buffer. At the
+ * beginning of the next superstep, the blocks are flushed in parallel.
+ * Every block is flushed by exactly one thread, so the buffered values
+ * can be written to the send array without compare-and-swap.
+ * <p>
+ * This avoids contention on high in-degree nodes, for which every message
+ * would otherwise compete for the same entry in the send array.
+ */
+final class CombiningMessenger extends ReducingMessenger {
+
+    private static final int MIN_BLOCK_SIZE = 4096;
+    private static final int BLOCKS_PER_THREAD = 8;
+
+    private final PregelConfig config;
+    private final Reducer reducer;
+    private final int blockShift;
+    private final int blockCount;
+    private final AutoCloseableThreadLocal<Buffer> buffers;
+
+    CombiningMessenger(Graph graph, PregelConfig config, Reducer reducer) {
+        super(graph, config, reducer);
+        this.config = config;
+        this.reducer = reducer;
+
+        var blockSize = Math.max(
+            MIN_BLOCK_SIZE,
+            BitUtil.nextHighestPowerOfTwo(BitUtil.ceilDiv(
+                graph.nodeCount(),
+                (long) config.concurrency() * BLOCKS_PER_THREAD
+            ))
+        );
+        this.blockShift = Long.numberOfTrailingZeros(blockSize);
+        this.blockCount = (int) BitUtil.ceilDiv(graph.nodeCount(), blockSize);
+        this.buffers = AutoCloseableThreadLocal.withInitial(() -> new Buffer(blockCount));
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(CombiningMessenger.class)
+            .add("message arrays", ReducingMessenger.memoryEstimation())
+            .perGraphDimension("combining buffers", (dimensions, concurrency) -> {
+                // every thread buffers at most one entry per target node
+                // and all threads together at most one entry per message
+                var maxEntries = Math.min(
+                    dimensions.relCountUpperBound(),
+                    dimensions.nodeCount() * concurrency
+                );
+                return MemoryRange.of(
+                    concurrency * MemoryUsage.sizeOfInstance(Buffer.class),
+                    concurrency * MemoryUsage.sizeOfInstance(Buffer.class) +
+                    MemoryUsage.sizeOfLongDoubleHashMap(Math.min(maxEntries, Integer.MAX_VALUE))
+                );
+            })
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        var sendArray = sendArray();
+        ParallelUtil.parallelStreamConsume(
+            IntStream.range(0, blockCount),
+            config.concurrency(),
+            blocks -> blocks.forEach(block -> flush(block, sendArray))
+        );
+        super.initIteration(iteration);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        buffers.get().add(targetNodeId, message);
+    }
+
+    @Override
+    public void release() {
+        buffers.close();
+        super.release();
+    }
+
+    private void flush(int block, HugeAtomicDoubleArray sendArray) {
+        buffers.forEach(buffer -> {
+            var messages = buffer.blocks[block];
+            if (messages == null || messages.isEmpty()) {
+                return;
+            }
+            for (LongDoubleCursor cursor : messages) {
+                var current = sendArray.get(cursor.key);
+                sendArray.set(cursor.key, reducer.combine(current, cursor.value));
+            }
+            messages.clear();
+        });
+    }
+
+    private final class Buffer implements AutoCloseable {
+
+        private final LongDoubleHashMap[] blocks;
+
+        Buffer(int blockCount) {
+            this.blocks = new LongDoubleHashMap[blockCount];
+        }
+
+        void add(long targetNodeId, double message) {
+            var block = (int) (targetNodeId >>> blockShift);
+            var messages = blocks[block];
+            if (messages == null) {
+                messages = new LongDoubleHashMap();
+                blocks[block] = messages;
+            }
+            var index = messages.indexOf(targetNodeId);
+            if (messages.indexExists(index)) {
+                messages.indexReplace(index, reducer.reduce(messages.indexGet(index), message));
+            } else {
+                messages.indexInsert(index, targetNodeId, reducer.reduce(reducer.identity(), message));
+            }
+        }
+
+        @Override
+        public void close() {
+            for (LongDoubleHashMap messages : blocks) {
+                if (messages != null) {
+                    messages.release();
+                }
+            }
+        }
+    }
+}
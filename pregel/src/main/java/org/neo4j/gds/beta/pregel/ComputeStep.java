@@ -35,6 +35,8 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     HugeAtomicBitSet voteBits();
 
+    Frontier frontier();
+
     PregelComputation<CONFIG> computation();
 
     NodeValue nodeValue();
@@ -73,6 +75,15 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     void sendTo(long targetNodeId, double message);
 
+    void sendTo(long targetNodeId, long message);
+
+    void sendTo(long targetNodeId, double[] message);
+
+    /**
+     * Publishes the message for all neighbours of the source node, see {@link Messenger#publish(long, double)}.
+     */
+    boolean publish(long sourceNodeId, double message);
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
@@ -83,8 +94,9 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var frontier = frontier();
 
-        nodeBatch.consume(nodeId -> {
+        LongConsumer computeNode = nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 computation.init(initContext);
@@ -96,12 +108,29 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computation.compute(computeContext, messages);
+                if (!voteBits.get(nodeId)) {
+                    frontier.activate(nodeId);
+                }
             }
-        });
+        };
+
+        if (frontier.isSparse()) {
+            long endNode = nodeBatch.startNode() + nodeBatch.nodeCount();
+            long nodeId = frontier.nextActiveNode(nodeBatch.startNode());
+            while (nodeId != -1 && nodeId < endNode) {
+                computeNode.accept(nodeId);
+                nodeId = frontier.nextActiveNode(nodeId + 1);
+            }
+        } else {
+            nodeBatch.consume(computeNode);
+        }
         progressTracker().logProgress(nodeBatch.nodeCount());
     }
 
     default void sendToNeighbors(long sourceNodeId, double message) {
+        if (messenger().isPullBased() && publish(sourceNodeId, message)) {
+            return;
+        }
         graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             sendTo(targetNodeId, message);
             return true;
@@ -109,12 +138,30 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
     }
 
     default void sendToNeighborsWeighted(long sourceNodeId, double message) {
+        // the receivers apply the relationship weight when gathering
+        if (messenger().isPullBased() && publish(sourceNodeId, message)) {
+            return;
+        }
         graph().forEachRelationship(sourceNodeId, 1.0, (ignored, targetNodeId, weight) -> {
             sendTo(targetNodeId, computation().applyRelationshipWeight(message, weight));
             return true;
         });
     }
 
+    default void sendLongToNeighbors(long sourceNodeId, long message) {
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendTo(targetNodeId, message);
+            return true;
+        });
+    }
+
+    default void sendToNeighbors(long sourceNodeId, double[] message) {
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendTo(targetNodeId, message);
+            return true;
+        });
+    }
+
     default void forEachNeighbor(long sourceNodeId, LongConsumer targetConsumer) {
         graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             targetConsumer.accept(targetNodeId);
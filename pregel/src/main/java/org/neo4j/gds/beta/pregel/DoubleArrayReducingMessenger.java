@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The double array message counterpart of the {@link ReducingMessenger}.
+ * Incoming messages are reduced element-wise, i.e. the i-th entry of the
+ * received message is the reduction of the i-th entries of all messages.
+ * The messages of all nodes are stored back to back in a single array.
+ */
+class DoubleArrayReducingMessenger implements Messenger<DoubleArrayReducingMessenger.SingleArrayMessageIterator> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final Reducer reducer;
+    private final int dimension;
+
+    private HugeAtomicDoubleArray sendArray;
+    private HugeAtomicDoubleArray receiveArray;
+
+    DoubleArrayReducingMessenger(Graph graph, PregelConfig config, Reducer reducer, int dimension) {
+        assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
+
+        this.graph = graph;
+        this.config = config;
+        this.reducer = reducer;
+        this.dimension = dimension;
+
+        this.receiveArray = HugeAtomicDoubleArray.newArray(graph.nodeCount() * dimension);
+        this.sendArray = HugeAtomicDoubleArray.newArray(graph.nodeCount() * dimension);
+    }
+
+    static MemoryEstimation memoryEstimation(int dimension) {
+        return MemoryEstimations.builder(DoubleArrayReducingMessenger.class)
+            .perNode("send array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * dimension))
+            .perNode("receive array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * dimension))
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        ParallelUtil.parallelForEachNode(
+            graph,
+            config.concurrency(),
+            nodeId -> {
+                var offset = nodeId * dimension;
+                for (int i = 0; i < dimension; i++) {
+                    sendArray.set(offset + i, reducer.identity());
+                }
+            }
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException("Messages of type double array must be sent as arrays.");
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        if (message.length != dimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a message of dimension %d, but got %d.",
+                dimension,
+                message.length
+            ));
+        }
+        var offset = targetNodeId * dimension;
+        for (int i = 0; i < dimension; i++) {
+            var entry = message[i];
+            sendArray.update(offset + i, current -> reducer.reduce(current, entry));
+        }
+    }
+
+    @Override
+    public ValueType messageType() {
+        return ValueType.DOUBLE_ARRAY;
+    }
+
+    @Override
+    public SingleArrayMessageIterator messageIterator() {
+        return new SingleArrayMessageIterator(dimension);
+    }
+
+    @Override
+    public void initMessageIterator(
+        SingleArrayMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        var message = messageIterator.message;
+        var offset = nodeId * dimension;
+        var hasNext = false;
+        for (int i = 0; i < dimension; i++) {
+            message[i] = receiveArray.getAndReplace(offset + i, reducer.identity());
+            hasNext |= message[i] != reducer.identity();
+        }
+        messageIterator.hasNext = hasNext;
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+
+    static class SingleArrayMessageIterator implements Messages.MessageIterator {
+
+        final double[] message;
+        boolean hasNext;
+
+        SingleArrayMessageIterator(int dimension) {
+            this.message = new double[dimension];
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasNext;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public double[] nextDoubleArray() {
+            hasNext = false;
+            return message;
+        }
+
+        @Override
+        public double nextDouble() {
+            throw new UnsupportedOperationException("Messages can not be read as double values, use the double array iterator instead.");
+        }
+    }
+}
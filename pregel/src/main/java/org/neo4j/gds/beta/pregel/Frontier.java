@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+
+/**
+ * Tracks the nodes that need to be computed in the next superstep.
+ * A node is active if it has been sent a message or did not vote to halt.
+ * <p>
+ * If only a small fraction of the nodes is active, the compute steps iterate
+ * the active nodes instead of scanning their whole partition.
+ * The frontier is a superset of the nodes that are computed, compute steps
+ * still check for messages and vote bits before calling the computation.
+ */
+final class Frontier {
+
+    /**
+     * Below this fraction of active nodes, iterating the set bits is cheaper than scanning all nodes.
+     */
+    static final double SPARSE_THRESHOLD = 0.05;
+
+    private final long nodeCount;
+
+    private @Nullable HugeAtomicBitSet current;
+    private @Nullable HugeAtomicBitSet next;
+    private boolean isSparse;
+
+    static Frontier of(long nodeCount) {
+        return new Frontier(nodeCount, HugeAtomicBitSet.create(nodeCount), HugeAtomicBitSet.create(nodeCount));
+    }
+
+    /**
+     * A frontier that never becomes sparse, e.g. if message receivers cannot be tracked on the sending side.
+     */
+    static Frontier dense(long nodeCount) {
+        return new Frontier(nodeCount, null, null);
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Frontier.class)
+            .perNode("current", HugeAtomicBitSet::memoryEstimation)
+            .perNode("next", HugeAtomicBitSet::memoryEstimation)
+            .build();
+    }
+
+    private Frontier(long nodeCount, @Nullable HugeAtomicBitSet current, @Nullable HugeAtomicBitSet next) {
+        this.nodeCount = nodeCount;
+        this.current = current;
+        this.next = next;
+    }
+
+    /**
+     * Makes the nodes that were activated in the previous superstep the frontier of the given one.
+     * Not thread-safe, must be called before the compute steps of the superstep are run.
+     */
+    void initIteration(int iteration) {
+        if (next == null) {
+            return;
+        }
+        var tmp = current;
+        this.current = next;
+        this.next = tmp;
+        next.clear();
+
+        // the initial superstep computes every node
+        this.isSparse = iteration > 0 && current.cardinality() < nodeCount * SPARSE_THRESHOLD;
+    }
+
+    void activate(long nodeId) {
+        if (next != null) {
+            next.set(nodeId);
+        }
+    }
+
+    boolean isSparse() {
+        return isSparse;
+    }
+
+    /**
+     * Returns the first active node that is greater than or equal to the given node, or {@code -1}.
+     * Must only be called if the frontier {@link #isSparse() is sparse}.
+     */
+    long nextActiveNode(long nodeId) {
+        assert isSparse && current != null;
+        return current.nextSetBit(nodeId);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+
+/**
+ * A messenger implementation that lets the receivers pull their messages.
+ * A node that sends a message to all of its neighbours publishes it once in its own slot.
+ * In the next superstep, every node reads the published messages of its incoming neighbours
+ * and reduces them locally, so no two threads write to the same slot and no atomics are required.
+ * The reduction follows the order of the incoming relationships and is therefore deterministic.
+ * <p>
+ * Messages that are sent to a specific node, or a second message to all neighbours within one
+ * superstep, are pushed and reduced atomically as in {@link ReducingMessenger}.
+ */
+public class GatheringMessenger implements Messenger<GatheringMessenger.GatheringMessageIterator> {
+
+    private static final double NOT_PUBLISHED = Double.NaN;
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final PregelComputation<?> computation;
+    private final Reducer reducer;
+    private final ReducingMessenger pushedMessages;
+
+    private HugeDoubleArray publishArray;
+    private HugeDoubleArray gatherArray;
+
+    GatheringMessenger(Graph graph, PregelConfig config, PregelComputation<?> computation, Reducer reducer) {
+        assert graph.hasInverseIndex(): "gathering messages requires incoming relationships";
+
+        this.graph = graph;
+        this.config = config;
+        this.computation = computation;
+        this.reducer = reducer;
+        this.pushedMessages = new ReducingMessenger(graph, config, reducer);
+
+        this.publishArray = HugeDoubleArray.newArray(graph.nodeCount());
+        this.gatherArray = HugeDoubleArray.newArray(graph.nodeCount());
+        this.publishArray.fill(NOT_PUBLISHED);
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(GatheringMessenger.class)
+            .perNode("publish array", HugeDoubleArray::memoryEstimation)
+            .perNode("gather array", HugeDoubleArray::memoryEstimation)
+            .add("pushed messages", ReducingMessenger.memoryEstimation())
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        pushedMessages.initIteration(iteration);
+
+        var tmp = gatherArray;
+        this.gatherArray = publishArray;
+        this.publishArray = tmp;
+
+        ParallelUtil.parallelForEachNode(
+            graph,
+            config.concurrency(),
+            nodeId -> publishArray.set(nodeId, NOT_PUBLISHED)
+        );
+    }
+
+    @Override
+    public boolean isPullBased() {
+        return true;
+    }
+
+    @Override
+    public boolean publish(long sourceNodeId, double message) {
+        // a node owns its slot, but can only publish a single message per superstep
+        if (Double.isNaN(message) || !Double.isNaN(publishArray.get(sourceNodeId))) {
+            return false;
+        }
+        publishArray.set(sourceNodeId, message);
+        return true;
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        pushedMessages.sendTo(targetNodeId, message);
+    }
+
+    @Override
+    public GatheringMessageIterator messageIterator() {
+        return new GatheringMessageIterator(graph.concurrentCopy());
+    }
+
+    @Override
+    public void initMessageIterator(
+        GatheringMessageIterator messageIterator,
+        long nodeId,
+        boolean isFirstIteration
+    ) {
+        pushedMessages.initMessageIterator(messageIterator, nodeId, isFirstIteration);
+        if (!isFirstIteration) {
+            messageIterator.gather(nodeId);
+        }
+    }
+
+    @Override
+    public void release() {
+        pushedMessages.release();
+        publishArray.release();
+        gatherArray.release();
+    }
+
+    final class GatheringMessageIterator extends ReducingMessenger.SingleMessageIterator
+        implements RelationshipConsumer, RelationshipWithPropertyConsumer {
+
+        private final Graph graph;
+        private final boolean isWeighted;
+
+        GatheringMessageIterator(Graph graph) {
+            this.graph = graph;
+            this.isWeighted = config.hasRelationshipWeightProperty();
+        }
+
+        void gather(long nodeId) {
+            if (isWeighted) {
+                // same fallback weight as pushing to weighted neighbours
+                graph.forEachInverseRelationship(nodeId, 1.0, (RelationshipWithPropertyConsumer) this);
+            } else {
+                graph.forEachInverseRelationship(nodeId, (RelationshipConsumer) this);
+            }
+            this.hasNext = message != reducer.identity();
+        }
+
+        @Override
+        public boolean accept(long nodeId, long sourceNodeId) {
+            var published = gatherArray.get(sourceNodeId);
+            if (!Double.isNaN(published)) {
+                this.message = reducer.reduce(message, published);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean accept(long nodeId, long sourceNodeId, double weight) {
+            var published = gatherArray.get(sourceNodeId);
+            if (!Double.isNaN(published)) {
+                this.message = reducer.reduce(message, computation.applyRelationshipWeight(published, weight));
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+
+/**
+ * The long message counterpart of the {@link ReducingMessenger}.
+ * Incoming messages are reduced using {@link Reducer#reduce(long, long)}.
+ */
+class LongReducingMessenger implements Messenger<LongReducingMessenger.SingleLongMessageIterator> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final Reducer reducer;
+    private final long identity;
+
+    private HugeAtomicLongArray sendArray;
+    private HugeAtomicLongArray receiveArray;
+
+    LongReducingMessenger(Graph graph, PregelConfig config, Reducer reducer) {
+        this.graph = graph;
+        this.config = config;
+        this.reducer = reducer;
+        this.identity = reducer.longIdentity();
+
+        this.receiveArray = HugeAtomicLongArray.newArray(graph.nodeCount());
+        this.sendArray = HugeAtomicLongArray.newArray(graph.nodeCount());
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(LongReducingMessenger.class)
+            .perNode("send array", HugeAtomicLongArray::memoryEstimation)
+            .perNode("receive array", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        ParallelUtil.parallelForEachNode(
+            graph,
+            config.concurrency(),
+            nodeId -> sendArray.set(nodeId, identity)
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException("Messages of type long must be sent as long values.");
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long message) {
+        sendArray.update(
+            targetNodeId,
+            current -> reducer.reduce(current, message)
+        );
+    }
+
+    @Override
+    public ValueType messageType() {
+        return ValueType.LONG;
+    }
+
+    @Override
+    public SingleLongMessageIterator messageIterator() {
+        return new SingleLongMessageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(
+        SingleLongMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        var message = receiveArray.get(nodeId);
+        receiveArray.set(nodeId, identity);
+        messageIterator.init(message, message != identity);
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+
+    static class SingleLongMessageIterator implements Messages.MessageIterator {
+
+        boolean hasNext;
+        long message;
+
+        void init(long value, boolean hasNext) {
+            this.message = value;
+            this.hasNext = hasNext;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasNext;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+            hasNext = false;
+            return message;
+        }
+
+        @Override
+        public double nextDouble() {
+            throw new UnsupportedOperationException("Messages can not be read as double values, use the long iterator instead.");
+        }
+    }
+}
@@ -34,12 +34,24 @@ public final class Messages implements Iterable<Double> {
 
     interface MessageIterator extends PrimitiveIterator.OfDouble {
         boolean isEmpty();
+
+        default long nextLong() {
+            throw new UnsupportedOperationException("Messages can not be read as long values, check the message type of the schema.");
+        }
+
+        default double[] nextDoubleArray() {
+            throw new UnsupportedOperationException("Messages can not be read as double arrays, check the message type of the schema.");
+        }
     }
 
     private final MessageIterator iterator;
+    private final PrimitiveIterator.OfLong longIterator;
+    private final Iterator<double[]> doubleArrayIterator;
 
     Messages(MessageIterator iterator) {
         this.iterator = iterator;
+        this.longIterator = new LongMessageIterator(iterator);
+        this.doubleArrayIterator = new DoubleArrayMessageIterator(iterator);
     }
 
     @NotNull
@@ -47,7 +59,62 @@ public final class Messages implements Iterable<Double> {
         return iterator;
     }
 
+    /**
+     * Iterates messages of type {@link org.neo4j.gds.api.nodeproperties.ValueType#LONG}.
+     */
+    @NotNull
+    public PrimitiveIterator.OfLong longIterator() {
+        return longIterator;
+    }
+
+    /**
+     * Iterates messages of type {@link org.neo4j.gds.api.nodeproperties.ValueType#DOUBLE_ARRAY}.
+     * The returned arrays are reused by the iterator and must be copied in order to retain them.
+     */
+    @NotNull
+    public Iterator<double[]> doubleArrayIterator() {
+        return doubleArrayIterator;
+    }
+
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
+
+    private static final class LongMessageIterator implements PrimitiveIterator.OfLong {
+
+        private final MessageIterator iterator;
+
+        LongMessageIterator(MessageIterator iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            return iterator.nextLong();
+        }
+    }
+
+    private static final class DoubleArrayMessageIterator implements Iterator<double[]> {
+
+        private final MessageIterator iterator;
+
+        DoubleArrayMessageIterator(MessageIterator iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public double[] next() {
+            return iterator.nextDoubleArray();
+        }
+    }
 }
@@ -19,15 +19,52 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
 public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void initIteration(int iteration);
 
     void sendTo(long targetNodeId, double message);
 
+    /**
+     * Sends a long message. Messengers for double messages
+     * receive the message as a double value.
+     */
+    default void sendTo(long targetNodeId, long message) {
+        sendTo(targetNodeId, (double) message);
+    }
+
+    default void sendTo(long targetNodeId, double[] message) {
+        throw new UnsupportedOperationException("Messages of type double array are not supported by this messenger.");
+    }
+
+    /**
+     * The type of messages that are delivered by this messenger, see {@link PregelSchema#messageType()}.
+     */
+    default ValueType messageType() {
+        return ValueType.DOUBLE;
+    }
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
 
     void release();
+
+    /**
+     * Whether messages that are sent to all neighbours of a node are gathered by the receivers.
+     */
+    default boolean isPullBased() {
+        return false;
+    }
+
+    /**
+     * Publishes a message for all neighbours of the source node to gather in the next superstep.
+     *
+     * @return {@code false} if the message could not be published and has to be sent to each neighbour instead
+     */
+    default boolean publish(long sourceNodeId, double message) {
+        throw new UnsupportedOperationException("Messages can only be published by pull-based messengers.");
+    }
 }
@@ -158,6 +158,22 @@ public abstract class NodeValue {
         doubleArrayProperties(key).set(nodeId, value);
     }
 
+    public DoubleHandle doubleHandle(String key) {
+        return new DoubleHandle(doubleProperties(key));
+    }
+
+    public LongHandle longHandle(String key) {
+        return new LongHandle(longProperties(key));
+    }
+
+    public LongArrayHandle longArrayHandle(String key) {
+        return new LongArrayHandle(longArrayProperties(key));
+    }
+
+    public DoubleArrayHandle doubleArrayHandle(String key) {
+        return new DoubleArrayHandle(doubleArrayProperties(key));
+    }
+
     void checkProperty(String key, ValueType expectedType) {
         checkProperty(key, propertyTypes.get(key), expectedType);
     }
@@ -298,4 +314,86 @@ public abstract class NodeValue {
             return (HugeObjectArray<double[]>) properties.get(propertyKey);
         }
     }
+
+    /**
+     * Typed access to the values of a single schema key. A handle is
+     * resolved once, e.g. in {@link PregelComputation#init}, and reads
+     * and writes the underlying array without looking up the key.
+     */
+    public static final class DoubleHandle {
+
+        private final HugeDoubleArray values;
+
+        DoubleHandle(HugeDoubleArray values) {
+            this.values = values;
+        }
+
+        public double get(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        public void set(long nodeId, double value) {
+            values.set(nodeId, value);
+        }
+    }
+
+    /**
+     * @see DoubleHandle
+     */
+    public static final class LongHandle {
+
+        private final HugeLongArray values;
+
+        LongHandle(HugeLongArray values) {
+            this.values = values;
+        }
+
+        public long get(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        public void set(long nodeId, long value) {
+            values.set(nodeId, value);
+        }
+    }
+
+    /**
+     * @see DoubleHandle
+     */
+    public static final class LongArrayHandle {
+
+        private final HugeObjectArray<long[]> values;
+
+        LongArrayHandle(HugeObjectArray<long[]> values) {
+            this.values = values;
+        }
+
+        public long[] get(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        public void set(long nodeId, long[] value) {
+            values.set(nodeId, value);
+        }
+    }
+
+    /**
+     * @see DoubleHandle
+     */
+    public static final class DoubleArrayHandle {
+
+        private final HugeObjectArray<double[]> values;
+
+        DoubleArrayHandle(HugeObjectArray<double[]> values) {
+            this.values = values;
+        }
+
+        public double[] get(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        public void set(long nodeId, double[] value) {
+            values.set(nodeId, value);
+        }
+    }
 }
@@ -21,6 +21,7 @@ package org.neo4j.gds.beta.pregel;
 
 import org.immutables.value.Value;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.context.MasterComputeContext;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -33,6 +34,8 @@ import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
 public final class Pregel<CONFIG extends PregelConfig> {
 
@@ -46,6 +49,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
     private final Messenger<?> messenger;
 
+    private final Frontier frontier;
+
     private final PregelComputer<CONFIG> computer;
 
     private final ProgressTracker progressTracker;
@@ -76,21 +81,61 @@ public final class Pregel<CONFIG extends PregelConfig> {
     }
 
     public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, boolean isQueueBased, boolean isAsync) {
+        return memoryEstimation(pregelSchema, isQueueBased, isAsync, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean isPullBased
+    ) {
+        return memoryEstimation(pregelSchema, isQueueBased, isAsync, isPullBased, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean isPullBased,
+        boolean isLocallyCombined
+    ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
             .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
             .add("node value", NodeValue.memoryEstimation(pregelSchema));
 
+        var messageType = pregelSchema.messageType();
+        var messageDimension = pregelSchema.messageDimension();
+
         if (isQueueBased) {
-            if (isAsync) {
-                estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation());
+            MemoryEstimation queues;
+            if (messageType == ValueType.LONG) {
+                queues = isAsync ? AsyncLongQueueMessenger.memoryEstimation() : SyncLongQueueMessenger.memoryEstimation();
+            } else if (messageType == ValueType.DOUBLE_ARRAY) {
+                queues = isAsync
+                    ? AsyncQueueMessenger.memoryEstimation(messageDimension)
+                    : SyncQueueMessenger.memoryEstimation(messageDimension);
             } else {
-                estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
+                queues = isAsync ? AsyncQueueMessenger.memoryEstimation() : SyncQueueMessenger.memoryEstimation();
             }
+            estimationBuilder.add("message queues", queues);
+        } else if (messageType == ValueType.LONG) {
+            estimationBuilder.add("message arrays", LongReducingMessenger.memoryEstimation());
+        } else if (messageType == ValueType.DOUBLE_ARRAY) {
+            estimationBuilder.add("message arrays", DoubleArrayReducingMessenger.memoryEstimation(messageDimension));
+        } else if (isPullBased) {
+            estimationBuilder.add("message arrays", GatheringMessenger.memoryEstimation());
+        } else if (isLocallyCombined) {
+            estimationBuilder.add("message arrays", CombiningMessenger.memoryEstimation());
         } else {
             estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
         }
 
+        if (!isPullBased) {
+            estimationBuilder.add("frontier", Frontier.memoryEstimation());
+        }
+
         return estimationBuilder.build();
     }
 
@@ -130,12 +175,16 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.progressTracker = progressTracker;
 
         var reducer = computation.reducer();
+        var schema = initialNodeValue.schema();
 
         this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+            ? reducingMessenger(graph, config, schema, computation, reducer.get())
+            : queueMessenger(graph, config, schema);
+
+        // receivers of published messages are only known on the receiving side
+        this.frontier = messenger.isPullBased()
+            ? Frontier.dense(graph.nodeCount())
+            : Frontier.of(graph.nodeCount());
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
@@ -144,6 +193,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .nodeValues(nodeValues)
             .messenger(messenger)
             .voteBits(HugeAtomicBitSet.create(graph.nodeCount()))
+            .frontier(frontier)
             .executorService(config.useForkJoin()
                 ? Pools.createForkJoinPool(config.concurrency())
                 : executor)
@@ -151,9 +201,84 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .build();
     }
 
+    private static Messenger<?> reducingMessenger(
+        Graph graph,
+        PregelConfig config,
+        PregelSchema schema,
+        PregelComputation<?> computation,
+        Reducer reducer
+    ) {
+        if (schema.messageType() != ValueType.DOUBLE) {
+            if (config.propagation() == Propagation.PULL) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Pull-based propagation is only supported for messages of type %s.",
+                    ValueType.DOUBLE
+                ));
+            }
+            if (config.localCombining()) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Local message combining is only supported for messages of type %s.",
+                    ValueType.DOUBLE
+                ));
+            }
+            return schema.messageType() == ValueType.LONG
+                ? new LongReducingMessenger(graph, config, reducer)
+                : new DoubleArrayReducingMessenger(graph, config, reducer, schema.messageDimension());
+        }
+        if (config.localCombining()) {
+            if (config.propagation() == Propagation.PULL) {
+                throw new IllegalArgumentException(
+                    "Local message combining is not supported for pull-based propagation."
+                );
+            }
+            return new CombiningMessenger(graph, config, reducer);
+        }
+        if (config.propagation() == Propagation.PULL && !graph.hasInverseIndex()) {
+            throw new IllegalArgumentException(
+                "Pull-based propagation requires incoming relationships. " +
+                "Use an undirected graph or project the relationships with `indexInverse: true`."
+            );
+        }
+        var pull = config.propagation() == Propagation.PULL
+                   || (config.propagation() == Propagation.AUTO && graph.hasInverseIndex());
+
+        return pull
+            ? new GatheringMessenger(graph, config, computation, reducer)
+            : new ReducingMessenger(graph, config, reducer);
+    }
+
+    private static Messenger<?> queueMessenger(Graph graph, PregelConfig config, PregelSchema schema) {
+        if (config.propagation() == Propagation.PULL) {
+            throw new IllegalArgumentException(
+                "Pull-based propagation requires the computation to define a reducer."
+            );
+        }
+        if (config.localCombining()) {
+            throw new IllegalArgumentException(
+                "Local message combining requires the computation to define a reducer."
+            );
+        }
+        var nodeCount = graph.nodeCount();
+        switch (schema.messageType()) {
+            case LONG:
+                return config.isAsynchronous()
+                    ? new AsyncLongQueueMessenger(nodeCount)
+                    : new SyncLongQueueMessenger(nodeCount);
+            case DOUBLE_ARRAY:
+                return config.isAsynchronous()
+                    ? new AsyncQueueMessenger(nodeCount, schema.messageDimension())
+                    : new SyncQueueMessenger(nodeCount, schema.messageDimension());
+            default:
+                return config.isAsynchronous()
+                    ? new AsyncQueueMessenger(nodeCount)
+                    : new SyncQueueMessenger(nodeCount);
+        }
+    }
+
     public PregelResult run() {
         boolean didConverge = false;
 
+        computation.resolveHandles(nodeValues);
         computer.initComputation();
 
         try {
@@ -166,6 +291,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
                     computer.initIteration(iteration);
                     messenger.initIteration(iteration);
+                    frontier.initIteration(iteration);
                     computer.runIteration();
                 } finally {
                     progressTracker.endSubTask();
@@ -57,6 +57,13 @@ public interface PregelComputation<C extends PregelConfig> {
      */
     PregelSchema schema(C config);
 
+    /**
+     * The resolveHandles method is called once per run by a single
+     * thread, before the first superstep. It allows resolving typed
+     * node value handles that are then shared by all threads.
+     */
+    default void resolveHandles(NodeValue nodeValue) {}
+
     /**
      * The init method is called in the beginning of the first
      * superstep (iteration) of the Pregel computation and allows
@@ -49,6 +49,23 @@ public interface PregelConfig extends
         return Partitioning.RANGE;
     }
 
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.beta.pregel.Propagation#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.beta.pregel.Propagation#toString")
+    default Propagation propagation() {
+        return Propagation.AUTO;
+    }
+
+    /**
+     * If enabled, messages are combined in thread-local buffers before
+     * they are reduced into the shared message array. Only applies to
+     * computations with a {@link Reducer} and double messages.
+     */
+    @Value.Default
+    default boolean localCombining() {
+        return false;
+    }
+
     @Value.Derived
     @Configuration.Ignore
     default boolean useForkJoin() {
@@ -19,12 +19,15 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 public interface PregelSchema {
 
@@ -34,9 +37,33 @@ public interface PregelSchema {
 
     Set<Element> elements();
 
+    /**
+     * The type of the messages that are sent between nodes,
+     * one of {@link ValueType#DOUBLE}, {@link ValueType#LONG}
+     * or {@link ValueType#DOUBLE_ARRAY}.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    default ValueType messageType() {
+        return ValueType.DOUBLE;
+    }
+
+    /**
+     * The number of entries of a single message. Only
+     * messages of type {@link ValueType#DOUBLE_ARRAY}
+     * can have more than one entry.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    default int messageDimension() {
+        return 1;
+    }
+
     class Builder {
 
         private final Set<Element> elements = new HashSet<>();
+        private ValueType messageType = ValueType.DOUBLE;
+        private int messageDimension = 1;
 
         public PregelSchema.Builder add(String propertyKey, ValueType propertyType) {
             return add(propertyKey, propertyType, Visibility.PUBLIC);
@@ -47,8 +74,44 @@ public interface PregelSchema {
             return this;
         }
 
+        /**
+         * Declares the type of the messages, either {@link ValueType#DOUBLE} or {@link ValueType#LONG}.
+         */
+        public PregelSchema.Builder messageType(ValueType messageType) {
+            if (messageType != ValueType.DOUBLE && messageType != ValueType.LONG) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Unsupported message type %s, expected one of %s or %s. " +
+                    "Messages of type %s require a dimension.",
+                    messageType,
+                    ValueType.DOUBLE,
+                    ValueType.LONG,
+                    ValueType.DOUBLE_ARRAY
+                ));
+            }
+            this.messageType = messageType;
+            this.messageDimension = 1;
+            return this;
+        }
+
+        /**
+         * Declares that every message is a double array with the given number of entries.
+         */
+        public PregelSchema.Builder doubleArrayMessages(int dimension) {
+            if (dimension < 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The message dimension must be positive, but got %d.",
+                    dimension
+                ));
+            }
+            this.messageType = ValueType.DOUBLE_ARRAY;
+            this.messageDimension = dimension;
+            return this;
+        }
+
         public PregelSchema build() {
-            return ImmutablePregelSchema.of(elements);
+            return ImmutablePregelSchema.of(elements)
+                .withMessageType(messageType)
+                .withMessageDimension(messageDimension);
         }
     }
 }
@@ -61,8 +61,13 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     }
 
     public static MemoryEstimation memoryEstimation() {
+        return memoryEstimation(MIN_CAPACITY);
+    }
+
+    public static MemoryEstimation memoryEstimation(int initialQueueCapacity) {
+        var capacity = Math.max(initialQueueCapacity, MIN_CAPACITY);
         return MemoryEstimations.builder(PrimitiveAsyncDoubleQueues.class)
-            .add("queues", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY)))
+            .add("queues", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfDoubleArray(capacity)))
             .perNode("heads", HugeIntArray::memoryEstimation)
             .perNode("tails", HugeAtomicLongArray::memoryEstimation)
             .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
@@ -126,15 +131,20 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
         return queues.get(nodeId)[currentHead];
     }
 
+    void pop(long nodeId, double[] message) {
+        var currentHead = heads.getAndAdd(nodeId, message.length);
+        System.arraycopy(queues.get(nodeId), currentHead, message, 0, message.length);
+    }
+
     @Override
     void grow(long nodeId, int minCapacity) {
         var queue = this.queues.get(nodeId);
         var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
+        // grow by 50%, but at least to fit the message
+        var newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
         var resizedArray = Arrays.copyOf(queue, newCapacity);
         // Fill with NaN to indicate empty slots.
-        Arrays.fill(resizedArray, minCapacity - 1, newCapacity, EMPTY_MESSAGE);
+        Arrays.fill(resizedArray, capacity, newCapacity, EMPTY_MESSAGE);
         this.queues.set(nodeId, resizedArray);
     }
 
@@ -151,10 +161,21 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     public static class Iterator implements Messages.MessageIterator {
 
         private final PrimitiveAsyncDoubleQueues queues;
+        private final double[] arrayMessage;
 
         private long nodeId;
 
-        public Iterator(PrimitiveAsyncDoubleQueues queues) {this.queues = queues;}
+        public Iterator(PrimitiveAsyncDoubleQueues queues) {
+            this(queues, 1);
+        }
+
+        /**
+         * Creates an iterator over messages that occupy {@code width} consecutive slots.
+         */
+        public Iterator(PrimitiveAsyncDoubleQueues queues, int width) {
+            this.queues = queues;
+            this.arrayMessage = new double[width];
+        }
 
         void init(long nodeId) {
             this.nodeId = nodeId;
@@ -170,6 +191,12 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
             return queues.pop(nodeId);
         }
 
+        @Override
+        public double[] nextDoubleArray() {
+            queues.pop(nodeId, arrayMessage);
+            return arrayMessage;
+        }
+
         @Override
         public boolean isEmpty() {
             return queues.isEmpty(nodeId);
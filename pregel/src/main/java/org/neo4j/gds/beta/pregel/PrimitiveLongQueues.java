@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+public abstract class PrimitiveLongQueues extends PrimitiveQueues<long[]> {
+    // Used to insert into a single message queue array.
+    private static final VarHandle ARRAY_HANDLE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    PrimitiveLongQueues(
+        HugeObjectArray<long[]> queues,
+        HugeAtomicLongArray tails,
+        HugeAtomicLongArray referenceCounts
+    ) {
+        super(queues, tails, referenceCounts);
+    }
+
+    public void push(long nodeId, long message) {
+        var idx = (int) reserve(nodeId, 1);
+        ARRAY_HANDLE.setVolatile(queues.get(nodeId), idx, message);
+        dropSharedReference(nodeId);
+    }
+
+    @Override
+    int capacity(long[] queue) {
+        return queue.length;
+    }
+}
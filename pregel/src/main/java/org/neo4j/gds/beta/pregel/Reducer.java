@@ -31,6 +31,34 @@ public interface Reducer {
      */
     double reduce(double current, double message);
 
+    /**
+     * Combines the current value with a partial result that has been
+     * reduced separately, starting from the identity element.
+     * This is used when messages are combined locally before they are
+     * reduced into the message array.
+     * <br>
+     * The default implementation treats the partial result as a message,
+     * which is correct if the reduced value is of the same kind as the
+     * messages, e.g. their sum, minimum or maximum.
+     */
+    default double combine(double current, double partial) {
+        return reduce(current, partial);
+    }
+
+    /**
+     * The identity element for messages of type long.
+     */
+    default long longIdentity() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support long messages.");
+    }
+
+    /**
+     * Computes a new value based on the current value and the long message.
+     */
+    default long reduce(long current, long message) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support long messages.");
+    }
+
     class Sum implements Reducer {
 
         @Override
@@ -43,6 +71,15 @@ public interface Reducer {
             return current + message;
         }
 
+        @Override
+        public long longIdentity() {
+            return 0;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return current + message;
+        }
     }
 
     class Min implements Reducer {
@@ -56,6 +93,16 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.min(current, message);
         }
+
+        @Override
+        public long longIdentity() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return Math.min(current, message);
+        }
     }
 
     class Max implements Reducer {
@@ -69,6 +116,16 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.max(current, message);
         }
+
+        @Override
+        public long longIdentity() {
+            return Long.MIN_VALUE;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return Math.max(current, message);
+        }
     }
 
     class Count implements Reducer {
@@ -82,5 +139,20 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return current + 1;
         }
+
+        @Override
+        public double combine(double current, double partial) {
+            return current + partial;
+        }
+
+        @Override
+        public long longIdentity() {
+            return 0;
+        }
+
+        @Override
+        public long reduce(long current, long message) {
+            return current + 1;
+        }
     }
 }
@@ -58,6 +58,10 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
             .build();
     }
 
+    HugeAtomicDoubleArray sendArray() {
+        return sendArray;
+    }
+
     @Override
     public void initIteration(int iteration) {
         // Swap arrays
@@ -19,20 +19,37 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.Iterator> {
 
     private final PrimitiveSyncDoubleQueues queues;
+    private final int messageDimension;
 
     SyncQueueMessenger(long nodeCount) {
-        this.queues = PrimitiveSyncDoubleQueues.of(nodeCount);
+        this(nodeCount, 0);
+    }
+
+    /**
+     * Creates a messenger for double array messages with the given
+     * dimension or, if the dimension is {@code 0}, for double messages.
+     */
+    SyncQueueMessenger(long nodeCount, int messageDimension) {
+        this.queues = PrimitiveSyncDoubleQueues.of(nodeCount, messageDimension);
+        this.messageDimension = messageDimension;
     }
 
     static MemoryEstimation memoryEstimation() {
         return PrimitiveSyncDoubleQueues.memoryEstimation();
     }
 
+    static MemoryEstimation memoryEstimation(int messageDimension) {
+        return PrimitiveSyncDoubleQueues.memoryEstimation(messageDimension);
+    }
+
     @Override
     public void initIteration(int iteration) {
         queues.swapQueues();
@@ -40,12 +57,24 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
 
     @Override
     public void sendTo(long targetNodeId, double message) {
+        checkScalarMessages();
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        checkArrayMessage(message);
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public ValueType messageType() {
+        return messageDimension > 0 ? ValueType.DOUBLE_ARRAY : ValueType.DOUBLE;
+    }
+
     @Override
     public PrimitiveSyncDoubleQueues.Iterator messageIterator() {
-        return new PrimitiveSyncDoubleQueues.Iterator();
+        return new PrimitiveSyncDoubleQueues.Iterator(Math.max(messageDimension, 1));
     }
 
     @Override
@@ -57,4 +86,23 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
     public void release() {
         queues.release();
     }
+
+    private void checkScalarMessages() {
+        if (messageDimension > 0) {
+            throw new UnsupportedOperationException("Messages of type double array must be sent as arrays.");
+        }
+    }
+
+    private void checkArrayMessage(double[] message) {
+        if (messageDimension == 0) {
+            throw new UnsupportedOperationException("Messages of type double must be sent as scalar values.");
+        }
+        if (message.length != messageDimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a message of dimension %d, but got %d.",
+                messageDimension,
+                message.length
+            ));
+        }
+    }
 }
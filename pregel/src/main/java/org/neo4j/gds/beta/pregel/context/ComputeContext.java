@@ -19,7 +19,9 @@
  */
 package org.neo4j.gds.beta.pregel.context;
 
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.ComputeStep;
+import org.neo4j.gds.beta.pregel.NodeValue;
 import org.neo4j.gds.beta.pregel.PregelConfig;
 
 /**
@@ -34,9 +36,11 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         this.sendMessagesFunction = config.hasRelationshipWeightProperty()
             ? computeStep::sendToNeighborsWeighted
             : computeStep::sendToNeighbors;
+        this.hasLongMessages = computeStep.messenger().messageType() == ValueType.LONG;
     }
 
     private final SendMessagesFunction sendMessagesFunction;
+    private final boolean hasLongMessages;
 
     /**
      * Returns the node value for the given node schema key.
@@ -83,6 +87,34 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         return computeStep.doubleArrayNodeValue(key, nodeId);
     }
 
+    /**
+     * Returns the node value of the given handle for the currently processed node.
+     */
+    public double doubleNodeValue(NodeValue.DoubleHandle handle) {
+        return handle.get(nodeId);
+    }
+
+    /**
+     * Returns the node value of the given handle for the currently processed node.
+     */
+    public long longNodeValue(NodeValue.LongHandle handle) {
+        return handle.get(nodeId);
+    }
+
+    /**
+     * Returns the node value of the given handle for the currently processed node.
+     */
+    public long[] longArrayNodeValue(NodeValue.LongArrayHandle handle) {
+        return handle.get(nodeId);
+    }
+
+    /**
+     * Returns the node value of the given handle for the currently processed node.
+     */
+    public double[] doubleArrayNodeValue(NodeValue.DoubleArrayHandle handle) {
+        return handle.get(nodeId);
+    }
+
     /**
      * Notify the execution framework that this node intends
      * to stop the computation. If the node voted to halt
@@ -126,6 +158,52 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         computeStep.sendTo(targetNodeId, message);
     }
 
+    /**
+     * Sends the given long message to all neighbors of the node.
+     * If the computation uses double messages, the message is
+     * sent as a double value.
+     * <br>
+     * This is not an overload of {@link #sendToNeighbors(double)},
+     * so that integral arguments keep being sent as double messages.
+     *
+     * @see org.neo4j.gds.beta.pregel.PregelSchema#messageType()
+     */
+    public void sendLongToNeighbors(long message) {
+        if (hasLongMessages) {
+            computeStep.sendLongToNeighbors(nodeId, message);
+        } else {
+            sendMessagesFunction.sendToNeighbors(nodeId, message);
+        }
+    }
+
+    /**
+     * Sends the given long message to the target node.
+     *
+     * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
+     */
+    public void sendTo(long targetNodeId, long message) {
+        computeStep.sendTo(targetNodeId, message);
+    }
+
+    /**
+     * Sends the given array message to all neighbors of the node.
+     * The length of the array must match the message dimension
+     * declared in the schema. Relationship weights are not applied
+     * to array messages.
+     */
+    public void sendToNeighbors(double[] message) {
+        computeStep.sendToNeighbors(nodeId, message);
+    }
+
+    /**
+     * Sends the given array message to the target node.
+     *
+     * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
+     */
+    public void sendTo(long targetNodeId, double[] message) {
+        computeStep.sendTo(targetNodeId, message);
+    }
+
     @FunctionalInterface
     interface SendMessagesFunction {
         void sendToNeighbors(long sourceNodeId, double message);
@@ -169,4 +169,38 @@ public class MasterComputeContext<CONFIG extends PregelConfig> extends PregelCon
     public void setNodeValue(long nodeId, String key, double[] value) {
         nodeValue.set(key, nodeId, value);
     }
+
+    /**
+     * Resolves the node schema key to a handle that accesses the double values
+     * directly, e.g. to read the values of all nodes within {@link #forEachNode}.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a double
+     */
+    public NodeValue.DoubleHandle doubleHandle(String key) {
+        return nodeValue.doubleHandle(key);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the key does not exist or the value is not a long
+     * @see #doubleHandle(String)
+     */
+    public NodeValue.LongHandle longHandle(String key) {
+        return nodeValue.longHandle(key);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the key does not exist or the value is not a long array
+     * @see #doubleHandle(String)
+     */
+    public NodeValue.LongArrayHandle longArrayHandle(String key) {
+        return nodeValue.longArrayHandle(key);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the key does not exist or the value is not a double array
+     * @see #doubleHandle(String)
+     */
+    public NodeValue.DoubleArrayHandle doubleArrayHandle(String key) {
+        return nodeValue.doubleArrayHandle(key);
+    }
 }
@@ -20,6 +20,7 @@
 package org.neo4j.gds.beta.pregel.context;
 
 import org.neo4j.gds.beta.pregel.ComputeStep;
+import org.neo4j.gds.beta.pregel.NodeValue;
 import org.neo4j.gds.beta.pregel.PregelConfig;
 
 import java.util.function.LongConsumer;
@@ -104,6 +105,75 @@ public abstract class NodeCentricContext<CONFIG extends PregelConfig> extends Pr
         computeStep.setNodeValue(key, nodeId, value);
     }
 
+    /**
+     * Sets the node value of the given handle for the currently processed node.
+     */
+    public void setNodeValue(NodeValue.DoubleHandle handle, double value) {
+        handle.set(nodeId, value);
+    }
+
+    /**
+     * Sets the node value of the given handle for the currently processed node.
+     */
+    public void setNodeValue(NodeValue.LongHandle handle, long value) {
+        handle.set(nodeId, value);
+    }
+
+    /**
+     * Sets the node value of the given handle for the currently processed node.
+     */
+    public void setNodeValue(NodeValue.LongArrayHandle handle, long[] value) {
+        handle.set(nodeId, value);
+    }
+
+    /**
+     * Sets the node value of the given handle for the currently processed node.
+     */
+    public void setNodeValue(NodeValue.DoubleArrayHandle handle, double[] value) {
+        handle.set(nodeId, value);
+    }
+
+    /**
+     * Resolves the node schema key to a handle that accesses the double values
+     * directly. Handles are meant to be resolved once, typically during init,
+     * and used in place of the key during compute.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a double
+     */
+    public NodeValue.DoubleHandle doubleHandle(String key) {
+        return computeStep.nodeValue().doubleHandle(key);
+    }
+
+    /**
+     * Resolves the node schema key to a handle that accesses the long values directly.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a long
+     * @see #doubleHandle(String)
+     */
+    public NodeValue.LongHandle longHandle(String key) {
+        return computeStep.nodeValue().longHandle(key);
+    }
+
+    /**
+     * Resolves the node schema key to a handle that accesses the long array values directly.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a long array
+     * @see #doubleHandle(String)
+     */
+    public NodeValue.LongArrayHandle longArrayHandle(String key) {
+        return computeStep.nodeValue().longArrayHandle(key);
+    }
+
+    /**
+     * Resolves the node schema key to a handle that accesses the double array values directly.
+     *
+     * @throws IllegalArgumentException if the key does not exist or the value is not a double array
+     * @see #doubleHandle(String)
+     */
+    public NodeValue.DoubleArrayHandle doubleArrayHandle(String key) {
+        return computeStep.nodeValue().doubleArrayHandle(key);
+    }
+
     /**
      * Returns the degree (number of relationships) of the currently processed node.
      */
@@ -84,6 +84,46 @@ class NodeValueTest {
             .hasMessageContaining("is not compatible with available property type");
     }
 
+    @Test
+    void handlesShareStorageWithKeyedAccess() {
+        var schema = new PregelSchema.Builder()
+            .add("DOUBLE", ValueType.DOUBLE)
+            .add("LONG", ValueType.LONG)
+            .add("LONG_ARRAY", ValueType.LONG_ARRAY)
+            .add("DOUBLE_ARRAY", ValueType.DOUBLE_ARRAY)
+            .build();
+        var nodeValues = NodeValue.of(schema, 10, 4);
+
+        var doubleHandle = nodeValues.doubleHandle("DOUBLE");
+        doubleHandle.set(3, 42.0);
+        assertThat(nodeValues.doubleValue("DOUBLE", 3)).isEqualTo(42.0);
+        nodeValues.set("DOUBLE", 4, 1337.0);
+        assertThat(doubleHandle.get(4)).isEqualTo(1337.0);
+
+        var longHandle = nodeValues.longHandle("LONG");
+        longHandle.set(3, 42L);
+        assertThat(nodeValues.longValue("LONG", 3)).isEqualTo(42L);
+
+        var longArrayHandle = nodeValues.longArrayHandle("LONG_ARRAY");
+        longArrayHandle.set(3, new long[]{1, 2});
+        assertThat(nodeValues.longArrayValue("LONG_ARRAY", 3)).containsExactly(1, 2);
+
+        var doubleArrayHandle = nodeValues.doubleArrayHandle("DOUBLE_ARRAY");
+        doubleArrayHandle.set(3, new double[]{1.0, 2.0});
+        assertThat(nodeValues.doubleArrayValue("DOUBLE_ARRAY", 3)).containsExactly(1.0, 2.0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.neo4j.gds.beta.pregel.NodeValueTest#invalidPropertyTypeAndHandles")
+    void testThrowWhenResolvingHandleOfWrongType(ValueType valueType, BiConsumer<NodeValue, String> handleResolver) {
+        var schema = new PregelSchema.Builder().add("KEY", valueType).build();
+        var nodeValues = NodeValue.of(schema, 10, 4);
+
+        assertThatThrownBy(() -> handleResolver.accept(nodeValues, "KEY"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("is not compatible with available property type");
+    }
+
     static Stream<Arguments> validPropertyTypeAndGetters() {
         BiConsumer<NodeValue, String> longGetter = NodeValue::longProperties;
         BiConsumer<NodeValue, String> doubleGetter = NodeValue::doubleProperties;
@@ -108,4 +148,18 @@ class NodeValueTest {
             arguments(ValueType.DOUBLE_ARRAY, doubleGetter)
         );
     }
+
+    static Stream<Arguments> invalidPropertyTypeAndHandles() {
+        BiConsumer<NodeValue, String> longHandle = NodeValue::longHandle;
+        BiConsumer<NodeValue, String> doubleHandle = NodeValue::doubleHandle;
+        BiConsumer<NodeValue, String> longArrayHandle = NodeValue::longArrayHandle;
+        BiConsumer<NodeValue, String> doubleArrayHandle = NodeValue::doubleArrayHandle;
+
+        return Stream.of(
+            arguments(ValueType.LONG, doubleHandle),
+            arguments(ValueType.DOUBLE, longHandle),
+            arguments(ValueType.LONG_ARRAY, doubleArrayHandle),
+            arguments(ValueType.DOUBLE_ARRAY, longArrayHandle)
+        );
+    }
 }
@@ -26,6 +26,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.TestTaskStore;
@@ -52,6 +54,8 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.utils.ExceptionUtil;
 
 import java.util.Arrays;
 import java.util.Optional;
@@ -60,6 +64,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -256,6 +261,108 @@ class PregelTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void pullShouldMatchPushOnUndirectedGraph(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(Orientation.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePregelConfig.builder()
+            .maxIterations(10)
+            .partitioning(partitioning)
+            .concurrency(4);
+
+        var pushed = run(graph, configBuilder.propagation(Propagation.PUSH).build(), new TestReduciblePregelComputation());
+        var pulled = run(graph, configBuilder.propagation(Propagation.PULL).build(), new TestReduciblePregelComputation());
+
+        assertArrayEquals(pushed.toArray(), pulled.toArray());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void localCombiningShouldMatchAtomicReduction(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePregelConfig.builder()
+            .maxIterations(10)
+            .partitioning(partitioning)
+            .concurrency(4);
+
+        var atomic = configBuilder.localCombining(false).build();
+        var combined = configBuilder.localCombining(true).build();
+
+        assertArrayEquals(
+            run(graph, atomic, new TestReduciblePregelComputation()).toArray(),
+            run(graph, combined, new TestReduciblePregelComputation()).toArray()
+        );
+        assertArrayEquals(
+            run(graph, atomic, new TestCountingPregelComputation()).toArray(),
+            run(graph, combined, new TestCountingPregelComputation()).toArray()
+        );
+    }
+
+    @Test
+    void localCombiningShouldRequireReducerAndPushPropagation() {
+        var configBuilder = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .localCombining(true);
+
+        assertThatThrownBy(() -> Pregel.create(graph, configBuilder.build(), new TestPregelComputation(), Pools.DEFAULT, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Local message combining requires the computation to define a reducer");
+
+        var pullConfig = configBuilder.propagation(Propagation.PULL).build();
+        assertThatThrownBy(() -> Pregel.create(graph, pullConfig, new TestReduciblePregelComputation(), Pools.DEFAULT, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not supported for pull-based propagation");
+    }
+
+    @Test
+    void pullShouldApplyRelationshipWeightsOfIncomingRelationships() {
+        var graphStore = GdlFactory.of(TEST_GRAPH).build();
+        graphStore.indexInverse(RelationshipType.of("REL"));
+        var weightedGraph = graphStore.getGraph(RelationshipType.of("REL"), Optional.of("prop"));
+
+        var configBuilder = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .concurrency(1)
+            .relationshipWeightProperty("prop");
+
+        var pushed = run(weightedGraph, configBuilder.propagation(Propagation.PUSH).build(), new TestReducibleWeightComputation());
+        var pulled = run(weightedGraph, configBuilder.propagation(Propagation.AUTO).build(), new TestReducibleWeightComputation());
+
+        assertArrayEquals(new double[]{0.0, 2.0, 1.0}, pushed.toArray());
+        assertArrayEquals(pushed.toArray(), pulled.toArray());
+    }
+
+    @Test
+    void pullShouldRequireReducerAndIncomingRelationships() {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .propagation(Propagation.PULL)
+            .build();
+
+        assertThatThrownBy(() -> Pregel.create(graph, config, new TestPregelComputation(), Pools.DEFAULT, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires the computation to define a reducer");
+
+        assertThatThrownBy(() -> Pregel.create(graph, config, new TestReduciblePregelComputation(), Pools.DEFAULT, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires incoming relationships");
+    }
+
     @NotNull
     private HugeDoubleArray run(Graph graph, PregelConfig config, PregelComputation<PregelConfig> computation) {
         var pregelJob = Pregel.create(
@@ -269,6 +376,29 @@ class PregelTest {
         return pregelJob.run().nodeValues().doubleProperties(KEY);
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void sparseFrontierShouldComputeNodesReceivingMessages(Partitioning partitioning) {
+        var nodeCount = 100;
+        var gdl = new StringBuilder("CREATE (n0)");
+        for (int i = 1; i < nodeCount; i++) {
+            gdl.append(formatWithLocale(", (n%d), (n%d)-[:REL]->(n%d)", i, i - 1, i));
+        }
+        var graph = GdlFactory.of(gdl.toString()).build().getUnion();
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(nodeCount + 1)
+            .concurrency(4)
+            .partitioning(partitioning)
+            .build();
+
+        var result = run(graph, config, new TestHopComputation());
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertEquals(nodeId, result.get(nodeId), formatWithLocale("Unexpected hop count for node %d", nodeId));
+        }
+    }
+
     @ParameterizedTest
     @EnumSource(Partitioning.class)
     void sendMessageToSpecificTarget(Partitioning partitioning) {
@@ -375,8 +505,8 @@ class PregelTest {
     static Stream<Arguments> estimations() {
         return Stream.of(
             // queue based sync
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7441704L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7442208L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7444400L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7444976L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -385,7 +515,7 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9441776L
+                9444472L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -395,12 +525,12 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9442280L
+                9445048L
             ),
 
             // queue based async
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3841664L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3842168L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3844360L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3844936L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -409,7 +539,7 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5841736L
+                5844432L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -419,12 +549,12 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5842240L
+                5845008L
             ),
 
             // array based
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 241584L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 242088L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 244280L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 244856L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -433,7 +563,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2241656L
+                2244352L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -443,7 +573,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2242160L
+                2244928L
             )
         );
     }
@@ -536,6 +666,85 @@ class PregelTest {
         return crossArguments(PregelTest::partitionings, TestSupport::trueFalseArguments);
     }
 
+    @ParameterizedTest
+    @MethodSource("partitioningAndAsynchronous")
+    void sendsLongMessagesWithoutLosingPrecision(Partitioning partitioning, boolean isAsynchronous) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .isAsynchronous(isAsynchronous)
+            .build();
+
+        var pregelJob = Pregel.create(graph, config, new TestLongMessages(), Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        var nodeValues = pregelJob.run().nodeValues().longProperties(KEY).toArray();
+        assertArrayEquals(new long[]{0L, TestLongMessages.OFFSET, TestLongMessages.OFFSET}, nodeValues);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void reducesLongMessages(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .build();
+
+        var pregelJob = Pregel.create(graph, config, new TestReducibleLongMessages(), Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        var nodeValues = pregelJob.run().nodeValues().longProperties(KEY).toArray();
+        assertArrayEquals(new long[]{TestLongMessages.OFFSET + 2, TestLongMessages.OFFSET, TestLongMessages.OFFSET}, nodeValues);
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitioningAndAsynchronous")
+    void sendsDoubleArrayMessages(Partitioning partitioning, boolean isAsynchronous) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .isAsynchronous(isAsynchronous)
+            .build();
+
+        var pregelJob = Pregel.create(graph, config, new TestArrayMessages(), Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        var nodeValues = pregelJob.run().nodeValues().doubleArrayProperties(KEY);
+        assertArrayEquals(new double[]{3.0, 3.0}, nodeValues.get(0));
+        assertArrayEquals(new double[]{1.0, 1.0}, nodeValues.get(1));
+        assertArrayEquals(new double[]{1.0, 1.0}, nodeValues.get(2));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void reducesDoubleArrayMessagesElementWise(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .build();
+
+        var pregelJob = Pregel.create(graph, config, new TestReducibleArrayMessages(), Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        var nodeValues = pregelJob.run().nodeValues().doubleArrayProperties(KEY);
+        assertArrayEquals(new double[]{3.0, 3.0}, nodeValues.get(0));
+        assertArrayEquals(new double[]{1.0, 1.0}, nodeValues.get(1));
+        assertArrayEquals(new double[]{1.0, 1.0}, nodeValues.get(2));
+    }
+
+    @Test
+    void failsOnMessagesThatDoNotMatchTheSchema() {
+        var config = ImmutablePregelConfig.builder().maxIterations(2).build();
+
+        var pregelJob = Pregel.create(graph, config, new TestPregelComputation() {
+            @Override
+            public PregelSchema schema(PregelConfig config) {
+                return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).messageType(ValueType.LONG).build();
+            }
+        }, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        var exception = assertThrows(RuntimeException.class, pregelJob::run);
+        assertThat(ExceptionUtil.rootCause(exception))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("Messages of type long must be sent as long values.");
+    }
+
     @ParameterizedTest
     @MethodSource("partitioningAndAsynchronous")
     void messagesInInitialSuperStepShouldBeEmpty(Partitioning partitioning, boolean isAsynchronous) {
@@ -597,6 +806,14 @@ class PregelTest {
         }
     }
 
+    public static class TestCountingPregelComputation extends TestPregelComputation {
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Count());
+        }
+    }
+
     public static class TestWeightComputation extends TestPregelComputation {
 
         @Override
@@ -605,6 +822,117 @@ class PregelTest {
         }
     }
 
+    public static class TestReducibleWeightComputation extends TestWeightComputation {
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Sum());
+        }
+    }
+
+    public static class TestHopComputation implements PregelComputation<PregelConfig> {
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                if (context.nodeId() == 0) {
+                    context.setNodeValue(KEY, 0.0);
+                    context.sendToNeighbors(1.0);
+                }
+            } else {
+                for (var message : messages) {
+                    context.setNodeValue(KEY, message);
+                    context.sendToNeighbors(message + 1);
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    public static class TestLongMessages implements PregelComputation<PregelConfig> {
+
+        // not representable as a double
+        static final long OFFSET = (1L << 53) + 1;
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(KEY, ValueType.LONG)
+                .messageType(ValueType.LONG)
+                .build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendLongToNeighbors(OFFSET + context.nodeId());
+            } else {
+                var iterator = messages.longIterator();
+                while (iterator.hasNext()) {
+                    context.setNodeValue(KEY, iterator.nextLong());
+                }
+            }
+        }
+    }
+
+    public static class TestReducibleLongMessages extends TestLongMessages {
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep() && context.nodeId() > 0) {
+                context.sendTo(0L, OFFSET + context.nodeId());
+            }
+            super.compute(context, messages);
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Max());
+        }
+    }
+
+    public static class TestArrayMessages implements PregelComputation<PregelConfig> {
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(KEY, ValueType.DOUBLE_ARRAY)
+                .doubleArrayMessages(2)
+                .build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(KEY, new double[2]);
+                context.sendTo(0L, new double[]{1.0, context.nodeId()});
+                context.sendToNeighbors(new double[]{1.0, 1.0});
+            } else {
+                var sum = new double[2];
+                var iterator = messages.doubleArrayIterator();
+                while (iterator.hasNext()) {
+                    var message = iterator.next();
+                    sum[0] += message[0];
+                    sum[1] += message[1];
+                }
+                context.setNodeValue(KEY, sum);
+            }
+        }
+    }
+
+    public static class TestReducibleArrayMessages extends TestArrayMessages {
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Sum());
+        }
+    }
+
     public static class TestSendTo implements PregelComputation<PregelConfig> {
 
         static final String KEY = "value";
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitiveAsyncLongQueuesTest {
+
+    @Test
+    void isEmpty() {
+        var queues = PrimitiveAsyncLongQueues.of(1);
+        assertThat(queues.isEmpty(0)).isTrue();
+
+        queues.push(0, -1L);
+        assertThat(queues.isEmpty(0)).isFalse();
+
+        queues.pop(0);
+        assertThat(queues.isEmpty(0)).isTrue();
+    }
+
+    @Test
+    void popWorksAfterGrowing() {
+        var insertedElements = PrimitiveQueues.MIN_CAPACITY + 10;
+        var queues = PrimitiveAsyncLongQueues.of(1);
+
+        for (int i = 0; i < insertedElements; i++) {
+            queues.push(0, Long.MAX_VALUE - i);
+        }
+
+        for (int i = 0; i < insertedElements; i++) {
+            assertThat(queues.pop(0)).isEqualTo(Long.MAX_VALUE - i);
+        }
+        assertThat(queues.isEmpty(0)).isTrue();
+    }
+
+    @Test
+    void compactKeepsPendingMessages() {
+        var queues = PrimitiveAsyncLongQueues.of(1, 50);
+
+        for (int i = 0; i < 20; i++) {
+            queues.push(0, i);
+        }
+        for (int i = 0; i < 15; i++) {
+            queues.pop(0);
+        }
+
+        queues.compact();
+
+        assertThat(queues.head(0)).isEqualTo(0);
+        assertThat(queues.tail(0)).isEqualTo(5);
+        for (int i = 15; i < 20; i++) {
+            assertThat(queues.pop(0)).isEqualTo(i);
+        }
+        assertThat(queues.isEmpty(0)).isTrue();
+    }
+
+    @Test
+    void rejectsEmptyMessageMarker() {
+        var queues = PrimitiveAsyncLongQueues.of(1);
+
+        assertThatThrownBy(() -> queues.push(0, Long.MIN_VALUE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Long.MIN_VALUE");
+        assertThat(queues.isEmpty(0)).isTrue();
+    }
+}
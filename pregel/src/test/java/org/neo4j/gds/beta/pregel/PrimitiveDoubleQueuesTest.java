@@ -82,4 +82,51 @@ abstract class PrimitiveDoubleQueuesTest {
             .containsExactlyInAnyOrder(LongStream.range(0, concurrency * 100).boxed().toArray(Long[]::new));
     }
 
+    @Test
+    void pushArrayMessagesIntoConsecutiveSlots() {
+        var queues = getQueue(1, 42);
+
+        // 14 messages fill the initial queue exactly
+        for (int i = 0; i < 14; i++) {
+            queues.push(0, new double[]{i, i, i});
+        }
+        assertThat(queues.queue(0).length).isEqualTo(42);
+
+        queues.push(0, new double[]{14, 14, 14});
+        assertThat(queues.queue(0).length).isEqualTo(63);
+        assertThat(queues.tail(0)).isEqualTo(45);
+
+        for (int i = 0; i < 45; i++) {
+            assertThat(queues.queue(0)[i]).isEqualTo(i / 3);
+        }
+    }
+
+    @RepeatedTest(100)
+    void parallelPushArrayMessages() {
+        var queues = getQueue(1, 42);
+        var concurrency = 4;
+        var phaser = new Phaser(concurrency + 1);
+
+        IntStream.range(0, concurrency).mapToObj((taskOffset) -> (Runnable) () -> {
+            phaser.arriveAndAwaitAdvance();
+            for (int i = 0; i < 100; i++) {
+                var message = i + taskOffset * 100;
+                queues.push(0, new double[]{message, message});
+            }
+            phaser.arriveAndAwaitAdvance();
+        }).forEach(task -> new Thread(task).start());
+
+        phaser.arriveAndAwaitAdvance();
+        phaser.arriveAndAwaitAdvance();
+
+        var values = new ArrayList<Long>();
+        for (int i = 0; i < queues.tail(0); i += 2) {
+            // both entries of a message must be adjacent
+            assertThat(queues.queue(0)[i]).isEqualTo(queues.queue(0)[i + 1]);
+            values.add(Math.round(queues.queue(0)[i]));
+        }
+
+        assertThat(values)
+            .containsExactlyInAnyOrder(LongStream.range(0, concurrency * 100).boxed().toArray(Long[]::new));
+    }
 }
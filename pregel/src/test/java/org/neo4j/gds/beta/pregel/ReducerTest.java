@@ -44,4 +44,19 @@ class ReducerTest {
         assertEquals(expected, reducer.reduce(arg0, arg1));
     }
 
+    static Stream<Arguments> combineArguments() {
+        return Stream.of(
+            Arguments.of(new Reducer.Sum(), 2, 2, 4),
+            Arguments.of(new Reducer.Min(), 42, 23, 23),
+            Arguments.of(new Reducer.Max(), 42, 23, 42),
+            Arguments.of(new Reducer.Count(), 42, 23, 65)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("combineArguments")
+    void combine(Reducer reducer, double current, double partial, double expected) {
+        assertEquals(expected, reducer.combine(current, partial));
+    }
+
 }
@@ -25,6 +25,7 @@ import org.neo4j.gds.config.GraphProjectFromCypherConfig;
 import org.neo4j.gds.config.GraphProjectFromGraphConfig;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.config.RandomGraphGeneratorConfig;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.mem.MemoryUsage;
 
 import java.time.ZonedDateTime;
@@ -100,6 +101,27 @@ public class GraphInfo {
         );
     }
 
+    /**
+     * A spilled graph is not in memory, it is described by the statistics it had when it was spilled.
+     */
+    static GraphInfo spilled(GraphStoreCatalog.SpilledGraphInfo spilledGraph) {
+        var configVisitor = new Visitor();
+        spilledGraph.config().accept(configVisitor);
+
+        return new GraphInfo(
+            spilledGraph.config().graphName(),
+            spilledGraph.databaseName(),
+            configVisitor.configuration,
+            "",
+            -1L,
+            spilledGraph.nodeCount(),
+            spilledGraph.relationshipCount(),
+            spilledGraph.config().creationTime(),
+            spilledGraph.modificationTime(),
+            spilledGraph.schema().toMap()
+        );
+    }
+
     private static GraphInfo create(
         GraphProjectConfig graphProjectConfig,
         GraphStore graphStore,
@@ -31,10 +31,19 @@ import java.util.Optional;
 public class GraphInfoWithHistogram extends GraphInfo {
 
     public final Map<String, Object> degreeDistribution;
+    public final boolean spilled;
 
     public GraphInfoWithHistogram(
         GraphInfo graphInfo,
         @Nullable Map<String, Object> degreeDistribution
+    ) {
+        this(graphInfo, degreeDistribution, false);
+    }
+
+    private GraphInfoWithHistogram(
+        GraphInfo graphInfo,
+        @Nullable Map<String, Object> degreeDistribution,
+        boolean spilled
     ) {
         super(
             graphInfo.graphName,
@@ -49,6 +58,7 @@ public class GraphInfoWithHistogram extends GraphInfo {
             graphInfo.schema
         );
         this.degreeDistribution = degreeDistribution;
+        this.spilled = spilled;
     }
 
     static GraphInfoWithHistogram of(
@@ -82,4 +92,15 @@ public class GraphInfoWithHistogram extends GraphInfo {
 
         return new GraphInfoWithHistogram(graphInfo, degreeDistribution);
     }
+
+    /**
+     * Spilled graphs are not reloaded for listing them, so the degree distribution is only available if it is cached.
+     */
+    static GraphInfoWithHistogram ofSpilled(GraphStoreCatalog.SpilledGraphInfo spilledGraph) {
+        return new GraphInfoWithHistogram(
+            GraphInfo.spilled(spilledGraph),
+            spilledGraph.degreeDistribution().orElse(null),
+            true
+        );
+    }
 }
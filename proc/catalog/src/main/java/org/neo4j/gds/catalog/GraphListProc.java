@@ -53,7 +53,16 @@ public class GraphListProc extends CatalogProc {
             graphEntries = graphEntries.filter(e -> e.getKey().graphName().equals(graphName));
         }
 
-        return graphEntries.map(e -> {
+        // spilled graphs are listed without reloading them
+        var spilledGraphs = isGdsAdmin()
+            ? GraphStoreCatalog.getAllSpilledGraphs()
+            : GraphStoreCatalog.getSpilledGraphs(username());
+
+        if (graphName != null && !graphName.equals(NO_VALUE)) {
+            spilledGraphs = spilledGraphs.filter(spilledGraph -> spilledGraph.config().graphName().equals(graphName));
+        }
+
+        var residentGraphInfos = graphEntries.map(e -> {
             GraphProjectConfig graphProjectConfig = e.getKey();
             GraphStore graphStore = e.getValue();
             boolean computeDegreeDistribution = callContext
@@ -62,5 +71,7 @@ public class GraphListProc extends CatalogProc {
 
             return GraphInfoWithHistogram.of(graphProjectConfig, graphStore, computeDegreeDistribution);
         });
+
+        return Stream.concat(residentGraphInfos, spilledGraphs.map(GraphInfoWithHistogram::ofSpilled));
     }
 }
@@ -112,7 +112,7 @@ public class GraphWriteNodePropertiesProc extends CatalogProc {
                 var exporter = nodePropertyExporterBuilder
                     .withIdMap(subGraph)
                     .withTerminationFlag(TerminationFlag.wrap(transaction))
-                    .parallel(Pools.DEFAULT, config.writeConcurrency())
+                    .parallel(Pools.io(), config.writeConcurrency())
                     .withProgressTracker(progressTracker)
                     .build();
 
@@ -26,18 +26,25 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.beta.generator.GraphGenerateProc;
 import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.loading.CatalogEvictionPolicy;
+import org.neo4j.gds.core.loading.CatalogMemoryBudget;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.GraphStoreSpiller;
 import org.neo4j.graphdb.Result;
 
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAccessor;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -162,7 +169,8 @@ class GraphListProcTest extends BaseProcTest {
                 "creationTime", isA(ZonedDateTime.class),
                 "modificationTime", isA(ZonedDateTime.class),
                 "memoryUsage", instanceOf(String.class),
-                "sizeInBytes", instanceOf(Long.class)
+                "sizeInBytes", instanceOf(Long.class),
+                "spilled", false
             )
         ));
     }
@@ -279,6 +287,7 @@ class GraphListProcTest extends BaseProcTest {
                 "modificationTime", isA(ZonedDateTime.class),
                 "memoryUsage", instanceOf(String.class),
                 "sizeInBytes", instanceOf(Long.class),
+                "spilled", false,
                 "density", new Condition<>(Double::isFinite, "a finite double")
             )
         ));
@@ -368,6 +377,7 @@ class GraphListProcTest extends BaseProcTest {
                 "modificationTime", isA(ZonedDateTime.class),
                 "memoryUsage", instanceOf(String.class),
                 "sizeInBytes", instanceOf(Long.class),
+                "spilled", false,
                 "density", new Condition<>(Double::isFinite, "a finite double")
             )
         ));
@@ -515,6 +525,46 @@ class GraphListProcTest extends BaseProcTest {
         );
     }
 
+    @Test
+    void listSpilledGraphs(@TempDir Path spillLocation) {
+        var spiller = new InMemorySpiller();
+        GraphStoreCatalog.memoryBudget(CatalogMemoryBudget.of(1L, spillLocation, CatalogEvictionPolicy.LRU, spiller));
+        try {
+            runQuery("CALL gds.graph.project('first', 'A', 'REL')");
+            runQuery("CALL gds.graph.project('second', 'A', 'REL')");
+            assertThat(spiller.graphStoresByLocation).hasSize(1);
+
+            assertCypherResult(
+                "CALL gds.graph.list() " +
+                "YIELD graphName, nodeCount, relationshipCount, sizeInBytes, memoryUsage, spilled " +
+                "RETURN graphName, nodeCount, relationshipCount, sizeInBytes, memoryUsage, spilled " +
+                "ORDER BY graphName",
+                List.of(
+                    map(
+                        "graphName", "first",
+                        "nodeCount", 2L,
+                        "relationshipCount", 1L,
+                        "sizeInBytes", -1L,
+                        "memoryUsage", "",
+                        "spilled", true
+                    ),
+                    map(
+                        "graphName", "second",
+                        "nodeCount", 2L,
+                        "relationshipCount", 1L,
+                        "sizeInBytes", instanceOf(Long.class),
+                        "memoryUsage", instanceOf(String.class),
+                        "spilled", false
+                    )
+                )
+            );
+            // listing does not reload the spilled graph
+            assertThat(spiller.graphStoresByLocation).hasSize(1);
+        } finally {
+            GraphStoreCatalog.memoryBudget(null);
+        }
+    }
+
     @ParameterizedTest(name = "name argument: {0}")
     @ValueSource(strings = {"", "null"})
     void listAllGraphsWhenCalledWithoutArgumentOrAnEmptyArgument(String argument) {
@@ -727,6 +777,30 @@ class GraphListProcTest extends BaseProcTest {
         assertError(formatWithLocale("CALL gds.graph.list(%s)", graphName), "Type mismatch: expected String but was");
     }
 
+    private static final class InMemorySpiller implements GraphStoreSpiller {
+        private final Map<Path, GraphStore> graphStoresByLocation = new HashMap<>();
+
+        @Override
+        public boolean canSpill(GraphStore graphStore) {
+            return true;
+        }
+
+        @Override
+        public void spill(String username, GraphStore graphStore, Path location) {
+            graphStoresByLocation.put(location, graphStore);
+        }
+
+        @Override
+        public GraphStore reload(Path location) {
+            return graphStoresByLocation.remove(location);
+        }
+
+        @Override
+        public int priority() {
+            return 0;
+        }
+    }
+
     private String formatCreationTime(Result.ResultRow resultRow) {
         return ISO_LOCAL_DATE_TIME.format((TemporalAccessor) resultRow.get("creationTime"));
     }
@@ -251,7 +251,7 @@ class EigenvectorProcTest extends BaseProcTest {
 
         assertCypherResult(
             queryBuilder.yields("bytesMin", "bytesMax"),
-            List.of(Map.of("bytesMin", 552L, "bytesMax", 552L))
+            List.of(Map.of("bytesMin", 776L, "bytesMax", 776L))
         );
     }
 
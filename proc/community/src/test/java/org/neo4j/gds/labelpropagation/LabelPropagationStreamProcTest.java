@@ -73,8 +73,8 @@ class LabelPropagationStreamProcTest extends LabelPropagationProcTest<LabelPropa
         assertCypherResult(query, Arrays.asList(MapUtil.map(
             "nodeCount", 12L,
             "relationshipCount", 10L,
-            "bytesMin", 1656L,
-            "bytesMax", 2168L
+            "bytesMin", 1560L,
+            "bytesMax", 2072L
         )));
     }
 
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.neo4j.gds.core.concurrency.ComputeAllocation;
+import org.neo4j.gds.core.concurrency.ComputeScheduler;
+import org.neo4j.gds.core.concurrency.JobPriority;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+public class ComputeSchedulerProc extends BaseProc {
+
+    @Procedure("gds.alpha.scheduler.allocations")
+    @Description("List the compute slots currently granted to running jobs.")
+    public Stream<AllocationResult> allocations() {
+        var scheduler = ComputeScheduler.instance();
+        var isAdmin = isGdsAdmin();
+        var username = username();
+        return scheduler.allocations()
+            .stream()
+            .filter(allocation -> isAdmin || allocation.username().equals(username))
+            .map(allocation -> new AllocationResult(allocation, scheduler.totalSlots()));
+    }
+
+    @Procedure("gds.alpha.scheduler.configureUser")
+    @Description("Set the compute slot quota and the priority of the jobs of a user.")
+    public Stream<UserConfigurationResult> configureUser(
+        @Name(value = "username") String username,
+        @Name(value = "quota", defaultValue = "0") long quota,
+        @Name(value = "priority", defaultValue = "NORMAL") String priority
+    ) {
+        if (!isGdsAdmin()) {
+            throw new IllegalStateException("Only administrators can configure compute quotas");
+        }
+        var scheduler = ComputeScheduler.instance();
+        scheduler.userQuota(username, Math.toIntExact(quota));
+        scheduler.userPriority(username, JobPriority.valueOf(priority.toUpperCase(Locale.ENGLISH)));
+        return Stream.of(new UserConfigurationResult(
+            username,
+            scheduler.userQuota(username),
+            scheduler.userPriority(username).name(),
+            scheduler.enabled()
+        ));
+    }
+
+    @SuppressWarnings("unused")
+    public static class AllocationResult {
+        public final String username;
+        public final String jobId;
+        public final String taskName;
+        public final String priority;
+        public final long requestedSlots;
+        public final long grantedSlots;
+        public final long totalSlots;
+
+        AllocationResult(ComputeAllocation allocation, int totalSlots) {
+            this.username = allocation.username();
+            this.jobId = allocation.jobId();
+            this.taskName = allocation.taskName();
+            this.priority = allocation.priority().name();
+            this.requestedSlots = allocation.requestedSlots();
+            this.grantedSlots = allocation.grantedSlots();
+            this.totalSlots = totalSlots;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class UserConfigurationResult {
+        public final String username;
+        public final long quota;
+        public final String priority;
+        public final boolean schedulerEnabled;
+
+        UserConfigurationResult(String username, long quota, String priority, boolean schedulerEnabled) {
+            this.username = username;
+            this.quota = quota;
+            this.priority = priority;
+            this.schedulerEnabled = schedulerEnabled;
+        }
+    }
+}
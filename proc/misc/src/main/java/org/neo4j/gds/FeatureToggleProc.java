@@ -137,6 +137,36 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.useBitPackedAdjacencyList")
+    @Description("Toggle whether the adjacency list should be stored in bit packed blocks during graph creation.")
+    public void useBitPackedAdjacencyList(@Name(value = "useBitPackedAdjacencyList") boolean useBitPackedAdjacencyList) {
+        GdsFeatureToggles.USE_BIT_PACKED_ADJACENCY_LIST.toggle(useBitPackedAdjacencyList);
+    }
+
+    @Internal
+    @Procedure("gds.features.useBitPackedAdjacencyList.reset")
+    @Description("Set the default behaviour of whether to store bit packed adjacency lists during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseBitPackedAdjacencyList() {
+        GdsFeatureToggles.USE_BIT_PACKED_ADJACENCY_LIST.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_BIT_PACKED_ADJACENCY_LIST.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useDegreeOrderedNodeIds")
+    @Description("Toggle whether internal node ids should be relabelled by descending degree during graph creation.")
+    public void useDegreeOrderedNodeIds(@Name(value = "useDegreeOrderedNodeIds") boolean useDegreeOrderedNodeIds) {
+        GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.toggle(useDegreeOrderedNodeIds);
+    }
+
+    @Internal
+    @Procedure("gds.features.useDegreeOrderedNodeIds.reset")
+    @Description("Set the default behaviour of whether to relabel internal node ids by descending degree during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseDegreeOrderedNodeIds() {
+        GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.isEnabled()));
+    }
+
     @Internal
     @Procedure("gds.features.maxArrayLengthShift.reset")
     @Description("Set the value of the max array size before paging to the default. That value is returned.")
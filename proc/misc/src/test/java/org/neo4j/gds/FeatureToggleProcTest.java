@@ -32,6 +32,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.neo4j.gds.utils.GdsFeatureToggles.SKIP_ORPHANS;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_BIT_PACKED_ADJACENCY_LIST;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST;
@@ -139,6 +141,44 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertFalse(USE_REORDERED_ADJACENCY_LIST.isEnabled());
     }
 
+    @Test
+    void toggleUseBitPackedAdjacencyList() {
+        var useBitPackedAdjacencyList = USE_BIT_PACKED_ADJACENCY_LIST.isEnabled();
+        runQuery("CALL gds.features.useBitPackedAdjacencyList($value)", Map.of("value", !useBitPackedAdjacencyList));
+        assertEquals(!useBitPackedAdjacencyList, USE_BIT_PACKED_ADJACENCY_LIST.isEnabled());
+        runQuery("CALL gds.features.useBitPackedAdjacencyList($value)", Map.of("value", useBitPackedAdjacencyList));
+        assertEquals(useBitPackedAdjacencyList, USE_BIT_PACKED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void resetUseBitPackedAdjacencyList() {
+        USE_BIT_PACKED_ADJACENCY_LIST.reset();
+        assertCypherResult(
+            "CALL gds.features.useBitPackedAdjacencyList.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_BIT_PACKED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void toggleUseDegreeOrderedNodeIds() {
+        var useDegreeOrderedNodeIds = USE_DEGREE_ORDERED_NODE_IDS.isEnabled();
+        runQuery("CALL gds.features.useDegreeOrderedNodeIds($value)", Map.of("value", !useDegreeOrderedNodeIds));
+        assertEquals(!useDegreeOrderedNodeIds, USE_DEGREE_ORDERED_NODE_IDS.isEnabled());
+        runQuery("CALL gds.features.useDegreeOrderedNodeIds($value)", Map.of("value", useDegreeOrderedNodeIds));
+        assertEquals(useDegreeOrderedNodeIds, USE_DEGREE_ORDERED_NODE_IDS.isEnabled());
+    }
+
+    @Test
+    void resetUseDegreeOrderedNodeIds() {
+        USE_DEGREE_ORDERED_NODE_IDS.reset();
+        assertCypherResult(
+            "CALL gds.features.useDegreeOrderedNodeIds.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_DEGREE_ORDERED_NODE_IDS.isEnabled());
+    }
+
     @Test
     void toggleMaxArrayLengthShift() {
         var maxArrayLengthShift = GdsFeatureToggles.MAX_ARRAY_LENGTH_SHIFT.get();
@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.paths.sourcetarget;
 
-import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.paths.MutateResult;
@@ -66,7 +66,7 @@ public class ShortestPathAStarMutateProc extends ShortestPathMutateProc<AStar, S
     }
 
     @Override
-    public GraphAlgorithmFactory<AStar, ShortestPathAStarMutateConfig> algorithmFactory() {
+    public GraphStoreAlgorithmFactory<AStar, ShortestPathAStarMutateConfig> algorithmFactory() {
         return new AStarFactory<>();
     }
 }
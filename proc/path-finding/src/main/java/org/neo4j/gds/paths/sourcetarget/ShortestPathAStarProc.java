@@ -23,7 +23,12 @@ final class ShortestPathAStarProc {
     static final String ASTAR_DESCRIPTION =
         "The A* shortest path algorithm computes the shortest path between a pair of nodes. " +
         "It uses the relationship weight property to compare path lengths. " +
-        "In addition, this implementation uses the haversine distance as a heuristic to converge faster.";
+        "In addition, this implementation uses the haversine distance as a heuristic to converge faster. " +
+        "Alternatively, landmark distances computed by `gds.alpha.shortestPath.landmarks.mutate` can be used as the heuristic.";
+
+    static final String LANDMARKS_DESCRIPTION =
+        "Computes the distances between all nodes and a set of landmarks. " +
+        "The distances are stored as a node property and can be used as the A* heuristic.";
 
     private ShortestPathAStarProc() {}
 }
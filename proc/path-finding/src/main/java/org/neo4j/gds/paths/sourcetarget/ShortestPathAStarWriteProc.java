@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.paths.sourcetarget;
 
-import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.paths.ShortestPathWriteProc;
@@ -67,7 +67,7 @@ public class ShortestPathAStarWriteProc extends ShortestPathWriteProc<AStar, Sho
     }
 
     @Override
-    public GraphAlgorithmFactory<AStar, ShortestPathAStarWriteConfig> algorithmFactory() {
+    public GraphStoreAlgorithmFactory<AStar, ShortestPathAStarWriteConfig> algorithmFactory() {
         return new AStarFactory<>();
     }
 }
@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.paths.sourcetarget;
 
-import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.GraphStoreAlgorithmFactory;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.paths.ShortestPathStreamProc;
@@ -66,7 +66,7 @@ public class ShortestPathDijkstraStreamProc extends ShortestPathStreamProc<Dijks
     }
 
     @Override
-    public GraphAlgorithmFactory<Dijkstra, ShortestPathDijkstraStreamConfig> algorithmFactory() {
+    public GraphStoreAlgorithmFactory<Dijkstra, ShortestPathDijkstraStreamConfig> algorithmFactory() {
         return new DijkstraFactory.SourceTargetDijkstraFactory<>();
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.sourcetarget;
+
+import org.neo4j.gds.GraphAlgorithmFactory;
+import org.neo4j.gds.MutatePropertyProc;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.executor.ComputationResult;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.paths.astar.LandmarkMetadata;
+import org.neo4j.gds.paths.astar.Landmarks;
+import org.neo4j.gds.paths.astar.LandmarksFactory;
+import org.neo4j.gds.paths.astar.config.LandmarksMutateConfig;
+import org.neo4j.gds.result.AbstractResultBuilder;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.MUTATE_NODE_PROPERTY;
+import static org.neo4j.gds.paths.sourcetarget.ShortestPathAStarProc.LANDMARKS_DESCRIPTION;
+import static org.neo4j.procedure.Mode.READ;
+
+@GdsCallable(name = "gds.alpha.shortestPath.landmarks.mutate", description = LANDMARKS_DESCRIPTION, executionMode = MUTATE_NODE_PROPERTY)
+public class ShortestPathLandmarksMutateProc extends MutatePropertyProc<Landmarks, Landmarks.LandmarkDistances, ShortestPathLandmarksMutateProc.MutateResult, LandmarksMutateConfig> {
+
+    @Procedure(value = "gds.alpha.shortestPath.landmarks.mutate", mode = READ)
+    @Description(LANDMARKS_DESCRIPTION)
+    public Stream<MutateResult> mutate(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return mutate(compute(graphName, configuration));
+    }
+
+    @Procedure(value = "gds.alpha.shortestPath.landmarks.mutate.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphNameOrConfiguration") Object graphNameOrConfiguration,
+        @Name(value = "algoConfiguration") Map<String, Object> algoConfiguration
+    ) {
+        return computeEstimate(graphNameOrConfiguration, algoConfiguration);
+    }
+
+    @Override
+    protected Stream<MutateResult> mutate(ComputationResult<Landmarks, Landmarks.LandmarkDistances, LandmarksMutateConfig> computeResult) {
+        var result = super.mutate(computeResult);
+        if (!computeResult.isGraphEmpty()) {
+            // A* checks the metadata before it uses the distances as lower bounds
+            var graphStore = computeResult.graphStore();
+            var config = computeResult.config();
+            var metadata = LandmarkMetadata.of(
+                config.nodeLabelIdentifiers(graphStore),
+                config.internalRelationshipTypes(graphStore),
+                Optional.ofNullable(config.relationshipWeightProperty()),
+                computeResult.graph(),
+                computeResult.result()
+            );
+            graphStore.putNodePropertyMetadata(config.mutateProperty(), metadata.toMap());
+        }
+        return result;
+    }
+
+    @Override
+    protected NodeProperties nodeProperties(ComputationResult<Landmarks, Landmarks.LandmarkDistances, LandmarksMutateConfig> computationResult) {
+        return computationResult.result().asNodeProperties();
+    }
+
+    @Override
+    protected AbstractResultBuilder<MutateResult> resultBuilder(
+        ComputationResult<Landmarks, Landmarks.LandmarkDistances, LandmarksMutateConfig> computeResult,
+        ExecutionContext executionContext
+    ) {
+        return new MutateResult.Builder().withLandmarkCount(computeResult.result().landmarks().length);
+    }
+
+    @Override
+    protected LandmarksMutateConfig newConfig(String username, CypherMapWrapper config) {
+        return LandmarksMutateConfig.of(config);
+    }
+
+    @Override
+    public GraphAlgorithmFactory<Landmarks, LandmarksMutateConfig> algorithmFactory() {
+        return new LandmarksFactory<>();
+    }
+
+    @SuppressWarnings("unused")
+    public static final class MutateResult {
+
+        public final long landmarkCount;
+        public final long nodePropertiesWritten;
+        public final long mutateMillis;
+        public final long nodeCount;
+        public final long preProcessingMillis;
+        public final long computeMillis;
+        public final Map<String, Object> configuration;
+
+        MutateResult(
+            long landmarkCount,
+            long nodeCount,
+            long nodePropertiesWritten,
+            long preProcessingMillis,
+            long computeMillis,
+            long mutateMillis,
+            Map<String, Object> config
+        ) {
+            this.landmarkCount = landmarkCount;
+            this.nodeCount = nodeCount;
+            this.nodePropertiesWritten = nodePropertiesWritten;
+            this.preProcessingMillis = preProcessingMillis;
+            this.computeMillis = computeMillis;
+            this.mutateMillis = mutateMillis;
+            this.configuration = config;
+        }
+
+        static final class Builder extends AbstractResultBuilder<MutateResult> {
+
+            private long landmarkCount;
+
+            Builder withLandmarkCount(long landmarkCount) {
+                this.landmarkCount = landmarkCount;
+                return this;
+            }
+
+            @Override
+            public MutateResult build() {
+                return new MutateResult(
+                    landmarkCount,
+                    nodeCount,
+                    nodePropertiesWritten,
+                    preProcessingMillis,
+                    computeMillis,
+                    mutateMillis,
+                    config.toMap()
+                );
+            }
+        }
+    }
+}
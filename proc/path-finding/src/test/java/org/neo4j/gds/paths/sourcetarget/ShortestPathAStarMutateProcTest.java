@@ -153,8 +153,8 @@ class ShortestPathAStarMutateProcTest extends ShortestPathAStarProcTest<Shortest
             .mutateMode()
             .addParameter("sourceNode", config.sourceNode())
             .addParameter("targetNode", config.targetNode())
-            .addParameter(LATITUDE_PROPERTY_KEY, config.latitudeProperty())
-            .addParameter(LONGITUDE_PROPERTY_KEY, config.longitudeProperty())
+            .addParameter(LATITUDE_PROPERTY_KEY, config.latitudeProperty().orElseThrow())
+            .addParameter(LONGITUDE_PROPERTY_KEY, config.longitudeProperty().orElseThrow())
             .addParameter("relationshipWeightProperty", "cost")
             .addParameter("mutateRelationshipType", WRITE_RELATIONSHIP_TYPE)
             .yields();
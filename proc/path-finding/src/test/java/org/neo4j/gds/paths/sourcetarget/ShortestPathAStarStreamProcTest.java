@@ -61,8 +61,8 @@ class ShortestPathAStarStreamProcTest extends ShortestPathAStarProcTest<Shortest
             .streamMode()
             .addParameter("sourceNode", config.sourceNode())
             .addParameter("targetNode", config.targetNode())
-            .addParameter(LATITUDE_PROPERTY_KEY, config.latitudeProperty())
-            .addParameter(LONGITUDE_PROPERTY_KEY, config.longitudeProperty())
+            .addParameter(LATITUDE_PROPERTY_KEY, config.latitudeProperty().orElseThrow())
+            .addParameter(LONGITUDE_PROPERTY_KEY, config.longitudeProperty().orElseThrow())
             .addParameter("relationshipWeightProperty", "cost")
             .yields();
 
@@ -79,8 +79,8 @@ class ShortestPathAStarWriteProcTest extends ShortestPathAStarProcTest<ShortestP
             .writeMode()
             .addParameter("sourceNode", config.sourceNode())
             .addParameter("targetNode", config.targetNode())
-            .addParameter(LATITUDE_PROPERTY_KEY, config.latitudeProperty())
-            .addParameter(LONGITUDE_PROPERTY_KEY, config.longitudeProperty())
+            .addParameter(LATITUDE_PROPERTY_KEY, config.latitudeProperty().orElseThrow())
+            .addParameter(LONGITUDE_PROPERTY_KEY, config.longitudeProperty().orElseThrow())
             .addParameter("relationshipWeightProperty", relationshipWeightProperty)
             .addParameter("writeRelationshipType", WRITE_RELATIONSHIP_TYPE)
             .addParameter("writeNodeIds", true)
@@ -111,8 +111,8 @@ class ShortestPathAStarWriteProcTest extends ShortestPathAStarProcTest<ShortestP
             .writeMode()
             .addParameter("sourceNode", config.sourceNode())
             .addParameter("targetNode", config.targetNode())
-            .addParameter(LATITUDE_PROPERTY_KEY, config.latitudeProperty())
-            .addParameter(LONGITUDE_PROPERTY_KEY, config.longitudeProperty())
+            .addParameter(LATITUDE_PROPERTY_KEY, config.latitudeProperty().orElseThrow())
+            .addParameter(LONGITUDE_PROPERTY_KEY, config.longitudeProperty().orElseThrow())
             .addParameter("relationshipWeightProperty", relationshipWeightProperty)
             .addParameter("writeRelationshipType", WRITE_RELATIONSHIP_TYPE)
             .addParameter("writeNodeIds", writeNodeIds)
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.sourcetarget;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.isA;
+
+class ShortestPathLandmarksMutateProcTest extends BaseProcTest {
+
+    private static final String GRAPH_NAME = "graph";
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (b)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (a)-[:TYPE {cost: 5.0}]->(c)" +
+        ", (c)-[:TYPE {cost: 1.0}]->(d)" +
+        ", (d)-[:TYPE {cost: 3.0}]->(e)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            ShortestPathLandmarksMutateProc.class,
+            ShortestPathAStarStreamProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(GdsCypher.call(GRAPH_NAME)
+            .graphProject()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .withRelationshipProperty("cost")
+            .yields());
+    }
+
+    @Test
+    void shouldMutateLandmarkDistances() {
+        var query = GdsCypher.call(GRAPH_NAME)
+            .algo("gds.alpha.shortestPath.landmarks")
+            .mutateMode()
+            .addParameter("landmarkCount", 2)
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("mutateProperty", "landmarks")
+            .yields();
+
+        assertCypherResult(query, List.of(Map.of(
+            "landmarkCount", 2L,
+            "nodeCount", 5L,
+            "nodePropertiesWritten", 5L,
+            "preProcessingMillis", greaterThan(-1L),
+            "computeMillis", greaterThan(-1L),
+            "mutateMillis", greaterThan(-1L),
+            "configuration", isA(Map.class)
+        )));
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), namedDatabaseId(), GRAPH_NAME).graphStore();
+        var graph = graphStore.getUnion();
+        var landmarks = graph.nodeProperties("landmarks");
+        // distances from both landmarks, the graph has no inverse index for the distances to them
+        graph.forEachNode(nodeId -> {
+            assertThat(landmarks.doubleArrayValue(nodeId)).hasSize(2);
+            return true;
+        });
+
+        assertThat(graphStore.nodePropertyMetadata("landmarks"))
+            .containsEntry("relationshipWeightProperty", "cost")
+            .containsEntry("orientation", "NATURAL")
+            .containsEntry("landmarks", List.of(idFunction.of("a"), idFunction.of("e")))
+            .containsEntry("distancesToLandmarks", false)
+            .containsKeys("nodeLabels", "relationshipTypes");
+    }
+
+    @Test
+    void shouldUseLandmarksInAStar() {
+        runQuery(GdsCypher.call(GRAPH_NAME)
+            .algo("gds.alpha.shortestPath.landmarks")
+            .mutateMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("mutateProperty", "landmarks")
+            .yields());
+
+        var query = GdsCypher.call(GRAPH_NAME)
+            .algo("gds.shortestPath.astar")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("e"))
+            .addParameter("landmarkProperty", "landmarks")
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("totalCost");
+
+        assertCypherResult(query, List.of(Map.of("totalCost", 7.0D)));
+    }
+
+    @Test
+    void shouldRejectLandmarksOfOtherWeights() {
+        runQuery(GdsCypher.call(GRAPH_NAME)
+            .algo("gds.alpha.shortestPath.landmarks")
+            .mutateMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("mutateProperty", "landmarks")
+            .yields());
+
+        var query = GdsCypher.call(GRAPH_NAME)
+            .algo("gds.shortestPath.astar")
+            .streamMode()
+            .addParameter("sourceNode", idFunction.of("a"))
+            .addParameter("targetNode", idFunction.of("e"))
+            .addParameter("landmarkProperty", "landmarks")
+            .yields("totalCost");
+
+        assertError(query, "and the relationship weight property `cost`");
+    }
+}
@@ -23,12 +23,15 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.StreamProc;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.beta.pregel.Element;
+import org.neo4j.gds.beta.pregel.NodeValue;
 import org.neo4j.gds.beta.pregel.PregelProcedureConfig;
 import org.neo4j.gds.beta.pregel.PregelResult;
 import org.neo4j.gds.beta.pregel.PregelSchema;
 import org.neo4j.gds.executor.ComputationResult;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.LongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -46,29 +49,32 @@ public abstract class PregelStreamProc<
             return Stream.empty();
         }
         var result = computationResult.result().nodeValues();
+        // resolve the value columns once instead of for every node
+        Map<String, LongFunction<Object>> valueAccessors = result.schema().elements()
+            .stream()
+            .filter(element -> element.visibility() == PregelSchema.Visibility.PUBLIC)
+            .collect(Collectors.toMap(Element::propertyKey, element -> valueAccessor(result, element)));
         return LongStream.range(IdMap.START_NODE_ID, computationResult.graph().nodeCount()).mapToObj(nodeId -> {
-            Map<String, Object> values = result.schema().elements()
-                .stream()
-                .filter(element -> element.visibility() == PregelSchema.Visibility.PUBLIC)
-                .collect(Collectors.toMap(
-                    Element::propertyKey,
-                    element -> {
-                        switch (element.propertyType()) {
-                            case LONG:
-                                return result.longProperties(element.propertyKey()).get(nodeId);
-                            case DOUBLE:
-                                return result.doubleProperties(element.propertyKey()).get(nodeId);
-                            case DOUBLE_ARRAY:
-                                return result.doubleArrayProperties(element.propertyKey()).get(nodeId);
-                            case LONG_ARRAY:
-                                return result.longArrayProperties(element.propertyKey()).get(nodeId);
-                            default:
-                                throw new IllegalArgumentException("Unsupported property type: " + element.propertyType());
-                        }
-                    }
-                ));
+            Map<String, Object> values = new HashMap<>(valueAccessors.size());
+            valueAccessors.forEach((propertyKey, accessor) -> values.put(propertyKey, accessor.apply(nodeId)));
             return new PregelStreamResult(computationResult.graph().toOriginalNodeId(nodeId), values);
         });
 
     }
+
+    private static LongFunction<Object> valueAccessor(NodeValue nodeValue, Element element) {
+        var propertyKey = element.propertyKey();
+        switch (element.propertyType()) {
+            case LONG:
+                return nodeValue.longHandle(propertyKey)::get;
+            case DOUBLE:
+                return nodeValue.doubleHandle(propertyKey)::get;
+            case DOUBLE_ARRAY:
+                return nodeValue.doubleArrayHandle(propertyKey)::get;
+            case LONG_ARRAY:
+                return nodeValue.longArrayHandle(propertyKey)::get;
+            default:
+                throw new IllegalArgumentException("Unsupported property type: " + element.propertyType());
+        }
+    }
 }
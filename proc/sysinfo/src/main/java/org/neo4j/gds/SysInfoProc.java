@@ -110,7 +110,9 @@ public class SysInfoProc {
             .add(value("featureParallelPropertyValueIndex", GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX.isEnabled()))
             .add(value("featureBitIdMap", GdsFeatureToggles.USE_BIT_ID_MAP.isEnabled()))
             .add(value("featureUncompressedAdjacencyList", GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()))
-            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
+            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureBitPackedAdjacencyList", GdsFeatureToggles.USE_BIT_PACKED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureDegreeOrderedNodeIds", GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.isEnabled()));
     }
 
     private static void buildInfo(BuildInfoProperties properties, Stream.Builder<DebugValue> builder) {
@@ -33,6 +33,7 @@ public interface TestMethodRunner {
         return Stream.of(
             TestMethodRunner::runCompressedUnordered,
             TestMethodRunner::runCompressedOrdered,
+            TestMethodRunner::runBitPacked,
             TestMethodRunner::runUncompressedUnordered,
             TestMethodRunner::runUncompressedOrdered
         );
@@ -50,6 +51,12 @@ public interface TestMethodRunner {
             GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code));
     }
 
+    @TestOnly
+    static <E extends Exception> void runBitPacked(CheckedRunnable<E> code) throws E {
+        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+            GdsFeatureToggles.USE_BIT_PACKED_ADJACENCY_LIST.enableAndRun(code));
+    }
+
     @TestOnly
     static <E extends Exception> void runUncompressedUnordered(CheckedRunnable<E> code) throws E {
         GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.enableAndRun(() ->
@@ -25,6 +25,7 @@ import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compress.AdjacencyCompressor.ValueMapper;
 import org.neo4j.gds.core.compress.AdjacencyListBehavior;
+import org.neo4j.gds.core.compress.AdjacencyListStorage;
 import org.neo4j.gds.core.huge.DirectIdMap;
 
 import java.util.HashMap;
@@ -37,7 +38,7 @@ import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_RELATIONSHIP_TYPE;
 
 public abstract class AdjacencyListBuilderBaseTest {
 
-    void adjacencyListTest(Optional<Long> idOffset) {
+    void adjacencyListTest(Optional<Long> idOffset, AdjacencyListStorage storage) {
         long nodeCount = 6;
 
         var fakeNodeCount = idOffset.map(o -> nodeCount + o).orElse(nodeCount);
@@ -50,13 +51,15 @@ public abstract class AdjacencyListBuilderBaseTest {
             .propertyKeyIds()
             .defaultValues()
             .typeTokenId(NO_SUCH_RELATIONSHIP_TYPE)
+            .adjacencyListStorage(storage)
             .build();
 
 
         var adjacencyCompressorFactory = AdjacencyListBehavior.asConfigured(
             () -> fakeNodeCount,
             PropertyMappings.of(),
-            importMetaData.aggregations()
+            importMetaData.aggregations(),
+            importMetaData.adjacencyListStorage()
         );
 
         AdjacencyBuffer adjacencyBuffer = new AdjacencyBufferBuilder()
@@ -99,10 +102,18 @@ public abstract class AdjacencyListBuilderBaseTest {
     }
 
     void testAdjacencyList() {
-        adjacencyListTest(Optional.empty());
+        testAdjacencyList(AdjacencyListStorage.HEAP);
+    }
+
+    void testAdjacencyList(AdjacencyListStorage storage) {
+        adjacencyListTest(Optional.empty(), storage);
     }
 
     void testValueMapper() {
-        adjacencyListTest(Optional.of(10000L));
+        testValueMapper(AdjacencyListStorage.HEAP);
+    }
+
+    void testValueMapper(AdjacencyListStorage storage) {
+        adjacencyListTest(Optional.of(10000L), storage);
     }
 }